@@ -43,7 +43,7 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.nio.ByteBuffer;
 
-import static com.intel.bkp.utils.HexConverter.toHex;
+import static com.intel.bkp.utils.LazyLog.hex;
 
 @Slf4j
 public class MailboxCommandLayer implements CommandLayer {
@@ -57,13 +57,13 @@ public class MailboxCommandLayer implements CommandLayer {
         final byte[] dataBytes = data.array();
         final byte[] header = buildCommandHeader(commandCode, getArgumentsLen(dataBytes), 0, CLIENT_IDENTIFIER);
         final byte[] rawData = withAppendedHeader(dataBytes, header);
-        log.trace("Sending raw data for command {}: {}", command.name(), toHex(rawData));
+        log.trace("Sending raw data for command {}: {}", command.name(), hex(rawData));
         return rawData;
     }
 
     @Override
     public byte[] retrieve(byte[] data, CommandIdentifier command) {
-        log.trace("Received raw data for response {}: {}", command.name(), toHex(data));
+        log.trace("Received raw data for response {}: {}", command.name(), hex(data));
         CommandHeaderManager.validateCommandHeaderCode(data, command.name());
         return ByteBufferSafe.wrap(data).skip(COMMAND_HEADER_LEN).getRemaining();
     }
@@ -38,11 +38,25 @@ import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import static com.intel.bkp.utils.HexConverter.toHex;
+import static com.intel.bkp.utils.LazyLog.lazy;
 
 @Slf4j
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class CommandLogger {
 
+    private static final String MESSAGE_TEMPLATE = "Caller: {}, Name: {}, Data: {}";
+
+    /**
+     * Logs message on debug level - hex of the message is built only when debug is enabled.
+     */
+    public static void debug(ILogger message, CommandLoggerValues dataName, Class<?> callingClass) {
+        log.debug(MESSAGE_TEMPLATE, callingClass.getSimpleName(), dataName, lazy(message::hex));
+    }
+
+    /**
+     * Builds message regardless of log level and logs it on debug level.
+     * Use {@link #debug(ILogger, CommandLoggerValues, Class)} when the message is not needed by caller.
+     */
     public static String log(ILogger message, CommandLoggerValues dataName, Class<?> callingClass) {
         String msg = getMessage(message.hex(), dataName, callingClass);
         log.debug(msg);
@@ -33,9 +33,8 @@
 
 package com.intel.bkp.crypto.crc;
 
-
 /**
- * This is implementation of CRC32 algorithm using NORMAL FORM (shift left) with FORWARD POLYNOMINAL (0x04C11DB7).
+ * This is implementation of CRC32 algorithm with FORWARD POLYNOMINAL (0x04C11DB7).
  * Code is written based on C++ implementation from: https://github.com/Michaelangel007/crc32#formulaic-crc
  * CRC for tests are calculated using: https://crccalc.com
  */
@@ -43,27 +42,16 @@ public abstract class Crc32Base {
 
     protected static final String EMPTY_DATA_ERROR_MSG = "Data cannot be null or empty";
     protected static final int INIT_CRC = -1;
-    private static final int POLY = 0x04C11DB7;
+    protected static final int POLY = 0x04C11DB7;
 
-    abstract int perform(int crc, byte[] data);
+    abstract Crc32Checksum newChecksum();
 
     public int getChecksum(byte[] data) {
         if (data == null || 0 == data.length) {
             throw new IllegalArgumentException(EMPTY_DATA_ERROR_MSG);
         }
-        return perform(INIT_CRC, data);
-    }
-
-    protected int getChecksumInternal(int crc) {
-        // read 8 bits one at a time
-        for (int i = 0; i < Byte.SIZE; i++) {
-            if (crc < 0) {
-                crc <<= 1;
-                crc ^= POLY;
-            } else {
-                crc <<= 1;
-            }
-        }
-        return crc;
+        final Crc32Checksum checksum = newChecksum();
+        checksum.update(data, 0, data.length);
+        return checksum.getChecksum();
     }
 }
@@ -33,21 +33,119 @@
 
 package com.intel.bkp.crypto.crc;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
 /**
  * It is compliant with format CRC-32/BZIP2 algorithm which does NOT reverse neither input DATA nor calculated CRC.
  * Written based on this repo: https://github.com/Michaelangel007/crc32/blob/master/src/crc32.h#L33
  * This is how FW team is calculating CRC32 under Manifest.
+ * Data is consumed 8 bytes at a time (slicing-by-8), where TABLES[k][n] is CRC of byte n followed by k zero bytes.
  */
 public final class Crc32Bzip extends Crc32Base {
 
+    private static final int SLICES = 8;
+    private static final int TABLE_SIZE = 256;
+    private static final int[][] TABLES = buildTables();
+    private static final int[] T0 = TABLES[0];
+    private static final int[] T1 = TABLES[1];
+    private static final int[] T2 = TABLES[2];
+    private static final int[] T3 = TABLES[3];
+    private static final int[] T4 = TABLES[4];
+    private static final int[] T5 = TABLES[5];
+    private static final int[] T6 = TABLES[6];
+    private static final int[] T7 = TABLES[7];
+    private static final VarHandle INT_VIEW = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+
     @Override
-    int perform(int crc, byte[] data) {
-        for (byte b : data) {
-            crc = (crc ^ (b << 24));
-            crc = getChecksumInternal(crc);
-        }
+    Crc32Checksum newChecksum() {
+        return new SlicingChecksum();
+    }
+
+    private static int updateBlock(int crc, int first, int second) {
+        final int x = crc ^ first;
+        return T7[x >>> 24] ^ T6[(x >>> 16) & 0xFF] ^ T5[(x >>> 8) & 0xFF] ^ T4[x & 0xFF]
+            ^ T3[second >>> 24] ^ T2[(second >>> 16) & 0xFF] ^ T1[(second >>> 8) & 0xFF] ^ T0[second & 0xFF];
+    }
 
-        return ~crc;
+    private static int updateByte(int crc, byte b) {
+        return (crc << 8) ^ T0[((crc >>> 24) ^ b) & 0xFF];
     }
 
+    private static int[][] buildTables() {
+        final int[][] tables = new int[SLICES][TABLE_SIZE];
+        for (int n = 0; n < TABLE_SIZE; n++) {
+            // read 8 bits one at a time
+            int crc = n << 24;
+            for (int i = 0; i < Byte.SIZE; i++) {
+                crc = crc < 0 ? (crc << 1) ^ POLY : crc << 1;
+            }
+            tables[0][n] = crc;
+        }
+        for (int k = 1; k < SLICES; k++) {
+            for (int n = 0; n < TABLE_SIZE; n++) {
+                final int previous = tables[k - 1][n];
+                tables[k][n] = (previous << 8) ^ tables[0][previous >>> 24];
+            }
+        }
+        return tables;
+    }
+
+    private static final class SlicingChecksum implements Crc32Checksum {
+
+        private int crc = INIT_CRC;
+
+        @Override
+        public void update(int b) {
+            crc = updateByte(crc, (byte) b);
+        }
+
+        @Override
+        public void update(byte[] b, int off, int len) {
+            Objects.checkFromIndexSize(off, len, b.length);
+            final int end = off + len;
+            final int blocksEnd = end - len % SLICES;
+            int i = off;
+            for (; i < blocksEnd; i += SLICES) {
+                crc = updateBlock(crc, (int) INT_VIEW.get(b, i), (int) INT_VIEW.get(b, i + Integer.BYTES));
+            }
+            for (; i < end; i++) {
+                crc = updateByte(crc, b[i]);
+            }
+        }
+
+        @Override
+        public void update(ByteBuffer buffer) {
+            final int position = buffer.position();
+            final int limit = buffer.limit();
+            if (buffer.hasArray()) {
+                update(buffer.array(), buffer.arrayOffset() + position, limit - position);
+            } else {
+                // absolute reads on a duplicate, so byte order of caller's buffer stays untouched
+                final ByteBuffer view = buffer.duplicate().order(ByteOrder.BIG_ENDIAN);
+                final int blocksEnd = limit - (limit - position) % SLICES;
+                int i = position;
+                for (; i < blocksEnd; i += SLICES) {
+                    crc = updateBlock(crc, view.getInt(i), view.getInt(i + Integer.BYTES));
+                }
+                for (; i < limit; i++) {
+                    crc = updateByte(crc, view.get(i));
+                }
+            }
+            buffer.position(limit);
+        }
+
+        @Override
+        public long getValue() {
+            return Integer.toUnsignedLong(~crc);
+        }
+
+        @Override
+        public void reset() {
+            crc = INIT_CRC;
+        }
+    }
 }
@@ -33,38 +33,22 @@
 
 package com.intel.bkp.crypto.crc;
 
+import java.util.zip.CRC32;
+
 /**
  * It is compliant with format CRC-32 algorithm which reverses both input DATA and calculated CRC.
  * Written based on this repo: https://github.com/Michaelangel007/crc32/blob/master/src/crc32.h#L52
  * This is how SmartNIC team is calculating CRC32 under Manifest.
+ * It is exactly the algorithm of {@link CRC32}, which is used as it is intrinsified by the JVM.
  */
 public class Crc32Regular extends Crc32Base {
 
     @Override
-    int perform(int crc, byte[] data) {
-        for (byte b : data) {
-            crc = (crc ^ (reverseBits(b) << 24));
-            crc = getChecksumInternal(crc);
-        }
-        return reverseBits32(~crc);
-    }
-
-    private int reverseBits(byte x) {
-        return (reverseBits32(x) >> 24) & 0xFF;
+    Crc32Checksum newChecksum() {
+        return new JdkCrc32Checksum();
     }
 
-    private int reverseBits32(int x) {
-        int bits = 0;
-        int mask = x;
-
-        for (int i = 0; i < Integer.SIZE; i++) {
-            bits <<= 1;
-            if ((mask & 1) != 0) {
-                bits |= 1;
-            }
-            mask >>= 1;
-        }
+    private static final class JdkCrc32Checksum extends CRC32 implements Crc32Checksum {
 
-        return bits;
     }
 }
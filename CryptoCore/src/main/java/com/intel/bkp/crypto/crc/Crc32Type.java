@@ -45,4 +45,11 @@ public enum Crc32Type {
     public int getChecksum(byte[] data) {
         return instance.getChecksum(data);
     }
+
+    /**
+     * Creates incremental checksum, e.g. to calculate CRC over data that is read in chunks or memory mapped.
+     */
+    public Crc32Checksum newChecksum() {
+        return instance.newChecksum();
+    }
 }
@@ -47,6 +47,7 @@ import java.security.PublicKey;
 import java.security.interfaces.ECPrivateKey;
 import java.security.interfaces.ECPublicKey;
 import java.security.spec.InvalidKeySpecException;
+import java.util.Arrays;
 import java.util.Optional;
 
 import static com.intel.bkp.crypto.constants.CryptoConstants.ECDH_KEY;
@@ -111,6 +112,15 @@ public class EcdhKeyPair {
         }
     }
 
+    /**
+     * Overwrites private key bytes, so ephemeral key does not outlive the exchange it was used in.
+     */
+    public void zeroize() {
+        if (privateKey != null) {
+            Arrays.fill(privateKey, (byte) 0);
+        }
+    }
+
     private static String getCurveSpec() {
         return EC_CURVE_SPEC_384;
     }
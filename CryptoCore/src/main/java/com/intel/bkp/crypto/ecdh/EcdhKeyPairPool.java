@@ -0,0 +1,176 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2023 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.crypto.ecdh;
+
+import com.intel.bkp.crypto.exceptions.EcdhKeyPairException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded pool of pre-generated ephemeral ECDH key pairs.
+ * Every key pair is handed out once and removed from the pool - caller is responsible for zeroizing it after use.
+ * When number of available key pairs drops below low-water mark, pool is refilled up to its capacity
+ * on a background thread. If pool is exhausted, key pair is generated inline (counted as miss).
+ */
+@Slf4j
+public class EcdhKeyPairPool implements AutoCloseable {
+
+    private final int capacity;
+    private final int lowWaterMark;
+    private final BlockingQueue<EcdhKeyPair> keyPairs;
+    private final EcdhKeyPairGenerator generator;
+    private final ExecutorService refiller;
+    private final AtomicBoolean refillScheduled = new AtomicBoolean();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private volatile boolean closed;
+
+    public EcdhKeyPairPool(int capacity, int lowWaterMark) {
+        this(capacity, lowWaterMark, EcdhKeyPair::generate, Executors.newSingleThreadExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "ecdh-key-pool-refiller");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    EcdhKeyPairPool(int capacity, int lowWaterMark, EcdhKeyPairGenerator generator, ExecutorService refiller) {
+        if (capacity < 0 || lowWaterMark < 0 || lowWaterMark > capacity) {
+            throw new IllegalArgumentException(
+                "Invalid ECDH key pool size (%d) or low-water mark (%d).".formatted(capacity, lowWaterMark));
+        }
+        this.capacity = capacity;
+        this.lowWaterMark = lowWaterMark;
+        this.keyPairs = new ArrayBlockingQueue<>(Math.max(capacity, 1));
+        this.generator = generator;
+        this.refiller = refiller;
+        scheduleRefill();
+    }
+
+    /**
+     * Returns key pair that was never handed out before.
+     */
+    public EcdhKeyPair take() throws EcdhKeyPairException {
+        final EcdhKeyPair keyPair = keyPairs.poll();
+        if (keyPairs.size() < lowWaterMark) {
+            scheduleRefill();
+        }
+
+        if (keyPair != null) {
+            hits.increment();
+            return keyPair;
+        }
+
+        misses.increment();
+        log.debug("ECDH key pool exhausted - generating key pair inline.");
+        return generator.generate();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public int getAvailable() {
+        return keyPairs.size();
+    }
+
+    /**
+     * Stops refilling and zeroizes key pairs that were not handed out.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        refiller.shutdownNow();
+        drain();
+    }
+
+    private void scheduleRefill() {
+        if (closed || capacity == 0 || !refillScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refiller.execute(this::refill);
+        } catch (RejectedExecutionException e) {
+            refillScheduled.set(false);
+        }
+    }
+
+    private void refill() {
+        boolean failed = false;
+        try {
+            while (!closed && keyPairs.remainingCapacity() > 0) {
+                final EcdhKeyPair keyPair = generator.generate();
+                if (!keyPairs.offer(keyPair)) {
+                    keyPair.zeroize();
+                }
+            }
+        } catch (EcdhKeyPairException | RuntimeException e) {
+            failed = true;
+            log.warn("Failed to pre-generate ECDH key pair: {}", e.getMessage());
+            log.debug("Stacktrace: ", e);
+        } finally {
+            refillScheduled.set(false);
+        }
+
+        if (closed) {
+            drain();
+        } else if (!failed && keyPairs.size() < lowWaterMark) {
+            // key pairs taken while refill was finishing
+            scheduleRefill();
+        }
+    }
+
+    private void drain() {
+        EcdhKeyPair keyPair;
+        while ((keyPair = keyPairs.poll()) != null) {
+            keyPair.zeroize();
+        }
+    }
+
+    @FunctionalInterface
+    interface EcdhKeyPairGenerator {
+
+        EcdhKeyPair generate() throws EcdhKeyPairException;
+    }
+}
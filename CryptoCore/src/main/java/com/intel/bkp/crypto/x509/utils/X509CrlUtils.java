@@ -50,8 +50,10 @@ import java.security.cert.CRLException;
 import java.security.cert.X509CRL;
 import java.security.cert.X509CRLEntry;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -68,6 +70,13 @@ public class X509CrlUtils {
             .anyMatch(sn -> sn.equals(serialNumber));
     }
 
+    public static Set<BigInteger> toSerialNumberSet(final Stream<? extends X509CRLEntry> crlEntries) {
+        return crlEntries
+            .map(X509CRLEntry::getSerialNumber)
+            .collect(Collectors.collectingAndThen(Collectors.toCollection(HashSet::new),
+                Collections::unmodifiableSet));
+    }
+
     public static List<String> getRevokedSerialNumbersInHex(final X509CRL crl) {
         return getRevokedSerialNumbers(crl)
             .map(BigInteger::toByteArray)
@@ -44,6 +44,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -76,6 +77,7 @@ public class ChainVerifier {
     private List<X509Certificate> certificates = new LinkedList<>();
     private Optional<Integer> rootBasicConstraints = Optional.empty();
     private Set<String> knownExtensionOids = new HashSet<>(COMMON_EXTENSION_OIDS);
+    private Optional<VerifiedEdgeCache> verifiedEdgeCache = Optional.empty();
 
     public ChainVerifier certificates(List<X509Certificate> certificates) {
         this.certificates = certificates;
@@ -87,6 +89,15 @@ public class ChainVerifier {
         return this;
     }
 
+    /**
+     * Lets verifier skip signature and extension checks of edges that already passed them with the same
+     * expectations. Validity period of each certificate is still checked.
+     */
+    public ChainVerifier verifiedEdgeCache(VerifiedEdgeCache verifiedEdgeCache) {
+        this.verifiedEdgeCache = Optional.ofNullable(verifiedEdgeCache);
+        return this;
+    }
+
     public boolean verify() {
         final Iterator<X509Certificate> certificateChainIterator = certificates.iterator();
         return certificates.size() > 1
@@ -116,12 +127,42 @@ public class ChainVerifier {
 
     private boolean verifyCertificate(X509Certificate child, X509Certificate parent,
                                       Optional<Integer> childExpectedBasicConstraints, KeyUsage childExpectedKeyUsage) {
-        return validityVerifier.verify(child)
-                && signatureVerifier.verify(child, parent)
+        if (!validityVerifier.verify(child)) {
+            return false;
+        }
+
+        if (verifiedEdgeCache.isEmpty()) {
+            return verifyEdge(child, parent, childExpectedBasicConstraints, childExpectedKeyUsage);
+        }
+
+        final VerifiedEdgeCache cache = verifiedEdgeCache.get();
+        final String policy = getPolicy(childExpectedBasicConstraints, childExpectedKeyUsage);
+        if (cache.isVerified(child, parent, policy)) {
+            log.debug("Certificate {} already verified with public key of {}",
+                child.getSubjectX500Principal(), parent.getSubjectX500Principal());
+            return true;
+        }
+
+        final boolean verified = verifyEdge(child, parent, childExpectedBasicConstraints, childExpectedKeyUsage);
+        if (verified) {
+            cache.markVerified(child, parent, policy);
+        }
+        return verified;
+    }
+
+    private boolean verifyEdge(X509Certificate child, X509Certificate parent,
+                               Optional<Integer> childExpectedBasicConstraints, KeyUsage childExpectedKeyUsage) {
+        return signatureVerifier.verify(child, parent)
                 && issuerVerifier.verify(child, parent)
                 && akiVerifier.verify(child, parent)
                 && keyUsageVerifier.verify(child, childExpectedKeyUsage)
                 && criticalExtensionsVerifier.verify(child, knownExtensionOids)
                 && childExpectedBasicConstraints.map(bc -> basicConstraintsVerifier.verify(child, bc)).orElse(true);
     }
+
+    private String getPolicy(Optional<Integer> childExpectedBasicConstraints, KeyUsage childExpectedKeyUsage) {
+        return "chain;%s;%s;%s".formatted(childExpectedKeyUsage,
+                childExpectedBasicConstraints.map(String::valueOf).orElse(""),
+                String.join(",", new TreeSet<>(knownExtensionOids)));
+    }
 }
@@ -0,0 +1,142 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2023 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.crypto.x509.validation;
+
+import com.intel.bkp.crypto.CryptoUtils;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.security.cert.CertificateEncodingException;
+import java.security.cert.X509Certificate;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Bounded, thread-safe memory of already verified chain edges - certificate together with the issuer certificate
+ * and the policy it was verified against. Issuer is identified by its whole encoding rather than public key only,
+ * as checks like issuer name and AKI/SKI match depend on other fields of the issuer certificate.
+ *
+ * <p>Edge stays verified until the earlier of certificate and issuer certificate expiration. Time-dependent checks
+ * like certificate validity are not covered and must still be performed. When the cache is full, least recently used
+ * edge is evicted.</p>
+ */
+@Slf4j
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class VerifiedEdgeCache {
+
+    static final int MAX_ENTRIES = 4096;
+
+    private static final VerifiedEdgeCache INSTANCE = new VerifiedEdgeCache(Clock.systemUTC());
+
+    private final Map<EdgeKey, Instant> verifiedEdges = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<EdgeKey, Instant> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+    private final Clock clock;
+
+    public static VerifiedEdgeCache instance() {
+        return INSTANCE;
+    }
+
+    public boolean isVerified(X509Certificate child, X509Certificate parent, String policy) {
+        return getEdgeKey(child, parent, policy)
+            .map(this::isVerified)
+            .orElse(false);
+    }
+
+    public void markVerified(X509Certificate child, X509Certificate parent, String policy) {
+        final Instant validUntil = earlier(child.getNotAfter().toInstant(), parent.getNotAfter().toInstant());
+        getEdgeKey(child, parent, policy).ifPresent(key -> put(key, validUntil));
+    }
+
+    public synchronized void clear() {
+        verifiedEdges.clear();
+    }
+
+    synchronized int size() {
+        return verifiedEdges.size();
+    }
+
+    private synchronized boolean isVerified(EdgeKey key) {
+        final Instant validUntil = verifiedEdges.get(key);
+        if (validUntil == null) {
+            return false;
+        }
+        if (!clock.instant().isBefore(validUntil)) {
+            verifiedEdges.remove(key);
+            return false;
+        }
+        return true;
+    }
+
+    private synchronized void put(EdgeKey key, Instant validUntil) {
+        if (!clock.instant().isBefore(validUntil)) {
+            return;
+        }
+        verifiedEdges.put(key, validUntil);
+    }
+
+    private static Instant earlier(Instant first, Instant second) {
+        return first.isBefore(second) ? first : second;
+    }
+
+    private static Optional<EdgeKey> getEdgeKey(X509Certificate child, X509Certificate parent, String policy) {
+        return getEncoded(child)
+            .flatMap(encodedChild -> getEncoded(parent)
+                .map(encodedParent -> new EdgeKey(encodedChild, encodedParent, policy)));
+    }
+
+    private static Optional<byte[]> getEncoded(X509Certificate certificate) {
+        try {
+            return Optional.of(certificate.getEncoded());
+        } catch (CertificateEncodingException e) {
+            log.debug("Failed to encode certificate - verified edge cache bypassed: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private record EdgeKey(String certificateHash, String issuerCertificateHash, String policy) {
+
+        EdgeKey(byte[] certificate, byte[] issuerCertificate, String policy) {
+            this(CryptoUtils.generateFingerprint(certificate), CryptoUtils.generateFingerprint(issuerCertificate),
+                policy);
+        }
+    }
+}
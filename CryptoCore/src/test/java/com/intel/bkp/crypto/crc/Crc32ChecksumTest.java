@@ -0,0 +1,184 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2023 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.crypto.crc;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class Crc32ChecksumTest {
+
+    private static final int POLY = 0x04C11DB7;
+    private static final int MAX_LENGTH = 100;
+
+    private final Random random = new Random(0x5EED);
+
+    @ParameterizedTest
+    @EnumSource(Crc32Type.class)
+    void getChecksum_AllLengths_MatchesBitwiseReference(Crc32Type type) {
+        for (int length = 1; length < MAX_LENGTH; length++) {
+            // given
+            final byte[] data = randomBytes(length);
+
+            // when
+            final int result = type.getChecksum(data);
+
+            // then
+            assertEquals(bitwise(type, data), result, "Length: " + length);
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(Crc32Type.class)
+    void update_InChunksAtUnalignedOffsets_SameAsWholeData(Crc32Type type) {
+        // given
+        final byte[] data = randomBytes(1021);
+        final Crc32Checksum sut = type.newChecksum();
+
+        // when
+        int offset = 0;
+        for (int chunk = 1; offset < data.length; chunk += 3) {
+            final int length = Math.min(chunk, data.length - offset);
+            sut.update(data, offset, length);
+            offset += length;
+        }
+
+        // then
+        assertEquals(type.getChecksum(data), sut.getChecksum());
+        assertEquals(Integer.toUnsignedLong(type.getChecksum(data)), sut.getValue());
+    }
+
+    @ParameterizedTest
+    @EnumSource(Crc32Type.class)
+    void update_SingleBytes_SameAsWholeData(Crc32Type type) {
+        // given
+        final byte[] data = randomBytes(19);
+        final Crc32Checksum sut = type.newChecksum();
+
+        // when
+        for (byte b : data) {
+            sut.update(b);
+        }
+
+        // then
+        assertEquals(type.getChecksum(data), sut.getChecksum());
+    }
+
+    @ParameterizedTest
+    @EnumSource(Crc32Type.class)
+    void update_DirectBuffer_SameAsWholeDataAndBufferConsumed(Crc32Type type) {
+        // given
+        final byte[] data = randomBytes(517);
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(data.length + 3).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.position(3);
+        buffer.put(data);
+        buffer.position(3);
+        final Crc32Checksum sut = type.newChecksum();
+
+        // when
+        sut.update(buffer);
+
+        // then
+        assertEquals(type.getChecksum(data), sut.getChecksum());
+        assertEquals(buffer.limit(), buffer.position());
+        assertEquals(ByteOrder.LITTLE_ENDIAN, buffer.order());
+    }
+
+    @ParameterizedTest
+    @EnumSource(Crc32Type.class)
+    void update_HeapBufferSlice_SameAsWholeData(Crc32Type type) {
+        // given
+        final byte[] data = randomBytes(300);
+        final ByteBuffer buffer = ByteBuffer.wrap(data, 5, 200).slice();
+        final Crc32Checksum sut = type.newChecksum();
+
+        // when
+        sut.update(buffer);
+
+        // then
+        assertEquals(bitwise(type, Arrays.copyOfRange(data, 5, 205)), sut.getChecksum());
+    }
+
+    @ParameterizedTest
+    @EnumSource(Crc32Type.class)
+    void reset_StartsNewCalculation(Crc32Type type) {
+        // given
+        final byte[] data = randomBytes(33);
+        final Crc32Checksum sut = type.newChecksum();
+        sut.update(randomBytes(10));
+
+        // when
+        sut.reset();
+        sut.update(data);
+
+        // then
+        assertEquals(type.getChecksum(data), sut.getChecksum());
+    }
+
+    @ParameterizedTest
+    @EnumSource(Crc32Type.class)
+    void update_OutOfBounds_Throws(Crc32Type type) {
+        // given
+        final Crc32Checksum sut = type.newChecksum();
+
+        // when-then
+        assertThrows(IndexOutOfBoundsException.class, () -> sut.update(new byte[4], 2, 3));
+    }
+
+    private byte[] randomBytes(int length) {
+        final byte[] bytes = new byte[length];
+        random.nextBytes(bytes);
+        return bytes;
+    }
+
+    private static int bitwise(Crc32Type type, byte[] data) {
+        final boolean reflected = Crc32Type.REGULAR == type;
+        int crc = -1;
+        for (byte b : data) {
+            final int in = reflected ? Integer.reverse(b & 0xFF) >>> 24 : b & 0xFF;
+            crc ^= in << 24;
+            for (int i = 0; i < Byte.SIZE; i++) {
+                crc = crc < 0 ? (crc << 1) ^ POLY : crc << 1;
+            }
+        }
+        return reflected ? Integer.reverse(~crc) : ~crc;
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2023 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.crypto.ecdh;
+
+import com.intel.bkp.crypto.exceptions.EcdhKeyPairException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class EcdhKeyPairPoolTest {
+
+    private static final int CAPACITY = 4;
+    private static final int LOW_WATER_MARK = 2;
+
+    private final AtomicInteger generatedCount = new AtomicInteger();
+    private final List<Runnable> scheduledRefills = new ArrayList<>();
+
+    @Mock
+    private ExecutorService refiller;
+
+    @BeforeEach
+    void setUp() {
+        lenient().doAnswer(invocation -> scheduledRefills.add(invocation.getArgument(0)))
+            .when(refiller).execute(any());
+    }
+
+    @Test
+    void constructor_SchedulesPrefillUpToCapacity() {
+        // given
+        final EcdhKeyPairPool sut = createPool(CAPACITY, LOW_WATER_MARK);
+
+        // when
+        runScheduledRefills();
+
+        // then
+        assertEquals(CAPACITY, sut.getAvailable());
+        assertEquals(CAPACITY, generatedCount.get());
+    }
+
+    @Test
+    void constructor_InvalidLowWaterMark_Throws() {
+        // when-then
+        assertThrows(IllegalArgumentException.class, () -> createPool(CAPACITY, CAPACITY + 1));
+    }
+
+    @Test
+    void take_FromFilledPool_ReturnsDistinctKeyPairsAndCountsHits() throws Exception {
+        // given
+        final EcdhKeyPairPool sut = createPool(CAPACITY, LOW_WATER_MARK);
+        runScheduledRefills();
+
+        // when
+        final EcdhKeyPair first = sut.take();
+        final EcdhKeyPair second = sut.take();
+
+        // then
+        assertNotSame(first, second);
+        assertEquals(2, sut.getHits());
+        assertEquals(0, sut.getMisses());
+        assertEquals(CAPACITY - 2, sut.getAvailable());
+    }
+
+    @Test
+    void take_PoolExhausted_GeneratesInlineAndCountsMiss() throws Exception {
+        // given
+        final EcdhKeyPairPool sut = createPool(CAPACITY, LOW_WATER_MARK);
+        scheduledRefills.clear();
+
+        // when
+        final EcdhKeyPair result = sut.take();
+
+        // then
+        assertEquals(0, sut.getHits());
+        assertEquals(1, sut.getMisses());
+        assertEquals(1, generatedCount.get());
+        assertArrayEquals(new byte[]{1}, result.getPrivateKey());
+    }
+
+    @Test
+    void take_WithZeroCapacity_AlwaysGeneratesInline() throws Exception {
+        // given
+        final EcdhKeyPairPool sut = createPool(0, 0);
+
+        // when
+        sut.take();
+        sut.take();
+
+        // then
+        assertTrue(scheduledRefills.isEmpty());
+        assertEquals(2, sut.getMisses());
+    }
+
+    @Test
+    void take_BelowLowWaterMark_SchedulesSingleRefill() throws Exception {
+        // given
+        final EcdhKeyPairPool sut = createPool(CAPACITY, LOW_WATER_MARK);
+        runScheduledRefills();
+
+        // when
+        for (int i = 0; i < CAPACITY; i++) {
+            sut.take();
+        }
+
+        // then
+        assertEquals(1, scheduledRefills.size());
+        runScheduledRefills();
+        assertEquals(CAPACITY, sut.getAvailable());
+    }
+
+    @Test
+    void take_RefillFails_FallsBackToInlineGeneration() throws Exception {
+        // given
+        final AtomicInteger calls = new AtomicInteger();
+        final EcdhKeyPairPool sut = new EcdhKeyPairPool(CAPACITY, LOW_WATER_MARK, () -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new EcdhKeyPairException("test");
+            }
+            return newKeyPair();
+        }, refiller);
+        runScheduledRefills();
+
+        // when
+        final EcdhKeyPair result = sut.take();
+
+        // then
+        assertEquals(1, sut.getMisses());
+        assertArrayEquals(new byte[]{1}, result.getPrivateKey());
+    }
+
+    @Test
+    void close_ZeroizesKeyPairsNotHandedOut() {
+        // given
+        final List<EcdhKeyPair> generated = new ArrayList<>();
+        final EcdhKeyPairPool sut = new EcdhKeyPairPool(CAPACITY, LOW_WATER_MARK, () -> {
+            final EcdhKeyPair keyPair = newKeyPair();
+            generated.add(keyPair);
+            return keyPair;
+        }, refiller);
+        runScheduledRefills();
+
+        // when
+        sut.close();
+
+        // then
+        verify(refiller).shutdownNow();
+        assertEquals(0, sut.getAvailable());
+        generated.forEach(keyPair -> assertArrayEquals(new byte[]{0}, keyPair.getPrivateKey()));
+    }
+
+    @Test
+    void take_Concurrently_NeverHandsOutSameKeyPairTwice() throws Exception {
+        // given
+        final int threads = 8;
+        final int takesPerThread = 50;
+        final ExecutorService realRefiller = Executors.newSingleThreadExecutor();
+        final ExecutorService callers = Executors.newFixedThreadPool(threads);
+        final Set<EcdhKeyPair> taken = Collections.newSetFromMap(Collections.synchronizedMap(new IdentityHashMap<>()));
+
+        try (EcdhKeyPairPool sut = new EcdhKeyPairPool(CAPACITY, LOW_WATER_MARK, this::newKeyPair, realRefiller)) {
+            final Callable<Void> caller = () -> {
+                for (int i = 0; i < takesPerThread; i++) {
+                    taken.add(sut.take());
+                }
+                return null;
+            };
+
+            // when
+            final List<Future<Void>> results = callers.invokeAll(Collections.nCopies(threads, caller));
+            for (Future<Void> result : results) {
+                result.get();
+            }
+
+            // then
+            assertEquals(threads * takesPerThread, taken.size());
+            assertEquals(threads * takesPerThread, sut.getHits() + sut.getMisses());
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    private EcdhKeyPairPool createPool(int capacity, int lowWaterMark) {
+        return new EcdhKeyPairPool(capacity, lowWaterMark, this::newKeyPair, refiller);
+    }
+
+    private EcdhKeyPair newKeyPair() {
+        generatedCount.incrementAndGet();
+        return new EcdhKeyPair(new byte[]{2}, new byte[]{1});
+    }
+
+    private void runScheduledRefills() {
+        while (!scheduledRefills.isEmpty()) {
+            scheduledRefills.remove(0).run();
+        }
+    }
+}
@@ -123,4 +123,16 @@ public class EcdhKeyPairTest {
         assertThrows(EcdhKeyPairException.class, () -> EcdhKeyPair.fromPublicBytes(gaBytes));
     }
 
+    @Test
+    public void zeroize_OverwritesPrivateKey() {
+        // given
+        final EcdhKeyPair sut = new EcdhKeyPair(new byte[]{1, 2}, new byte[]{3, 4});
+
+        // when
+        sut.zeroize();
+
+        // then
+        assertArrayEquals(new byte[]{0, 0}, sut.getPrivateKey());
+        assertArrayEquals(new byte[]{1, 2}, sut.getPublicKey());
+    }
 }
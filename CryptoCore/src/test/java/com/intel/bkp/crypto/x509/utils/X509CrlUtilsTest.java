@@ -43,6 +43,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.math.BigInteger;
 import java.security.cert.X509CRL;
 import java.util.List;
+import java.util.Set;
 
 import static com.intel.bkp.crypto.x509.parsing.X509CrlParser.pemToX509Crl;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -84,6 +85,19 @@ class X509CrlUtilsTest {
         assertFalse(X509CrlUtils.isRevoked(crl, notRevokedSerialNumber));
     }
 
+    @Test
+    void toSerialNumberSet_ContainsRevokedSerialNumbers() {
+        // given
+        final BigInteger revokedSerialNumber = new BigInteger(REVOKED_SERIAL_NUMBER, 16);
+
+        // when
+        final Set<BigInteger> result = X509CrlUtils.toSerialNumberSet(X509CrlUtils.getX509CRLEntries(crl));
+
+        // then
+        assertTrue(result.contains(revokedSerialNumber));
+        assertFalse(result.contains(BigInteger.ONE));
+    }
+
     @Test
     void getRevokedSerialNumbersInHex_Success() {
         // when
@@ -43,6 +43,9 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.security.cert.X509Certificate;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZoneOffset;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
@@ -54,6 +57,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -201,6 +205,50 @@ class ChainVerifierTest {
         assertFalse(result);
     }
 
+    @Test
+    void verify_WithVerifiedEdgeCache_SecondVerificationChecksOnlyValidity() {
+        // given
+        addToList(attestationCert, parentCert, rootCert);
+        mockAllChecks();
+        sut.verifiedEdgeCache(getVerifiedEdgeCache());
+
+        // when
+        sut.verify();
+        final boolean result = sut.verify();
+
+        // then
+        assertTrue(result);
+        verify(validityVerifier, times(2)).verify(attestationCert);
+        verify(validityVerifier, times(2)).verify(parentCert);
+        verify(validityVerifier, times(2)).verify(rootCert);
+        verify(signatureVerifier).verify(attestationCert, parentCert);
+        verify(signatureVerifier).verify(parentCert, rootCert);
+        verify(signatureVerifier).verify(rootCert, rootCert);
+        verify(criticalExtensionsVerifier).verify(attestationCert, COMMON_EXTENSION_OIDS);
+    }
+
+    @Test
+    void verify_WithVerifiedEdgeCache_FailedEdgeIsVerifiedAgain() {
+        // given
+        addToList(attestationCert, parentCert);
+        when(validityVerifier.verify(any())).thenReturn(true);
+        when(signatureVerifier.verify(any(X509Certificate.class), any())).thenReturn(false);
+        sut.verifiedEdgeCache(getVerifiedEdgeCache());
+
+        // when
+        sut.verify();
+        final boolean result = sut.verify();
+
+        // then
+        assertFalse(result);
+        verify(signatureVerifier, times(2)).verify(attestationCert, parentCert);
+    }
+
+    private static VerifiedEdgeCache getVerifiedEdgeCache() {
+        final var now = attestationCert.getNotBefore().toInstant().plus(Duration.ofDays(1));
+        return new VerifiedEdgeCache(Clock.fixed(now, ZoneOffset.UTC));
+    }
+
     private void addToList(X509Certificate... cert) {
         list.addAll(List.of(cert));
     }
@@ -0,0 +1,189 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2023 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.crypto.x509.validation;
+
+import com.intel.bkp.test.FileUtils;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.security.cert.X509Certificate;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class VerifiedEdgeCacheTest {
+
+    // https://tsci.intel.com/content/IPCS/certs/IPCSSigningCA.cer
+    private static final String CHILD_CERT_FILENAME = "IPCSSigningCA.cer";
+    // https://tsci.intel.com/content/IPCS/certs/IPCS.cer
+    private static final String PARENT_CERT_FILENAME = "IPCS.cer";
+    private static final String POLICY = "policy";
+    private static final String OTHER_POLICY = "otherPolicy";
+
+    private static X509Certificate childCert;
+    private static X509Certificate parentCert;
+
+    @Mock
+    private Clock clock;
+
+    private VerifiedEdgeCache sut;
+
+    @BeforeAll
+    static void init() throws Exception {
+        childCert = FileUtils.loadCertificate(CHILD_CERT_FILENAME);
+        parentCert = FileUtils.loadCertificate(PARENT_CERT_FILENAME);
+    }
+
+    @BeforeEach
+    void setUp() {
+        sut = new VerifiedEdgeCache(clock);
+    }
+
+    @Test
+    void isVerified_NotMarked_ReturnsFalse() {
+        // when-then
+        assertFalse(sut.isVerified(childCert, parentCert, POLICY));
+    }
+
+    @Test
+    void isVerified_MarkedWithSamePolicy_ReturnsTrue() {
+        // given
+        mockNow(childNotBefore());
+        sut.markVerified(childCert, parentCert, POLICY);
+
+        // when-then
+        assertTrue(sut.isVerified(childCert, parentCert, POLICY));
+    }
+
+    @Test
+    void isVerified_MarkedWithDifferentPolicy_ReturnsFalse() {
+        // given
+        mockNow(childNotBefore());
+        sut.markVerified(childCert, parentCert, POLICY);
+
+        // when-then
+        assertFalse(sut.isVerified(childCert, parentCert, OTHER_POLICY));
+    }
+
+    @Test
+    void isVerified_MarkedWithDifferentParentKey_ReturnsFalse() {
+        // given
+        mockNow(childNotBefore());
+        sut.markVerified(childCert, parentCert, POLICY);
+
+        // when-then
+        assertFalse(sut.isVerified(childCert, childCert, POLICY));
+    }
+
+    @Test
+    void isVerified_AfterEarlierNotAfter_ReturnsFalseAndEvicts() {
+        // given
+        final Instant validUntil = earlier(childCert.getNotAfter().toInstant(), parentCert.getNotAfter().toInstant());
+        when(clock.instant()).thenReturn(childNotBefore(), validUntil);
+        sut.markVerified(childCert, parentCert, POLICY);
+
+        // when
+        final boolean result = sut.isVerified(childCert, parentCert, POLICY);
+
+        // then
+        assertFalse(result);
+        assertEquals(0, sut.size());
+    }
+
+    @Test
+    void markVerified_AlreadyExpired_DoesNotStore() {
+        // given
+        mockNow(childCert.getNotAfter().toInstant().plus(Duration.ofDays(1)));
+
+        // when
+        sut.markVerified(childCert, parentCert, POLICY);
+
+        // then
+        assertEquals(0, sut.size());
+    }
+
+    @Test
+    void isVerified_MarkedWithDifferentParentCertificateWithSameKey_ReturnsFalse() throws Exception {
+        // given
+        mockNow(childNotBefore());
+        sut.markVerified(childCert, parentCert, POLICY);
+        final X509Certificate otherParentWithSameKey = mock(X509Certificate.class);
+        when(otherParentWithSameKey.getEncoded()).thenReturn(childCert.getEncoded());
+
+        // when-then
+        assertFalse(sut.isVerified(childCert, otherParentWithSameKey, POLICY));
+    }
+
+    @Test
+    void markVerified_CacheFull_EvictsLeastRecentlyUsedEdge() {
+        // given
+        mockNow(childNotBefore());
+        for (int i = 0; i < VerifiedEdgeCache.MAX_ENTRIES; i++) {
+            sut.markVerified(childCert, parentCert, POLICY + i);
+        }
+        sut.isVerified(childCert, parentCert, POLICY + 0);
+
+        // when
+        sut.markVerified(childCert, parentCert, OTHER_POLICY);
+
+        // then
+        assertEquals(VerifiedEdgeCache.MAX_ENTRIES, sut.size());
+        assertTrue(sut.isVerified(childCert, parentCert, OTHER_POLICY));
+        assertTrue(sut.isVerified(childCert, parentCert, POLICY + 0));
+        assertFalse(sut.isVerified(childCert, parentCert, POLICY + 1));
+    }
+
+    private void mockNow(Instant now) {
+        when(clock.instant()).thenReturn(now);
+    }
+
+    private static Instant childNotBefore() {
+        return childCert.getNotBefore().toInstant();
+    }
+
+    private static Instant earlier(Instant first, Instant second) {
+        return first.isBefore(second) ? first : second;
+    }
+}
@@ -34,6 +34,7 @@
 package com.intel.bkp.protocol.spdm.jna;
 
 import com.intel.bkp.protocol.spdm.exceptions.SpdmCommandFailedException;
+import com.intel.bkp.protocol.spdm.exceptions.SpdmNotSupportedException;
 import com.intel.bkp.protocol.spdm.exceptions.SpdmRuntimeException;
 import com.intel.bkp.protocol.spdm.jna.model.LibSpdmLibraryWrapper;
 import com.intel.bkp.protocol.spdm.jna.model.MessageLogger;
@@ -62,6 +63,7 @@ import static com.intel.bkp.protocol.spdm.jna.model.SpdmConstants.SPDM_GET_MEASU
 import static com.intel.bkp.utils.BitUtils.countSetBits;
 import static com.intel.bkp.utils.HexConverter.toFormattedHex;
 import static com.intel.bkp.utils.HexConverter.toHex;
+import static com.intel.bkp.utils.LazyLog.hex;
 
 @Slf4j
 public abstract class SpdmProtocol12 implements SpdmProtocol {
@@ -75,11 +77,19 @@ public abstract class SpdmProtocol12 implements SpdmProtocol {
     private final SpdmCallbacks spdmCallbacks;
     private final SpdmParametersProvider parametersProvider;
 
+    /**
+     * SPDM Wrapper registers callbacks per SPDM context, so protocol instances run concurrently. Calls within one
+     * instance are serialized, as its context and buffers are not thread-safe.
+     */
+    private final Object contextLock = new Object();
+
     private SpdmContext spdmContext;
 
     @Getter
     private boolean connectionInitialized = false;
 
+    private String negotiatedVersion;
+
     protected LibSpdmLibraryWrapper jnaInterface;
 
     protected abstract void initializeLibrary();
@@ -94,33 +104,61 @@ public abstract class SpdmProtocol12 implements SpdmProtocol {
 
     @Override
     public String getVersion() throws SpdmCommandFailedException {
-        initializeLibrary();
-        initializeSpdmContext();
-        return getVersionInternal();
+        synchronized (contextLock) {
+            if (negotiatedVersion != null) {
+                log.debug("Reusing negotiated SPDM version: {}", negotiatedVersion);
+                return negotiatedVersion;
+            }
+            initializeLibrary();
+            initializeSpdmContext();
+            negotiatedVersion = getVersionInternal();
+            return negotiatedVersion;
+        }
     }
 
     @Override
     public SpdmGetDigestResult getDigest() throws SpdmCommandFailedException {
-        initializeLibrary();
-        initializeSpdmContext();
-        initializeConnection();
-        return getDigestInternal();
+        synchronized (contextLock) {
+            return withConnection(this::getDigestInternal);
+        }
     }
 
     @Override
-    public String getCerts(int slotId) throws SpdmCommandFailedException {
-        initializeLibrary();
-        initializeSpdmContext();
-        initializeConnection();
-        return getCertsInternal(slotId);
+    public byte[] getCerts(int slotId) throws SpdmCommandFailedException {
+        synchronized (contextLock) {
+            return withConnection(() -> getCertsInternal(slotId));
+        }
     }
 
     @Override
-    public String getMeasurements(int slotId) throws SpdmCommandFailedException {
+    public byte[] getMeasurements(int slotId) throws SpdmCommandFailedException {
+        synchronized (contextLock) {
+            return withConnection(() -> getMeasurementsInternal(slotId));
+        }
+    }
+
+    /**
+     * Runs command over connection negotiated by previous calls, if there is one. Any failure drops negotiated state,
+     * so the next call starts with full handshake - if the failed command ran over a reused connection (e.g. the
+     * device was reset in the meantime), it is retried once right away.
+     */
+    private <T> T withConnection(SpdmCommand<T> command) throws SpdmCommandFailedException {
         initializeLibrary();
         initializeSpdmContext();
-        initializeConnection();
-        return getMeasurementsInternal(slotId);
+
+        final boolean connectionReused = isConnectionInitialized();
+        try {
+            initializeConnection();
+            return command.execute();
+        } catch (SpdmCommandFailedException | SpdmNotSupportedException | SpdmRuntimeException e) {
+            resetConnection();
+            if (!connectionReused) {
+                throw e;
+            }
+            log.warn("SPDM command failed on reused connection - retrying with full handshake: {}", e.getMessage());
+            log.debug("Stacktrace: ", e);
+            return withConnection(command);
+        }
     }
 
     void initializeSpdmContext() {
@@ -131,13 +169,13 @@ public abstract class SpdmProtocol12 implements SpdmProtocol {
 
         log.debug("Initializing SPDM context.");
 
-        registerCallbacks();
-
         final long spdmContextSize = jnaInterface.libspdm_get_context_size_w().longValue();
         final Pointer spdmContext = new Memory(spdmContextSize);
 
+        prepareCallbacks(spdmContextSize);
+
         final Long status = jnaInterface.libspdm_prepare_context_w(spdmContext,
-            new Uint32(LIBSPDM_SENDER_RECEIVE_BUFFER_SIZE));
+            new Uint32(LIBSPDM_SENDER_RECEIVE_BUFFER_SIZE), callbacks);
 
         log.debug("Initialize context status: {}", toFormattedHex(status));
 
@@ -151,7 +189,7 @@ public abstract class SpdmProtocol12 implements SpdmProtocol {
 
         spdmParametersSetter.setLibspdmParameters(jnaInterface, spdmContext, parametersProvider);
 
-        this.spdmContext = new SpdmContext(spdmContext, scratchBuffer);
+        this.spdmContext = new SpdmContext(spdmContext, scratchBuffer, SHA384_SIG_LEN);
     }
 
     private void initializeConnection() throws SpdmCommandFailedException {
@@ -164,9 +202,17 @@ public abstract class SpdmProtocol12 implements SpdmProtocol {
             throwOnError(status);
 
             connectionInitialized = true;
+            negotiatedVersion = readNegotiatedVersion();
+        } else {
+            log.debug("Reusing SPDM connection negotiated with version: {}", negotiatedVersion);
         }
     }
 
+    private void resetConnection() {
+        connectionInitialized = false;
+        negotiatedVersion = null;
+    }
+
     private String getVersionInternal() throws SpdmCommandFailedException {
         log.debug("Sending SPDM GET_VERSION ...");
 
@@ -175,6 +221,10 @@ public abstract class SpdmProtocol12 implements SpdmProtocol {
 
         throwOnError(initGetVersionStatus);
 
+        return readNegotiatedVersion();
+    }
+
+    private String readNegotiatedVersion() {
         final ByteBuffer buffer = ByteBuffer.allocate(Byte.BYTES);
         jnaInterface.libspdm_get_version_w(spdmContext.getContext(), buffer);
 
@@ -184,8 +234,8 @@ public abstract class SpdmProtocol12 implements SpdmProtocol {
     private SpdmGetDigestResult getDigestInternal() throws SpdmCommandFailedException {
         log.debug("Sending SPDM GET_DIGESTS ...");
 
-        final Pointer digestBuffer = new Memory(LIBSPDM_SENDER_RECEIVE_BUFFER_SIZE);
-        final Pointer slotMask = new Memory(Byte.BYTES);
+        final Pointer digestBuffer = spdmContext.getResponseBuffer();
+        final Pointer slotMask = spdmContext.getSlotMask();
 
         final Long statusDigest = jnaInterface.libspdm_get_digest_w(spdmContext.getContext(), slotMask, digestBuffer);
         log.debug("DIGESTS status: {}", toFormattedHex(statusDigest));
@@ -198,11 +248,11 @@ public abstract class SpdmProtocol12 implements SpdmProtocol {
             getBytes(digestBuffer, countSetBits(slotMaskBytes) * hashAlgSize), hashAlgSize);
     }
 
-    private String getCertsInternal(int slotId) throws SpdmCommandFailedException {
+    private byte[] getCertsInternal(int slotId) throws SpdmCommandFailedException {
         log.debug("Sending SPDM GET_CERTIFICATE ...");
 
-        final Pointer certChain = new Memory(LIBSPDM_SENDER_RECEIVE_BUFFER_SIZE);
-        final Pointer certChainSize = new Memory(Long.BYTES);
+        final Pointer certChain = spdmContext.getResponseBuffer();
+        final Pointer certChainSize = spdmContext.getResponseLength();
         certChainSize.setLong(0, LIBSPDM_SENDER_RECEIVE_BUFFER_SIZE);
 
         final Long statusCert = jnaInterface.libspdm_get_certificate_w(spdmContext.getContext(),
@@ -212,19 +262,17 @@ public abstract class SpdmProtocol12 implements SpdmProtocol {
         throwOnError(statusCert);
 
         final byte[] certChainArray = getBytes(certChain, certChainSize);
+        log.debug("CERTIFICATE: {}", hex(certChainArray));
 
-        final String chain = toHex(certChainArray);
-        log.debug("CERTIFICATE: {}", chain);
-
-        return chain;
+        return certChainArray;
     }
 
-    private String getMeasurementsInternal(int slotId) throws SpdmCommandFailedException {
+    private byte[] getMeasurementsInternal(int slotId) throws SpdmCommandFailedException {
         log.debug("Sending SPDM GET_MEASUREMENTS ...");
 
-        final Memory measurementRecord = new Memory(LIBSPDM_SENDER_RECEIVE_BUFFER_SIZE);
-        final Memory signature = new Memory(SHA384_SIG_LEN);
-        final Pointer measurementRecordLength = new Memory(Integer.BYTES);
+        final Pointer measurementRecord = spdmContext.getResponseBuffer();
+        final Pointer signature = spdmContext.getSignature();
+        final Pointer measurementRecordLength = spdmContext.getResponseLength();
         measurementRecordLength.setInt(0, LIBSPDM_SENDER_RECEIVE_BUFFER_SIZE);
 
         final Long status = jnaInterface.libspdm_get_measurement_w(spdmContext.getContext(), measurementRecordLength,
@@ -234,14 +282,14 @@ public abstract class SpdmProtocol12 implements SpdmProtocol {
         throwOnError(status);
 
         final byte[] measurementsArray = getBytes(measurementRecord, measurementRecordLength);
+        log.debug("MEASUREMENTS: {}", hex(measurementsArray));
 
-        final String measurements = toHex(measurementsArray);
-        log.debug("MEASUREMENTS: {}", measurements);
-
-        return measurements;
+        return measurementsArray;
     }
 
-    private void registerCallbacks() {
+    private void prepareCallbacks(long spdmContextSize) {
+        spdmCallbacks.setSpdmContextSize(spdmContextSize);
+
         callbacks.setPrintCallback(spdmCallbacks::printCallback);
 
         callbacks.setMctpEncodeCallback(spdmCallbacks::mctpEncode);
@@ -255,8 +303,6 @@ public abstract class SpdmProtocol12 implements SpdmProtocol {
 
         callbacks.setSpdmDeviceAcquireReceiverBufferCallback(spdmCallbacks::spdmDeviceAcquireReceiverBuffer);
         callbacks.setSpdmDeviceReleaseReceiverBufferCallback(spdmCallbacks::spdmDeviceReleaseReceiverBuffer);
-
-        jnaInterface.set_callbacks(callbacks);
     }
 
     protected Uint8 getRequestAttributes() {
@@ -269,4 +315,10 @@ public abstract class SpdmProtocol12 implements SpdmProtocol {
             return new Uint8(SPDM_GET_MEASUREMENTS_REQUEST_ATTRIBUTES_RAW_BIT_STREAM_REQUESTED);
         }
     }
+
+    @FunctionalInterface
+    private interface SpdmCommand<T> {
+
+        T execute() throws SpdmCommandFailedException;
+    }
 }
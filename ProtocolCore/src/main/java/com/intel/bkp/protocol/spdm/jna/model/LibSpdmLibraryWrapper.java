@@ -45,13 +45,11 @@ public interface LibSpdmLibraryWrapper extends Library {
         return Native.load(wrapperLibraryPath, LibSpdmLibraryWrapper.class);
     }
 
-    void set_callbacks(SessionCallbacks callbacks);
-
     void libspdm_get_version_w(Pointer spdmContext, ByteBuffer version);
 
     NativeSize libspdm_get_context_size_w();
 
-    Long libspdm_prepare_context_w(Pointer spdmContextP, Uint32 bufferSize);
+    Long libspdm_prepare_context_w(Pointer spdmContextP, Uint32 bufferSize, SessionCallbacks.ByReference callbacks);
 
     NativeSize libspdm_get_sizeof_required_scratch_buffer_w(Pointer spdmContextP);
 
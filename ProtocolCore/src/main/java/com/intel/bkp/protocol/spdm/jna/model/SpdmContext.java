@@ -33,15 +33,30 @@
 
 package com.intel.bkp.protocol.spdm.jna.model;
 
+import com.sun.jna.Memory;
 import com.sun.jna.Pointer;
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+import static com.intel.bkp.protocol.spdm.jna.model.SpdmConstants.LIBSPDM_SENDER_RECEIVE_BUFFER_SIZE;
+
+/**
+ * Native SPDM context with buffers reused by every request sent within it.
+ * Buffers are only valid under the lock of the protocol instance owning the context - results must be copied out
+ * before release.
+ */
 @Getter
-@AllArgsConstructor
 public class SpdmContext {
 
     private final Pointer context;
     private final Pointer scratchBuffer;
+    private final Memory responseBuffer = new Memory(LIBSPDM_SENDER_RECEIVE_BUFFER_SIZE);
+    private final Memory responseLength = new Memory(Long.BYTES);
+    private final Memory slotMask = new Memory(Byte.BYTES);
+    private final Memory signature;
 
+    public SpdmContext(Pointer context, Pointer scratchBuffer, int signatureLength) {
+        this.context = context;
+        this.scratchBuffer = scratchBuffer;
+        this.signature = new Memory(signatureLength);
+    }
 }
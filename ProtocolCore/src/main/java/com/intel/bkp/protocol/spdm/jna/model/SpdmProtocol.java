@@ -41,7 +41,7 @@ public interface SpdmProtocol {
 
     SpdmGetDigestResult getDigest() throws SpdmCommandFailedException;
 
-    String getCerts(int slotId) throws SpdmCommandFailedException;
+    byte[] getCerts(int slotId) throws SpdmCommandFailedException;
 
-    String getMeasurements(int slotId) throws SpdmCommandFailedException;
+    byte[] getMeasurements(int slotId) throws SpdmCommandFailedException;
 }
@@ -0,0 +1,391 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2023 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.protocol.spdm.jna;
+
+import com.intel.bkp.protocol.spdm.exceptions.SpdmCommandFailedException;
+import com.intel.bkp.protocol.spdm.jna.model.LibSpdmDataParameter;
+import com.intel.bkp.protocol.spdm.jna.model.LibSpdmLibraryWrapper;
+import com.intel.bkp.protocol.spdm.jna.model.LibSpdmReturn;
+import com.intel.bkp.protocol.spdm.jna.model.MessageLogger;
+import com.intel.bkp.protocol.spdm.jna.model.MessageSender;
+import com.intel.bkp.protocol.spdm.jna.model.NativeSize;
+import com.intel.bkp.protocol.spdm.jna.model.SessionCallbacks;
+import com.intel.bkp.protocol.spdm.jna.model.Uint32;
+import com.intel.bkp.protocol.spdm.jna.model.Uint64;
+import com.intel.bkp.protocol.spdm.jna.model.Uint8;
+import com.sun.jna.Memory;
+import com.sun.jna.Pointer;
+import com.sun.jna.ptr.PointerByReference;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.intel.bkp.protocol.spdm.jna.model.SpdmConstants.LIBSPDM_SENDER_RECEIVE_BUFFER_SIZE;
+import static com.intel.bkp.protocol.spdm.jna.model.SpdmConstants.LIBSPDM_STATUS_SPDM_INTERNAL_EXCEPTION;
+import static com.intel.bkp.protocol.spdm.jna.model.SpdmConstants.LIBSPDM_STATUS_SUCCESS;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SpdmProtocol12Test {
+
+    private static final int DEVICES = 4;
+    private static final int SLOT_ID = 0;
+    private static final byte[] GET_MEASUREMENTS_REQUEST = {0x12, (byte) 0xE0, 0x00, 0x00};
+    private static final long COMMAND_FAILED_STATUS = 0x80000001L;
+
+    private final LoopbackSpdmWrapper wrapper = new LoopbackSpdmWrapper();
+
+    @Test
+    void getMeasurements_MultipleContextsInParallel_EachUsesOwnCallbacks() throws Exception {
+        // given
+        final CountDownLatch allRequestsSent = new CountDownLatch(DEVICES);
+        final List<SpdmProtocol12> protocols = new ArrayList<>();
+        for (int i = 0; i < DEVICES; i++) {
+            protocols.add(new TestSpdmProtocol(new LoopbackSpdmResponder("device-" + i, allRequestsSent)));
+        }
+        final ExecutorService executor = Executors.newFixedThreadPool(DEVICES);
+
+        try {
+            // when
+            final List<Future<byte[]>> results = new ArrayList<>();
+            for (SpdmProtocol12 protocol : protocols) {
+                results.add(executor.submit(() -> protocol.getMeasurements(SLOT_ID)));
+            }
+
+            // then
+            for (int i = 0; i < DEVICES; i++) {
+                assertArrayEquals(LoopbackSpdmResponder.response("device-" + i, GET_MEASUREMENTS_REQUEST),
+                    results.get(i).get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void getVersion_RegistersCallbacksWithContext() throws Exception {
+        // given
+        final TestSpdmProtocol sut = newProtocol();
+
+        // when
+        sut.getVersion();
+
+        // then
+        assertEquals(1, wrapper.callbacksByContext.size());
+        assertSame(sut.getCallbacks(), wrapper.callbacksByContext.values().iterator().next());
+    }
+
+    @Test
+    void getMeasurements_CalledTwice_NegotiatesConnectionOnce() throws Exception {
+        // given
+        final TestSpdmProtocol sut = newProtocol();
+
+        // when
+        sut.getMeasurements(SLOT_ID);
+        sut.getMeasurements(SLOT_ID);
+
+        // then
+        assertEquals(1, wrapper.initConnectionCalls.get());
+    }
+
+    @Test
+    void getVersion_ConnectionNegotiated_ReturnsNegotiatedVersionWithoutHandshake() throws Exception {
+        // given
+        final TestSpdmProtocol sut = newProtocol();
+        sut.getMeasurements(SLOT_ID);
+
+        // when
+        final String result = sut.getVersion();
+
+        // then
+        assertEquals("12", result);
+        assertEquals(1, wrapper.initConnectionCalls.get());
+    }
+
+    @Test
+    void getMeasurements_FailsOnReusedConnection_RetriesWithFullHandshake() throws Exception {
+        // given
+        final TestSpdmProtocol sut = newProtocol();
+        sut.getMeasurements(SLOT_ID);
+        wrapper.failingMeasurements.set(1);
+
+        // when
+        final byte[] result = sut.getMeasurements(SLOT_ID);
+
+        // then
+        assertArrayEquals(LoopbackSpdmResponder.response("device", GET_MEASUREMENTS_REQUEST), result);
+        assertEquals(2, wrapper.initConnectionCalls.get());
+        assertTrue(sut.isConnectionInitialized());
+    }
+
+    @Test
+    void getMeasurements_FailsOnNewConnection_ThrowsAndNegotiatesAgainOnNextCall() throws Exception {
+        // given
+        final TestSpdmProtocol sut = newProtocol();
+        wrapper.failingMeasurements.set(1);
+
+        // when
+        assertThrows(SpdmCommandFailedException.class, () -> sut.getMeasurements(SLOT_ID));
+        sut.getMeasurements(SLOT_ID);
+
+        // then
+        assertEquals(2, wrapper.initConnectionCalls.get());
+    }
+
+    private TestSpdmProtocol newProtocol() {
+        return new TestSpdmProtocol(new LoopbackSpdmResponder("device", new CountDownLatch(0)));
+    }
+
+    private class TestSpdmProtocol extends SpdmProtocol12 {
+
+        TestSpdmProtocol(MessageSender messageSender) {
+            super(messageSender, new NoOpMessageLogger(), () -> 0);
+        }
+
+        @Override
+        protected void initializeLibrary() {
+            jnaInterface = wrapper;
+        }
+
+        @Override
+        protected boolean isMeasurementsRequestSignature() {
+            return false;
+        }
+    }
+
+    /**
+     * Responds to each request with device name followed by the request. Every device waits until all devices sent
+     * their requests, so the test only passes when requests to different devices are in flight at the same time.
+     */
+    private static class LoopbackSpdmResponder implements MessageSender {
+
+        private final String deviceName;
+        private final CountDownLatch allRequestsSent;
+        private byte[] lastRequest;
+
+        LoopbackSpdmResponder(String deviceName, CountDownLatch allRequestsSent) {
+            this.deviceName = deviceName;
+            this.allRequestsSent = allRequestsSent;
+        }
+
+        static byte[] response(String deviceName, byte[] request) {
+            final byte[] name = deviceName.getBytes(StandardCharsets.US_ASCII);
+            return ByteBuffer.allocate(name.length + request.length).put(name).put(request).array();
+        }
+
+        @Override
+        public void sendMessage(ByteBuffer spdmContext, ByteBuffer buffer) throws Exception {
+            lastRequest = new byte[buffer.remaining()];
+            buffer.get(lastRequest);
+            allRequestsSent.countDown();
+            if (!allRequestsSent.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Requests to devices were not sent concurrently.");
+            }
+        }
+
+        @Override
+        public Optional<byte[]> receiveResponse() {
+            return Optional.of(response(deviceName, lastRequest));
+        }
+
+        @Override
+        public ByteBuffer buildMctpMessageBuffer(ByteBuffer messageBuffer) {
+            return messageBuffer;
+        }
+
+        @Override
+        public ByteBuffer getMctpMessagePayload(ByteBuffer messageBuffer) {
+            return messageBuffer;
+        }
+    }
+
+    private static class NoOpMessageLogger implements MessageLogger {
+
+        @Override
+        public void logMessage(ByteBuffer buffer) {
+        }
+
+        @Override
+        public void logResponse(ByteBuffer buffer) {
+        }
+    }
+
+    /**
+     * Stands in for spdm_wrapper: exchanges messages only through callbacks registered with the given context,
+     * the same way libspdm calls them.
+     */
+    private static class LoopbackSpdmWrapper implements LibSpdmLibraryWrapper {
+
+        private final Map<Pointer, SessionCallbacks> callbacksByContext = new ConcurrentHashMap<>();
+        private final AtomicInteger initConnectionCalls = new AtomicInteger();
+        private final AtomicInteger failingMeasurements = new AtomicInteger();
+
+        @Override
+        public NativeSize libspdm_get_context_size_w() {
+            return new NativeSize(64);
+        }
+
+        @Override
+        public Long libspdm_prepare_context_w(Pointer spdmContextP, Uint32 bufferSize,
+                                              SessionCallbacks.ByReference callbacks) {
+            callbacksByContext.put(spdmContextP, callbacks);
+            return LIBSPDM_STATUS_SUCCESS;
+        }
+
+        @Override
+        public NativeSize libspdm_get_sizeof_required_scratch_buffer_w(Pointer spdmContextP) {
+            return new NativeSize(64);
+        }
+
+        @Override
+        public void libspdm_set_scratch_buffer_w(Pointer spdmContextP, Pointer scratchBuffer,
+                                                 NativeSize scratchBufferSize) {
+        }
+
+        @Override
+        public Long libspdm_set_data_w8(Pointer spdmContext, int dataType, LibSpdmDataParameter.ByReference parameter,
+                                        Uint8 data, NativeSize dataSize) {
+            return LIBSPDM_STATUS_SUCCESS;
+        }
+
+        @Override
+        public Long libspdm_set_data_w32(Pointer spdmContext, int dataType, LibSpdmDataParameter.ByReference parameter,
+                                         Uint32 data, NativeSize dataSize) {
+            return LIBSPDM_STATUS_SUCCESS;
+        }
+
+        @Override
+        public Long libspdm_init_connection_w(Pointer spdmContextP, boolean versionOnly) {
+            if (!versionOnly) {
+                initConnectionCalls.incrementAndGet();
+            }
+            return LIBSPDM_STATUS_SUCCESS;
+        }
+
+        @Override
+        public void libspdm_get_version_w(Pointer spdmContext, ByteBuffer version) {
+            version.put(0, (byte) 0x12);
+        }
+
+        @Override
+        public Long libspdm_get_digest_w(Pointer spdmContext, Pointer slotMask, Pointer totalDigestBuffer) {
+            return LIBSPDM_STATUS_SUCCESS;
+        }
+
+        @Override
+        public Long libspdm_get_certificate_w(Pointer spdmContext, Uint8 slotId, Pointer certChainSize,
+                                              Pointer certChain) {
+            return LIBSPDM_STATUS_SUCCESS;
+        }
+
+        @Override
+        public Long libspdm_get_measurement_w(Pointer spdmContext, Pointer measurementRecordLength,
+                                              Pointer measurementRecord, Uint8 slotIdMeasurements,
+                                              Uint8 requestAttribute, Pointer signature) {
+            if (failingMeasurements.getAndUpdate(count -> Math.max(0, count - 1)) > 0) {
+                return COMMAND_FAILED_STATUS;
+            }
+            try {
+                final byte[] response = exchange(spdmContext, GET_MEASUREMENTS_REQUEST);
+                measurementRecord.write(0, response, 0, response.length);
+                measurementRecordLength.setInt(0, response.length);
+                return LIBSPDM_STATUS_SUCCESS;
+            } catch (IllegalStateException e) {
+                return LIBSPDM_STATUS_SPDM_INTERNAL_EXCEPTION;
+            }
+        }
+
+        @Override
+        public Long libspdm_set_certificate_w(Pointer spdmContext, Pointer sessionId, Uint8 slotId,
+                                              Pointer certChain, NativeSize certChainSize) {
+            return LIBSPDM_STATUS_SUCCESS;
+        }
+
+        private byte[] exchange(Pointer context, byte[] request) {
+            final SessionCallbacks callbacks = callbacksByContext.get(context);
+
+            final PointerByReference senderBuffer = new PointerByReference();
+            check(callbacks.spdmDeviceAcquireSenderBufferCallback.callback(context, senderBuffer));
+            final Memory message = new Memory(request.length);
+            message.write(0, request, 0, request.length);
+            final Memory transportMessageSize = bufferSize();
+            check(callbacks.mctpEncodeCallback.callback(context, null, false, true,
+                new NativeSize(request.length), message, transportMessageSize, senderBuffer));
+            check(callbacks.spdmDeviceSendMessageCallback.callback(context,
+                new NativeSize(transportMessageSize.getLong(0)), senderBuffer.getValue(), new Uint64(0)));
+            callbacks.spdmDeviceReleaseSenderBufferCallback.callback(context, senderBuffer.getValue());
+
+            final PointerByReference receiverBuffer = new PointerByReference();
+            check(callbacks.spdmDeviceAcquireReceiverBufferCallback.callback(context, receiverBuffer));
+            final Memory transportResponseSize = bufferSize();
+            check(callbacks.spdmDeviceReceiveMessageCallback.callback(context, transportResponseSize, receiverBuffer,
+                new Uint64(0)));
+            final PointerByReference decodedMessage = new PointerByReference(new Memory(LIBSPDM_SENDER_RECEIVE_BUFFER_SIZE));
+            final Memory decodedMessageSize = bufferSize();
+            check(callbacks.mctpDecodeCallback.callback(context, new PointerByReference(), new Memory(1), true,
+                new NativeSize(transportResponseSize.getLong(0)), receiverBuffer.getValue(), decodedMessageSize,
+                decodedMessage));
+            callbacks.spdmDeviceReleaseReceiverBufferCallback.callback(context, receiverBuffer.getValue());
+
+            return decodedMessage.getValue().getByteArray(0, (int) decodedMessageSize.getLong(0));
+        }
+
+        private static Memory bufferSize() {
+            final Memory size = new Memory(Long.BYTES);
+            size.setLong(0, LIBSPDM_SENDER_RECEIVE_BUFFER_SIZE);
+            return size;
+        }
+
+        private static void check(LibSpdmReturn status) {
+            if (status.longValue() != LIBSPDM_STATUS_SUCCESS) {
+                throw new IllegalStateException("Callback failed with status: " + status.longValue());
+            }
+        }
+    }
+}
@@ -52,12 +52,15 @@ import dev.failsafe.Failsafe;
 import dev.failsafe.FailsafeException;
 import dev.failsafe.RetryPolicy;
 import dev.failsafe.function.CheckedPredicate;
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
 import javax.crypto.SecretKey;
 import java.io.IOException;
+import java.security.GeneralSecurityException;
 import java.security.Key;
 import java.security.KeyPair;
 import java.security.KeyStore;
@@ -67,23 +70,29 @@ import java.security.PrivateKey;
 import java.security.Provider;
 import java.security.PublicKey;
 import java.security.Security;
+import java.security.Signature;
 import java.security.UnrecoverableKeyException;
 import java.security.cert.Certificate;
 import java.security.cert.CertificateException;
+import java.time.Clock;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
 public class JceSecurityProvider implements ISecurityProvider {
 
     private static final int DELAY_SECONDS = 1;
     private static final int MAX_RETRIES = 3;
+    static final Duration SIGNING_KEY_MAX_AGE = Duration.ofMinutes(1);
 
     @Getter
     protected Provider provider;
 
-    @Setter
     protected KeyStore keyStore;
 
     @Getter
@@ -113,6 +122,21 @@ public class JceSecurityProvider implements ISecurityProvider {
     private final RetryPolicy<Object> retryPolicyWithResult = prepareRetryPolicy(Optional.of(Objects::isNull));
     private final RetryPolicy<Object> retryPolicyWithBoolean = prepareRetryPolicy(Optional.of(o -> !((boolean) o)));
 
+    /**
+     * Private key handles used by signObject, keyed by alias. The whole map is replaced whenever the keystore
+     * changes through this provider, so a lookup racing with a change can only populate the discarded map.
+     * Changes made to the keystore outside this provider are picked up once the handle exceeds max age.
+     */
+    private volatile Map<String, SigningKey> signingKeys = new ConcurrentHashMap<>();
+
+    /**
+     * Signature engines are stateful and not thread-safe, so each thread keeps its own per algorithm.
+     */
+    private final ThreadLocal<Map<String, SigningEngine>> signingEngines = ThreadLocal.withInitial(HashMap::new);
+
+    @Setter(AccessLevel.PACKAGE)
+    private Clock clock = Clock.systemUTC();
+
     private RetryPolicy<Object> prepareRetryPolicy(Optional<CheckedPredicate<Object>> handleResultIfPredicate) {
         final var retryPolicy = RetryPolicy.builder()
             .handle(KeyStoreException.class)
@@ -165,6 +189,7 @@ public class JceSecurityProvider implements ISecurityProvider {
 
     public void login() {
         log.trace("Login to keystore: {}, inputStreamParam: {}", keyStoreName, inputStreamParam);
+        invalidateSigningKeys();
         try {
             if (keyStore == null) {
                 keyStore = KeyStore.getInstance(keyStoreName, provider);
@@ -176,12 +201,18 @@ public class JceSecurityProvider implements ISecurityProvider {
         }
     }
 
+    public void setKeyStore(KeyStore keyStore) {
+        this.keyStore = keyStore;
+        invalidateSigningKeys();
+    }
+
     public boolean checkConnection() {
         return keyStore != null && KeystoreUtils.listSecurityObjects(keyStore) != null;
     }
 
     private void saveSecureEnclave() {
         log.debug("Saving secure enclave.");
+        invalidateSigningKeys();
         try {
             String password = securityProperties.getPassword();
             keystoreManager.store(keyStore, inputStreamParam, password);
@@ -278,6 +309,7 @@ public class JceSecurityProvider implements ISecurityProvider {
         log.debug("Deleting security object with name {}.", name);
         try {
             Failsafe.with(retryPolicy).run(() -> keyStore.deleteEntry(name));
+            invalidateSigningKeys();
             saveSecureEnclave();
         } catch (FailsafeException e) {
             throw new JceSecurityProviderException(String.format("Failed to delete security object '%1s'.", name), e);
@@ -317,19 +349,61 @@ public class JceSecurityProvider implements ISecurityProvider {
 
     public byte[] signObject(byte[] content, String name) {
         log.debug("Signing object with name {}.", name);
+        final SigningKey signingKey = getSigningKey(name);
+        try {
+            return sign(signingKey, content, ecProperties.getSignatureAlgorithm());
+        } catch (GeneralSecurityException e) {
+            // handle may be stale (e.g. HSM session was reset) - look it up again next time
+            signingKeys.computeIfPresent(name, (alias, key) -> key == signingKey ? null : key);
+            throw new JceSecurityProviderException(
+                String.format("Failed to sign data with private key '%1s'.", name), e);
+        }
+    }
+
+    private SigningKey getSigningKey(String name) {
+        final Map<String, SigningKey> keys = signingKeys;
+        final SigningKey cachedKey = keys.get(name);
+        if (cachedKey != null && clock.instant().isBefore(cachedKey.expiresAt())) {
+            return cachedKey;
+        }
+
+        final PrivateKey privateKey;
         try {
-            final PrivateKey privateKey = Failsafe.with(retryPolicyWithResult).get(
+            privateKey = Failsafe.with(retryPolicyWithResult).get(
                 () -> (PrivateKey) keyStore.getKey(name, "".toCharArray())
             );
-            return EcUtils.signEcData(privateKey, content, ecProperties.getSignatureAlgorithm(),
-                provider);
         } catch (FailsafeException e) {
             throw new JceSecurityProviderException(
                 String.format("Failed to retrieve key '%1s'. KeyStore may be not initialized.", name), e);
-        } catch (KeystoreGenericException e) {
-            throw new JceSecurityProviderException(
-                String.format("Failed to sign data with private key '%1s'.", name), e);
         }
+
+        if (privateKey == null) {
+            throw new JceSecurityProviderException(String.format("Private key '%1s' does not exist.", name));
+        }
+        final SigningKey signingKey = new SigningKey(privateKey, clock.instant().plus(SIGNING_KEY_MAX_AGE));
+        keys.put(name, signingKey);
+        return signingKey;
+    }
+
+    private byte[] sign(SigningKey signingKey, byte[] content, String algorithm) throws GeneralSecurityException {
+        final Map<String, SigningEngine> engines = signingEngines.get();
+        SigningEngine engine = engines.get(algorithm);
+        if (engine == null) {
+            engine = new SigningEngine(Signature.getInstance(algorithm, provider));
+            engines.put(algorithm, engine);
+        }
+
+        try {
+            return engine.sign(signingKey, content);
+        } catch (GeneralSecurityException | RuntimeException e) {
+            // state of engine after failure is unspecified
+            engines.remove(algorithm);
+            throw e;
+        }
+    }
+
+    private void invalidateSigningKeys() {
+        signingKeys = new ConcurrentHashMap<>();
     }
 
     public SecretKey getKeyFromSecurityObject(String name) {
@@ -363,4 +437,30 @@ public class JceSecurityProvider implements ISecurityProvider {
         log.trace("Reloading keystore.");
         login();
     }
+
+    /**
+     * Handle of a private key cached by signObject. A new instance is created each time the key is looked up
+     * in the keystore, i.e. after the cache was invalidated or the previous handle expired.
+     */
+    private record SigningKey(PrivateKey privateKey, Instant expiresAt) {
+
+    }
+
+    @RequiredArgsConstructor
+    private static class SigningEngine {
+
+        private final Signature signature;
+        private SigningKey initializedKey;
+
+        byte[] sign(SigningKey signingKey, byte[] content) throws GeneralSecurityException {
+            // sign() resets engine to state after initSign, so it is reinitialized only for a newly looked up key
+            if (signingKey != initializedKey) {
+                initializedKey = null;
+                signature.initSign(signingKey.privateKey());
+                initializedKey = signingKey;
+            }
+            signature.update(content);
+            return signature.sign();
+        }
+    }
 }
@@ -40,6 +40,7 @@ import com.intel.bkp.core.security.params.SecurityProperties;
 import com.intel.bkp.core.security.params.crypto.AesProperties;
 import com.intel.bkp.core.security.params.crypto.EcProperties;
 import com.intel.bkp.core.security.params.crypto.RsaProperties;
+import com.intel.bkp.core.utils.provider.Sha384WithEcdsa;
 import com.intel.bkp.core.utils.provider.TestKeyStore;
 import com.intel.bkp.core.utils.provider.TestProvider;
 import com.intel.bkp.crypto.CryptoUtils;
@@ -64,6 +65,9 @@ import java.security.PrivateKey;
 import java.security.Provider;
 import java.security.Security;
 import java.security.cert.CertificateException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -480,6 +484,122 @@ class JceSecurityProviderTest {
             () -> securityService.signObject(content, testKeyAliasPositive));
     }
 
+    @Test
+    void signObject_CalledTwice_ReusesCachedKey() throws Exception {
+        // given
+        final var keyStore = prepareKeyStoreWithEcKey();
+        securityService.setKeyStore(keyStore);
+        final byte[] content = "content".getBytes();
+        securityService.signObject(content, testKeyAliasPositive);
+        keyStore.deleteEntry(testKeyAliasPositive);
+
+        // when
+        byte[] signature = securityService.signObject(content, testKeyAliasPositive);
+
+        // then
+        assertNotNull(signature);
+    }
+
+    @Test
+    void signObject_KeyStoreReplaced_LooksUpKeyAgain() throws Exception {
+        // given
+        securityService.setKeyStore(prepareKeyStoreWithEcKey());
+        final byte[] content = "content".getBytes();
+        securityService.signObject(content, testKeyAliasPositive);
+
+        // when
+        securityService.setKeyStore(prepareKeyStore(true));
+
+        // then
+        assertThrows(JceSecurityProviderException.class,
+            () -> securityService.signObject(content, testKeyAliasPositive));
+    }
+
+    @Test
+    void signObject_CalledTwice_ReusesInitializedSignatureEngine() throws Exception {
+        // given
+        securityService.setKeyStore(prepareKeyStoreWithEcKey());
+        final byte[] content = "content".getBytes();
+        Sha384WithEcdsa.INIT_SIGN_COUNT.set(0);
+
+        // when
+        securityService.signObject(content, testKeyAliasPositive);
+        final byte[] signature = securityService.signObject(content, testKeyAliasPositive);
+
+        // then
+        assertNotNull(signature);
+        assertEquals(1, Sha384WithEcdsa.INIT_SIGN_COUNT.get());
+    }
+
+    @Test
+    void signObject_KeyStoreReloadedWithSameKeyHandle_ReinitializesSignatureEngine() throws Exception {
+        // given
+        final var keyStore = prepareKeyStoreWithEcKey();
+        securityService.setKeyStore(keyStore);
+        final byte[] content = "content".getBytes();
+        securityService.signObject(content, testKeyAliasPositive);
+        Sha384WithEcdsa.INIT_SIGN_COUNT.set(0);
+
+        // when
+        securityService.setKeyStore(keyStore);
+        securityService.signObject(content, testKeyAliasPositive);
+
+        // then
+        assertEquals(1, Sha384WithEcdsa.INIT_SIGN_COUNT.get());
+    }
+
+    @Test
+    void signObject_CachedKeyOlderThanMaxAge_ReinitializesSignatureEngine() throws Exception {
+        // given
+        final Instant now = Instant.now();
+        securityService.setKeyStore(prepareKeyStoreWithEcKey());
+        securityService.setClock(Clock.fixed(now, ZoneOffset.UTC));
+        final byte[] content = "content".getBytes();
+        securityService.signObject(content, testKeyAliasPositive);
+        Sha384WithEcdsa.INIT_SIGN_COUNT.set(0);
+
+        // when
+        securityService.setClock(Clock.fixed(now.plus(JceSecurityProvider.SIGNING_KEY_MAX_AGE), ZoneOffset.UTC));
+        securityService.signObject(content, testKeyAliasPositive);
+        securityService.signObject(content, testKeyAliasPositive);
+
+        // then
+        assertEquals(1, Sha384WithEcdsa.INIT_SIGN_COUNT.get());
+    }
+
+    @Test
+    void signObject_CachedKeyOlderThanMaxAge_LooksUpKeyAgain() throws Exception {
+        // given
+        final Instant now = Instant.now();
+        final var keyStore = prepareKeyStoreWithEcKey();
+        securityService.setKeyStore(keyStore);
+        securityService.setClock(Clock.fixed(now, ZoneOffset.UTC));
+        final byte[] content = "content".getBytes();
+        securityService.signObject(content, testKeyAliasPositive);
+        keyStore.deleteEntry(testKeyAliasPositive);
+
+        // when
+        securityService.setClock(Clock.fixed(now.plus(JceSecurityProvider.SIGNING_KEY_MAX_AGE), ZoneOffset.UTC));
+
+        // then
+        assertThrows(JceSecurityProviderException.class,
+            () -> securityService.signObject(content, testKeyAliasPositive));
+    }
+
+    @Test
+    void signObject_AfterFailedSignature_Success() throws Exception {
+        // given
+        securityService.setKeyStore(prepareKeyStoreWithEcKey());
+        assertThrows(JceSecurityProviderException.class,
+            () -> securityService.signObject("error_content".getBytes(), testKeyAliasPositive));
+
+        // when
+        byte[] signature = securityService.signObject("content".getBytes(), testKeyAliasPositive);
+
+        // then
+        assertNotNull(signature);
+    }
+
     @Test
     void getKeyFromSecurityObject_WithMissingKeyObject_Success() throws Exception {
         // given
@@ -535,6 +655,13 @@ class JceSecurityProviderTest {
         }
     }
 
+    private KeyStore prepareKeyStoreWithEcKey() throws Exception {
+        final var keyStore = prepareKeyStore(true);
+        KeystoreUtils.storeKeyWithCertificate(securityService.getProvider(), keyStore, prepareEcKey(true),
+            testKeyAliasPositive, 1L, CryptoConstants.SHA384_WITH_ECDSA);
+        return keyStore;
+    }
+
     private KeyStore prepareKeyStore(boolean loadKeyStore) throws Exception {
         Provider provider = securityService.getProvider();
         KeyStore keyStore = KeyStore.getInstance(keyStoreName, provider);
@@ -41,8 +41,12 @@ import java.security.PrivateKey;
 import java.security.PublicKey;
 import java.security.SignatureException;
 import java.security.SignatureSpi;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class Sha384WithEcdsa extends SignatureSpi {
+
+    public static final AtomicInteger INIT_SIGN_COUNT = new AtomicInteger();
+
     @Override
     protected void engineInitVerify(PublicKey publicKey) {
 
@@ -53,6 +57,7 @@ public class Sha384WithEcdsa extends SignatureSpi {
         if (privateKey == null) {
             throw new InvalidKeyException();
         }
+        INIT_SIGN_COUNT.incrementAndGet();
     }
 
     private byte[] data = null;
@@ -0,0 +1,77 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2023 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.utils;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+
+import java.util.function.Supplier;
+
+import static com.intel.bkp.utils.HexConverter.toHex;
+
+/**
+ * Log arguments rendered only when logger formats the message, i.e. when the level is enabled.
+ * Pass them as {} parameters instead of formatting payload up front:
+ * log.trace("Raw data: {}", LazyLog.hex(data));
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class LazyLog {
+
+    /**
+     * Hex view of data - hex string is built in toString() only.
+     * Data is not copied, so the view must be logged before the buffer is modified.
+     */
+    public static Object hex(byte[] data) {
+        return new LazyValue(() -> data == null ? null : toHex(data));
+    }
+
+    /**
+     * Value computed by supplier in toString() only.
+     */
+    public static Object lazy(Supplier<?> supplier) {
+        return new LazyValue(supplier);
+    }
+
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    private static final class LazyValue {
+
+        private final Supplier<?> supplier;
+
+        @Override
+        public String toString() {
+            return String.valueOf(supplier.get());
+        }
+    }
+}
@@ -43,9 +43,15 @@ public class Properties {
     public static final String REQUIRE_IID_UDS = "require-iid-uds";
     public static final String TEST_MODE_SECRETS = "test-mode-secrets";
     public static final String ACCEPT_UNSIGNED_CORIM = "accept-unsigned-corim";
+    public static final String MAX_CONCURRENT_ATTESTATIONS = "max-concurrent-attestations";
+    public static final String RIM_CACHE_MAX_TTL_SECONDS = "rim-cache-max-ttl-seconds";
+    public static final String SPDM_CONNECTION_CACHE_MAX_TTL_SECONDS = "spdm-connection-cache-max-ttl-seconds";
+    public static final String ECDH_KEY_POOL_SIZE = "ecdh-key-pool-size";
+    public static final String ECDH_KEY_POOL_LOW_WATER_MARK = "ecdh-key-pool-low-water-mark";
     public static final String DISTRIBUTION_POINT_GROUP = "distribution-point";
     public static final String TRUSTED_ROOT_HASH_GROUP = "trusted-root-hash";
     public static final String PROXY_GROUP = "proxy";
+    public static final String DP_CACHE_GROUP = "cache";
     public static final String PROVIDER_PARAMS_GROUP = "security-provider-params";
     public static final String VERIFIER_KEY_PARAMS_GROUP = "verifier-key-params";
     public static final String VERIFIER_KEY_CHAIN_GROUP = "verifier-root-qky-chain";
@@ -61,6 +67,15 @@ public class Properties {
     public static final String DISTRIBUTION_POINT_ATT_CERT_PATH = "attestation-cert-base-path";
     public static final String DISTRIBUTION_POINT_PROXY_HOST = "host";
     public static final String DISTRIBUTION_POINT_PROXY_PORT = "port";
+    public static final String DP_CACHE_ENABLED = "enabled";
+    public static final String DP_CACHE_MAX_ENTRIES = "max-entries";
+    public static final String DP_CACHE_DISK_PATH = "disk-path";
+    public static final String DP_CACHE_DEFAULT_MAX_AGE = "default-max-age-seconds";
+
+    public static final String DATABASE_INTERNAL_DATABASE = "internal-database";
+    public static final String DATABASE_READ_CACHE_ENABLED = "read-cache-enabled";
+    public static final String DATABASE_READ_CACHE_MAX_ENTRIES = "read-cache-max-entries";
+    public static final String DATABASE_CONNECTION_POOL_SIZE = "connection-pool-size";
 
     public static final String VERIFIER_KEY_PARAMS_SINGLE_ROOT_QKY_CHAIN_PATH = "single-chain-path";
     public static final String VERIFIER_KEY_PARAMS_MULTI_ROOT_QKY_CHAIN_PATH = "multi-chain-path";
@@ -35,5 +35,6 @@ package com.intel.bkp.verifier.database;
 
 public enum AttestationFlowType {
     S10,
-    DICE
+    DICE,
+    SPDM
 }
@@ -33,11 +33,13 @@
 
 package com.intel.bkp.verifier.database;
 
+import com.intel.bkp.verifier.database.model.IDatabaseAccess;
 import com.intel.bkp.verifier.exceptions.DatabaseException;
 import com.intel.bkp.verifier.model.DatabaseConfiguration;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.dbutils.DbUtils;
+import org.sqlite.SQLiteConfig;
 
 import java.io.File;
 import java.sql.Connection;
@@ -47,6 +49,8 @@ import java.sql.DriverManager;
 public class DatabaseManager {
 
     private static final String DATABASE_NAME = "verifier_core.sqlite";
+    static final int BUSY_TIMEOUT_MILLIS = 5000;
+    static final long MMAP_SIZE_BYTES = 64L * 1024 * 1024;
 
     private static DatabaseManager INSTANCE;
 
@@ -54,6 +58,8 @@ public class DatabaseManager {
 
     private Connection connection;
 
+    private IDatabaseAccess databaseAccess;
+
     private DatabaseManager(DatabaseConfiguration dbConfig) {
         this.dbConfig = dbConfig;
     }
@@ -81,6 +87,42 @@ public class DatabaseManager {
         return connection;
     }
 
+    /**
+     * Returns access to the database in a mode selected by connection-pool-size: single connection shared by all
+     * threads, or WAL mode with a pool of concurrent readers and a single writer.
+     */
+    public synchronized IDatabaseAccess getDatabaseAccess() {
+        if (databaseAccess == null) {
+            databaseAccess = isPooled()
+                             ? createPooledAccess(dbConfig.getConnectionPoolSize())
+                             : new SingleConnectionAccess(getConnection());
+        }
+        return databaseAccess;
+    }
+
+    private boolean isPooled() {
+        return dbConfig != null && dbConfig.getConnectionPoolSize() > 1;
+    }
+
+    private IDatabaseAccess createPooledAccess(int readerCount) {
+        try {
+            final SQLiteConfig sqLiteConfig = getPooledConnectionConfig();
+            final String jdbcUrl = getJdbcUrl();
+            return new PooledConnectionAccess(() -> sqLiteConfig.createConnection(jdbcUrl), readerCount);
+        } catch (Exception e) {
+            throw new DatabaseException("Failed to initialize database connection pool", e);
+        }
+    }
+
+    static SQLiteConfig getPooledConnectionConfig() {
+        final SQLiteConfig sqLiteConfig = new SQLiteConfig();
+        sqLiteConfig.setJournalMode(SQLiteConfig.JournalMode.WAL);
+        sqLiteConfig.setSynchronous(SQLiteConfig.SynchronousMode.NORMAL);
+        sqLiteConfig.setBusyTimeout(BUSY_TIMEOUT_MILLIS);
+        sqLiteConfig.setPragma(SQLiteConfig.Pragma.MMAP_SIZE, String.valueOf(MMAP_SIZE_BYTES));
+        return sqLiteConfig;
+    }
+
     @SneakyThrows
     String getJdbcUrl() {
         final String url;
@@ -93,7 +135,11 @@ public class DatabaseManager {
         return "jdbc:sqlite:" + url;
     }
 
-    public void closeDatabase() {
+    public synchronized void closeDatabase() {
+        if (databaseAccess != null) {
+            databaseAccess.close();
+            databaseAccess = null;
+        }
         DbUtils.closeQuietly(connection);
     }
 }
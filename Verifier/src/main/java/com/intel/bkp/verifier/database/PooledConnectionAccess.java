@@ -0,0 +1,215 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2023 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.verifier.database;
+
+import com.intel.bkp.verifier.database.model.IDatabaseAccess;
+import com.intel.bkp.verifier.exceptions.DatabaseException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Database in WAL journal mode accessed by a pool of reader connections and one writer connection.
+ * Readers run concurrently with each other and with the writer. Writes are queued to a single writer thread,
+ * so they never compete for the database lock and do not fail with SQLITE_BUSY.
+ */
+@Slf4j
+public class PooledConnectionAccess implements IDatabaseAccess {
+
+    private static final String WRITER_THREAD_NAME = "sqlite-writer";
+    private static final long BORROW_POLL_INTERVAL_MS = 100;
+
+    private final Object readersLock = new Object();
+    private final Set<CachedConnection> borrowedReaders = new HashSet<>();
+    private final BlockingQueue<CachedConnection> idleReaders;
+    private final CachedConnection writer;
+    private final ExecutorService writerQueue;
+    private volatile Thread writerThread;
+    private volatile boolean closed;
+
+    public PooledConnectionAccess(ConnectionFactory connectionFactory, int readerCount) throws SQLException {
+        this.idleReaders = new ArrayBlockingQueue<>(readerCount);
+        this.writer = new CachedConnection(connectionFactory.create());
+        this.writerQueue = Executors.newSingleThreadExecutor(this::createWriterThread);
+        try {
+            for (int i = 0; i < readerCount; i++) {
+                idleReaders.add(new CachedConnection(connectionFactory.create()));
+            }
+        } catch (SQLException e) {
+            close();
+            throw e;
+        }
+        log.debug("Opened SQLite connection pool with {} readers and single writer.", readerCount);
+    }
+
+    @Override
+    public <T> T read(SqlOperation<T> operation) throws SQLException {
+        final CachedConnection reader = borrowReader();
+        try {
+            return operation.execute(reader);
+        } finally {
+            returnReader(reader);
+        }
+    }
+
+    @Override
+    public <T> T write(SqlOperation<T> operation) throws SQLException {
+        if (Thread.currentThread() == writerThread) {
+            return operation.execute(writer);
+        }
+
+        final Future<T> result = submitWrite(operation);
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DatabaseException("Interrupted while waiting for database write.", e);
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        // pending writes complete before writer connection is closed
+        writerQueue.execute(writer::close);
+        writerQueue.shutdown();
+        // borrowed readers are closed when returned, so that queries in progress are not interrupted
+        synchronized (readersLock) {
+            final List<CachedConnection> readers = new ArrayList<>();
+            idleReaders.drainTo(readers);
+            readers.forEach(CachedConnection::close);
+            if (!borrowedReaders.isEmpty()) {
+                log.debug("Closing {} borrowed readers when returned to the pool.", borrowedReaders.size());
+            }
+        }
+    }
+
+    /**
+     * Waits in short polls, so that callers still waiting for a reader when the pool gets closed fail instead of
+     * waiting forever.
+     */
+    private CachedConnection borrowReader() {
+        try {
+            while (!closed) {
+                final CachedConnection reader = idleReaders.poll(BORROW_POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                if (reader != null) {
+                    return markBorrowed(reader);
+                }
+            }
+            throw poolClosed();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DatabaseException("Interrupted while waiting for database connection.", e);
+        }
+    }
+
+    private CachedConnection markBorrowed(CachedConnection reader) {
+        synchronized (readersLock) {
+            if (closed) {
+                reader.close();
+                throw poolClosed();
+            }
+            borrowedReaders.add(reader);
+            return reader;
+        }
+    }
+
+    private void returnReader(CachedConnection reader) {
+        synchronized (readersLock) {
+            borrowedReaders.remove(reader);
+            if (closed) {
+                reader.close();
+            } else {
+                idleReaders.add(reader);
+            }
+        }
+    }
+
+    private <T> Future<T> submitWrite(SqlOperation<T> operation) {
+        if (closed) {
+            throw poolClosed();
+        }
+        try {
+            return writerQueue.submit(() -> operation.execute(writer));
+        } catch (RejectedExecutionException e) {
+            throw poolClosed();
+        }
+    }
+
+    private static DatabaseException poolClosed() {
+        return new DatabaseException("Database connection pool is closed.");
+    }
+
+    private Thread createWriterThread(Runnable runnable) {
+        final Thread thread = new Thread(runnable, WRITER_THREAD_NAME);
+        thread.setDaemon(true);
+        writerThread = thread;
+        return thread;
+    }
+
+    private static SQLException unwrap(ExecutionException e) {
+        final Throwable cause = e.getCause();
+        if (cause instanceof SQLException sqlException) {
+            return sqlException;
+        }
+        if (cause instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        return new SQLException(cause);
+    }
+
+    @FunctionalInterface
+    public interface ConnectionFactory {
+
+        Connection create() throws SQLException;
+    }
+}
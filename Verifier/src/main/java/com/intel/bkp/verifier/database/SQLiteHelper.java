@@ -33,20 +33,22 @@
 
 package com.intel.bkp.verifier.database;
 
+import com.intel.bkp.verifier.database.model.IDatabaseAccess;
 import com.intel.bkp.verifier.database.model.IMigratable;
 import com.intel.bkp.verifier.database.repository.DiceRevocationCacheEntityService;
 import com.intel.bkp.verifier.database.repository.S10CacheEntityService;
+import com.intel.bkp.verifier.database.repository.SpdmChainCacheEntityService;
 import com.intel.bkp.verifier.model.DatabaseConfiguration;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.dbutils.QueryRunner;
 import org.apache.commons.dbutils.handlers.ScalarHandler;
 
-import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Map;
 
 import static com.intel.bkp.verifier.database.AttestationFlowType.DICE;
 import static com.intel.bkp.verifier.database.AttestationFlowType.S10;
+import static com.intel.bkp.verifier.database.AttestationFlowType.SPDM;
 
 @Slf4j
 public class SQLiteHelper implements AutoCloseable {
@@ -54,30 +56,33 @@ public class SQLiteHelper implements AutoCloseable {
     /**
      * Updating database schema requires updating CURRENT_SCHEMA_VERSION.
      */
-    private static final int CURRENT_SCHEMA_VERSION = 1;
+    private static final int CURRENT_SCHEMA_VERSION = 2;
 
 
     private static final String SQL_SCHEMA_VERSION = "PRAGMA user_version";
 
     private DatabaseManager databaseManager;
-    private Connection connection;
+    private IDatabaseAccess databaseAccess;
 
     private Map<AttestationFlowType, IMigratable> entityServices;
 
     private S10CacheEntityService s10CacheEntityService;
     private DiceRevocationCacheEntityService diceRevocationCacheEntityService;
+    private SpdmChainCacheEntityService spdmChainCacheEntityService;
 
     final QueryRunner runner = new QueryRunner();
 
     public SQLiteHelper(DatabaseConfiguration dbConfig) {
         this.databaseManager = DatabaseManager.instance(dbConfig);
-        this.connection = databaseManager.getConnection();
-        this.s10CacheEntityService = new S10CacheEntityService(connection);
-        this.diceRevocationCacheEntityService = new DiceRevocationCacheEntityService(connection);
+        this.databaseAccess = databaseManager.getDatabaseAccess();
+        this.s10CacheEntityService = new S10CacheEntityService(databaseAccess, dbConfig);
+        this.diceRevocationCacheEntityService = new DiceRevocationCacheEntityService(databaseAccess, dbConfig);
+        this.spdmChainCacheEntityService = new SpdmChainCacheEntityService(databaseAccess, dbConfig);
 
         entityServices = Map.of(
             S10, s10CacheEntityService,
-            DICE, diceRevocationCacheEntityService
+            DICE, diceRevocationCacheEntityService,
+            SPDM, spdmChainCacheEntityService
         );
 
         final int oldVersion = getDatabaseVersion();
@@ -92,6 +97,7 @@ public class SQLiteHelper implements AutoCloseable {
         databaseManager.closeDatabase();
         s10CacheEntityService = null;
         diceRevocationCacheEntityService = null;
+        spdmChainCacheEntityService = null;
         entityServices = null;
     }
 
@@ -103,9 +109,14 @@ public class SQLiteHelper implements AutoCloseable {
         return (DiceRevocationCacheEntityService)entityServices.get(DICE);
     }
 
+    public SpdmChainCacheEntityService getSpdmChainCacheEntityService() {
+        return (SpdmChainCacheEntityService)entityServices.get(SPDM);
+    }
+
     private int getDatabaseVersion() {
         try {
-            return runner.query(connection, SQL_SCHEMA_VERSION, new ScalarHandler<>());
+            return databaseAccess.read(
+                connection -> runner.query(connection.getConnection(), SQL_SCHEMA_VERSION, new ScalarHandler<>()));
         } catch (SQLException e) {
             log.error("Database error: {}", e.getMessage());
             log.debug("Stacktrace: ", e);
@@ -115,7 +126,8 @@ public class SQLiteHelper implements AutoCloseable {
 
     private void setDatabaseVersion() {
         try {
-            runner.update(connection, String.format("%s = %d", SQL_SCHEMA_VERSION, CURRENT_SCHEMA_VERSION));
+            final String sql = String.format("%s = %d", SQL_SCHEMA_VERSION, CURRENT_SCHEMA_VERSION);
+            databaseAccess.write(connection -> runner.update(connection.getConnection(), sql));
         } catch (SQLException e) {
             log.error("Database error: {}", e.getMessage());
             log.debug("Stacktrace: ", e);
@@ -0,0 +1,70 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2023 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.verifier.database;
+
+import com.intel.bkp.verifier.database.model.IDatabaseAccess;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Runs all operations one at a time on a single connection.
+ */
+public class SingleConnectionAccess implements IDatabaseAccess {
+
+    private final CachedConnection connection;
+
+    public SingleConnectionAccess(Connection connection) {
+        this.connection = new CachedConnection(connection);
+    }
+
+    @Override
+    public <T> T read(SqlOperation<T> operation) throws SQLException {
+        synchronized (connection) {
+            return operation.execute(connection);
+        }
+    }
+
+    @Override
+    public <T> T write(SqlOperation<T> operation) throws SQLException {
+        return read(operation);
+    }
+
+    @Override
+    public void close() {
+        synchronized (connection) {
+            connection.close();
+        }
+    }
+}
@@ -45,5 +45,7 @@ public interface ITableDefinition {
 
     String getSelectSQL();
 
+    String getSelectByPrimaryKeySQL();
+
     Map<Integer, String> getMigrationQuery();
 }
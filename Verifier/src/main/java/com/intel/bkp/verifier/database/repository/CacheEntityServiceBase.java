@@ -33,28 +33,49 @@
 
 package com.intel.bkp.verifier.database.repository;
 
+import com.intel.bkp.verifier.database.CachedConnection;
+import com.intel.bkp.verifier.database.model.IDatabaseAccess;
 import com.intel.bkp.verifier.database.model.IMigratable;
 import com.intel.bkp.verifier.database.model.ITableDefinition;
 import com.intel.bkp.verifier.exceptions.DatabaseException;
-import lombok.RequiredArgsConstructor;
+import com.intel.bkp.verifier.model.DatabaseConfiguration;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.dbutils.QueryRunner;
 import org.apache.commons.dbutils.ResultSetHandler;
+import org.apache.commons.dbutils.handlers.BeanHandler;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
 
 import static com.intel.bkp.verifier.database.table.SQLiteChangelog.fromOrdinal;
 
 @Slf4j
-@RequiredArgsConstructor
-public abstract class CacheEntityServiceBase implements IMigratable {
+public abstract class CacheEntityServiceBase<T> implements IMigratable {
 
-    protected final Connection connection;
+    protected final IDatabaseAccess databaseAccess;
     protected final ITableDefinition tableDefinition;
     protected final QueryRunner runner = new QueryRunner();
+    private final ResultSetHandler<T> entityHandler;
+    private final ReadThroughCache<T> readCache;
+
+    protected CacheEntityServiceBase(IDatabaseAccess databaseAccess, ITableDefinition tableDefinition,
+                                     Class<T> entityClass, DatabaseConfiguration dbConfig) {
+        this.databaseAccess = databaseAccess;
+        this.tableDefinition = tableDefinition;
+        this.entityHandler = new BeanHandler<>(entityClass);
+        this.readCache = dbConfig.isReadCacheEnabled()
+                         ? new ReadThroughCache<>(dbConfig.getReadCacheMaxEntries())
+                         : ReadThroughCache.disabled();
+    }
+
+    protected abstract String getPrimaryKey(T entity);
+
+    protected abstract Object[] getParams(T entity);
 
     @Override
     public void migrate(int oldVersion, int newVersion) {
@@ -71,26 +92,83 @@ public abstract class CacheEntityServiceBase implements IMigratable {
             try {
                 log.debug("Migrating table {} to version {}: {}", tableDefinition.getTableName(),
                     currentMigrationVersion + 1, fromOrdinal(currentMigrationVersion).getDescription());
-                runner.update(connection, migrationQuery.get(currentMigrationVersion));
+                final String query = migrationQuery.get(currentMigrationVersion);
+                databaseAccess.write(connection -> runner.update(connection.getConnection(), query));
             } catch (SQLException e) {
                 throw new DatabaseException("Failed to update database schema: " + tableDefinition.getTableName(), e);
             }
         }
     }
 
-    protected <T> T select(ResultSetHandler<T> handler) {
+    protected <R> R select(ResultSetHandler<R> handler) {
         try {
-            return runner.query(connection, tableDefinition.getSelectSQL(), handler);
+            return databaseAccess.read(
+                connection -> runner.query(connection.getConnection(), tableDefinition.getSelectSQL(), handler));
         } catch (SQLException e) {
             throw new DatabaseException("Failed to select from: " + tableDefinition.getTableName(), e);
         }
     }
 
-    protected void insert(Object[] params) {
+    protected Optional<T> selectByPrimaryKey(String primaryKey) {
+        return readCache.get(primaryKey, this::queryByPrimaryKey);
+    }
+
+    protected void insert(T entity) {
         try {
-            runner.update(connection, tableDefinition.getInsertSQL(), params);
+            databaseAccess.write(connection -> {
+                final PreparedStatement statement = connection.prepare(tableDefinition.getInsertSQL());
+                runner.fillStatement(statement, getParams(entity));
+                return statement.executeUpdate();
+            });
         } catch (SQLException e) {
             throw new DatabaseException("Failed to create row in: " + tableDefinition.getTableName(), e);
         }
+        readCache.put(getPrimaryKey(entity), entity);
+    }
+
+    protected void insertAll(Collection<T> entities) {
+        try {
+            databaseAccess.write(connection -> executeBatchInTransaction(connection, entities));
+        } catch (SQLException e) {
+            throw new DatabaseException("Failed to create rows in: " + tableDefinition.getTableName(), e);
+        }
+        entities.forEach(entity -> readCache.put(getPrimaryKey(entity), entity));
+    }
+
+    private Optional<T> queryByPrimaryKey(String primaryKey) {
+        try {
+            return databaseAccess.read(connection -> {
+                final PreparedStatement statement = connection.prepare(tableDefinition.getSelectByPrimaryKeySQL());
+                runner.fillStatement(statement, primaryKey);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    return Optional.ofNullable(entityHandler.handle(resultSet));
+                }
+            });
+        } catch (SQLException e) {
+            throw new DatabaseException("Failed to select from: " + tableDefinition.getTableName(), e);
+        }
+    }
+
+    private int[] executeBatchInTransaction(CachedConnection cachedConnection, Collection<T> entities)
+        throws SQLException {
+        final Connection connection = cachedConnection.getConnection();
+        final PreparedStatement statement = cachedConnection.prepare(tableDefinition.getInsertSQL());
+        final boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try {
+            for (T entity : entities) {
+                runner.fillStatement(statement, getParams(entity));
+                statement.addBatch();
+            }
+            final int[] result = statement.executeBatch();
+            connection.commit();
+            return result;
+        } catch (SQLException e) {
+            statement.clearBatch();
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
     }
 }
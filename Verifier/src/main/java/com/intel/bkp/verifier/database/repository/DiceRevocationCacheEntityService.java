@@ -33,26 +33,39 @@
 
 package com.intel.bkp.verifier.database.repository;
 
+import com.intel.bkp.verifier.database.SingleConnectionAccess;
 import com.intel.bkp.verifier.database.model.DiceRevocationCacheEntity;
+import com.intel.bkp.verifier.database.model.IDatabaseAccess;
 import com.intel.bkp.verifier.database.table.DiceTableDefinition;
+import com.intel.bkp.verifier.model.DatabaseConfiguration;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.dbutils.handlers.BeanListHandler;
 
 import java.sql.Connection;
+import java.util.Collection;
 import java.util.Optional;
 
 import static com.intel.bkp.utils.HexConverter.toHex;
 
 @Slf4j
-public class DiceRevocationCacheEntityService extends CacheEntityServiceBase {
+public class DiceRevocationCacheEntityService extends CacheEntityServiceBase<DiceRevocationCacheEntity> {
 
     public DiceRevocationCacheEntityService(Connection connection) {
-        super(connection, new DiceTableDefinition());
+        this(new SingleConnectionAccess(connection), new DatabaseConfiguration());
+    }
+
+    public DiceRevocationCacheEntityService(IDatabaseAccess databaseAccess, DatabaseConfiguration dbConfig) {
+        super(databaseAccess, new DiceTableDefinition(), DiceRevocationCacheEntity.class, dbConfig);
     }
 
     public DiceRevocationCacheEntityService store(DiceRevocationCacheEntity entity) {
         log.debug("Insert entity for deviceId: {}", entity.getDeviceId());
-        insert(getParams(entity));
+        insert(entity);
+        return this;
+    }
+
+    public DiceRevocationCacheEntityService storeAll(Collection<DiceRevocationCacheEntity> entities) {
+        log.debug("Insert {} entities in batch.", entities.size());
+        insertAll(entities);
         return this;
     }
 
@@ -60,17 +73,16 @@ public class DiceRevocationCacheEntityService extends CacheEntityServiceBase {
         final String deviceIdHex = toHex(deviceId);
         log.debug("Reading cached entity for deviceId: {}", deviceIdHex);
 
-        return select(getResultsHandler())
-            .stream()
-            .filter(entity -> entity.getDeviceId().equals(deviceIdHex))
-            .findFirst();
+        return selectByPrimaryKey(deviceIdHex);
     }
 
-    private Object[] getParams(DiceRevocationCacheEntity entity) {
-        return new Object[]{entity.getDeviceId()};
+    @Override
+    protected String getPrimaryKey(DiceRevocationCacheEntity entity) {
+        return entity.getDeviceId();
     }
 
-    private BeanListHandler<DiceRevocationCacheEntity> getResultsHandler() {
-        return new BeanListHandler<>(DiceRevocationCacheEntity.class);
+    @Override
+    protected Object[] getParams(DiceRevocationCacheEntity entity) {
+        return new Object[]{entity.getDeviceId()};
     }
 }
@@ -0,0 +1,100 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2023 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.verifier.database.repository;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Bounded LRU cache of table rows keyed by primary key. Absent rows are cached as well, so repeated lookups of
+ * unknown devices do not reach the database. Entries are replaced on store by the owning entity service.
+ */
+class ReadThroughCache<T> {
+
+    private final int maxEntries;
+    private final Map<String, Optional<T>> entries;
+
+    ReadThroughCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Optional<T>> eldest) {
+                return size() > ReadThroughCache.this.maxEntries;
+            }
+        };
+    }
+
+    static <T> ReadThroughCache<T> disabled() {
+        return new ReadThroughCache<>(0);
+    }
+
+    boolean isEnabled() {
+        return maxEntries > 0;
+    }
+
+    Optional<T> get(String key, Function<String, Optional<T>> loader) {
+        if (!isEnabled()) {
+            return loader.apply(key);
+        }
+
+        synchronized (entries) {
+            final Optional<T> cached = entries.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        final Optional<T> loaded = loader.apply(key);
+        synchronized (entries) {
+            entries.putIfAbsent(key, loaded);
+        }
+        return loaded;
+    }
+
+    void put(String key, T entity) {
+        if (isEnabled()) {
+            synchronized (entries) {
+                entries.put(key, Optional.of(entity));
+            }
+        }
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+}
@@ -33,26 +33,39 @@
 
 package com.intel.bkp.verifier.database.repository;
 
+import com.intel.bkp.verifier.database.SingleConnectionAccess;
+import com.intel.bkp.verifier.database.model.IDatabaseAccess;
 import com.intel.bkp.verifier.database.model.S10CacheEntity;
 import com.intel.bkp.verifier.database.table.S10TableDefinition;
+import com.intel.bkp.verifier.model.DatabaseConfiguration;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.dbutils.handlers.BeanListHandler;
 
 import java.sql.Connection;
+import java.util.Collection;
 import java.util.Optional;
 
 import static com.intel.bkp.utils.HexConverter.toHex;
 
 @Slf4j
-public class S10CacheEntityService extends CacheEntityServiceBase {
+public class S10CacheEntityService extends CacheEntityServiceBase<S10CacheEntity> {
 
     public S10CacheEntityService(Connection connection) {
-        super(connection, new S10TableDefinition());
+        this(new SingleConnectionAccess(connection), new DatabaseConfiguration());
+    }
+
+    public S10CacheEntityService(IDatabaseAccess databaseAccess, DatabaseConfiguration dbConfig) {
+        super(databaseAccess, new S10TableDefinition(), S10CacheEntity.class, dbConfig);
     }
 
     public S10CacheEntityService store(S10CacheEntity entity) {
         log.debug("Insert entity for deviceId: {}", entity.getDeviceId());
-        insert(getParams(entity));
+        insert(entity);
+        return this;
+    }
+
+    public S10CacheEntityService storeAll(Collection<S10CacheEntity> entities) {
+        log.debug("Insert {} entities in batch.", entities.size());
+        insertAll(entities);
         return this;
     }
 
@@ -60,13 +73,16 @@ public class S10CacheEntityService extends CacheEntityServiceBase {
         final String deviceIdHex = toHex(deviceId);
         log.debug("Reading cached entity for deviceId: {}", deviceIdHex);
 
-        return select(getResultsHandler())
-            .stream()
-            .filter(entity -> entity.getDeviceId().equals(deviceIdHex))
-            .findFirst();
+        return selectByPrimaryKey(deviceIdHex);
     }
 
-    private Object[] getParams(S10CacheEntity entity) {
+    @Override
+    protected String getPrimaryKey(S10CacheEntity entity) {
+        return entity.getDeviceId();
+    }
+
+    @Override
+    protected Object[] getParams(S10CacheEntity entity) {
         return new Object[] {
             entity.getDeviceId(),
             entity.getContext(),
@@ -75,8 +91,4 @@ public class S10CacheEntityService extends CacheEntityServiceBase {
             entity.getAlias()
         };
     }
-
-    private BeanListHandler<S10CacheEntity> getResultsHandler() {
-        return new BeanListHandler<>(S10CacheEntity.class);
-    }
 }
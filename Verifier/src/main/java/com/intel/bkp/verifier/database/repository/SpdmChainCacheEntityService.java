@@ -0,0 +1,83 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2023 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.verifier.database.repository;
+
+import com.intel.bkp.verifier.database.SingleConnectionAccess;
+import com.intel.bkp.verifier.database.model.IDatabaseAccess;
+import com.intel.bkp.verifier.database.model.SpdmChainCacheEntity;
+import com.intel.bkp.verifier.database.table.SpdmChainCacheTableDefinition;
+import com.intel.bkp.verifier.model.DatabaseConfiguration;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Connection;
+import java.util.Optional;
+
+@Slf4j
+public class SpdmChainCacheEntityService extends CacheEntityServiceBase<SpdmChainCacheEntity> {
+
+    public SpdmChainCacheEntityService(Connection connection) {
+        this(new SingleConnectionAccess(connection), new DatabaseConfiguration());
+    }
+
+    public SpdmChainCacheEntityService(IDatabaseAccess databaseAccess, DatabaseConfiguration dbConfig) {
+        super(databaseAccess, new SpdmChainCacheTableDefinition(), SpdmChainCacheEntity.class, dbConfig);
+    }
+
+    public SpdmChainCacheEntityService store(SpdmChainCacheEntity entity) {
+        log.debug("Insert {} chain entity for deviceId: {}", entity.getChainType(), entity.getDeviceId());
+        insert(entity);
+        return this;
+    }
+
+    public Optional<SpdmChainCacheEntity> read(String chainKey) {
+        log.debug("Reading cached chain entity for key: {}", chainKey);
+        return selectByPrimaryKey(chainKey);
+    }
+
+    @Override
+    protected String getPrimaryKey(SpdmChainCacheEntity entity) {
+        return entity.getChainKey();
+    }
+
+    @Override
+    protected Object[] getParams(SpdmChainCacheEntity entity) {
+        return new Object[]{
+            entity.getChainKey(),
+            entity.getDeviceId(),
+            entity.getDigest(),
+            entity.getChainType(),
+            entity.getChain()
+        };
+    }
+}
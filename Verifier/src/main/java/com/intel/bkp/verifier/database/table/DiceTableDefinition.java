@@ -67,6 +67,11 @@ public final class DiceTableDefinition extends TableDefinitionBase {
         buildColumnInsert(sb, UID.getColName(), false);
     }
 
+    @Override
+    protected String getPrimaryKeyColName() {
+        return UID.getColName();
+    }
+
     @Override
     protected int getColumnLength() {
         return Columns.getColumnLength();
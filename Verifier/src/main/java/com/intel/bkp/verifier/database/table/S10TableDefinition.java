@@ -79,6 +79,11 @@ public final class S10TableDefinition extends TableDefinitionBase {
         buildColumnInsert(sb, ALIAS.getColName(), false);
     }
 
+    @Override
+    protected String getPrimaryKeyColName() {
+        return UID.getColName();
+    }
+
     @Override
     protected int getColumnLength() {
         return Columns.getColumnLength();
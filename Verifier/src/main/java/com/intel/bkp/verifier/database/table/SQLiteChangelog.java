@@ -42,7 +42,8 @@ import java.util.Arrays;
 @AllArgsConstructor
 public enum SQLiteChangelog {
     // enum order matters!
-    V1("Create table s10_cache and dice_revocation_cache.");
+    V1("Create table s10_cache and dice_revocation_cache."),
+    V2("Create table spdm_chain_cache.");
 
     private final String description;
 
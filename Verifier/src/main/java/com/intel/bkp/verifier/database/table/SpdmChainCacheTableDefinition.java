@@ -0,0 +1,109 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2023 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.verifier.database.table;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static com.intel.bkp.verifier.database.table.SQLiteChangelog.V2;
+import static com.intel.bkp.verifier.database.table.SpdmChainCacheTableDefinition.Columns.CHAIN;
+import static com.intel.bkp.verifier.database.table.SpdmChainCacheTableDefinition.Columns.CHAIN_KEY;
+import static com.intel.bkp.verifier.database.table.SpdmChainCacheTableDefinition.Columns.CHAIN_TYPE;
+import static com.intel.bkp.verifier.database.table.SpdmChainCacheTableDefinition.Columns.DIGEST;
+import static com.intel.bkp.verifier.database.table.SpdmChainCacheTableDefinition.Columns.UID;
+
+public final class SpdmChainCacheTableDefinition extends TableDefinitionBase {
+
+    static final String TABLE_NAME = "spdm_chain_cache";
+
+    @Getter
+    private final Map<Integer, String> migrationQuery = new LinkedHashMap<>(
+        Map.of(
+            V2.ordinal(), getTableDefinition()
+        )
+    // here goes ALTER sql for each version
+    );
+
+    @Override
+    public String getTableName() {
+        return TABLE_NAME;
+    }
+
+    @Override
+    protected void getColumnsForCreateTable(StringBuilder sb) {
+        buildColumnCreate(sb, CHAIN_KEY.getColName(), "TEXT PRIMARY KEY UNIQUE");
+        buildColumnCreate(sb, UID.getColName(), "TEXT NOT NULL");
+        buildColumnCreate(sb, DIGEST.getColName(), "TEXT NOT NULL");
+        buildColumnCreate(sb, CHAIN_TYPE.getColName(), "TEXT NOT NULL");
+        buildColumnCreate(sb, CHAIN.getColName(), "TEXT NOT NULL", false);
+    }
+
+    @Override
+    protected void getColumnsForInsert(StringBuilder sb) {
+        buildColumnInsert(sb, CHAIN_KEY.getColName());
+        buildColumnInsert(sb, UID.getColName());
+        buildColumnInsert(sb, DIGEST.getColName());
+        buildColumnInsert(sb, CHAIN_TYPE.getColName());
+        buildColumnInsert(sb, CHAIN.getColName(), false);
+    }
+
+    @Override
+    protected String getPrimaryKeyColName() {
+        return CHAIN_KEY.getColName();
+    }
+
+    @Override
+    protected int getColumnLength() {
+        return Columns.getColumnLength();
+    }
+
+    @AllArgsConstructor
+    enum Columns {
+        CHAIN_KEY("chainkey"), // deviceid and slot id
+        UID("deviceid"),
+        DIGEST("digest"), // slot digest from GET_DIGESTS response
+        CHAIN_TYPE("chaintype"),
+        CHAIN("chain"); // DER certificate chain as returned by GET_CERTIFICATE
+
+        @Getter
+        private final String colName;
+
+        private static int getColumnLength() {
+            return values().length;
+        }
+    }
+}
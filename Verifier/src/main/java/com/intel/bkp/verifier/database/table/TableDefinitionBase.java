@@ -46,6 +46,8 @@ public abstract class TableDefinitionBase implements ITableDefinition {
     private static final String REPLACE_INTO = "REPLACE INTO";
     private static final String VALUES = "VALUES";
     private  static final String SELECT_FROM = "SELECT * FROM ";
+    private static final String WHERE = "WHERE";
+    private static final String PARAMETER = "= ?";
 
     protected abstract void getColumnsForCreateTable(StringBuilder sb);
 
@@ -53,6 +55,8 @@ public abstract class TableDefinitionBase implements ITableDefinition {
 
     protected abstract int getColumnLength();
 
+    protected abstract String getPrimaryKeyColName();
+
     protected void buildColumnCreate(StringBuilder sb, String colName, String type) {
         buildColumnCreate(sb, colName, type, true);
     }
@@ -74,6 +78,11 @@ public abstract class TableDefinitionBase implements ITableDefinition {
         return SELECT_FROM + getTableName();
     }
 
+    @Override
+    public String getSelectByPrimaryKeySQL() {
+        return SELECT_FROM + getTableName() + SPACE + WHERE + SPACE + getPrimaryKeyColName() + SPACE + PARAMETER;
+    }
+
     @Override
     public String getTableDefinition() {
         final StringBuilder sb = new StringBuilder(CREATE_TABLE_IF_NOT_EXISTS);
@@ -35,6 +35,10 @@ package com.intel.bkp.verifier.exceptions;
 
 public class DatabaseException extends VerifierRuntimeException {
 
+    public DatabaseException(String message) {
+        super(message);
+    }
+
     public DatabaseException(String message, Throwable cause) {
         super(message, cause);
     }
@@ -35,7 +35,9 @@ package com.intel.bkp.verifier.interfaces;
 
 import com.intel.bkp.verifier.model.dto.VerifierExchangeResponseDTO;
 
-public interface VerifierExchange {
+import java.util.List;
+
+public interface VerifierExchange extends AutoCloseable {
 
     /**
      * Create device attestation sub key.
@@ -63,6 +65,17 @@ public interface VerifierExchange {
      */
     VerifierExchangeResponseDTO getDeviceAttestation(String transportId, String refMeasurementHex);
 
+    /**
+     * Get device attestation for many devices at once, attesting up to max-concurrent-attestations devices
+     * in parallel.
+     *
+     * @param transportIds list of device identifier configs for communication specific to transport layer
+     * @param refMeasurementHex hex content of Reference Integrity Manifest (RIM) file, common for all devices
+     *
+     * @return list of DTOs in the same order as transportIds, each as returned by single device attestation
+     */
+    List<VerifierExchangeResponseDTO> getDeviceAttestation(List<String> transportIds, String refMeasurementHex);
+
     /**
      * Perform health check to test chosen transfer layer implementation.
      *
@@ -73,4 +86,19 @@ public interface VerifierExchange {
      * @return result where 0 is SUCCESS, -1 is ERROR
      */
     int healthCheck(String transportId);
+
+    /**
+     * Optional. Initialize library once (configuration, security provider, database, distribution point connector)
+     * and keep it initialized for all subsequent calls until close() is called.
+     * Without it, library is initialized and released within each call.
+     */
+    default void open() {
+    }
+
+    /**
+     * Release library initialized with open(). Library stays initialized while other opened instances use it.
+     */
+    @Override
+    default void close() {
+    }
 }
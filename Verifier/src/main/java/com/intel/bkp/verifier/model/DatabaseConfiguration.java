@@ -46,5 +46,15 @@ import lombok.ToString;
 @ToString
 public class DatabaseConfiguration {
 
+    public static final int DEFAULT_READ_CACHE_MAX_ENTRIES = 10000;
+    public static final int DEFAULT_CONNECTION_POOL_SIZE = 1;
+
     private boolean internalDatabase;
+    private boolean readCacheEnabled;
+    private int readCacheMaxEntries = DEFAULT_READ_CACHE_MAX_ENTRIES;
+    private int connectionPoolSize = DEFAULT_CONNECTION_POOL_SIZE;
+
+    public DatabaseConfiguration(boolean internalDatabase) {
+        this.internalDatabase = internalDatabase;
+    }
 }
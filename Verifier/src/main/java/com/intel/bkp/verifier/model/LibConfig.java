@@ -36,6 +36,7 @@ package com.intel.bkp.verifier.model;
 import com.intel.bkp.core.properties.DistributionPoint;
 import com.intel.bkp.core.properties.TrustStore;
 import com.intel.bkp.core.security.SecurityProviderParams;
+import com.intel.bkp.fpgacerts.dp.cache.DpResponseCacheConfig;
 import com.intel.bkp.verifier.transport.model.TransportLayerType;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -53,6 +54,7 @@ public class LibConfig {
     private TransportLayerType transportLayerType;
     private AttestationCertificateFlow attestationCertificateFlow;
     private DistributionPoint distributionPoint;
+    private DpResponseCacheConfig dpCacheConfig;
     private SecurityProviderParams providerParams;
     private VerifierKeyParams verifierKeyParams;
     private DatabaseConfiguration databaseConfiguration;
@@ -61,4 +63,9 @@ public class LibConfig {
     private boolean runGpAttestation;
     private boolean testModeSecrets;
     private boolean acceptUnsignedCorim;
+    private int maxConcurrentAttestations;
+    private int rimCacheMaxTtlSeconds;
+    private int spdmConnectionCacheMaxTtlSeconds;
+    private int ecdhKeyPoolSize;
+    private int ecdhKeyPoolLowWaterMark;
 }
@@ -53,7 +53,7 @@ public class GetChipIdMessageSender {
     public byte[] send(TransportLayer transportLayer, CommandLayer commandLayer) {
         log.debug("Preparing GET_CHIPID ...");
         GetChipIdMessage getChipIdMessage = getChipIdMessageBuilder.build();
-        CommandLogger.log(getChipIdMessage, GET_CHIPID_MESSAGE, this.getClass());
+        CommandLogger.debug(getChipIdMessage, GET_CHIPID_MESSAGE, this.getClass());
         return new GetChipIdResponseBuilder()
             .parse(messageSender.send(transportLayer, commandLayer, getChipIdMessage, CommandIdentifier.GET_CHIPID))
             .build()
@@ -64,7 +64,7 @@ public class CreateAttestationSubKeyMessageSender {
         log.debug("Preparing CREATE_ATTESTATION_SUBKEY ...");
         final CreateAttestationSubKeyMessage subKeyMessage =
             buildCreateSubKeyMessage(context, counter, pufType, serviceDhKeyPair);
-        CommandLogger.log(subKeyMessage, CREATE_ATTESTATION_SUBKEY_MESSAGE, this.getClass());
+        CommandLogger.debug(subKeyMessage, CREATE_ATTESTATION_SUBKEY_MESSAGE, this.getClass());
         return new CreateAttestationSubKeyResponseBuilder()
             .withActor(EndiannessActor.FIRMWARE)
             .parse(messageSender.send(transportLayer, commandLayer, subKeyMessage,
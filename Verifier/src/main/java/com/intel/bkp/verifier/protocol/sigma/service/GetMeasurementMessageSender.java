@@ -71,7 +71,7 @@ public class GetMeasurementMessageSender {
         log.debug("Preparing GET_MEASUREMENT ...");
         final GetMeasurementMessage message =
             buildGetMeasurementMessage(serviceDhKeyPair, pufType, context, counter);
-        CommandLogger.log(message, GET_MEASUREMENT_MESSAGE, this.getClass());
+        CommandLogger.debug(message, GET_MEASUREMENT_MESSAGE, this.getClass());
         return new GetMeasurementResponseBuilder()
             .withActor(EndiannessActor.FIRMWARE)
             .parse(messageSender.send(transportLayer, commandLayer, message,
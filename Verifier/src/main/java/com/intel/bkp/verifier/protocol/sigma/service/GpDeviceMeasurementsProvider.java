@@ -36,6 +36,7 @@ package com.intel.bkp.verifier.protocol.sigma.service;
 import com.intel.bkp.command.model.CommandLayer;
 import com.intel.bkp.command.responses.sigma.GetMeasurementResponse;
 import com.intel.bkp.crypto.ecdh.EcdhKeyPair;
+import com.intel.bkp.crypto.ecdh.EcdhKeyPairPool;
 import com.intel.bkp.crypto.exceptions.EcdhKeyPairException;
 import com.intel.bkp.fpgacerts.dice.tcbinfo.TcbInfoMeasurement;
 import com.intel.bkp.verifier.exceptions.InternalLibraryException;
@@ -61,6 +62,7 @@ public class GpDeviceMeasurementsProvider implements IDeviceMeasurementsProvider
     private final GetMeasurementVerifier getMeasurementVerifier;
     private final SigmaM2DeviceIdVerifier deviceIdVerifier;
     private final IMeasurementResponseToTcbInfoMapper<GetMeasurementResponseProvider> measurementResponseMapper;
+    private final EcdhKeyPairPool ecdhKeyPairPool;
 
     public GpDeviceMeasurementsProvider() {
         this(AppContext.instance());
@@ -69,7 +71,7 @@ public class GpDeviceMeasurementsProvider implements IDeviceMeasurementsProvider
     GpDeviceMeasurementsProvider(AppContext appContext) {
         this(appContext.getTransportLayer(), appContext.getCommandLayer(), new GetMeasurementMessageSender(),
             new TeardownMessageSender(), new GetMeasurementVerifier(), new SigmaM2DeviceIdVerifier(),
-            new GpMeasurementResponseToTcbInfoMapper());
+            new GpMeasurementResponseToTcbInfoMapper(), appContext.getEcdhKeyPairPool());
     }
 
     @Override
@@ -78,19 +80,23 @@ public class GpDeviceMeasurementsProvider implements IDeviceMeasurementsProvider
     }
 
     private GetMeasurementResponseProvider getMeasurementResponseFromDevice(GpDeviceMeasurementsRequest request) {
-        final EcdhKeyPair serviceDhKeyPair = generateEcdhKeyPair();
-        final GetMeasurementResponse response = sendGetMeasurement(serviceDhKeyPair, request);
-
-        verifyMeasurementResponse(response, serviceDhKeyPair, request.getAliasPubKey(), request.getDeviceId());
+        final EcdhKeyPair serviceDhKeyPair = takeEcdhKeyPair();
+        final GetMeasurementResponse response;
+        try {
+            response = sendGetMeasurement(serviceDhKeyPair, request);
+            verifyMeasurementResponse(response, serviceDhKeyPair, request.getAliasPubKey(), request.getDeviceId());
+        } finally {
+            serviceDhKeyPair.zeroize();
+        }
 
         sendSigmaTeardown(response.getSdmSessionId());
 
         return new GetMeasurementResponseProvider(response);
     }
 
-    private EcdhKeyPair generateEcdhKeyPair() {
+    private EcdhKeyPair takeEcdhKeyPair() {
         try {
-            return EcdhKeyPair.generate();
+            return ecdhKeyPairPool.take();
         } catch (EcdhKeyPairException e) {
             throw new InternalLibraryException("Failed to generate ECDH keypair.", e);
         }
@@ -34,7 +34,6 @@
 package com.intel.bkp.verifier.protocol.sigma.service;
 
 import com.intel.bkp.fpgacerts.dp.DistributionPointChainFetcher;
-import com.intel.bkp.fpgacerts.dp.DistributionPointCrlProvider;
 import com.intel.bkp.fpgacerts.url.DistributionPointAddressProvider;
 import com.intel.bkp.verifier.exceptions.VerifierRuntimeException;
 import com.intel.bkp.verifier.service.certificate.AppContext;
@@ -67,9 +66,10 @@ public class GpDiceAttestationRevocationService {
 
     public GpDiceAttestationRevocationService(AppContext appContext) {
         this(new DistributionPointChainFetcher(appContext.getDpConnector()),
-            new DiceAliasChainVerifier(new DistributionPointCrlProvider(appContext.getDpConnector()),
+            new DiceAliasChainVerifier(appContext.getCrlProvider(),
                 appContext.getDpTrustedRootHashes(),
-                appContext.getLibConfig().isTestModeSecrets()),
+                appContext.getLibConfig().isTestModeSecrets(),
+                () -> AppContext.instance().getDeviceContext().getCertificateViews()),
             new DistributionPointAddressProvider(appContext.getDpPathCer()));
     }
 
@@ -34,22 +34,25 @@
 package com.intel.bkp.verifier.protocol.sigma.service;
 
 import com.intel.bkp.command.model.CertificateRequestType;
+import com.intel.bkp.fpgacerts.chain.DistributionPointCertificate;
 import com.intel.bkp.fpgacerts.dice.tcbinfo.TcbInfoMeasurement;
 import com.intel.bkp.verifier.service.certificate.AppContext;
 import com.intel.bkp.verifier.service.certificate.DiceChainMeasurementsCollector;
 import com.intel.bkp.verifier.service.certificate.DiceRevocationCacheService;
 import com.intel.bkp.verifier.service.certificate.EnrollmentFlowDetector;
 import com.intel.bkp.verifier.service.certificate.IidAliasFlowDetector;
-import lombok.AccessLevel;
-import lombok.AllArgsConstructor;
 import lombok.Getter;
-import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.security.PublicKey;
 import java.security.cert.X509Certificate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import static com.intel.bkp.command.model.CertificateRequestType.DEVICE_ID_ENROLLMENT;
@@ -57,19 +60,24 @@ import static com.intel.bkp.command.model.CertificateRequestType.UDS_EFUSE_ALIAS
 import static com.intel.bkp.command.model.CertificateRequestType.UDS_IID_PUF_ALIAS;
 import static com.intel.bkp.fpgacerts.utils.X509UtilsWrapper.toX509;
 
+/**
+ * Retrieves and verifies DICE chains of a device.
+ *
+ * <p>Certificates are read from the device on the calling thread, while IPCS certificates are fetched from
+ * Distribution Point on a separate thread as soon as their URL parameters are known. Only the final verification
+ * waits for both. If reading from the device fails, pending Distribution Point stages are cancelled and their
+ * results discarded.</p>
+ */
 @Slf4j
-@AllArgsConstructor(access = AccessLevel.PACKAGE)
-@NoArgsConstructor
 public class GpDiceChainService {
 
-    private final GpDeviceCertificateProvider gpDeviceCertificateProvider = new GpDeviceCertificateProvider();
-    private final DistributionPointIpcsCertificateFetcher ipcsCertFetcher =
-        getDistributionPointIpcsCertificateFetcher();
-    private final IidAliasFlowDetector iidFlowDetector = new IidAliasFlowDetector();
-    private GpDiceAttestationRevocationService diceAttestationRevocationService =
-        new GpDiceAttestationRevocationService();
-    private DiceRevocationCacheService diceRevocationCacheService = new DiceRevocationCacheService();
-    private DiceChainMeasurementsCollector measurementsCollector = new DiceChainMeasurementsCollector();
+    private final GpDeviceCertificateProvider gpDeviceCertificateProvider;
+    private final DistributionPointIpcsCertificateFetcher ipcsCertFetcher;
+    private final IidAliasFlowDetector iidFlowDetector;
+    private final GpDiceAttestationRevocationService diceAttestationRevocationService;
+    private final DiceRevocationCacheService diceRevocationCacheService;
+    private final DiceChainMeasurementsCollector measurementsCollector;
+    private final Supplier<Executor> dpFetchingExecutor;
 
     @Getter
     private PublicKey aliasPublicKey;
@@ -77,15 +85,71 @@ public class GpDiceChainService {
     @Getter
     private List<TcbInfoMeasurement> tcbInfoMeasurements = new ArrayList<>();
 
+    public GpDiceChainService() {
+        this(new GpDeviceCertificateProvider(), getDistributionPointIpcsCertificateFetcher(),
+            new IidAliasFlowDetector(), new GpDiceAttestationRevocationService(), new DiceRevocationCacheService(),
+            new DiceChainMeasurementsCollector(), () -> AppContext.instance().getDpFetchingExecutor());
+    }
+
+    GpDiceChainService(GpDeviceCertificateProvider gpDeviceCertificateProvider,
+                       DistributionPointIpcsCertificateFetcher ipcsCertFetcher,
+                       IidAliasFlowDetector iidFlowDetector,
+                       GpDiceAttestationRevocationService diceAttestationRevocationService,
+                       DiceRevocationCacheService diceRevocationCacheService,
+                       DiceChainMeasurementsCollector measurementsCollector,
+                       Supplier<Executor> dpFetchingExecutor) {
+        this.gpDeviceCertificateProvider = gpDeviceCertificateProvider;
+        this.ipcsCertFetcher = ipcsCertFetcher;
+        this.iidFlowDetector = iidFlowDetector;
+        this.diceAttestationRevocationService = diceAttestationRevocationService;
+        this.diceRevocationCacheService = diceRevocationCacheService;
+        this.measurementsCollector = measurementsCollector;
+        this.dpFetchingExecutor = dpFetchingExecutor;
+    }
+
     private static DistributionPointIpcsCertificateFetcher getDistributionPointIpcsCertificateFetcher() {
         final AppContext appContext = AppContext.instance();
         return new DistributionPointIpcsCertificateFetcher(appContext.getDpConnector(), appContext.getDpPathCer());
     }
 
     public void fetchAndVerifyDiceChains(byte[] deviceId, byte[] firmwareCertificateResponse) {
-        final List<X509Certificate> efuseChain = getEfuseChain(deviceId, firmwareCertificateResponse);
-        final X509Certificate aliasX509 = efuseChain.get(0);
-        final List<X509Certificate> iidChain = getIidChain(aliasX509);
+        final Executor executor = dpFetchingExecutor.get();
+        final var firmwareX509 = toX509(firmwareCertificateResponse);
+        // deviceId URL params are based on firmware certificate issuer, so fetching can start before device reads
+        final CompletableFuture<Optional<DistributionPointCertificate>> ipcsDeviceIdFetching =
+            CompletableFuture.supplyAsync(() -> prefetchIpcsDeviceIdCert(firmwareX509), executor);
+
+        CompletableFuture<IpcsCertificates> ipcsFetching = null;
+        final X509Certificate aliasX509;
+        final Optional<X509Certificate> iidAliasX509;
+        try {
+            aliasX509 = getCertificateFromDevice(UDS_EFUSE_ALIAS);
+            final var deviceIdEnrollmentX509 = getCertificateFromDevice(DEVICE_ID_ENROLLMENT);
+            final boolean iidFlow = iidFlowDetector.isIidFlow(aliasX509);
+
+            ipcsFetching = ipcsDeviceIdFetching.thenApplyAsync(
+                ignored -> fetchIpcsCertificates(deviceId, deviceIdEnrollmentX509, iidFlow), executor);
+
+            iidAliasX509 = iidFlow
+                           ? Optional.of(getCertificateFromDevice(UDS_IID_PUF_ALIAS))
+                           : Optional.empty();
+        } catch (RuntimeException e) {
+            ipcsDeviceIdFetching.cancel(false);
+            Optional.ofNullable(ipcsFetching).ifPresent(stage -> stage.cancel(false));
+            throw e;
+        }
+        final IpcsCertificates ipcsCerts = await(ipcsFetching);
+
+        // saved only once both stages succeeded, so that aborted attestation does not mark the device
+        if (ipcsCerts.enrollmentFlow()) {
+            diceRevocationCacheService.saveAsRevoked(deviceId);
+        }
+
+        final List<X509Certificate> efuseChain = Stream.concat(
+            Stream.of(aliasX509, firmwareX509), ipcsCerts.efuseChainParents().stream()).toList();
+        final List<X509Certificate> iidChain = iidAliasX509
+            .map(iidAlias -> Stream.concat(Stream.of(iidAlias), ipcsCerts.iidChainParents().stream()).toList())
+            .orElse(List.of());
 
         this.aliasPublicKey = aliasX509.getPublicKey();
         this.tcbInfoMeasurements = getTcbInfoMeasurements(efuseChain, iidChain);
@@ -93,38 +157,36 @@ public class GpDiceChainService {
         diceAttestationRevocationService.verifyChains(deviceId, efuseChain, iidChain);
     }
 
-    private List<X509Certificate> getEfuseChain(byte[] deviceId, byte[] firmwareCertificateResponse) {
-        final var aliasX509 = getCertificateFromDevice(UDS_EFUSE_ALIAS);
-        final var firmwareX509 = toX509(firmwareCertificateResponse);
-        final var deviceIdEnrollmentX509 = getCertificateFromDevice(DEVICE_ID_ENROLLMENT);
-
-        prepareDistributionPointFetching(firmwareX509, deviceIdEnrollmentX509);
-
-        if (EnrollmentFlowDetector.instance(deviceId, ipcsCertFetcher).isEnrollmentFlow()) {
-            final var enrollmentX509 = ipcsCertFetcher.fetchIpcsEnrollmentX509Cert();
-            diceRevocationCacheService.saveAsRevoked(deviceId);
-            return List.of(aliasX509, firmwareX509, deviceIdEnrollmentX509, enrollmentX509);
-        } else {
-            final var deviceIdX509 = ipcsCertFetcher.fetchIpcsDeviceIdX509Cert();
-            return List.of(aliasX509, firmwareX509, deviceIdX509);
-        }
+    private Optional<DistributionPointCertificate> prefetchIpcsDeviceIdCert(X509Certificate firmwareX509) {
+        ipcsCertFetcher.setFirmwareCert(firmwareX509);
+        return ipcsCertFetcher.fetchIpcsDeviceIdCert();
     }
 
-    private List<X509Certificate> getIidChain(X509Certificate certWithUeidExtension) {
-        if (!iidFlowDetector.isIidFlow(certWithUeidExtension)) {
-            return List.of();
-        }
+    private IpcsCertificates fetchIpcsCertificates(byte[] deviceId, X509Certificate deviceIdEnrollmentX509,
+                                                   boolean iidFlow) {
+        ipcsCertFetcher.setDeviceIdL0Cert(deviceIdEnrollmentX509);
 
-        final var iidAliasX509 = getCertificateFromDevice(UDS_IID_PUF_ALIAS);
-        final var iidUdsX509 = ipcsCertFetcher.fetchIpcsIidUdsX509Cert();
+        final boolean enrollmentFlow = EnrollmentFlowDetector.instance(deviceId, ipcsCertFetcher).isEnrollmentFlow();
+        final List<X509Certificate> efuseChainParents = enrollmentFlow
+            ? List.of(deviceIdEnrollmentX509, ipcsCertFetcher.fetchIpcsEnrollmentX509Cert())
+            : List.of(ipcsCertFetcher.fetchIpcsDeviceIdX509Cert());
 
-        return List.of(iidAliasX509, iidUdsX509);
+        final List<X509Certificate> iidChainParents = iidFlow
+                                                      ? List.of(ipcsCertFetcher.fetchIpcsIidUdsX509Cert())
+                                                      : List.of();
+
+        return new IpcsCertificates(enrollmentFlow, efuseChainParents, iidChainParents);
     }
 
-    private void prepareDistributionPointFetching(X509Certificate firmwareX509,
-                                                  X509Certificate deviceIdEnrollmentX509) {
-        ipcsCertFetcher.setFirmwareCert(firmwareX509);
-        ipcsCertFetcher.setDeviceIdL0Cert(deviceIdEnrollmentX509);
+    private static <T> T await(CompletableFuture<T> stage) {
+        try {
+            return stage.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
     }
 
     private X509Certificate getCertificateFromDevice(CertificateRequestType certType) {
@@ -137,4 +199,8 @@ public class GpDiceChainService {
         final var iidChainMeasurements = measurementsCollector.getMeasurementsFromCertChain(iidChain);
         return Stream.concat(efuseChainMeasurements.stream(), iidChainMeasurements.stream()).toList();
     }
+
+    private record IpcsCertificates(boolean enrollmentFlow, List<X509Certificate> efuseChainParents,
+                                    List<X509Certificate> iidChainParents) {
+    }
 }
@@ -57,7 +57,7 @@ public class GpGetCertificateMessageSender {
         final GetCertificateMessage message = getCertificateMessageBuilder
             .withType(requestType)
             .build();
-        CommandLogger.log(message, GET_ATTESTATION_CERTIFICATE_MESSAGE, this.getClass());
+        CommandLogger.debug(message, GET_ATTESTATION_CERTIFICATE_MESSAGE, this.getClass());
 
         return new GetCertificateResponseBuilder()
             .parse(messageSender.send(transportLayer, commandLayer, message,
@@ -34,7 +34,6 @@
 package com.intel.bkp.verifier.protocol.sigma.service;
 
 import com.intel.bkp.fpgacerts.dp.DistributionPointChainFetcher;
-import com.intel.bkp.fpgacerts.dp.DistributionPointCrlProvider;
 import com.intel.bkp.fpgacerts.url.DistributionPointAddressProvider;
 import com.intel.bkp.fpgacerts.url.params.S10Params;
 import com.intel.bkp.verifier.service.certificate.AppContext;
@@ -64,7 +63,7 @@ public class S10AttestationRevocationService {
     }
 
     public S10AttestationRevocationService(AppContext appContext) {
-        this(new S10ChainVerifier(new DistributionPointCrlProvider(appContext.getDpConnector()),
+        this(new S10ChainVerifier(appContext.getCrlProvider(),
                 appContext.getDpTrustedRootHashes()),
             new DistributionPointChainFetcher(appContext.getDpConnector()),
             new DistributionPointAddressProvider(appContext.getDpPathCer()));
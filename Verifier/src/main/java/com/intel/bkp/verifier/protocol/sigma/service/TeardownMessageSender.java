@@ -67,7 +67,7 @@ public class TeardownMessageSender {
     }
 
     private void send(TransportLayer transportLayer, CommandLayer commandLayer, SigmaTeardownMessage sigmaTeardown) {
-        CommandLogger.log(sigmaTeardown, PSGSIGMA_TEARDOWN_MESSAGE, this.getClass());
+        CommandLogger.debug(sigmaTeardown, PSGSIGMA_TEARDOWN_MESSAGE, this.getClass());
         new SigmaTeardownResponseBuilder()
             .parse(messageSender.send(transportLayer, commandLayer, sigmaTeardown, CommandIdentifier.SIGMA_TEARDOWN));
     }
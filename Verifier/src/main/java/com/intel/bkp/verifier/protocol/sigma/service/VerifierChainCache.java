@@ -0,0 +1,100 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2023 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.verifier.protocol.sigma.service;
+
+import com.intel.bkp.verifier.exceptions.InternalLibraryException;
+import com.intel.bkp.verifier.utils.VerifierFileReader;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps content of Verifier DH chain files keyed by path, so that SIGMA requests do not read the file each time.
+ * Cached content is reused only while file size, last modified time and file key are unchanged, so chain rotated
+ * on disk is picked up by the next request without restart.
+ */
+@Slf4j
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class VerifierChainCache {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final VerifierFileReader fileReader;
+
+    public VerifierChainCache() {
+        this(new VerifierFileReader());
+    }
+
+    public byte[] getChain(String chainPath) {
+        // file version is read before content, so content changed in between is reloaded next time
+        final FileVersion version = getFileVersion(chainPath);
+        final Entry entry = entries.get(chainPath);
+        if (entry != null && entry.version().equals(version)) {
+            return entry.chain().clone();
+        }
+
+        log.debug("Loading Verifier DH chain to cache: {}", chainPath);
+        final byte[] chain = fileReader.readFileBytes(chainPath);
+        entries.put(chainPath, new Entry(version, chain));
+        return chain.clone();
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    private FileVersion getFileVersion(String chainPath) {
+        final Path filePath = Paths.get(chainPath);
+        try {
+            final BasicFileAttributes attributes = Files.readAttributes(filePath, BasicFileAttributes.class);
+            return new FileVersion(attributes.lastModifiedTime(), attributes.size(), attributes.fileKey());
+        } catch (IOException e) {
+            throw new InternalLibraryException("Failed to read file: " + filePath, e);
+        }
+    }
+
+    private record FileVersion(FileTime lastModified, long size, Object fileKey) {
+    }
+
+    private record Entry(FileVersion version, byte[] chain) {
+    }
+}
@@ -35,7 +35,6 @@ package com.intel.bkp.verifier.protocol.sigma.service;
 
 import com.intel.bkp.verifier.protocol.sigma.model.RootChainType;
 import com.intel.bkp.verifier.service.certificate.AppContext;
-import com.intel.bkp.verifier.utils.VerifierFileReader;
 import lombok.AllArgsConstructor;
 import lombok.RequiredArgsConstructor;
 
@@ -43,7 +42,6 @@ import lombok.RequiredArgsConstructor;
 @AllArgsConstructor
 public class VerifierDHCertBuilder {
 
-    private VerifierFileReader fileReader = new VerifierFileReader();
     private VerifierRootChainManager verifierRootChainManager = new VerifierRootChainManager();
 
     public byte[] getChain(RootChainType rootChainType) {
@@ -53,7 +51,7 @@ public class VerifierDHCertBuilder {
     byte[] getChain(AppContext appContext, RootChainType rootChainType) {
         final String chainPath = verifierRootChainManager.getChainPath(appContext, rootChainType);
         verifierRootChainManager.verifyIfChainFileIsValid(appContext, rootChainType);
-        return fileReader.readFileBytes(chainPath);
+        return appContext.getVerifierChainCache().getChain(chainPath);
     }
 }
 
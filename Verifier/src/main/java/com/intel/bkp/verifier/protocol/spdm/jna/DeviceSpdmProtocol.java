@@ -0,0 +1,77 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2023 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.verifier.protocol.spdm.jna;
+
+import com.intel.bkp.protocol.spdm.exceptions.SpdmCommandFailedException;
+import com.intel.bkp.protocol.spdm.jna.model.SpdmGetDigestResult;
+import com.intel.bkp.protocol.spdm.jna.model.SpdmProtocol;
+import com.intel.bkp.verifier.exceptions.VerifierRuntimeException;
+import com.intel.bkp.verifier.service.certificate.AppContext;
+import com.intel.bkp.verifier.service.certificate.DeviceContext;
+
+/**
+ * Delegates to SPDM protocol of the device bound to device context of current thread, taken from
+ * {@link SpdmConnectionCache} once per device context.
+ */
+public class DeviceSpdmProtocol implements SpdmProtocol {
+
+    @Override
+    public String getVersion() throws SpdmCommandFailedException {
+        return getProtocol().getVersion();
+    }
+
+    @Override
+    public SpdmGetDigestResult getDigest() throws SpdmCommandFailedException {
+        return getProtocol().getDigest();
+    }
+
+    @Override
+    public byte[] getCerts(int slotId) throws SpdmCommandFailedException {
+        return getProtocol().getCerts(slotId);
+    }
+
+    @Override
+    public byte[] getMeasurements(int slotId) throws SpdmCommandFailedException {
+        return getProtocol().getMeasurements(slotId);
+    }
+
+    private static SpdmProtocol getProtocol() {
+        final AppContext appContext = AppContext.instance();
+        final DeviceContext deviceContext = appContext.getDeviceContext();
+        if (deviceContext.getDeviceId() == null) {
+            throw new VerifierRuntimeException("Device id is not bound to device context.");
+        }
+        return deviceContext.getSpdmProtocol(appContext.getSpdmConnectionCache()::get);
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2023 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.verifier.protocol.spdm.jna;
+
+import com.intel.bkp.protocol.spdm.jna.model.SpdmProtocol;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static com.intel.bkp.utils.HexConverter.toHex;
+
+/**
+ * Keeps SPDM protocol of each attested device keyed by device id read from the device. Protocol holds SPDM context
+ * with negotiated version, capabilities and algorithms, so subsequent requests to the same device skip
+ * GET_VERSION/GET_CAPABILITIES/NEGOTIATE_ALGORITHMS handshake.
+ *
+ * <p>Entry is reused for at most configured max TTL and dropped earlier when attestation of the device fails.
+ * When the cache is full, least recently used entry is evicted.</p>
+ */
+@Slf4j
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class SpdmConnectionCache {
+
+    static final int MAX_ENTRIES = 64;
+
+    private final Map<String, Entry> connections = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+    private final Supplier<SpdmProtocol> protocolFactory;
+    private final Duration maxTtl;
+    private final Clock clock;
+
+    public SpdmConnectionCache(Duration maxTtl) {
+        this(SpdmProtocol12Impl::new, maxTtl, Clock.systemUTC());
+    }
+
+    public synchronized SpdmProtocol get(byte[] deviceId) {
+        final String key = toHex(deviceId);
+        final Entry cached = connections.get(key);
+        if (cached != null && cached.expiresAt().isAfter(clock.instant())) {
+            log.debug("Using cached SPDM connection of device: {}", key);
+            return cached.protocol();
+        }
+
+        final SpdmProtocol protocol = protocolFactory.get();
+        if (maxTtl.isZero()) {
+            return protocol;
+        }
+        connections.put(key, new Entry(protocol, clock.instant().plus(maxTtl)));
+        return protocol;
+    }
+
+    /**
+     * Drops connection of the device, so that its next attestation starts with full handshake on a new SPDM context.
+     */
+    public synchronized void invalidate(byte[] deviceId) {
+        if (connections.remove(toHex(deviceId)) != null) {
+            log.debug("Dropped cached SPDM connection of device: {}", toHex(deviceId));
+        }
+    }
+
+    public synchronized void clear() {
+        connections.clear();
+    }
+
+    synchronized int size() {
+        return connections.size();
+    }
+
+    private record Entry(SpdmProtocol protocol, Instant expiresAt) {
+
+    }
+}
@@ -40,17 +40,19 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.nio.ByteBuffer;
 
+import static com.intel.bkp.utils.LazyLog.lazy;
+
 @Slf4j
 public class SpdmMessageResponseHandler implements MessageLogger {
 
     @Override
     public void logMessage(ByteBuffer buffer) {
-        log.debug("SPDM Message: {}", buildSpdmMessageResponse(buffer));
+        log.debug("SPDM Message: {}", lazy(() -> buildSpdmMessageResponse(buffer)));
     }
 
     @Override
     public void logResponse(ByteBuffer buffer) {
-        log.debug("SPDM Response: {}", buildSpdmMessageResponse(buffer));
+        log.debug("SPDM Response: {}", lazy(() -> buildSpdmMessageResponse(buffer)));
     }
 
     private static SpdmMessageResponse buildSpdmMessageResponse(ByteBuffer buffer) {
@@ -0,0 +1,85 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2023 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.verifier.protocol.spdm.service;
+
+import com.intel.bkp.verifier.database.model.SpdmChainCacheEntity;
+import com.intel.bkp.verifier.database.repository.SpdmChainCacheEntityService;
+import com.intel.bkp.verifier.service.certificate.AppContext;
+import com.intel.bkp.verifier.service.certificate.DiceChainType;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Optional;
+
+import static com.intel.bkp.utils.HexConverter.fromHex;
+import static com.intel.bkp.utils.HexConverter.toHex;
+
+/**
+ * Stores SPDM certificate chains that passed full validation, keyed by device id and slot id together with the slot
+ * digest reported in GET_DIGESTS response, so that unchanged chains do not have to be transferred and validated again.
+ * Only the most recently validated chain is kept for each slot of a device.
+ */
+@RequiredArgsConstructor
+public class SpdmChainCacheService {
+
+    private static final String KEY_SEPARATOR = "_";
+
+    private final SpdmChainCacheEntityService entityService;
+
+    public SpdmChainCacheService() {
+        this(AppContext.instance());
+    }
+
+    public SpdmChainCacheService(AppContext appContext) {
+        this(appContext.getSqLiteHelper().getSpdmChainCacheEntityService());
+    }
+
+    public Optional<SpdmCachedChain> find(byte[] deviceId, int slotId, byte[] digest) {
+        final String digestHex = toHex(digest);
+        return entityService.read(getChainKey(deviceId, slotId))
+            .filter(entity -> digestHex.equals(entity.getDigest()))
+            .map(entity -> new SpdmCachedChain(DiceChainType.valueOf(entity.getChainType()),
+                fromHex(entity.getChain())));
+    }
+
+    public void store(byte[] deviceId, int slotId, byte[] digest, SpdmCachedChain chain) {
+        entityService.store(
+            new SpdmChainCacheEntity(getChainKey(deviceId, slotId), toHex(deviceId), toHex(digest),
+                chain.chainType().name(), toHex(chain.chain()))
+        );
+    }
+
+    private static String getChainKey(byte[] deviceId, int slotId) {
+        return toHex(deviceId) + KEY_SEPARATOR + slotId;
+    }
+}
@@ -47,8 +47,10 @@ import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.security.cert.X509Certificate;
+import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static com.intel.bkp.crypto.x509.parsing.X509CertificateParser.toX509CertificateChain;
@@ -68,6 +70,7 @@ public class SpdmChainSearcher {
     private final RootHashVerifier rootHashVerifier;
     private final String[] trustedRootHash;
     private final ValidChainNotFoundHandler validChainNotFoundHandler;
+    private final SpdmChainCacheService spdmChainCacheService;
 
     public SpdmChainSearcher(SpdmProtocol spdmProtocol) {
         this(AppContext.instance(), spdmProtocol);
@@ -80,20 +83,21 @@ public class SpdmChainSearcher {
             new SpdmDiceAttestationRevocationService(),
             new RootHashVerifier(),
             appContext.getDpTrustedRootHashes(),
-            new ValidChainNotFoundHandler());
+            new ValidChainNotFoundHandler(),
+            new SpdmChainCacheService(appContext));
     }
 
     public SpdmValidChains searchValidChains(byte[] deviceId) {
         log.info("*** REQUESTING CERTIFICATE CHAINS ***");
-        final List<Integer> filledSlots = getFilledSlots(deviceId);
-        return searchInSlotsUntilPolicyMet(filledSlots, deviceId);
+        final Map<Integer, byte[]> slotDigests = getSlotDigests();
+        return searchInSlotsUntilPolicyMet(slotDigests, deviceId);
     }
 
-    private List<Integer> getFilledSlots(byte[] deviceId) {
+    private Map<Integer, byte[]> getSlotDigests() {
         try {
-            final List<Integer> filledSlots = spdmGetDigestMessageSender.send();
-            log.info("Filled slots: {}", filledSlots);
-            return filledSlots;
+            final Map<Integer, byte[]> slotDigests = spdmGetDigestMessageSender.sendForDigests();
+            log.info("Filled slots: {}", slotDigests.keySet());
+            return slotDigests;
         } catch (SpdmCommandFailedException e) {
             log.error("GET_DIGEST failed - no filled slots available.");
             log.debug("Stacktrace: ", e);
@@ -103,12 +107,12 @@ public class SpdmChainSearcher {
         }
     }
 
-    private SpdmValidChains searchInSlotsUntilPolicyMet(List<Integer> filledSlots, byte[] deviceId) {
+    private SpdmValidChains searchInSlotsUntilPolicyMet(Map<Integer, byte[]> slotDigests, byte[] deviceId) {
         final SpdmValidChains validChains = new SpdmValidChains(deviceId);
 
-        filledSlots.stream()
+        slotDigests.keySet().stream()
             .takeWhile(slotId -> !isPolicyMet(validChains))
-            .forEach(slotId -> searchInSlot(slotId, validChains));
+            .forEach(slotId -> searchInSlot(slotId, slotDigests.get(slotId), validChains));
 
         ensurePolicyMet(validChains);
 
@@ -121,20 +125,60 @@ public class SpdmChainSearcher {
         return policyMet;
     }
 
-    private void searchInSlot(int slotId, SpdmValidChains validChains) {
+    private void searchInSlot(int slotId, byte[] digest, SpdmValidChains validChains) {
         try {
-            final List<X509Certificate> fullChain = getFullDeviceChainUpToTrustedRoot(slotId);
-            addChainIfValid(validChains, slotId, fullChain);
+            final Optional<SpdmCachedChain> cachedChain = findCachedChain(validChains.getDeviceId(), slotId, digest);
+            if (cachedChain.isPresent()) {
+                searchInSlotWithCachedChain(slotId, digest, cachedChain.get(), validChains);
+            } else {
+                searchInRetrievedChain(slotId, digest, getCertificateChain(slotId), validChains);
+            }
         } catch (Exception e) {
             log.warn("Failed to search for chain in slot {}. Exception occurred: {}", slotId, e.getMessage());
             log.debug("Stacktrace: ", e);
         }
     }
 
-    private List<X509Certificate> getFullDeviceChainUpToTrustedRoot(int slotId) throws SpdmCommandFailedException {
+    private void searchInRetrievedChain(int slotId, byte[] digest, byte[] chainBytes, SpdmValidChains validChains) {
+        final List<X509Certificate> fullChain = getFullDeviceChainUpToTrustedRoot(chainBytes);
+        addChainIfValid(validChains, slotId, fullChain)
+            .ifPresent(chainType -> storeInCache(validChains.getDeviceId(), slotId, digest, chainType, chainBytes));
+    }
+
+    private void searchInSlotWithCachedChain(int slotId, byte[] digest, SpdmCachedChain cachedChain,
+                                             SpdmValidChains validChains) throws SpdmCommandFailedException {
+        log.info("Chain from slot {} found in cache.", slotId);
+
+        // libspdm verifies measurements signature against the chain received in GET_CERTIFICATE response
+        // within current connection, so attestation chain still has to be retrieved from device
+        if (ATTESTATION == cachedChain.chainType()) {
+            final byte[] chainBytes = getCertificateChain(slotId);
+            if (!Arrays.equals(cachedChain.chain(), chainBytes)) {
+                log.info("Chain in slot {} differs from cached one.", slotId);
+                searchInRetrievedChain(slotId, digest, chainBytes, validChains);
+                return;
+            }
+        }
+
+        final List<X509Certificate> fullChain = getFullDeviceChainUpToTrustedRoot(cachedChain.chain());
+        if (fullChain.isEmpty()) {
+            return;
+        }
+
+        final var chainToValidate = new SpdmCertificateChainHolder(slotId, cachedChain.chainType(), fullChain);
+        if (equivalentChainNotYetValidated(validChains, chainToValidate)
+            && isValidCachedChain(validChains.getDeviceId(), chainToValidate)) {
+            validChains.add(chainToValidate);
+        }
+    }
+
+    private byte[] getCertificateChain(int slotId) throws SpdmCommandFailedException {
         log.info("Requesting chain from slot {}.", slotId);
+        return spdmGetCertificateMessageSender.send(slotId);
+    }
 
-        final var trustedChain = Optional.ofNullable(spdmGetCertificateMessageSender.send(slotId))
+    private List<X509Certificate> getFullDeviceChainUpToTrustedRoot(byte[] certificateChain) {
+        final var trustedChain = Optional.ofNullable(certificateChain)
             .filter(value -> value.length != 0)
             .map(this::tryParseCertificateChain)
             .filter(x509Certificates -> !x509Certificates.isEmpty())
@@ -168,9 +212,10 @@ public class SpdmChainSearcher {
         return rootHashVerifier.verifyRootHash(cert, trustedRootHash);
     }
 
-    private void addChainIfValid(SpdmValidChains validChains, int slotId, List<X509Certificate> fullChain) {
+    private Optional<DiceChainType> addChainIfValid(SpdmValidChains validChains, int slotId,
+                                                    List<X509Certificate> fullChain) {
         if (fullChain.isEmpty()) {
-            return;
+            return Optional.empty();
         }
 
         final DiceChainType chainType = isIidUdsChain(fullChain) ? IID : ATTESTATION;
@@ -179,7 +224,9 @@ public class SpdmChainSearcher {
         if (equivalentChainNotYetValidated(validChains, chainToValidate)
             && isValidChain(validChains.getDeviceId(), chainToValidate)) {
             validChains.add(chainToValidate);
+            return Optional.of(chainType);
         }
+        return Optional.empty();
     }
 
     private boolean equivalentChainNotYetValidated(SpdmValidChains validChains,
@@ -198,6 +245,37 @@ public class SpdmChainSearcher {
         }
     }
 
+    private boolean isValidCachedChain(byte[] deviceId, SpdmCertificateChainHolder fullChain) {
+        try {
+            diceAttestationRevocationService.verifyChainStatus(deviceId, fullChain);
+            return true;
+        } catch (Exception e) {
+            log.warn("Failed to validate cached SPDM chain of certificates: {}", e.getMessage());
+            log.debug("Stacktrace: ", e);
+            return false;
+        }
+    }
+
+    private Optional<SpdmCachedChain> findCachedChain(byte[] deviceId, int slotId, byte[] digest) {
+        try {
+            return spdmChainCacheService.find(deviceId, slotId, digest);
+        } catch (Exception e) {
+            log.warn("Failed to read SPDM chain from cache: {}", e.getMessage());
+            log.debug("Stacktrace: ", e);
+            return Optional.empty();
+        }
+    }
+
+    private void storeInCache(byte[] deviceId, int slotId, byte[] digest, DiceChainType chainType,
+                              byte[] chainBytes) {
+        try {
+            spdmChainCacheService.store(deviceId, slotId, digest, new SpdmCachedChain(chainType, chainBytes));
+        } catch (Exception e) {
+            log.warn("Failed to store SPDM chain in cache: {}", e.getMessage());
+            log.debug("Stacktrace: ", e);
+        }
+    }
+
     private void ensurePolicyMet(SpdmValidChains validChains) {
         if (!isPolicyMet(validChains)) {
             validChainNotFoundHandler.run();
@@ -39,7 +39,7 @@ import com.intel.bkp.protocol.spdm.jna.model.SpdmProtocol;
 import com.intel.bkp.verifier.exceptions.VerifierRuntimeException;
 import com.intel.bkp.verifier.model.VerifierExchangeResponse;
 import com.intel.bkp.verifier.protocol.common.model.evidence.IDeviceMeasurementsProvider;
-import com.intel.bkp.verifier.protocol.spdm.jna.SpdmProtocol12Impl;
+import com.intel.bkp.verifier.protocol.spdm.jna.DeviceSpdmProtocol;
 import com.intel.bkp.verifier.service.certificate.AppContext;
 import com.intel.bkp.verifier.service.certificate.DiceChainMeasurementsCollector;
 import com.intel.bkp.verifier.service.measurements.EvidenceVerifier;
@@ -66,7 +66,7 @@ public class SpdmDiceAttestationComponent {
     private final SpdmChainSearcher spdmChainSearcher;
 
     public SpdmDiceAttestationComponent() {
-        final SpdmProtocol spdmProtocol = new SpdmProtocol12Impl();
+        final SpdmProtocol spdmProtocol = new DeviceSpdmProtocol();
 
         this.deviceMeasurementsProvider = new SpdmDeviceMeasurementsProvider(spdmProtocol);
         this.evidenceVerifier = new EvidenceVerifier();
@@ -33,7 +33,6 @@
 
 package com.intel.bkp.verifier.protocol.spdm.service;
 
-import com.intel.bkp.fpgacerts.dp.DistributionPointCrlProvider;
 import com.intel.bkp.verifier.service.certificate.AppContext;
 import com.intel.bkp.verifier.service.certificate.DiceAliasChainVerifier;
 import lombok.AccessLevel;
@@ -58,9 +57,10 @@ public class SpdmDiceAttestationRevocationService {
     }
 
     public SpdmDiceAttestationRevocationService(AppContext appContext) {
-        this(new DiceAliasChainVerifier(new DistributionPointCrlProvider(appContext.getDpConnector()),
+        this(new DiceAliasChainVerifier(appContext.getCrlProvider(),
             appContext.getDpTrustedRootHashes(),
-            appContext.getLibConfig().isTestModeSecrets())
+            appContext.getLibConfig().isTestModeSecrets(),
+            () -> AppContext.instance().getDeviceContext().getCertificateViews())
         );
     }
 
@@ -70,6 +70,13 @@ public class SpdmDiceAttestationRevocationService {
         log.info("*** {} CHAIN VERIFIED SUCCESSFULLY ***", chainHolder.chainType());
     }
 
+    public void verifyChainStatus(byte[] deviceId, SpdmCertificateChainHolder chainHolder) {
+        log.debug("Verifying status of cached {} chain.", chainHolder.chainType());
+        diceAliasChainVerifier.setDeviceId(deviceId);
+        diceAliasChainVerifier.verifyChainStatus(chainHolder.chain());
+        log.info("*** {} CHAIN STATUS VERIFIED SUCCESSFULLY ***", chainHolder.chainType());
+    }
+
     private void verifyChainInternal(byte[] deviceId, LinkedList<X509Certificate> chain) {
         diceAliasChainVerifier.setDeviceId(deviceId);
         diceAliasChainVerifier.verifyChain(chain);
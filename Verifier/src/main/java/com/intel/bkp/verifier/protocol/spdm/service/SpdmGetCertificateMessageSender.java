@@ -39,8 +39,6 @@ import com.intel.bkp.protocol.spdm.jna.model.SpdmProtocol;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-import static com.intel.bkp.utils.HexConverter.fromHex;
-
 @Slf4j
 @AllArgsConstructor
 public class SpdmGetCertificateMessageSender {
@@ -49,7 +47,7 @@ public class SpdmGetCertificateMessageSender {
 
     public byte[] send(int slotId) throws SpdmCommandFailedException {
         return new SpdmCertificateResponseBuilder()
-            .parse(fromHex(spdmProtocol.getCerts(slotId)))
+            .parse(spdmProtocol.getCerts(slotId))
             .build()
             .getCertificateChain();
     }
@@ -35,11 +35,13 @@ package com.intel.bkp.verifier.protocol.spdm.service;
 
 import com.intel.bkp.protocol.spdm.exceptions.SpdmCommandFailedException;
 import com.intel.bkp.protocol.spdm.jna.model.SpdmProtocol;
+import com.intel.bkp.verifier.protocol.spdm.model.SpdmDigestResponse;
 import com.intel.bkp.verifier.protocol.spdm.model.SpdmDigestResponseBuilder;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @AllArgsConstructor
@@ -48,9 +50,16 @@ public class SpdmGetDigestMessageSender {
     private final SpdmProtocol spdmProtocol;
 
     public List<Integer> send() throws SpdmCommandFailedException {
+        return getDigestResponse().getFilledSlots();
+    }
+
+    public Map<Integer, byte[]> sendForDigests() throws SpdmCommandFailedException {
+        return getDigestResponse().getDigestMap();
+    }
+
+    private SpdmDigestResponse getDigestResponse() throws SpdmCommandFailedException {
         return new SpdmDigestResponseBuilder()
             .parse(spdmProtocol.getDigest())
-            .build()
-            .getFilledSlots();
+            .build();
     }
 }
@@ -40,8 +40,6 @@ import com.intel.bkp.protocol.spdm.jna.model.SpdmProtocol;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-import static com.intel.bkp.utils.HexConverter.fromHex;
-
 @Slf4j
 @AllArgsConstructor
 public class SpdmGetMeasurementMessageSender {
@@ -53,7 +51,7 @@ public class SpdmGetMeasurementMessageSender {
         log.debug("Requesting measurements with slotId: {}", slotId);
 
         return new SpdmMeasurementResponseBuilder()
-            .parse(fromHex(spdmProtocol.getMeasurements(slotId)))
+            .parse(spdmProtocol.getMeasurements(slotId))
             .build();
     }
 }
@@ -91,7 +91,17 @@ public class CreateDeviceAttestationSubKeyComponent {
 
         teardownMessageSender.send(transportLayer, commandLayer);
 
-        final EcdhKeyPair serviceDhKeyPair = generateEcdhKeyPair();
+        final EcdhKeyPair serviceDhKeyPair = takeEcdhKeyPair(appContext);
+        try {
+            return createSubKey(appContext, transportLayer, commandLayer, context, pufType, deviceId, serviceDhKeyPair);
+        } finally {
+            serviceDhKeyPair.zeroize();
+        }
+    }
+
+    private VerifierExchangeResponse createSubKey(AppContext appContext, TransportLayer transportLayer,
+                                                  CommandLayer commandLayer, String context, PufType pufType,
+                                                  byte[] deviceId, EcdhKeyPair serviceDhKeyPair) {
         final int counter = new SecureRandom().nextInt();
         final CreateAttestationSubKeyResponseBuilder subKeyResponseBuilder;
 
@@ -119,9 +129,9 @@ public class CreateDeviceAttestationSubKeyComponent {
         return VerifierExchangeResponse.OK;
     }
 
-    private EcdhKeyPair generateEcdhKeyPair() {
+    private EcdhKeyPair takeEcdhKeyPair(AppContext appContext) {
         try {
-            return EcdhKeyPair.generate();
+            return appContext.getEcdhKeyPairPool().take();
         } catch (EcdhKeyPairException e) {
             throw new InternalLibraryException("Failed to generate ECDH keypair.", e);
         }
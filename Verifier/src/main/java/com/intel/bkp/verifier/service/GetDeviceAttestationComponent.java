@@ -44,7 +44,7 @@ import com.intel.bkp.verifier.protocol.sigma.service.GpDiceAttestationComponent;
 import com.intel.bkp.verifier.protocol.sigma.service.GpGetCertificateMessageSender;
 import com.intel.bkp.verifier.protocol.sigma.service.GpS10AttestationComponent;
 import com.intel.bkp.verifier.protocol.sigma.service.TeardownMessageSender;
-import com.intel.bkp.verifier.protocol.spdm.jna.SpdmProtocol12Impl;
+import com.intel.bkp.verifier.protocol.spdm.jna.DeviceSpdmProtocol;
 import com.intel.bkp.verifier.protocol.spdm.service.SpdmDiceAttestationComponent;
 import com.intel.bkp.verifier.service.certificate.AppContext;
 import com.intel.bkp.verifier.transport.model.TransportLayer;
@@ -69,7 +69,7 @@ public class GetDeviceAttestationComponent {
         this.gpGetCertificateMessageSender = new GpGetCertificateMessageSender();
         this.gpS10AttestationComponent = new GpS10AttestationComponent();
         this.gpDiceAttestationComponent = new GpDiceAttestationComponent();
-        this.spdmGetVersionMessageSender = new SpdmGetVersionMessageSender(new SpdmProtocol12Impl());
+        this.spdmGetVersionMessageSender = new SpdmGetVersionMessageSender(new DeviceSpdmProtocol());
         this.teardownMessageSender = new TeardownMessageSender();
         this.spdmDiceAttestationComponent = new SpdmDiceAttestationComponent();
     }
@@ -78,6 +78,10 @@ public class GetDeviceAttestationComponent {
         return perform(AppContext.instance(), refMeasurementHex, deviceId);
     }
 
+    /**
+     * @param deviceId id read from the device over its transport, e.g. by GET_CHIPID - selects SPDM connection
+     *                 reused between attestations, which is dropped if the attestation does not pass
+     */
     VerifierExchangeResponse perform(AppContext appContext, String refMeasurementHex, byte[] deviceId) {
         final TransportLayer transportLayer = appContext.getTransportLayer();
         final CommandLayer commandLayer = appContext.getCommandLayer();
@@ -85,10 +89,13 @@ public class GetDeviceAttestationComponent {
         if (appContext.getLibConfig().isRunGpAttestation()) {
             log.debug("Forced GP ATTESTATION.");
             return runGpAttestation(refMeasurementHex, deviceId, transportLayer, commandLayer);
-        } else if (!spdmSupported()) {
+        }
+
+        appContext.getDeviceContext().setDeviceId(deviceId);
+        if (!spdmSupported()) {
             return runGpAttestation(refMeasurementHex, deviceId, transportLayer, commandLayer);
         } else {
-            return runSpdmAttestation(refMeasurementHex, deviceId);
+            return runSpdmAttestation(appContext, refMeasurementHex, deviceId);
         }
     }
 
@@ -121,8 +128,18 @@ public class GetDeviceAttestationComponent {
         }
     }
 
-    private VerifierExchangeResponse runSpdmAttestation(String refMeasurementHex, byte[] deviceId) {
+    private VerifierExchangeResponse runSpdmAttestation(AppContext appContext, String refMeasurementHex,
+                                                        byte[] deviceId) {
         log.debug("Running SPDM Attestation.");
-        return spdmDiceAttestationComponent.perform(refMeasurementHex, deviceId);
+        VerifierExchangeResponse response = null;
+        try {
+            response = spdmDiceAttestationComponent.perform(refMeasurementHex, deviceId);
+            return response;
+        } finally {
+            if (response != VerifierExchangeResponse.OK) {
+                log.debug("SPDM attestation did not pass - dropping cached SPDM connection of the device.");
+                appContext.getSpdmConnectionCache().invalidate(deviceId);
+            }
+        }
     }
 }
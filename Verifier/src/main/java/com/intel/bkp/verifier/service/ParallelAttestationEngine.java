@@ -0,0 +1,132 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2023 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.verifier.service;
+
+import com.intel.bkp.verifier.service.certificate.AppContext;
+import com.intel.bkp.verifier.service.certificate.DeviceContext;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * Runs the same operation for many devices on a bounded pool of threads, kept until the engine is closed.
+ * Each device gets its own device context (transport and command layer), while the application context is shared.
+ */
+@Slf4j
+public class ParallelAttestationEngine implements AutoCloseable {
+
+    private static final String THREAD_NAME_PREFIX = "verifier-attestation-";
+
+    private final ExecutorService executor;
+
+    public ParallelAttestationEngine(int maxConcurrentAttestations) {
+        if (maxConcurrentAttestations < 1) {
+            throw new IllegalArgumentException("Max concurrent attestations must be a positive integer.");
+        }
+        this.executor = Executors.newFixedThreadPool(maxConcurrentAttestations, new AttestationThreadFactory());
+    }
+
+    /**
+     * Performs deviceTask for every transportId.
+     *
+     * @param appContext shared application context, must stay open until this method returns
+     * @param transportIds device identifiers specific to transport layer
+     * @param deviceTask operation performed for a single device
+     * @param errorResult result returned for a device if its task failed unexpectedly
+     *
+     * @return results in the same order as transportIds
+     */
+    public <T> List<T> perform(AppContext appContext, List<String> transportIds, Function<String, T> deviceTask,
+                               Function<String, T> errorResult) {
+        if (transportIds.isEmpty()) {
+            return List.of();
+        }
+
+        log.debug("Performing operation for {} devices.", transportIds.size());
+
+        final List<Future<T>> futures = transportIds.stream()
+            .map(transportId -> executor.submit(() -> performInDeviceContext(appContext, transportId, deviceTask)))
+            .toList();
+
+        return IntStream.range(0, futures.size())
+            .mapToObj(i -> getResult(futures.get(i), transportIds.get(i), errorResult))
+            .toList();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private static <T> T performInDeviceContext(AppContext appContext, String transportId,
+                                                Function<String, T> deviceTask) {
+        try (DeviceContext ignored = appContext.openDeviceContext()) {
+            return deviceTask.apply(transportId);
+        }
+    }
+
+    private static <T> T getResult(Future<T> future, String transportId, Function<String, T> errorResult) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            log.error("Operation failed for device [{}]: {}", transportId, e.getCause().getMessage());
+            log.debug("Stacktrace: ", e.getCause());
+            return errorResult.apply(transportId);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("Operation interrupted for device [{}].", transportId);
+            return errorResult.apply(transportId);
+        }
+    }
+
+    private static class AttestationThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            final Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
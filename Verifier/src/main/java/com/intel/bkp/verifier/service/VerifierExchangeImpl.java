@@ -39,6 +39,7 @@ import com.intel.bkp.verifier.interfaces.VerifierExchange;
 import com.intel.bkp.verifier.model.VerifierExchangeResponse;
 import com.intel.bkp.verifier.model.dto.VerifierExchangeResponseDTO;
 import com.intel.bkp.verifier.service.certificate.AppContext;
+import com.intel.bkp.verifier.service.certificate.DeviceContext;
 import com.intel.bkp.verifier.transport.model.TransportLayer;
 import com.intel.bkp.verifier.validators.ParameterValidator;
 import lombok.AccessLevel;
@@ -46,6 +47,9 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 import static com.intel.bkp.utils.HexConverter.toHex;
 import static com.intel.bkp.verifier.model.VerifierExchangeResponse.ERROR;
 import static com.intel.bkp.verifier.model.VerifierExchangeResponse.OK;
@@ -57,6 +61,7 @@ public class VerifierExchangeImpl implements VerifierExchange {
     private static final byte[] GET_CHIPID = new byte[]{0x12, 0x00, 0x00, 0x00};
 
     private final ParameterValidator parameterValidator = new ParameterValidator();
+    private final AtomicBoolean opened = new AtomicBoolean();
 
     private final InitSessionComponent initSessionComponent;
     private final CreateDeviceAttestationSubKeyComponent createSubKeyComponent;
@@ -67,10 +72,25 @@ public class VerifierExchangeImpl implements VerifierExchange {
             new GetDeviceAttestationComponent());
     }
 
+    @Override
+    public void open() {
+        if (opened.compareAndSet(false, true)) {
+            AppContext.open();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (opened.compareAndSet(true, false)) {
+            AppContext.release();
+        }
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public int createDeviceAttestationSubKey(String transportId, String context, String pufType) {
-        try (AppContext appContext = AppContext.instance()) {
+        try (AppContext appContext = AppContext.instance();
+             DeviceContext ignored = appContext.openDeviceContext()) {
             appContext.init();
             return createSubKeyInternal(appContext, transportId, context, PufType.valueOf(pufType));
         } catch (Exception e) {
@@ -85,7 +105,8 @@ public class VerifierExchangeImpl implements VerifierExchange {
     public VerifierExchangeResponseDTO getDeviceAttestation(String transportId, String refMeasurementHex) {
         var attestationResult = new VerifierExchangeResponseDTO(ERROR.getCode(), "");
 
-        try (AppContext appContext = AppContext.instance()) {
+        try (AppContext appContext = AppContext.instance();
+             DeviceContext ignored = appContext.openDeviceContext()) {
             appContext.init();
             attestationResult = getAttestationInternal(appContext, transportId, refMeasurementHex);
         } catch (Exception e) {
@@ -98,10 +119,29 @@ public class VerifierExchangeImpl implements VerifierExchange {
         return attestationResult;
     }
 
+    @Override
+    public List<VerifierExchangeResponseDTO> getDeviceAttestation(List<String> transportIds,
+                                                                  String refMeasurementHex) {
+        try (AppContext appContext = AppContext.instance()) {
+            appContext.init();
+            final List<VerifierExchangeResponseDTO> attestationResults =
+                getAttestationsInternal(appContext, transportIds, refMeasurementHex);
+            attestationResults.forEach(VerifierExchangeImpl::logAttestationResult);
+            return attestationResults;
+        } catch (Exception e) {
+            log.error("Device attestation failed: {}", e.getMessage());
+            log.debug("Stacktrace: ", e);
+            return transportIds.stream()
+                .map(transportId -> new VerifierExchangeResponseDTO(ERROR.getCode(), ""))
+                .toList();
+        }
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public int healthCheck(String transportId) {
-        try (AppContext appContext = AppContext.instance()) {
+        try (AppContext appContext = AppContext.instance();
+             DeviceContext ignored = appContext.openDeviceContext()) {
             appContext.init();
             return healthCheckInternal(appContext, transportId);
         } catch (VerifierKeyNotInitializedException e) {
@@ -158,6 +198,20 @@ public class VerifierExchangeImpl implements VerifierExchange {
         return response;
     }
 
+    List<VerifierExchangeResponseDTO> getAttestationsInternal(AppContext appContext, List<String> transportIds,
+                                                              String refMeasurementHex) {
+        return appContext.getParallelAttestationEngine().perform(appContext, transportIds,
+            transportId -> createDeviceExchange().getAttestationInternal(appContext, transportId, refMeasurementHex),
+            transportId -> new VerifierExchangeResponseDTO(ERROR.getCode(), ""));
+    }
+
+    /**
+     * Components keep protocol state of the device they communicate with, so each device needs its own instance.
+     */
+    VerifierExchangeImpl createDeviceExchange() {
+        return new VerifierExchangeImpl();
+    }
+
     int healthCheckInternal(AppContext appContext, String transportId) {
         final TransportLayer transportLayer = appContext.getTransportLayer();
         try {
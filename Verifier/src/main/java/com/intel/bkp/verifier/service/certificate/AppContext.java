@@ -39,62 +39,159 @@ import com.intel.bkp.core.properties.DistributionPoint;
 import com.intel.bkp.core.properties.Proxy;
 import com.intel.bkp.core.properties.TrustStore;
 import com.intel.bkp.core.security.ISecurityProvider;
+import com.intel.bkp.crypto.ecdh.EcdhKeyPairPool;
+import com.intel.bkp.fpgacerts.dp.CachingCrlProvider;
 import com.intel.bkp.fpgacerts.dp.DistributionPointConnector;
+import com.intel.bkp.fpgacerts.dp.DistributionPointCrlProvider;
 import com.intel.bkp.utils.PathUtils;
 import com.intel.bkp.verifier.config.JceSecurityConfiguration;
 import com.intel.bkp.verifier.database.SQLiteHelper;
 import com.intel.bkp.verifier.exceptions.VerifierKeyNotInitializedException;
 import com.intel.bkp.verifier.model.LibConfig;
 import com.intel.bkp.verifier.model.VerifierKeyParams;
+import com.intel.bkp.verifier.protocol.sigma.service.VerifierChainCache;
 import com.intel.bkp.verifier.protocol.sigma.service.VerifierKeyManager;
+import com.intel.bkp.verifier.protocol.spdm.jna.SpdmConnectionCache;
 import com.intel.bkp.verifier.security.X509TrustManagerManager;
+import com.intel.bkp.verifier.service.ParallelAttestationEngine;
+import com.intel.bkp.verifier.service.measurements.RimMeasurementsCache;
 import com.intel.bkp.verifier.transport.model.TransportLayer;
 import com.intel.bkp.verifier.utils.LibConfigParser;
 import lombok.AccessLevel;
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
 @Getter
 @Slf4j
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
-@AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class AppContext implements AutoCloseable {
 
     private static final String CONFIG_FILE_NAME = "config.properties";
+    private static final String DP_FETCHING_THREAD_NAME_PREFIX = "verifier-dp-fetching-";
 
     private LibConfig libConfig;
-    private CommandLayer commandLayer;
     private ISecurityProvider securityProvider;
     private SQLiteHelper sqLiteHelper;
     private VerifierKeyParams verifierKeyParams;
     private VerifierKeyManager verifierKeyManager;
     private DistributionPointConnector dpConnector;
+    private CachingCrlProvider crlProvider;
     private TrustStore trustStore;
+    private StartupTimings startupTimings;
+    private RimMeasurementsCache rimMeasurementsCache;
+    @Getter(AccessLevel.NONE)
+    private EcdhKeyPairPool ecdhKeyPairPool;
+    private VerifierChainCache verifierChainCache;
+    private SpdmConnectionCache spdmConnectionCache;
+    private ExecutorService dpFetchingExecutor;
+    private ParallelAttestationEngine parallelAttestationEngine;
+
+    @Getter(AccessLevel.NONE)
+    private final ThreadLocal<DeviceContext> deviceContexts = new ThreadLocal<>();
+
+    @Getter(AccessLevel.NONE)
+    private volatile boolean verifierKeyVerified;
+
+    @Getter(AccessLevel.NONE)
+    private int openCount;
 
     private static AppContext INSTANCE;
 
-    public static AppContext instance() {
+    AppContext(LibConfig libConfig, ISecurityProvider securityProvider, SQLiteHelper sqLiteHelper,
+               VerifierKeyParams verifierKeyParams, VerifierKeyManager verifierKeyManager,
+               DistributionPointConnector dpConnector, CachingCrlProvider crlProvider, TrustStore trustStore,
+               StartupTimings startupTimings) {
+        this.libConfig = libConfig;
+        this.securityProvider = securityProvider;
+        this.sqLiteHelper = sqLiteHelper;
+        this.verifierKeyParams = verifierKeyParams;
+        this.verifierKeyManager = verifierKeyManager;
+        this.dpConnector = dpConnector;
+        this.crlProvider = crlProvider;
+        this.trustStore = trustStore;
+        this.startupTimings = startupTimings;
+        this.rimMeasurementsCache = new RimMeasurementsCache(Duration.ofSeconds(libConfig.getRimCacheMaxTtlSeconds()));
+        this.verifierChainCache = new VerifierChainCache();
+        this.spdmConnectionCache = new SpdmConnectionCache(
+            Duration.ofSeconds(libConfig.getSpdmConnectionCacheMaxTtlSeconds()));
+        this.dpFetchingExecutor = Executors.newFixedThreadPool(
+            Math.max(1, libConfig.getMaxConcurrentAttestations()), new DpFetchingThreadFactory());
+        this.parallelAttestationEngine = new ParallelAttestationEngine(
+            Math.max(1, libConfig.getMaxConcurrentAttestations()));
+    }
+
+    public static synchronized AppContext instance() {
         if (INSTANCE == null) {
             log.debug("Initializing AppContext...");
             logAppInfo();
             INSTANCE = initialize();
             logAppConfiguration();
+            log.debug("AppContext startup timings: {}", INSTANCE.getStartupTimings());
         }
         return INSTANCE;
     }
 
+    /**
+     * Switches to long-lived mode - context is initialized once and shared by all subsequent calls,
+     * which no longer release it on close(). Each call must be paired with release(); resources are released
+     * when the last holder releases the context or on shutdown().
+     */
+    public static synchronized void open() {
+        final boolean alreadyInitialized = INSTANCE != null;
+        final AppContext appContext = instance();
+        appContext.openCount++;
+        if (!alreadyInitialized) {
+            log.info("AppContext opened in long-lived mode. Startup timings: {}", appContext.getStartupTimings());
+        }
+    }
+
+    /**
+     * Releases one hold taken by open(). Context stays in long-lived mode until all holders release it.
+     */
+    public static synchronized void release() {
+        if (INSTANCE != null && INSTANCE.openCount > 0) {
+            INSTANCE.openCount--;
+            closeInstance(INSTANCE);
+        }
+    }
+
+    /**
+     * Ends long-lived mode regardless of remaining holders and releases all resources of current context.
+     */
+    public static synchronized void shutdown() {
+        if (INSTANCE != null) {
+            INSTANCE.openCount = 0;
+            closeInstance(INSTANCE);
+        }
+    }
+
+    public static synchronized boolean isOpen() {
+        return INSTANCE != null && INSTANCE.openCount > 0;
+    }
+
     static AppContext initialize() {
-        final LibConfig libConfig = prepareLibConfig();
-        final ISecurityProvider securityProvider = prepareSecurityProvider(libConfig);
+        final var timings = new StartupTimings();
+        final LibConfig libConfig = timings.measure("config", AppContext::prepareLibConfig);
+        final ISecurityProvider securityProvider =
+            timings.measure("security-provider", () -> prepareSecurityProvider(libConfig));
         final VerifierKeyParams verifierKeyParams = prepareVerifierKeyParams(libConfig);
         final TrustStore trustStore = prepareTrustStore(libConfig);
+        final SQLiteHelper sqLiteHelper = timings.measure("database", () -> prepareSqLiteHelper(libConfig));
+        final VerifierKeyManager verifierKeyManager = timings.measure("verifier-key-manager",
+            () -> prepareVerifierKeyManager(securityProvider, verifierKeyParams.getKeyName()));
+        final DistributionPointConnector dpConnector = timings.measure("distribution-point-connector",
+            () -> prepareDistributionPointConnector(libConfig, trustStore));
 
-        return new AppContext(libConfig, prepareCommandLayer(), securityProvider,
-            prepareSqLiteHelper(libConfig), verifierKeyParams,
-            prepareVerifierKeyManager(securityProvider, verifierKeyParams.getKeyName()),
-            prepareDistributionPointConnector(libConfig, trustStore), trustStore);
+        return new AppContext(libConfig, securityProvider, sqLiteHelper, verifierKeyParams, verifierKeyManager,
+            dpConnector, prepareCrlProvider(dpConnector), trustStore, timings);
     }
 
     private static void logAppInfo() {
@@ -140,21 +237,68 @@ public class AppContext implements AutoCloseable {
                                                                                 TrustStore trustStore) {
         final Proxy proxy = libConfig.getDistributionPoint().getProxy();
         return new DistributionPointConnector(proxy.getHost(), proxy.getPort(),
-            new X509TrustManagerManager(trustStore).getTrustManagers());
+            new X509TrustManagerManager(trustStore).getTrustManagers(), libConfig.getDpCacheConfig(),
+            Math.max(1, libConfig.getMaxConcurrentAttestations()));
+    }
+
+    private static CachingCrlProvider prepareCrlProvider(DistributionPointConnector dpConnector) {
+        return new CachingCrlProvider(new DistributionPointCrlProvider(dpConnector));
     }
 
     /**
      * Must be called after calling instance() for the first time.
      */
     public void init() {
+        if (verifierKeyVerified) {
+            return;
+        }
         if (!verifierKeyManager.initialized()) {
             verifierKeyManager.initialize();
             throw new VerifierKeyNotInitializedException();
         }
+        verifierKeyVerified = true;
+    }
+
+    /**
+     * Creates transport and command layer for a single device and binds them to the current thread.
+     * Closing returned context disconnects its transport and unbinds it.
+     */
+    public DeviceContext openDeviceContext() {
+        final DeviceContext deviceContext = new DeviceContext(libConfig.getTransportLayerType().createTransportLayer(),
+            prepareCommandLayer(), deviceContexts::remove);
+        deviceContexts.set(deviceContext);
+        return deviceContext;
+    }
+
+    /**
+     * Returns device context bound to the current thread.
+     *
+     * @throws IllegalStateException if no device context is bound - it must be opened explicitly with
+     *                               openDeviceContext() before communicating with a device
+     */
+    public DeviceContext getDeviceContext() {
+        return Optional.ofNullable(deviceContexts.get())
+            .orElseThrow(() -> new IllegalStateException("No device context is bound to the current thread."));
+    }
+
+    /**
+     * Returns pool of ECDH key pairs used by SIGMA, creating it on first use - contexts that never run SIGMA
+     * do not start the refiller thread nor pre-generate key pairs.
+     */
+    public synchronized EcdhKeyPairPool getEcdhKeyPairPool() {
+        if (ecdhKeyPairPool == null) {
+            ecdhKeyPairPool = new EcdhKeyPairPool(libConfig.getEcdhKeyPoolSize(),
+                libConfig.getEcdhKeyPoolLowWaterMark());
+        }
+        return ecdhKeyPairPool;
     }
 
     public TransportLayer getTransportLayer() {
-        return libConfig.getTransportLayerType().getTransportLayer();
+        return getDeviceContext().getTransportLayer();
+    }
+
+    public CommandLayer getCommandLayer() {
+        return getDeviceContext().getCommandLayer();
     }
 
     public String[] getDpTrustedRootHashes() {
@@ -166,14 +310,61 @@ public class AppContext implements AutoCloseable {
         return PathUtils.buildPath(dp.getMainPath(), dp.getAttestationCertBasePath());
     }
 
+    /**
+     * Releases the context, unless it is in long-lived mode - then only device context of current thread is unbound.
+     */
     @Override
     public void close() {
+        closeInstance(this);
+    }
+
+    private static synchronized void closeInstance(AppContext appContext) {
+        if (appContext.openCount > 0) {
+            appContext.deviceContexts.remove();
+            return;
+        }
+        appContext.closeResources();
+        if (INSTANCE == appContext) {
+            INSTANCE = null;
+        }
+    }
+
+    private void closeResources() {
+        deviceContexts.remove();
+        rimMeasurementsCache.clear();
+        closeEcdhKeyPairPool();
+        verifierChainCache.clear();
+        spdmConnectionCache.clear();
+        parallelAttestationEngine.close();
+        dpFetchingExecutor.shutdownNow();
         sqLiteHelper.close();
+        crlProvider.close();
         try {
             dpConnector.close();
         } catch (Exception e) {
             log.error("Failed to close active DP connections.");
         }
-        INSTANCE = null;
+    }
+
+    private synchronized void closeEcdhKeyPairPool() {
+        if (ecdhKeyPairPool == null) {
+            return;
+        }
+        log.debug("ECDH key pool usage - hits: {}, misses: {}", ecdhKeyPairPool.getHits(),
+            ecdhKeyPairPool.getMisses());
+        ecdhKeyPairPool.close();
+        ecdhKeyPairPool = null;
+    }
+
+    private static class DpFetchingThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            final Thread thread = new Thread(runnable, DP_FETCHING_THREAD_NAME_PREFIX + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
     }
 }
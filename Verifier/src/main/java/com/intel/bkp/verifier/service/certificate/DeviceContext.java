@@ -0,0 +1,105 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2023 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.verifier.service.certificate;
+
+import com.intel.bkp.command.model.CommandLayer;
+import com.intel.bkp.fpgacerts.dice.DiceCertificateViews;
+import com.intel.bkp.protocol.spdm.jna.model.SpdmProtocol;
+import com.intel.bkp.verifier.transport.model.TransportLayer;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * Per-device part of the application context - communication with a single device must not share these objects
+ * with other devices attested at the same time. Bound to the thread performing the attestation until closed.
+ */
+@Slf4j
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class DeviceContext implements AutoCloseable {
+
+    private final TransportLayer transportLayer;
+    private final CommandLayer commandLayer;
+
+    @Getter(AccessLevel.NONE)
+    private final Runnable unbind;
+
+    /**
+     * Parsed DICE extensions of certificates processed during this attestation - dropped together with the context.
+     */
+    private final DiceCertificateViews certificateViews = new DiceCertificateViews();
+
+    /**
+     * Identity of the device read from it, once known - selects device state kept between attestations,
+     * e.g. SPDM connection.
+     */
+    private byte[] deviceId;
+
+    @Getter(AccessLevel.NONE)
+    private SpdmProtocol spdmProtocol;
+
+    public synchronized void setDeviceId(byte[] deviceId) {
+        if (!Arrays.equals(this.deviceId, deviceId)) {
+            spdmProtocol = null;
+        }
+        this.deviceId = deviceId;
+    }
+
+    /**
+     * Returns SPDM protocol of the device, resolving it on first use only - all SPDM commands of an attestation
+     * run on the same SPDM context, even if the shared connection cache replaces it in the meantime.
+     */
+    public synchronized SpdmProtocol getSpdmProtocol(Function<byte[], SpdmProtocol> resolver) {
+        if (spdmProtocol == null) {
+            spdmProtocol = resolver.apply(deviceId);
+        }
+        return spdmProtocol;
+    }
+
+    @Override
+    public void close() {
+        try {
+            transportLayer.disconnect();
+        } catch (Exception e) {
+            log.error("Failed to disconnect transport layer: {}", e.getMessage());
+        } finally {
+            unbind.run();
+        }
+    }
+}
@@ -33,10 +33,13 @@
 
 package com.intel.bkp.verifier.service.certificate;
 
+import com.intel.bkp.fpgacerts.dice.DiceCertificateViews;
 import com.intel.bkp.fpgacerts.interfaces.ICrlProvider;
 import com.intel.bkp.fpgacerts.verification.DiceChainVerifierBase;
 import com.intel.bkp.verifier.exceptions.VerifierRuntimeException;
 
+import java.util.function.Supplier;
+
 import static com.intel.bkp.fpgacerts.model.Oid.KEY_PURPOSE_ATTEST_INIT;
 import static com.intel.bkp.fpgacerts.model.Oid.KEY_PURPOSE_ATTEST_LOC;
 
@@ -46,6 +49,11 @@ public class DiceAliasChainVerifier extends DiceChainVerifierBase {
         super(crlProvider, trustedRootHash, testModeSecrets);
     }
 
+    public DiceAliasChainVerifier(ICrlProvider crlProvider, String[] trustedRootHash, boolean testModeSecrets,
+                                  Supplier<DiceCertificateViews> certificateViews) {
+        super(crlProvider, trustedRootHash, testModeSecrets, certificateViews);
+    }
+
     @Override
     protected String[] getExpectedLeafCertKeyPurposes() {
         return new String[]{KEY_PURPOSE_ATTEST_INIT.getOid(), KEY_PURPOSE_ATTEST_LOC.getOid()};
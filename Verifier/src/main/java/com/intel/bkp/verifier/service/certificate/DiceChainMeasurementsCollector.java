@@ -33,7 +33,8 @@
 
 package com.intel.bkp.verifier.service.certificate;
 
-import com.intel.bkp.fpgacerts.dice.tcbinfo.TcbInfoExtensionParser;
+import com.intel.bkp.fpgacerts.dice.DiceCertificateView;
+import com.intel.bkp.fpgacerts.dice.DiceCertificateViews;
 import com.intel.bkp.fpgacerts.dice.tcbinfo.TcbInfoMeasurement;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
@@ -42,15 +43,16 @@ import lombok.extern.slf4j.Slf4j;
 import java.security.cert.X509Certificate;
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Supplier;
 
 @Slf4j
 @RequiredArgsConstructor(access = AccessLevel.PACKAGE)
 public class DiceChainMeasurementsCollector {
 
-    private final TcbInfoExtensionParser tcbInfoExtensionParser;
+    private final Supplier<DiceCertificateViews> certificateViews;
 
     public DiceChainMeasurementsCollector() {
-        this(new TcbInfoExtensionParser());
+        this(() -> AppContext.instance().getDeviceContext().getCertificateViews());
     }
 
     public List<TcbInfoMeasurement> getMeasurementsFromCertChain(List<X509Certificate> fullChain) {
@@ -59,8 +61,10 @@ public class DiceChainMeasurementsCollector {
     }
 
     private List<TcbInfoMeasurement> getTcbInfoMeasurements(List<X509Certificate> chain) {
+        final DiceCertificateViews views = certificateViews.get();
         return chain.stream()
-            .map(tcbInfoExtensionParser::parse)
+            .map(views::of)
+            .map(DiceCertificateView::getTcbInfos)
             .flatMap(Collection::stream)
             .map(TcbInfoMeasurement::new)
             .toList();
@@ -35,7 +35,6 @@ package com.intel.bkp.verifier.service.measurements;
 
 import com.intel.bkp.fpgacerts.dice.tcbinfo.MeasurementHolder;
 import com.intel.bkp.fpgacerts.dice.tcbinfo.TcbInfoKey;
-import com.intel.bkp.fpgacerts.dice.tcbinfo.TcbInfoMeasurement;
 import com.intel.bkp.fpgacerts.dice.tcbinfo.TcbInfoMeasurementsAggregator;
 import com.intel.bkp.fpgacerts.dice.tcbinfo.TcbInfoValue;
 import com.intel.bkp.fpgacerts.utils.VerificationStatusLogger;
@@ -45,10 +44,14 @@ import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static com.intel.bkp.utils.LazyLog.lazy;
 
 @Slf4j
 @AllArgsConstructor(access = AccessLevel.PACKAGE)
@@ -64,16 +67,17 @@ public class EvidenceVerifier {
 
     public VerifierExchangeResponse verify(TcbInfoMeasurementsAggregator tcbInfoMeasurementsAggregator,
                                            String refMeasurementHex) {
-        log.debug("Received TcbInfos from device: {}", tcbInfoMeasurementsAggregator.mapToString());
+        log.debug("Received TcbInfos from device: {}", lazy(tcbInfoMeasurementsAggregator::mapToString));
 
         try {
             return Optional.of(refMeasurementHex)
                 .filter(StringUtils::isNotBlank)
                 .map(rimService::getMeasurements)
-                    .map(holder -> {
-                        addEndorsedMeasurementsToDeviceMeasurements(tcbInfoMeasurementsAggregator, holder);
-                        return holder;
-                    }).map(holder -> verifyReferenceWithDeviceMeasurements(tcbInfoMeasurementsAggregator, holder))
+                    .map(rim -> {
+                        addEndorsedMeasurementsToDeviceMeasurements(tcbInfoMeasurementsAggregator,
+                            rim.getMeasurements());
+                        return rim;
+                    }).map(rim -> verifyReferenceWithDeviceMeasurements(tcbInfoMeasurementsAggregator, rim))
                 .orElseGet(this::getResponseForEmptyRim);
 
         } catch (Exception e) {
@@ -84,10 +88,10 @@ public class EvidenceVerifier {
     }
 
     private VerifierExchangeResponse verifyReferenceWithDeviceMeasurements(
-        TcbInfoMeasurementsAggregator tcbInfoMeasurementsAggregator, MeasurementHolder measurementHolder) {
-        return Optional.of(measurementHolder.getReferenceMeasurements())
-            .filter(tcbInfoMeasurements -> !tcbInfoMeasurements.isEmpty())
-            .map(tcbInfoMeasurements -> verifyInternal(tcbInfoMeasurements, tcbInfoMeasurementsAggregator))
+        TcbInfoMeasurementsAggregator tcbInfoMeasurementsAggregator, RimMeasurements rim) {
+        return Optional.of(rim.getReferences())
+            .filter(references -> !references.isEmpty())
+            .map(references -> verifyInternal(references, tcbInfoMeasurementsAggregator))
             .orElseGet(this::getResponseForEmptyRim);
     }
 
@@ -99,39 +103,65 @@ public class EvidenceVerifier {
             .orElse(Collections.emptyList()));
     }
 
-    private VerifierExchangeResponse verifyInternal(List<TcbInfoMeasurement> expectedTcbInfoMeasurements,
+    private VerifierExchangeResponse verifyInternal(List<CompiledReference> references,
                                                     TcbInfoMeasurementsAggregator tcbInfoMeasurementsAggregator) {
 
         log.info("*** VERIFYING EVIDENCE AGAINST RIM ***");
 
-        final Map<TcbInfoKey, TcbInfoValue> tcbInfoResponseMap = tcbInfoMeasurementsAggregator.getMap();
+        final List<MeasurementMismatch> mismatches = findMismatches(references, tcbInfoMeasurementsAggregator.getMap());
+        if (!mismatches.isEmpty()) {
+            log.error("Evidence verification failed for {} of {} measurements:{}",
+                mismatches.size(), references.size(), lazy(() -> toReport(mismatches)));
+            return VerifierExchangeResponse.FAIL;
+        }
 
-        for (TcbInfoMeasurement measurement : expectedTcbInfoMeasurements) {
-            log.info("Verification of measurement: {}", measurement.getKey());
-            log.debug("Reference value: {}", measurement.getValue());
+        return VerifierExchangeResponse.OK;
+    }
 
-            if (!tcbInfoResponseMap.containsKey(measurement.getKey())) {
+    /**
+     * Matches every reference measurement against device evidence.
+     *
+     * @return mismatch for each reference measurement missing in evidence or having different value
+     */
+    List<MeasurementMismatch> findMismatches(List<CompiledReference> references,
+                                             Map<TcbInfoKey, TcbInfoValue> tcbInfoResponseMap) {
+        final List<MeasurementMismatch> mismatches = new ArrayList<>();
+
+        for (CompiledReference reference : references) {
+            log.info("Verification of measurement: {}", reference.key());
+            log.debug("Reference value: {}", reference.value());
+
+            final TcbInfoValue responseValue = tcbInfoResponseMap.get(reference.key());
+            if (responseValue == null) {
                 log.error(VerificationStatusLogger.failure(EVIDENCE_VERIFICATION_MESSAGE));
                 log.error("Response does not contain expected key.");
-                return VerifierExchangeResponse.FAIL;
+                mismatches.add(new MeasurementMismatch(reference.key().copy(), reference.value().copy(), null));
+                continue;
             }
 
-            final TcbInfoValue responseValue = tcbInfoResponseMap.get(measurement.getKey());
             log.debug("Received value: {}", responseValue);
 
-            if (!responseValue.matchesReferenceValue(measurement.getValue())) {
+            if (!reference.matcher().matches(responseValue)) {
                 log.error("""
                     Evidence verification failed.
                     Reference: {}
                     Actual:    {}
-                    """, measurement.getValue(), responseValue);
-                return VerifierExchangeResponse.FAIL;
+                    """, reference.value(), responseValue);
+                mismatches.add(new MeasurementMismatch(reference.key().copy(), reference.value().copy(),
+                    responseValue));
+                continue;
             }
 
             log.info(VerificationStatusLogger.success(EVIDENCE_VERIFICATION_MESSAGE));
         }
 
-        return VerifierExchangeResponse.OK;
+        return mismatches;
+    }
+
+    private static String toReport(List<MeasurementMismatch> mismatches) {
+        return mismatches.stream()
+            .map(MeasurementMismatch::toString)
+            .collect(Collectors.joining(System.lineSeparator(), System.lineSeparator(), ""));
     }
 
     private VerifierExchangeResponse getResponseForEmptyRim() {
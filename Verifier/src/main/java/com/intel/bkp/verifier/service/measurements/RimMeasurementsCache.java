@@ -0,0 +1,122 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2023 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.verifier.service.measurements;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Keeps measurements of already verified RIMs keyed by SHA-384 of RIM content, so that RIM shared by many devices
+ * is parsed, verified and compiled once. Entry expires at the earliest of time reported by RIM handler and configured
+ * max TTL, which also bounds how long an XCoRIM deny list update may go unnoticed. When the cache is full, least
+ * recently used entry is evicted.
+ *
+ * <p>Measurements are copied when put and when returned, so callers never share mutable state with the cache.
+ * Compiled references are immutable and shared by all callers.</p>
+ */
+@Slf4j
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class RimMeasurementsCache {
+
+    static final int MAX_ENTRIES = 256;
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+    private final Duration maxTtl;
+    private final Clock clock;
+
+    public RimMeasurementsCache(Duration maxTtl) {
+        this(maxTtl, Clock.systemUTC());
+    }
+
+    public static RimMeasurementsCache disabled() {
+        return new RimMeasurementsCache(Duration.ZERO);
+    }
+
+    public synchronized Optional<RimMeasurements> get(String rimHash) {
+        final Entry entry = entries.get(rimHash);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (isExpired(entry)) {
+            entries.remove(rimHash);
+            return Optional.empty();
+        }
+        log.debug("Using cached measurements of RIM: {}", rimHash);
+        return Optional.of(entry.rim().copy());
+    }
+
+    public synchronized void put(String rimHash, RimMeasurements rim, Instant validUntil) {
+        final Instant maxExpiresAt = clock.instant().plus(maxTtl);
+        final Instant expiresAt = validUntil.isBefore(maxExpiresAt) ? validUntil : maxExpiresAt;
+        if (!expiresAt.isAfter(clock.instant())) {
+            return;
+        }
+
+        if (entries.size() >= MAX_ENTRIES) {
+            entries.values().removeIf(this::isExpired);
+        }
+
+        log.debug("Caching measurements of RIM {} until {}", rimHash, expiresAt);
+        entries.put(rimHash, new Entry(rim.copy(), expiresAt));
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private boolean isExpired(Entry entry) {
+        return !entry.expiresAt().isAfter(clock.instant());
+    }
+
+    private record Entry(RimMeasurements rim, Instant expiresAt) {
+
+    }
+}
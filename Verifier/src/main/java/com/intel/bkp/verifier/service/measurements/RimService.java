@@ -35,53 +35,80 @@ package com.intel.bkp.verifier.service.measurements;
 
 import com.intel.bkp.fpgacerts.cbor.service.CoRimHandler;
 import com.intel.bkp.fpgacerts.cbor.service.IRimHandler;
-import com.intel.bkp.fpgacerts.dice.tcbinfo.MeasurementHolder;
 import com.intel.bkp.fpgacerts.utils.VerificationStatusLogger;
 import com.intel.bkp.verifier.exceptions.VerifierRuntimeException;
 import com.intel.bkp.verifier.rim.service.JsonRimHandler;
 import com.intel.bkp.verifier.service.certificate.AppContext;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.List;
 import java.util.Optional;
 
+import static com.intel.bkp.crypto.impl.HashUtils.generateFingerprint;
+import static com.intel.bkp.utils.HexConverter.fromHex;
 import static java.util.Objects.nonNull;
 
 @Slf4j
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
 public class RimService {
 
     private static final String PARSED_MSG_TEMPLATE = "Parsed RIM as CoRIM in %s format.";
 
     private final List<IRimHandler<?>> rimHandlers;
+    private final RimMeasurementsCache rimMeasurementsCache;
 
     public RimService() {
         this(AppContext.instance());
     }
 
     RimService(AppContext appContext) {
-        this.rimHandlers = List.of(
-            new CoRimHandler(appContext.getDpConnector(),
-                appContext.getDpTrustedRootHashes(),
-                appContext.getLibConfig().isAcceptUnsignedCorim()),
-            new JsonRimHandler()
+        this(List.of(
+                new CoRimHandler(appContext.getDpConnector(),
+                    appContext.getDpTrustedRootHashes(),
+                    appContext.getLibConfig().isAcceptUnsignedCorim()),
+                new JsonRimHandler()
+            ),
+            appContext.getRimMeasurementsCache()
         );
     }
 
-    public MeasurementHolder getMeasurements(String refMeasurementHex) {
-        Optional<MeasurementHolder> measurements = Optional.empty();
+    public RimMeasurements getMeasurements(String refMeasurementHex) {
+        final Optional<String> rimHash = getRimHash(refMeasurementHex);
+        return rimHash
+            .flatMap(rimMeasurementsCache::get)
+            .orElseGet(() -> parseAndVerify(refMeasurementHex, rimHash));
+    }
+
+    private RimMeasurements parseAndVerify(String refMeasurementHex, Optional<String> rimHash) {
+        Optional<RimMeasurements> measurements = Optional.empty();
         final var it = rimHandlers.listIterator();
         while (measurements.isEmpty() && it.hasNext()) {
             final var rimHandler = it.next();
-            measurements = getMeasurements(refMeasurementHex, rimHandler);
+            measurements = getMeasurements(refMeasurementHex, rimHash, rimHandler);
         }
         return measurements
             .orElseThrow(() -> new VerifierRuntimeException("Unknown RIM content format."));
     }
 
-    private <T> Optional<MeasurementHolder> getMeasurements(String refMeasurementHex,
-                                                                   IRimHandler<T> rimHandler) {
+    private <T> Optional<RimMeasurements> getMeasurements(String refMeasurementHex, Optional<String> rimHash,
+                                                          IRimHandler<T> rimHandler) {
         final Optional<T> parsedRim = parse(refMeasurementHex, rimHandler);
-        return parsedRim.map(rimHandler::getMeasurements);
+        final Optional<RimMeasurements> measurements = parsedRim
+            .map(rimHandler::getMeasurements)
+            .map(RimMeasurements::from);
+        measurements.ifPresent(rim -> rimHash.ifPresent(
+            hash -> rimMeasurementsCache.put(hash, rim, rimHandler.getMeasurementsValidUntil())));
+        return measurements;
+    }
+
+    private static Optional<String> getRimHash(String refMeasurementHex) {
+        try {
+            return Optional.of(generateFingerprint(fromHex(refMeasurementHex)));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
     }
 
     private <T> Optional<T> parse(String refMeasurementHex, IRimHandler<T> rimHandler) {
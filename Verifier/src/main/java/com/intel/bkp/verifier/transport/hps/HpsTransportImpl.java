@@ -39,7 +39,7 @@ import com.intel.bkp.verifier.transport.tcp.TcpConfig;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
-import static com.intel.bkp.utils.HexConverter.toHex;
+import static com.intel.bkp.utils.LazyLog.hex;
 
 @Slf4j
 public class HpsTransportImpl implements TransportLayer {
@@ -54,9 +54,9 @@ public class HpsTransportImpl implements TransportLayer {
 
     @Override
     public byte[] sendCommand(byte[] command) {
-        log.trace("Sending command: {}", toHex(command));
+        log.trace("Sending command: {}", hex(command));
         byte[] result = client.sendPacket(command);
-        log.trace("Command result: {}", toHex(result));
+        log.trace("Command result: {}", hex(result));
         return result;
     }
 
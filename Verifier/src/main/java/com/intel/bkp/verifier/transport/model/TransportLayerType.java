@@ -36,13 +36,20 @@ package com.intel.bkp.verifier.transport.model;
 import com.intel.bkp.verifier.transport.hps.HpsTransportImpl;
 import com.intel.bkp.verifier.transport.systemconsole.SystemConsoleTransportImpl;
 import lombok.AllArgsConstructor;
-import lombok.Getter;
 
-@Getter
+import java.util.function.Supplier;
+
 @AllArgsConstructor
 public enum TransportLayerType {
-    SYSTEM_CONSOLE(new SystemConsoleTransportImpl()),
-    HPS(new HpsTransportImpl());
+    SYSTEM_CONSOLE(SystemConsoleTransportImpl::new),
+    HPS(HpsTransportImpl::new);
+
+    private final Supplier<TransportLayer> transportLayerFactory;
 
-    private TransportLayer transportLayer;
+    /**
+     * Creates new transport layer instance - each device connection requires its own instance.
+     */
+    public TransportLayer createTransportLayer() {
+        return transportLayerFactory.get();
+    }
 }
@@ -39,7 +39,29 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class EscapeUtils {
 
+    /**
+     * Removes TCL braces and brackets, so data cannot change structure of the script.
+     */
     public static String escape(String str) {
-        return str.replaceAll("\\{|\\}|\\[|\\]", "");
+        int firstToRemove = 0;
+        while (firstToRemove < str.length() && !isToRemove(str.charAt(firstToRemove))) {
+            firstToRemove++;
+        }
+        if (firstToRemove == str.length()) {
+            return str;
+        }
+
+        final StringBuilder sb = new StringBuilder(str.length()).append(str, 0, firstToRemove);
+        for (int i = firstToRemove + 1; i < str.length(); i++) {
+            final char c = str.charAt(i);
+            if (!isToRemove(c)) {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static boolean isToRemove(char c) {
+        return c == '{' || c == '}' || c == '[' || c == ']';
     }
 }
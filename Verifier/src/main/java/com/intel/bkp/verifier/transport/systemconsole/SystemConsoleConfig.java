@@ -33,6 +33,7 @@
 
 package com.intel.bkp.verifier.transport.systemconsole;
 
+import com.intel.bkp.verifier.transport.tcp.ResponseFraming;
 import com.intel.bkp.verifier.transport.tcp.TcpConfig;
 import lombok.Getter;
 import lombok.experimental.SuperBuilder;
@@ -49,7 +50,7 @@ public class SystemConsoleConfig extends TcpConfig {
     private Integer cableId;
 
     public SystemConsoleConfig(String transportId) {
-        super(transportId);
+        super(transportId, ResponseFraming.FIXED);
 
         final String transportIdFormatted = removeWhitespaces(transportId);
         cableId = Optional.ofNullable(parseInteger(transportIdFormatted, PATTERN_CABLE, ERROR_CABLE))
@@ -33,40 +33,55 @@
 
 package com.intel.bkp.verifier.transport.systemconsole;
 
-import com.intel.bkp.utils.ByteSwap;
-import com.intel.bkp.utils.ByteSwapOrder;
-import com.intel.bkp.utils.HexConverter;
+import com.intel.bkp.utils.exceptions.ByteBufferSafeException;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
 import java.nio.ByteBuffer;
 import java.util.Arrays;
-import java.util.List;
-import java.util.stream.Collectors;
-
-import static com.intel.bkp.utils.HexConverter.toHex;
 
+/**
+ * Converts data to and from System Console format - little endian 4-byte words written as 0x01020304,
+ * separated with a whitespace. Conversion is done in a single pass, without intermediate per-word arrays.
+ */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class SystemConsoleHexConverter {
 
     private static final int WORD_SIZE = 4;
+    private static final String WORD_PREFIX = "0x";
+    private static final int WORD_HEX_LEN = 2 * WORD_SIZE;
+    private static final int ENCODED_WORD_LEN = WORD_PREFIX.length() + WORD_HEX_LEN + 1;
+    private static final byte[] HEX_DIGITS = "0123456789ABCDEF".getBytes();
 
     public static String toString(byte[] array) {
-        if (array.length % WORD_SIZE != 0) {
-            throw new IllegalArgumentException("Array length must be multiple of 4.");
-        }
+        final ByteBuffer buffer = ByteBuffer.allocate(getEncodedLength(array));
+        writeTo(array, buffer);
+        return new String(buffer.array(), 0, buffer.position());
+    }
+
+    /**
+     * Number of ASCII characters written by {@link #writeTo(byte[], ByteBuffer)}.
+     */
+    public static int getEncodedLength(byte[] array) {
+        verifyWordAligned(array);
+        return array.length == 0 ? 0 : array.length / WORD_SIZE * ENCODED_WORD_LEN - 1;
+    }
+
+    /**
+     * Writes data as ASCII words directly into buffer, e.g. into script that is sent to socket.
+     */
+    public static void writeTo(byte[] array, ByteBuffer buffer) {
+        verifyWordAligned(array);
 
-        StringBuilder sb = new StringBuilder();
         for (int i = 0; i < array.length; i += WORD_SIZE) {
-            byte[] subarray = Arrays.copyOfRange(array, i, i + WORD_SIZE);
-            byte[] subarraySwapped = swapArrayDueToWordFormat(subarray);
-            sb
-                .append("0x")
-                .append(toHex(subarraySwapped))
-                .append(i + WORD_SIZE == array.length ? "" : " ");
+            if (i > 0) {
+                buffer.put((byte) ' ');
+            }
+            buffer.put((byte) '0').put((byte) 'x');
+            for (int j = i + WORD_SIZE - 1; j >= i; j--) {
+                buffer.put(HEX_DIGITS[(array[j] >> 4) & 0xF]).put(HEX_DIGITS[array[j] & 0xF]);
+            }
         }
-
-        return sb.toString();
     }
 
     public static byte[] fromString(String result) {
@@ -74,31 +89,66 @@ public class SystemConsoleHexConverter {
             return new byte[0];
         }
 
-        List<byte[]> byteArrays = Arrays.stream(result.split("0x"))
-            .map(String::trim)
-            .filter(s -> !s.isBlank())
-            .map(HexConverter::fromHex)
-            .map(SystemConsoleHexConverter::swapArrayDueToWordFormat)
-            .collect(Collectors.toList());
+        // every word takes at least 10 characters: 0x prefix and 8 hex digits
+        final byte[] output = new byte[(result.length() / (WORD_PREFIX.length() + WORD_HEX_LEN) + 1) * WORD_SIZE];
+        int outputLen = 0;
+        int tokenStart = 0;
+        while (tokenStart <= result.length()) {
+            final int prefixIdx = result.indexOf(WORD_PREFIX, tokenStart);
+            final int tokenEnd = prefixIdx < 0 ? result.length() : prefixIdx;
+            outputLen = decodeWord(result, tokenStart, tokenEnd, output, outputLen);
+            tokenStart = tokenEnd + WORD_PREFIX.length();
+        }
 
-        if (byteArrays.stream().anyMatch(bytes -> bytes.length != WORD_SIZE)) {
+        return Arrays.copyOf(output, outputLen);
+    }
+
+    private static int decodeWord(String str, int start, int end, byte[] output, int outputLen) {
+        while (start < end && Character.isWhitespace(str.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(str.charAt(end - 1))) {
+            end--;
+        }
+        final int len = end - start;
+        if (len == 0) {
+            return outputLen;
+        }
+        if (len % 2 != 0) {
+            throw new IllegalArgumentException("Failed to decode HEX string");
+        }
+        if (len != WORD_HEX_LEN) {
+            verifyHexDigits(str, start, end);
+            if (len / 2 % WORD_SIZE != 0) {
+                throw new ByteBufferSafeException("Length of the word (%d) is not a multiple of %d."
+                    .formatted(len / 2, WORD_SIZE));
+            }
             throw new IllegalArgumentException("String must contain 4-byte words separated with 0x and a whitespace.");
         }
 
-        return joinArrays(byteArrays);
+        for (int i = start + WORD_HEX_LEN - 2; i >= start; i -= 2) {
+            output[outputLen++] = (byte) ((toDigit(str.charAt(i)) << 4) | toDigit(str.charAt(i + 1)));
+        }
+        return outputLen;
     }
 
-    private static byte[] joinArrays(List<byte[]> byteArrays) {
-        ByteBuffer buffer = ByteBuffer.allocate(getTotalNumberOfBytes(byteArrays));
-        byteArrays.forEach(buffer::put);
-        return buffer.array();
+    private static void verifyHexDigits(String str, int start, int end) {
+        for (int i = start; i < end; i++) {
+            toDigit(str.charAt(i));
+        }
     }
 
-    private static byte[] swapArrayDueToWordFormat(byte[] array) {
-        return ByteSwap.getSwappedArrayByInt(array, ByteSwapOrder.CONVERT);
+    private static int toDigit(char c) {
+        final int digit = Character.digit(c, 16);
+        if (digit < 0) {
+            throw new IllegalArgumentException("Failed to decode HEX string");
+        }
+        return digit;
     }
 
-    private static int getTotalNumberOfBytes(List<byte[]> byteArrays) {
-        return byteArrays.stream().mapToInt(value -> value.length).sum();
+    private static void verifyWordAligned(byte[] array) {
+        if (array.length % WORD_SIZE != 0) {
+            throw new IllegalArgumentException("Array length must be multiple of 4.");
+        }
     }
 }
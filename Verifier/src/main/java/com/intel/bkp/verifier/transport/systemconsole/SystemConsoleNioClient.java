@@ -40,16 +40,28 @@ import org.apache.commons.lang3.StringUtils;
 
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 @Slf4j
 public class SystemConsoleNioClient extends TcpClient {
 
+    private static final Pattern RESPONSE_NOISE =
+        Pattern.compile("puts stdout|\"|tcl>|return\\s(.*)|COMMAND\\s=\\s(.*)|COMMAND_RESULT\\s=\\s");
+
     /**
      * Sends packet using socket with or without response.
      */
     public String sendPacket(String currentCommand) {
-        final byte[] responseBytes = sendPacket(currentCommand.getBytes(StandardCharsets.UTF_8));
+        return sendScript(currentCommand.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Sends already encoded script and returns processed response.
+     */
+    public String sendScript(byte[] script) {
+        final byte[] responseBytes = sendPacket(script);
         final String fullResponse = new String(responseBytes);
         log.trace("Full response: {}", fullResponse);
         final String processedResponse = processResponse(fullResponse);
@@ -62,9 +74,9 @@ public class SystemConsoleNioClient extends TcpClient {
     }
 
     private String processResponse(String response) {
-        final String replacePattern = "puts stdout|\"|tcl>|return\\s(.*)|COMMAND\\s=\\s(.*)|COMMAND_RESULT\\s=\\s";
+        final Matcher matcher = RESPONSE_NOISE.matcher("");
         return Arrays.stream(response.split(System.lineSeparator()))
-            .map(s -> s.replaceAll(replacePattern, "").trim())
+            .map(s -> matcher.reset(s).replaceAll("").trim())
             .filter(StringUtils::isNotBlank)
             .collect(Collectors.joining());
     }
@@ -37,6 +37,8 @@ import com.intel.bkp.verifier.transport.model.TransportLayer;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
+import static com.intel.bkp.utils.LazyLog.lazy;
+
 @Slf4j
 public class SystemConsoleTransportImpl implements TransportLayer {
 
@@ -54,9 +56,8 @@ public class SystemConsoleTransportImpl implements TransportLayer {
 
     @Override
     public byte[] sendCommand(byte[] command) {
-        String formattedHexCommand = SystemConsoleHexConverter.toString(command);
-        log.trace("Sending command: {}", formattedHexCommand);
-        String result = client.sendPacket(TCL_COMMANDS.sendPacket(formattedHexCommand));
+        log.trace("Sending command: {}", lazy(() -> SystemConsoleHexConverter.toString(command)));
+        String result = client.sendScript(TCL_COMMANDS.sendPacket(command));
         log.trace("Command result: {}", result);
         return SystemConsoleHexConverter.fromString(result);
     }
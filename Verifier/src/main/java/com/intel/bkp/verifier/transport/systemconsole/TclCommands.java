@@ -41,6 +41,9 @@ import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.Optional;
 
+/**
+ * Scripts are loaded from resources and compiled once per instance, then only placeholders are filled in.
+ */
 public class TclCommands {
 
     private static final String SYSTEM_CONSOLE_RESOURCE_PATH = "system-console/";
@@ -49,9 +52,13 @@ public class TclCommands {
     static final String CABLE_ID = "!!CABLE_ID!!";
     static final String COMMAND = "!!COMMAND!!";
 
+    private final TclScriptTemplate initializeScript =
+        TclScriptTemplate.compile(loadScriptFile("initialize-script.txt"), CABLE_ID);
+    private final TclScriptTemplate sendPacketScript =
+        TclScriptTemplate.compile(loadScriptFile("send-packet-script.txt"), COMMAND);
+
     public String initialize(Integer cableId) {
-        final String scriptRaw = loadScriptFile("initialize-script.txt");
-        return scriptRaw.replaceAll(CABLE_ID,
+        return initializeScript.render(
             Optional.ofNullable(cableId)
                 .map(String::valueOf)
                 .orElse(EMPTY_CABLE_ID)
@@ -59,8 +66,15 @@ public class TclCommands {
     }
 
     public String sendPacket(String command) {
-        final String scriptRaw = loadScriptFile("send-packet-script.txt");
-        return scriptRaw.replaceAll(COMMAND, EscapeUtils.escape(command));
+        return sendPacketScript.render(EscapeUtils.escape(command));
+    }
+
+    /**
+     * Binary variant of {@link #sendPacket(String)} - command is written as System Console words
+     * directly into script bytes. Words contain no characters that need escaping.
+     */
+    public byte[] sendPacket(byte[] command) {
+        return sendPacketScript.render(command);
     }
 
     private String loadScriptFile(String scriptFile) {
@@ -0,0 +1,95 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2023 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.verifier.transport.systemconsole;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * TCL script split into literal parts around a placeholder, so rendering is a plain concatenation.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+class TclScriptTemplate {
+
+    private final String[] parts;
+    private final byte[][] partsBytes;
+    private final int partsLength;
+
+    static TclScriptTemplate compile(String script, String placeholder) {
+        final List<String> parts = new ArrayList<>();
+        int start = 0;
+        for (int idx = script.indexOf(placeholder); idx >= 0; idx = script.indexOf(placeholder, start)) {
+            parts.add(script.substring(start, idx));
+            start = idx + placeholder.length();
+        }
+        parts.add(script.substring(start));
+
+        final byte[][] partsBytes = parts.stream()
+            .map(part -> part.getBytes(StandardCharsets.UTF_8))
+            .toArray(byte[][]::new);
+        int partsLength = 0;
+        for (byte[] partBytes : partsBytes) {
+            partsLength += partBytes.length;
+        }
+        return new TclScriptTemplate(parts.toArray(String[]::new), partsBytes, partsLength);
+    }
+
+    String render(String value) {
+        final StringBuilder sb = new StringBuilder(partsLength + (parts.length - 1) * value.length());
+        sb.append(parts[0]);
+        for (int i = 1; i < parts.length; i++) {
+            sb.append(value).append(parts[i]);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Renders script as UTF-8 bytes with data written as System Console words in place of placeholder.
+     */
+    byte[] render(byte[] data) {
+        final int encodedLength = SystemConsoleHexConverter.getEncodedLength(data);
+        final ByteBuffer buffer = ByteBuffer.allocate(partsLength + (parts.length - 1) * encodedLength);
+        buffer.put(partsBytes[0]);
+        for (int i = 1; i < partsBytes.length; i++) {
+            SystemConsoleHexConverter.writeTo(data, buffer);
+            buffer.put(partsBytes[i]);
+        }
+        return buffer.array();
+    }
+}
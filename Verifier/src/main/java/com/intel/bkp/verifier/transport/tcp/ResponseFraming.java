@@ -0,0 +1,100 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2023 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.verifier.transport.tcp;
+
+import com.intel.bkp.command.exception.CommandHeaderValidationException;
+import com.intel.bkp.command.header.CommandHeaderManager;
+import com.intel.bkp.verifier.exceptions.TransportLayerException;
+
+import java.util.Arrays;
+
+/**
+ * Defines how TcpClient decides that a complete response was received.
+ */
+public enum ResponseFraming {
+
+    /**
+     * Response starts with mailbox command header - its length field defines number of argument words that follow.
+     */
+    MAILBOX {
+        @Override
+        int getFrameLength(byte[] buffer, int received) {
+            if (received < MAILBOX_HEADER_LEN) {
+                return UNKNOWN_LENGTH;
+            }
+
+            try {
+                final byte[] header = Arrays.copyOf(buffer, MAILBOX_HEADER_LEN);
+                return MAILBOX_HEADER_LEN
+                    + CommandHeaderManager.parseFromFw(header).getArgumentsSize() * Integer.BYTES;
+            } catch (CommandHeaderValidationException e) {
+                throw new TransportLayerException("Failed to parse mailbox header of response.", e);
+            }
+        }
+    },
+
+    /**
+     * Response length is unknown - response is whatever arrived within fixed wait time after sending the command.
+     * Slow, but does not depend on the device sending the response without pauses.
+     */
+    FIXED {
+        @Override
+        int getFrameLength(byte[] buffer, int received) {
+            return UNKNOWN_LENGTH;
+        }
+    },
+
+    /**
+     * Response length is unknown - response is complete when no more data arrives within idle timeout.
+     * Device pausing for longer than idle timeout in the middle of a response makes it truncated, so idle timeout
+     * must exceed the longest gap expected on the link.
+     */
+    IDLE {
+        @Override
+        int getFrameLength(byte[] buffer, int received) {
+            return UNKNOWN_LENGTH;
+        }
+    };
+
+    static final int UNKNOWN_LENGTH = -1;
+    private static final int MAILBOX_HEADER_LEN = Integer.BYTES;
+
+    /**
+     * Returns expected length of the whole response or UNKNOWN_LENGTH if it cannot be determined yet.
+     *
+     * @param buffer buffer with received bytes
+     * @param received number of bytes received so far
+     */
+    abstract int getFrameLength(byte[] buffer, int received);
+}
@@ -39,19 +39,35 @@ import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
 import java.nio.ByteBuffer;
 import java.nio.channels.SocketChannel;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static com.intel.bkp.verifier.transport.tcp.ResponseFraming.UNKNOWN_LENGTH;
 
 @Slf4j
 public class TcpClient {
 
-    private static final int SLEEP_BEFORE_READ_RESPONSE = 1000; // 1 second
     static final int RESPONSE_ALLOCATED_SIZE = 1024 * 32;
+    static final int SLEEP_BEFORE_READ_RESPONSE = 1000; // 1 second
 
     @Setter
     private SocketChannel socketChannel;
 
+    @Setter
+    private ResponseFraming framing = ResponseFraming.MAILBOX;
+
+    @Setter
+    private int readTimeout = TcpConfig.DEFAULT_READ_TIMEOUT_MS;
+
+    @Setter
+    private int idleTimeout = TcpConfig.DEFAULT_IDLE_TIMEOUT_MS;
+
     /**
      * Opens socket connection to Tcp server.
      *
@@ -62,6 +78,10 @@ public class TcpClient {
         try {
             InetSocketAddress socketAddress = new InetSocketAddress(config.getHost(), config.getPort());
             socketChannel = SocketChannel.open(socketAddress);
+            socketChannel.socket().setTcpNoDelay(true);
+            framing = config.getFraming();
+            readTimeout = config.getReadTimeout();
+            idleTimeout = config.getIdleTimeout();
         } catch (Exception e) {
             throw new TransportLayerException("Failed to open socket", e);
         }
@@ -77,29 +97,24 @@ public class TcpClient {
         }
     }
 
+    /**
+     * Sends packet and waits until complete response is received according to configured framing.
+     *
+     * @param currentCommand command to send
+     * @return response bytes
+     * @throws TransportLayerException if response is not complete within read timeout or exceeds max size
+     */
     public byte[] sendPacket(byte[] currentCommand) {
         if (socketChannel == null) {
             throw new TransportLayerException("Connection to not initialized.");
         }
 
         try {
-            socketChannel.write(ByteBuffer.wrap(currentCommand));
-            Thread.sleep(SLEEP_BEFORE_READ_RESPONSE);
-            ByteBuffer responseBuffer = ByteBuffer.allocate(RESPONSE_ALLOCATED_SIZE);
-            final int readBytesCnt = socketChannel.read(responseBuffer);
-            log.trace("Read {} bytes from socket.", readBytesCnt);
-            if (readBytesCnt <= 0) {
-                throw new TransportLayerException("No response bytes received.");
+            final ByteBuffer commandBuffer = ByteBuffer.wrap(currentCommand);
+            while (commandBuffer.hasRemaining()) {
+                socketChannel.write(commandBuffer);
             }
-            if (readBytesCnt >= RESPONSE_ALLOCATED_SIZE) {
-                throw new TransportLayerException("Response exceeded max allocated size.");
-            }
-
-            final byte[] response = new byte[readBytesCnt];
-            responseBuffer.rewind();
-            responseBuffer.get(response);
-
-            return response;
+            return framing == ResponseFraming.FIXED ? readResponseAfterFixedWait() : readResponse();
         } catch (IOException e) {
             throw new TransportLayerException("Failed to send packet", e);
         } catch (InterruptedException e) {
@@ -107,4 +122,76 @@ public class TcpClient {
             throw new TransportLayerException("Failed to send packet", e);
         }
     }
+
+    private byte[] readResponseAfterFixedWait() throws IOException, InterruptedException {
+        Thread.sleep(SLEEP_BEFORE_READ_RESPONSE);
+        final ByteBuffer responseBuffer = ByteBuffer.allocate(RESPONSE_ALLOCATED_SIZE);
+        final int readBytesCnt = socketChannel.read(responseBuffer);
+        log.trace("Read {} bytes from socket.", readBytesCnt);
+        if (readBytesCnt <= 0) {
+            throw new TransportLayerException("No response bytes received.");
+        }
+        if (readBytesCnt >= RESPONSE_ALLOCATED_SIZE) {
+            throw new TransportLayerException("Response exceeded max allocated size.");
+        }
+
+        return Arrays.copyOf(responseBuffer.array(), readBytesCnt);
+    }
+
+    private byte[] readResponse() throws IOException {
+        final Socket socket = socketChannel.socket();
+        final InputStream inputStream = socket.getInputStream();
+        final byte[] responseBuffer = new byte[RESPONSE_ALLOCATED_SIZE];
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(readTimeout);
+
+        int readBytesCnt = 0;
+        int expectedBytesCnt = UNKNOWN_LENGTH;
+        while (expectedBytesCnt == UNKNOWN_LENGTH || readBytesCnt < expectedBytesCnt) {
+            final boolean waitingForIdle = readBytesCnt > 0 && expectedBytesCnt == UNKNOWN_LENGTH;
+            final int timeLeft = getMillisLeft(deadline);
+            if (timeLeft <= 0) {
+                throw new TransportLayerException("Timed out waiting for response.");
+            }
+
+            socket.setSoTimeout(waitingForIdle ? Math.min(idleTimeout, timeLeft) : timeLeft);
+            final int chunkSize;
+            try {
+                chunkSize = inputStream.read(responseBuffer, readBytesCnt, responseBuffer.length - readBytesCnt);
+            } catch (SocketTimeoutException e) {
+                if (waitingForIdle) {
+                    break;
+                }
+                throw new TransportLayerException("Timed out waiting for response.", e);
+            }
+
+            if (chunkSize < 0) {
+                break;
+            }
+
+            readBytesCnt += chunkSize;
+            if (readBytesCnt >= RESPONSE_ALLOCATED_SIZE) {
+                throw new TransportLayerException("Response exceeded max allocated size.");
+            }
+            expectedBytesCnt = framing.getFrameLength(responseBuffer, readBytesCnt);
+            if (expectedBytesCnt >= RESPONSE_ALLOCATED_SIZE) {
+                throw new TransportLayerException("Response exceeded max allocated size.");
+            }
+        }
+
+        log.trace("Read {} bytes from socket.", readBytesCnt);
+        if (readBytesCnt <= 0) {
+            throw new TransportLayerException("No response bytes received.");
+        }
+        if (expectedBytesCnt != UNKNOWN_LENGTH && readBytesCnt < expectedBytesCnt) {
+            throw new TransportLayerException(String.format(
+                "Connection closed after %d of %d response bytes.", readBytesCnt, expectedBytesCnt));
+        }
+
+        return Arrays.copyOf(responseBuffer, readBytesCnt);
+    }
+
+    private static int getMillisLeft(long deadline) {
+        final long nanosLeft = deadline - System.nanoTime();
+        return (int) Math.min(Integer.MAX_VALUE, TimeUnit.NANOSECONDS.toMillis(nanosLeft));
+    }
 }
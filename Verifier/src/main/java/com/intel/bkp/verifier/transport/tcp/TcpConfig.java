@@ -34,10 +34,12 @@
 package com.intel.bkp.verifier.transport.tcp;
 
 import com.intel.bkp.verifier.utils.RegexUtils;
+import lombok.Builder;
 import lombok.Getter;
 import lombok.experimental.SuperBuilder;
 import org.apache.commons.lang3.StringUtils;
 
+import java.util.Locale;
 import java.util.Optional;
 
 @Getter
@@ -47,18 +49,54 @@ public class TcpConfig {
     private static final String ERROR_HOST = "Error parsing host in transportId";
     private static final String ERROR_PORT = "Error parsing port number in transportId";
     private static final String ERROR_PORT_NULL = "\"port\" parameter in transportId must not be null.";
+    private static final String ERROR_FRAMING = "Error parsing framing in transportId";
+    private static final String ERROR_READ_TIMEOUT = "Error parsing readTimeout in transportId";
+    private static final String ERROR_IDLE_TIMEOUT = "Error parsing idleTimeout in transportId";
+    private static final String ERROR_TIMEOUT_NOT_POSITIVE = "Timeout in transportId must be a positive integer.";
     private static final String PATTERN_HOST = "host:([^;]*)";
     private static final String PATTERN_PORT = "port:([^;]*)";
+    private static final String PATTERN_FRAMING = "framing:([^;]*)";
+    private static final String PATTERN_READ_TIMEOUT = "readTimeout:([^;]*)";
+    private static final String PATTERN_IDLE_TIMEOUT = "idleTimeout:([^;]*)";
+
+    static final int DEFAULT_READ_TIMEOUT_MS = 30000;
+    static final int DEFAULT_IDLE_TIMEOUT_MS = 200;
 
     private String host;
     private Integer port;
 
+    @Builder.Default
+    private ResponseFraming framing = ResponseFraming.MAILBOX;
+
+    /**
+     * Max time in milliseconds to wait for the response to be complete.
+     */
+    @Builder.Default
+    private int readTimeout = DEFAULT_READ_TIMEOUT_MS;
+
+    /**
+     * Time in milliseconds without incoming data after which response is considered complete in IDLE framing.
+     * Every response in IDLE framing takes at least this long, and pauses longer than this truncate the response.
+     */
+    @Builder.Default
+    private int idleTimeout = DEFAULT_IDLE_TIMEOUT_MS;
+
     public TcpConfig(String transportId) {
+        this(transportId, ResponseFraming.MAILBOX);
+    }
+
+    protected TcpConfig(String transportId, ResponseFraming defaultFraming) {
         final String transportIdFormatted = removeWhitespaces(transportId);
 
         host = parseString(transportIdFormatted, PATTERN_HOST, ERROR_HOST);
         port = Optional.ofNullable(parseInteger(transportIdFormatted, PATTERN_PORT, ERROR_PORT))
             .orElseThrow(() -> new IllegalArgumentException(ERROR_PORT_NULL));
+        framing = Optional.ofNullable(parseFraming(transportIdFormatted))
+            .orElse(defaultFraming);
+        readTimeout = parseTimeout(transportIdFormatted, PATTERN_READ_TIMEOUT, ERROR_READ_TIMEOUT,
+            DEFAULT_READ_TIMEOUT_MS);
+        idleTimeout = parseTimeout(transportIdFormatted, PATTERN_IDLE_TIMEOUT, ERROR_IDLE_TIMEOUT,
+            DEFAULT_IDLE_TIMEOUT_MS);
     }
 
     protected static String removeWhitespaces(String str) {
@@ -83,4 +121,24 @@ public class TcpConfig {
             throw new IllegalArgumentException(errorMessage, e);
         }
     }
+
+    private static ResponseFraming parseFraming(String str) {
+        try {
+            return Optional.ofNullable(RegexUtils.getByPattern(str, PATTERN_FRAMING))
+                .filter(StringUtils::isNotBlank)
+                .map(framing -> ResponseFraming.valueOf(framing.toUpperCase(Locale.ROOT)))
+                .orElse(null);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(ERROR_FRAMING, e);
+        }
+    }
+
+    private static int parseTimeout(String str, String pattern, String errorMessage, int defaultValue) {
+        final int timeout = Optional.ofNullable(parseInteger(str, pattern, errorMessage))
+            .orElse(defaultValue);
+        if (timeout < 1) {
+            throw new IllegalArgumentException(ERROR_TIMEOUT_NOT_POSITIVE);
+        }
+        return timeout;
+    }
 }
@@ -38,6 +38,7 @@ import com.intel.bkp.core.properties.Proxy;
 import com.intel.bkp.core.properties.TrustStore;
 import com.intel.bkp.core.security.SecurityProviderParams;
 import com.intel.bkp.core.security.SecurityProviderParamsSetter;
+import com.intel.bkp.fpgacerts.dp.cache.DpResponseCacheConfig;
 import com.intel.bkp.verifier.exceptions.InternalLibraryException;
 import com.intel.bkp.verifier.exceptions.VerifierRuntimeException;
 import com.intel.bkp.verifier.model.AttestationCertificateFlow;
@@ -58,6 +59,7 @@ import java.net.URISyntaxException;
 import java.nio.file.FileSystemNotFoundException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Optional;
 import java.util.Properties;
@@ -67,21 +69,35 @@ import java.util.stream.Collectors;
 import static com.intel.bkp.protocol.spdm.jna.model.SpdmConstants.DEFAULT_CT_EXPONENT;
 import static com.intel.bkp.verifier.config.Properties.ACCEPT_UNSIGNED_CORIM;
 import static com.intel.bkp.verifier.config.Properties.DATABASE_CONFIGURATION_GROUP;
+import static com.intel.bkp.verifier.config.Properties.DATABASE_CONNECTION_POOL_SIZE;
+import static com.intel.bkp.verifier.config.Properties.DATABASE_INTERNAL_DATABASE;
+import static com.intel.bkp.verifier.config.Properties.DATABASE_READ_CACHE_ENABLED;
+import static com.intel.bkp.verifier.config.Properties.DATABASE_READ_CACHE_MAX_ENTRIES;
+import static com.intel.bkp.verifier.config.Properties.DP_CACHE_DEFAULT_MAX_AGE;
+import static com.intel.bkp.verifier.config.Properties.DP_CACHE_DISK_PATH;
+import static com.intel.bkp.verifier.config.Properties.DP_CACHE_ENABLED;
+import static com.intel.bkp.verifier.config.Properties.DP_CACHE_GROUP;
+import static com.intel.bkp.verifier.config.Properties.DP_CACHE_MAX_ENTRIES;
 import static com.intel.bkp.verifier.config.Properties.DISTRIBUTION_POINT_ATT_CERT_PATH;
 import static com.intel.bkp.verifier.config.Properties.DISTRIBUTION_POINT_GROUP;
 import static com.intel.bkp.verifier.config.Properties.DISTRIBUTION_POINT_MAIN_PATH;
 import static com.intel.bkp.verifier.config.Properties.DISTRIBUTION_POINT_PROXY_HOST;
 import static com.intel.bkp.verifier.config.Properties.DISTRIBUTION_POINT_PROXY_PORT;
+import static com.intel.bkp.verifier.config.Properties.ECDH_KEY_POOL_LOW_WATER_MARK;
+import static com.intel.bkp.verifier.config.Properties.ECDH_KEY_POOL_SIZE;
 import static com.intel.bkp.verifier.config.Properties.EC_GROUP;
 import static com.intel.bkp.verifier.config.Properties.KEY_TYPES_GROUP;
 import static com.intel.bkp.verifier.config.Properties.LIB_SPDM_CT_EXPONENT;
 import static com.intel.bkp.verifier.config.Properties.LIB_SPDM_MEASUREMENTS_REQUEST_SIGNATURE;
 import static com.intel.bkp.verifier.config.Properties.LIB_SPDM_PARAMS_GROUP;
 import static com.intel.bkp.verifier.config.Properties.LIB_SPDM_WRAPPER_LIBRARY_PATH;
+import static com.intel.bkp.verifier.config.Properties.MAX_CONCURRENT_ATTESTATIONS;
 import static com.intel.bkp.verifier.config.Properties.PROVIDER_GROUP;
 import static com.intel.bkp.verifier.config.Properties.PROVIDER_PARAMS_GROUP;
 import static com.intel.bkp.verifier.config.Properties.PROXY_GROUP;
 import static com.intel.bkp.verifier.config.Properties.REQUIRE_IID_UDS;
+import static com.intel.bkp.verifier.config.Properties.RIM_CACHE_MAX_TTL_SECONDS;
+import static com.intel.bkp.verifier.config.Properties.SPDM_CONNECTION_CACHE_MAX_TTL_SECONDS;
 import static com.intel.bkp.verifier.config.Properties.RUN_GP_ATTESTATION;
 import static com.intel.bkp.verifier.config.Properties.SECURITY_GROUP;
 import static com.intel.bkp.verifier.config.Properties.TEST_MODE_SECRETS;
@@ -102,6 +118,11 @@ import static com.intel.bkp.verifier.config.Properties.VERIFIER_KEY_PARAMS_SINGL
 public class LibConfigParser {
 
     private static final String VERIFIER_SECURITY_PROVIDER_PASSWORD = "VERIFIER_SECURITY_PROVIDER_PASSWORD";
+    static final int DEFAULT_MAX_CONCURRENT_ATTESTATIONS = 8;
+    static final int DEFAULT_RIM_CACHE_MAX_TTL_SECONDS = 3600;
+    static final int DEFAULT_SPDM_CONNECTION_CACHE_MAX_TTL_SECONDS = 600;
+    static final int DEFAULT_ECDH_KEY_POOL_SIZE = 4;
+    static final int DEFAULT_ECDH_KEY_POOL_LOW_WATER_MARK = 2;
 
     public LibConfig parseConfigFile(String configFileName) {
         final SchemaParams prop = new SchemaParams();
@@ -139,6 +160,7 @@ public class LibConfigParser {
         appConfig.setTransportLayerType(getTransportLayerType(prop));
         appConfig.setAttestationCertificateFlow(getAttestationCertificateFlow(prop));
         appConfig.setDistributionPoint(getDistributionPoint(prop));
+        appConfig.setDpCacheConfig(getDpCacheConfig(prop));
         appConfig.setVerifierKeyParams(getVerifierKeyParams(prop));
         appConfig.setTrustStore(getTrustStore(prop));
         appConfig.setLibSpdmParams(getLibSpdmParams(prop));
@@ -147,6 +169,11 @@ public class LibConfigParser {
         appConfig.setRunGpAttestation(getRunGpAttestation(prop));
         appConfig.setTestModeSecrets(getTestModeSecrets(prop));
         appConfig.setAcceptUnsignedCorim(getAcceptUnsignedCorim(prop));
+        appConfig.setMaxConcurrentAttestations(getMaxConcurrentAttestations(prop));
+        appConfig.setRimCacheMaxTtlSeconds(getRimCacheMaxTtlSeconds(prop));
+        appConfig.setSpdmConnectionCacheMaxTtlSeconds(getSpdmConnectionCacheMaxTtlSeconds(prop));
+        appConfig.setEcdhKeyPoolSize(getEcdhKeyPoolSize(prop));
+        appConfig.setEcdhKeyPoolLowWaterMark(getEcdhKeyPoolLowWaterMark(prop, appConfig.getEcdhKeyPoolSize()));
         return appConfig;
     }
 
@@ -201,6 +228,29 @@ public class LibConfigParser {
         );
     }
 
+    private DpResponseCacheConfig getDpCacheConfig(SchemaParams prop) {
+        final var builder = DpResponseCacheConfig.builder();
+        getDpCacheProperty(prop, DP_CACHE_ENABLED)
+            .map(Boolean::valueOf)
+            .ifPresent(builder::enabled);
+        getDpCacheProperty(prop, DP_CACHE_MAX_ENTRIES)
+            .map(value -> toPositiveInt(value, DP_CACHE_MAX_ENTRIES))
+            .ifPresent(builder::maxEntries);
+        getDpCacheProperty(prop, DP_CACHE_DISK_PATH)
+            .ifPresent(builder::diskPath);
+        getDpCacheProperty(prop, DP_CACHE_DEFAULT_MAX_AGE)
+            .map(Long::valueOf)
+            .map(Duration::ofSeconds)
+            .ifPresent(builder::defaultMaxAge);
+        return builder.build();
+    }
+
+    private Optional<String> getDpCacheProperty(SchemaParams prop, String key) {
+        return Optional.ofNullable(prop.getPropertyGroup(key, DISTRIBUTION_POINT_GROUP, DP_CACHE_GROUP))
+            .filter(StringUtils::isNotBlank)
+            .map(String::trim);
+    }
+
     private VerifierKeyParams getVerifierKeyParams(SchemaParams prop) {
         return new VerifierKeyParams(
             new VerifierRootQkyChain(Optional.ofNullable(
@@ -262,12 +312,27 @@ public class LibConfigParser {
     }
 
     private DatabaseConfiguration getDatabaseConfiguration(SchemaParams prop) {
-        return new DatabaseConfiguration(
-            Optional.ofNullable(prop.getPropertyGroup("internal-database", DATABASE_CONFIGURATION_GROUP))
-                .filter(StringUtils::isNotBlank)
+        final var databaseConfiguration = new DatabaseConfiguration(
+            getDatabaseProperty(prop, DATABASE_INTERNAL_DATABASE)
                 .map(Boolean::valueOf)
                 .orElse(true)
         );
+        getDatabaseProperty(prop, DATABASE_READ_CACHE_ENABLED)
+            .map(Boolean::valueOf)
+            .ifPresent(databaseConfiguration::setReadCacheEnabled);
+        getDatabaseProperty(prop, DATABASE_READ_CACHE_MAX_ENTRIES)
+            .map(value -> toPositiveInt(value, DATABASE_READ_CACHE_MAX_ENTRIES))
+            .ifPresent(databaseConfiguration::setReadCacheMaxEntries);
+        getDatabaseProperty(prop, DATABASE_CONNECTION_POOL_SIZE)
+            .map(value -> toPositiveInt(value, DATABASE_CONNECTION_POOL_SIZE))
+            .ifPresent(databaseConfiguration::setConnectionPoolSize);
+        return databaseConfiguration;
+    }
+
+    private Optional<String> getDatabaseProperty(SchemaParams prop, String key) {
+        return Optional.ofNullable(prop.getPropertyGroup(key, DATABASE_CONFIGURATION_GROUP))
+            .filter(StringUtils::isNotBlank)
+            .map(String::trim);
     }
 
     private SecurityProviderParams getProviderParams(SchemaParams prop) {
@@ -320,6 +385,69 @@ public class LibConfigParser {
                        .orElse(false);
     }
 
+    private int getMaxConcurrentAttestations(SchemaParams prop) {
+        return Optional.ofNullable(prop.getProperty(MAX_CONCURRENT_ATTESTATIONS))
+            .filter(StringUtils::isNotBlank)
+            .map(String::trim)
+            .map(value -> toPositiveInt(value, MAX_CONCURRENT_ATTESTATIONS))
+            .orElse(DEFAULT_MAX_CONCURRENT_ATTESTATIONS);
+    }
+
+    private int getRimCacheMaxTtlSeconds(SchemaParams prop) {
+        return Optional.ofNullable(prop.getProperty(RIM_CACHE_MAX_TTL_SECONDS))
+            .filter(StringUtils::isNotBlank)
+            .map(String::trim)
+            .map(value -> toNonNegativeInt(value, RIM_CACHE_MAX_TTL_SECONDS))
+            .orElse(DEFAULT_RIM_CACHE_MAX_TTL_SECONDS);
+    }
+
+    private int getSpdmConnectionCacheMaxTtlSeconds(SchemaParams prop) {
+        return Optional.ofNullable(prop.getProperty(SPDM_CONNECTION_CACHE_MAX_TTL_SECONDS))
+            .filter(StringUtils::isNotBlank)
+            .map(String::trim)
+            .map(value -> toNonNegativeInt(value, SPDM_CONNECTION_CACHE_MAX_TTL_SECONDS))
+            .orElse(DEFAULT_SPDM_CONNECTION_CACHE_MAX_TTL_SECONDS);
+    }
+
+    private int getEcdhKeyPoolSize(SchemaParams prop) {
+        return Optional.ofNullable(prop.getProperty(ECDH_KEY_POOL_SIZE))
+            .filter(StringUtils::isNotBlank)
+            .map(String::trim)
+            .map(value -> toNonNegativeInt(value, ECDH_KEY_POOL_SIZE))
+            .orElse(DEFAULT_ECDH_KEY_POOL_SIZE);
+    }
+
+    int getEcdhKeyPoolLowWaterMark(SchemaParams prop, int poolSize) {
+        final int lowWaterMark = Optional.ofNullable(prop.getProperty(ECDH_KEY_POOL_LOW_WATER_MARK))
+            .filter(StringUtils::isNotBlank)
+            .map(String::trim)
+            .map(value -> toNonNegativeInt(value, ECDH_KEY_POOL_LOW_WATER_MARK))
+            .orElse(Math.min(DEFAULT_ECDH_KEY_POOL_LOW_WATER_MARK, poolSize));
+        if (lowWaterMark > poolSize) {
+            throw new IllegalArgumentException("Invalid configuration file - %s must not be greater than %s."
+                .formatted(ECDH_KEY_POOL_LOW_WATER_MARK, ECDH_KEY_POOL_SIZE));
+        }
+        return lowWaterMark;
+    }
+
+    private int toNonNegativeInt(String value, String param) {
+        final int result = Integer.parseInt(value);
+        if (result < 0) {
+            throw new IllegalArgumentException(
+                "Invalid configuration file - %s must be a non-negative integer.".formatted(param));
+        }
+        return result;
+    }
+
+    private int toPositiveInt(String value, String param) {
+        final int result = Integer.parseInt(value);
+        if (result < 1) {
+            throw new IllegalArgumentException(
+                "Invalid configuration file - %s must be a positive integer.".formatted(param));
+        }
+        return result;
+    }
+
     private int toInt(String value, String param) {
         try {
             return Integer.parseInt(value, 16);
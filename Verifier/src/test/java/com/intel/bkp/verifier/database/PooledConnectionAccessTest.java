@@ -0,0 +1,247 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2023 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.verifier.database;
+
+import com.intel.bkp.verifier.exceptions.DatabaseException;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.sqlite.SQLiteConfig;
+
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PooledConnectionAccessTest {
+
+    private static final int READER_COUNT = 2;
+
+    @TempDir
+    private Path tempDir;
+
+    private PooledConnectionAccess sut;
+
+    @BeforeEach
+    @SneakyThrows
+    void setUp() {
+        final SQLiteConfig config = DatabaseManager.getPooledConnectionConfig();
+        final String jdbcUrl = "jdbc:sqlite:" + tempDir.resolve("test.sqlite");
+        sut = new PooledConnectionAccess(() -> config.createConnection(jdbcUrl), READER_COUNT);
+        sut.write(connection -> execute(connection, "CREATE TABLE test (id INTEGER PRIMARY KEY)"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        sut.close();
+    }
+
+    @Test
+    void read_JournalModeIsWal() throws Exception {
+        // when
+        final String result = sut.read(connection -> queryString(connection, "PRAGMA journal_mode"));
+
+        // then
+        assertEquals("wal", result);
+    }
+
+    @Test
+    void read_SeesCommittedWrite() throws Exception {
+        // given
+        sut.write(connection -> execute(connection, "INSERT INTO test VALUES (1)"));
+
+        // when
+        final String result = sut.read(connection -> queryString(connection, "SELECT COUNT(*) FROM test"));
+
+        // then
+        assertEquals("1", result);
+    }
+
+    @Test
+    void write_RunsOnSingleWriterThread() throws Exception {
+        // when
+        final Thread first = sut.write(connection -> Thread.currentThread());
+        final Thread second = sut.write(connection -> Thread.currentThread());
+
+        // then
+        assertSame(first, second);
+        assertNotEquals(Thread.currentThread(), first);
+    }
+
+    @Test
+    void write_NestedWrite_DoesNotDeadlock() throws Exception {
+        // when
+        final int result = sut.write(outer -> sut.write(inner -> 1));
+
+        // then
+        assertEquals(1, result);
+    }
+
+    @Test
+    void write_OperationThrows_RethrowsSqlException() {
+        // when-then
+        assertThrows(SQLException.class,
+            () -> sut.write(connection -> execute(connection, "INSERT INTO missing_table VALUES (1)")));
+    }
+
+    @Test
+    void read_ConcurrentReaders_UseSeparateConnections() throws Exception {
+        // given
+        final CountDownLatch bothReading = new CountDownLatch(READER_COUNT);
+        final ExecutorService executor = Executors.newFixedThreadPool(READER_COUNT);
+        final List<Future<Object>> connections = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < READER_COUNT; i++) {
+            connections.add(executor.submit(() -> sut.read(connection -> {
+                bothReading.countDown();
+                awaitOtherReaders(bothReading);
+                return connection;
+            })));
+        }
+
+        // then
+        assertNotEquals(connections.get(0).get(), connections.get(1).get());
+        executor.shutdown();
+    }
+
+    @Test
+    void read_AfterClose_Throws() {
+        // given
+        sut.close();
+
+        // when-then
+        assertThrows(DatabaseException.class, () -> sut.read(connection -> connection));
+    }
+
+    @Test
+    void write_AfterClose_Throws() {
+        // given
+        sut.close();
+
+        // when-then
+        assertThrows(DatabaseException.class, () -> sut.write(connection -> connection));
+    }
+
+    @Test
+    void read_WaitingForReaderWhenClosed_Throws() throws Exception {
+        // given
+        final CountDownLatch allReadersBorrowed = new CountDownLatch(READER_COUNT);
+        final CountDownLatch release = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(READER_COUNT + 1);
+        for (int i = 0; i < READER_COUNT; i++) {
+            executor.submit(() -> sut.read(connection -> {
+                allReadersBorrowed.countDown();
+                return await(release);
+            }));
+        }
+        assertTrue(allReadersBorrowed.await(5, TimeUnit.SECONDS));
+        final Future<Object> waitingRead = executor.submit(() -> sut.read(connection -> connection));
+
+        // when
+        sut.close();
+
+        // then
+        final ExecutionException ex = assertThrows(ExecutionException.class,
+            () -> waitingRead.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(DatabaseException.class, ex.getCause());
+        release.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    void read_InProgressWhenClosed_CompletesAndClosesReader() throws Exception {
+        // given
+        final CountDownLatch reading = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        final Future<CachedConnection> borrowed = executor.submit(() -> sut.read(connection -> {
+            reading.countDown();
+            await(release);
+            assertEquals("0", queryString(connection, "SELECT COUNT(*) FROM test"));
+            return connection;
+        }));
+        assertTrue(reading.await(5, TimeUnit.SECONDS));
+
+        // when
+        sut.close();
+        release.countDown();
+
+        // then
+        final CachedConnection reader = borrowed.get(5, TimeUnit.SECONDS);
+        assertTrue(reader.getConnection().isClosed());
+        executor.shutdown();
+    }
+
+    @SneakyThrows
+    private static boolean await(CountDownLatch latch) {
+        return latch.await(5, TimeUnit.SECONDS);
+    }
+
+    @SneakyThrows
+    private static void awaitOtherReaders(CountDownLatch latch) {
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+    }
+
+    private static int execute(CachedConnection connection, String sql) throws SQLException {
+        try (Statement statement = connection.getConnection().createStatement()) {
+            return statement.executeUpdate(sql);
+        }
+    }
+
+    private static String queryString(CachedConnection connection, String sql) throws SQLException {
+        try (Statement statement = connection.getConnection().createStatement();
+             ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getString(1);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2023 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.verifier.database.repository;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReadThroughCacheTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Function<String, Optional<String>> loader = key -> {
+        loads.incrementAndGet();
+        return key.startsWith("known") ? Optional.of("value-" + key) : Optional.empty();
+    };
+
+    @Test
+    void get_CalledTwice_LoadsOnce() {
+        // given
+        final var sut = new ReadThroughCache<String>(10);
+
+        // when
+        sut.get("known", loader);
+        final Optional<String> result = sut.get("known", loader);
+
+        // then
+        assertEquals(Optional.of("value-known"), result);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void get_AbsentEntity_CachesAbsence() {
+        // given
+        final var sut = new ReadThroughCache<String>(10);
+
+        // when
+        sut.get("unknown", loader);
+        final Optional<String> result = sut.get("unknown", loader);
+
+        // then
+        assertTrue(result.isEmpty());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void get_Disabled_AlwaysLoads() {
+        // given
+        final ReadThroughCache<String> sut = ReadThroughCache.disabled();
+
+        // when
+        sut.get("known", loader);
+        sut.get("known", loader);
+
+        // then
+        assertFalse(sut.isEnabled());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_MoreThanMaxEntries_EvictsLeastRecentlyUsed() {
+        // given
+        final var sut = new ReadThroughCache<String>(2);
+        sut.get("known1", loader);
+        sut.get("known2", loader);
+        sut.get("known1", loader);
+
+        // when
+        sut.get("known3", loader);
+        sut.get("known1", loader);
+
+        // then
+        assertEquals(2, sut.size());
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void put_ReplacesCachedEntry() {
+        // given
+        final var sut = new ReadThroughCache<String>(10);
+        sut.get("unknown", loader);
+
+        // when
+        sut.put("unknown", "stored");
+
+        // then
+        assertEquals(Optional.of("stored"), sut.get("unknown", loader));
+        assertEquals(1, loads.get());
+    }
+}
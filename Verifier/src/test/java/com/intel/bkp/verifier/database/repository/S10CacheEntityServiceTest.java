@@ -0,0 +1,179 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2023 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.verifier.database.repository;
+
+import com.intel.bkp.verifier.database.SingleConnectionAccess;
+import com.intel.bkp.verifier.database.model.S10CacheEntity;
+import com.intel.bkp.verifier.model.DatabaseConfiguration;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Optional;
+
+import static com.intel.bkp.utils.HexConverter.fromHex;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class S10CacheEntityServiceTest {
+
+    private static final String DEVICE_ID = "0102030405060708";
+    private static final String OTHER_DEVICE_ID = "1112131415161718";
+    private static final int CURRENT_SCHEMA_VERSION = 2;
+
+    private Connection connection;
+
+    @BeforeEach
+    @SneakyThrows
+    void setUp() {
+        connection = DriverManager.getConnection("jdbc:sqlite::memory:");
+    }
+
+    @AfterEach
+    @SneakyThrows
+    void tearDown() {
+        connection.close();
+    }
+
+    @Test
+    void read_StoredEntity_ReturnsEntity() {
+        // given
+        final var sut = prepareService(new DatabaseConfiguration());
+        sut.store(entity(DEVICE_ID, 1));
+        sut.store(entity(OTHER_DEVICE_ID, 2));
+
+        // when
+        final Optional<S10CacheEntity> result = sut.read(fromHex(DEVICE_ID));
+
+        // then
+        assertTrue(result.isPresent());
+        assertEquals(entity(DEVICE_ID, 1), result.get());
+    }
+
+    @Test
+    void read_NotStoredEntity_ReturnsEmpty() {
+        // given
+        final var sut = prepareService(new DatabaseConfiguration());
+        sut.store(entity(OTHER_DEVICE_ID, 2));
+
+        // when
+        final Optional<S10CacheEntity> result = sut.read(fromHex(DEVICE_ID));
+
+        // then
+        assertFalse(result.isPresent());
+    }
+
+    @Test
+    void store_SameDeviceId_ReplacesEntity() {
+        // given
+        final var sut = prepareService(new DatabaseConfiguration());
+        sut.store(entity(DEVICE_ID, 1));
+
+        // when
+        sut.store(entity(DEVICE_ID, 5));
+
+        // then
+        assertEquals(5, sut.read(fromHex(DEVICE_ID)).orElseThrow().getCounter());
+    }
+
+    @Test
+    void storeAll_StoresAllEntities() {
+        // given
+        final var sut = prepareService(new DatabaseConfiguration());
+
+        // when
+        sut.storeAll(List.of(entity(DEVICE_ID, 1), entity(OTHER_DEVICE_ID, 2)));
+
+        // then
+        assertEquals(1, sut.read(fromHex(DEVICE_ID)).orElseThrow().getCounter());
+        assertEquals(2, sut.read(fromHex(OTHER_DEVICE_ID)).orElseThrow().getCounter());
+    }
+
+    @Test
+    void read_WithReadCache_DoesNotQueryDatabaseAgain() {
+        // given
+        final var sut = prepareService(readCacheConfig());
+        sut.store(entity(DEVICE_ID, 1));
+        sut.read(fromHex(DEVICE_ID));
+        deleteAllRows();
+
+        // when
+        final Optional<S10CacheEntity> result = sut.read(fromHex(DEVICE_ID));
+
+        // then
+        assertTrue(result.isPresent());
+    }
+
+    @Test
+    void store_WithReadCache_ReplacesCachedAbsentEntity() {
+        // given
+        final var sut = prepareService(readCacheConfig());
+        sut.read(fromHex(DEVICE_ID));
+
+        // when
+        sut.store(entity(DEVICE_ID, 1));
+
+        // then
+        assertTrue(sut.read(fromHex(DEVICE_ID)).isPresent());
+    }
+
+    private S10CacheEntityService prepareService(DatabaseConfiguration dbConfig) {
+        final var service = new S10CacheEntityService(new SingleConnectionAccess(connection), dbConfig);
+        service.migrate(0, CURRENT_SCHEMA_VERSION);
+        return service;
+    }
+
+    private static DatabaseConfiguration readCacheConfig() {
+        final var dbConfig = new DatabaseConfiguration();
+        dbConfig.setReadCacheEnabled(true);
+        return dbConfig;
+    }
+
+    private static S10CacheEntity entity(String deviceId, int counter) {
+        return new S10CacheEntity(deviceId, "context", counter, "EFUSE", "alias");
+    }
+
+    @SneakyThrows
+    private void deleteAllRows() {
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("DELETE FROM s10_cache");
+        }
+    }
+}
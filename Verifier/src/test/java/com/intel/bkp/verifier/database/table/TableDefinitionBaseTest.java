@@ -60,6 +60,11 @@ class TableDefinitionBaseTest {
             return 1;
         }
 
+        @Override
+        protected String getPrimaryKeyColName() {
+            return COLUMN;
+        }
+
         @Override
         public String getTableName() {
             return TABLE_NAME;
@@ -80,6 +85,15 @@ class TableDefinitionBaseTest {
         assertEquals(String.format("SELECT * FROM %s", TABLE_NAME), result);
     }
 
+    @Test
+    void getSelectByPrimaryKeySQL() {
+        // when
+        final String result = sut.getSelectByPrimaryKeySQL();
+
+        // then
+        assertEquals(String.format("SELECT * FROM %s WHERE %s = ?", TABLE_NAME, COLUMN), result);
+    }
+
     @Test
     void getTableDefinition() {
         // when
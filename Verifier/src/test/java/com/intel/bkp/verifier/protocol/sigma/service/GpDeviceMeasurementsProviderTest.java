@@ -37,6 +37,7 @@ import com.intel.bkp.command.model.CommandLayer;
 import com.intel.bkp.command.responses.sigma.GetMeasurementResponse;
 import com.intel.bkp.core.manufacturing.model.PufType;
 import com.intel.bkp.crypto.ecdh.EcdhKeyPair;
+import com.intel.bkp.crypto.ecdh.EcdhKeyPairPool;
 import com.intel.bkp.crypto.exceptions.EcdhKeyPairException;
 import com.intel.bkp.fpgacerts.dice.tcbinfo.TcbInfoMeasurement;
 import com.intel.bkp.verifier.exceptions.InternalLibraryException;
@@ -45,13 +46,10 @@ import com.intel.bkp.verifier.protocol.sigma.verification.GetMeasurementVerifier
 import com.intel.bkp.verifier.protocol.sigma.verification.SigmaM2DeviceIdVerifier;
 import com.intel.bkp.verifier.service.certificate.AppContext;
 import com.intel.bkp.verifier.transport.model.TransportLayer;
-import org.junit.jupiter.api.AfterAll;
-import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.security.PublicKey;
@@ -61,8 +59,8 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -77,8 +75,6 @@ class GpDeviceMeasurementsProviderTest {
     private static final int COUNTER = 3;
     private static final byte[] SDM_SESSION_ID = {0, 0, 0, 1};
 
-    private static MockedStatic<EcdhKeyPair> ecdhKeyPairMockStatic;
-
     @Mock
     private CommandLayer commandLayer;
 
@@ -109,22 +105,15 @@ class GpDeviceMeasurementsProviderTest {
     @Mock
     private EcdhKeyPair ecdhKeyPair;
 
+    @Mock
+    private EcdhKeyPairPool ecdhKeyPairPool;
+
     @Mock
     private List<TcbInfoMeasurement> measurements;
 
     @InjectMocks
     private GpDeviceMeasurementsProvider sut;
 
-    @BeforeAll
-    public static void prepareStaticMock() {
-        ecdhKeyPairMockStatic = mockStatic(EcdhKeyPair.class);
-    }
-
-    @AfterAll
-    public static void closeStaticMock() {
-        ecdhKeyPairMockStatic.close();
-    }
-
     @Test
     void constructor_doesNotThrow() {
         // given
@@ -138,7 +127,7 @@ class GpDeviceMeasurementsProviderTest {
     void getMeasurementsFromDevice_Success() throws EcdhKeyPairException {
         // given
         final var request = prepareRequest();
-        when(EcdhKeyPair.generate()).thenReturn(ecdhKeyPair);
+        when(ecdhKeyPairPool.take()).thenReturn(ecdhKeyPair);
         mockGetMeasurementResponse(DEVICE_ID_INCOMING, SDM_SESSION_ID);
         mockGetMeasurementMessageSender();
         when(measurementMapper.map(any())).thenReturn(measurements);
@@ -151,13 +140,29 @@ class GpDeviceMeasurementsProviderTest {
         verify(getMeasurementVerifier).verify(aliasPubKey, response, ecdhKeyPair);
         verify(deviceIdVerifier).verify(DEVICE_ID, DEVICE_ID_INCOMING);
         verify(teardownMessageSender).send(transportLayer, commandLayer, SDM_SESSION_ID);
+        verify(ecdhKeyPair).zeroize();
+    }
+
+    @Test
+    void getMeasurementsFromDevice_VerificationFails_ZeroizesKeyPair() throws EcdhKeyPairException {
+        // given
+        final var request = prepareRequest();
+        when(ecdhKeyPairPool.take()).thenReturn(ecdhKeyPair);
+        mockGetMeasurementMessageSender();
+        doThrow(new IllegalStateException()).when(getMeasurementVerifier).verify(aliasPubKey, response, ecdhKeyPair);
+
+        // when
+        assertThrows(IllegalStateException.class, () -> sut.getMeasurementsFromDevice(request));
+
+        // then
+        verify(ecdhKeyPair).zeroize();
     }
 
     @Test
     void getMeasurementsFromDevice_failsToGenerateEcdhKeyPair_Throws() throws EcdhKeyPairException {
         // given
         final var request = prepareRequest();
-        when(EcdhKeyPair.generate()).thenThrow(new EcdhKeyPairException(""));
+        when(ecdhKeyPairPool.take()).thenThrow(new EcdhKeyPairException(""));
 
         // when-then
         assertThrows(InternalLibraryException.class, () -> sut.getMeasurementsFromDevice(request));
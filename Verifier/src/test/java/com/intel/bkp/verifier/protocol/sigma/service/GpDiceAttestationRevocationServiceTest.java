@@ -34,7 +34,7 @@
 package com.intel.bkp.verifier.protocol.sigma.service;
 
 import com.intel.bkp.fpgacerts.dp.DistributionPointConnector;
-import com.intel.bkp.fpgacerts.dp.DistributionPointCrlProvider;
+import com.intel.bkp.fpgacerts.dp.CachingCrlProvider;
 import com.intel.bkp.verifier.model.LibConfig;
 import com.intel.bkp.verifier.service.certificate.AppContext;
 import org.junit.jupiter.api.Test;
@@ -43,7 +43,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -64,12 +64,16 @@ class GpDiceAttestationRevocationServiceTest {
     @Mock
     private DistributionPointConnector dpConnector;
 
+    @Mock
+    private CachingCrlProvider cachingCrlProvider;
+
     private GpDiceAttestationRevocationService sut;
 
     @Test
     void constructor_configuresProperly() {
         // given
         when(appContext.getDpConnector()).thenReturn(dpConnector);
+        when(appContext.getCrlProvider()).thenReturn(cachingCrlProvider);
         when(appContext.getDpTrustedRootHashes()).thenReturn(TRUSTED_ROOT_HASH);
         when(appContext.getDpPathCer()).thenReturn(CERT_PATH);
         when(appContext.getLibConfig()).thenReturn(libConfig);
@@ -83,11 +87,11 @@ class GpDiceAttestationRevocationServiceTest {
         assertEquals(DICE_ROOT_HASH, diceCertVerifier.getTrustedRootHash()[1]);
 
         final var crlProvider = diceCertVerifier.getCrlVerifier().getCrlProvider();
-        assertTrue(crlProvider instanceof DistributionPointCrlProvider);
+        assertSame(cachingCrlProvider, crlProvider);
 
         final var addressProvider = sut.getAddressProvider();
         assertEquals(CERT_PATH, addressProvider.getIpcsUrlPrefix());
 
-        verify(appContext, times(2)).getDpConnector();
+        verify(appContext, times(1)).getDpConnector();
     }
 }
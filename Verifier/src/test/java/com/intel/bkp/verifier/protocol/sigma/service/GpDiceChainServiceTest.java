@@ -0,0 +1,299 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2023 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+
+package com.intel.bkp.verifier.protocol.sigma.service;
+
+import com.intel.bkp.fpgacerts.utils.X509UtilsWrapper;
+import com.intel.bkp.verifier.exceptions.SigmaException;
+import com.intel.bkp.verifier.exceptions.VerifierRuntimeException;
+import com.intel.bkp.verifier.service.certificate.DiceChainMeasurementsCollector;
+import com.intel.bkp.verifier.service.certificate.DiceRevocationCacheService;
+import com.intel.bkp.verifier.service.certificate.EnrollmentFlowDetector;
+import com.intel.bkp.verifier.service.certificate.IidAliasFlowDetector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.security.PublicKey;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static com.intel.bkp.command.model.CertificateRequestType.DEVICE_ID_ENROLLMENT;
+import static com.intel.bkp.command.model.CertificateRequestType.UDS_EFUSE_ALIAS;
+import static com.intel.bkp.command.model.CertificateRequestType.UDS_IID_PUF_ALIAS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GpDiceChainServiceTest {
+
+    private static final byte[] DEVICE_ID = new byte[]{1, 2, 3, 4, 5, 6, 7, 8};
+    private static final byte[] FIRMWARE_CERT_RESPONSE = new byte[]{9, 10, 11};
+
+    private MockedStatic<X509UtilsWrapper> x509UtilsWrapperMockStatic;
+    private MockedStatic<EnrollmentFlowDetector> enrollmentFlowDetectorMockStatic;
+
+    @Mock
+    private GpDeviceCertificateProvider gpDeviceCertificateProvider;
+
+    @Mock
+    private DistributionPointIpcsCertificateFetcher ipcsCertFetcher;
+
+    @Mock
+    private IidAliasFlowDetector iidFlowDetector;
+
+    @Mock
+    private GpDiceAttestationRevocationService diceAttestationRevocationService;
+
+    @Mock
+    private DiceRevocationCacheService diceRevocationCacheService;
+
+    @Mock
+    private DiceChainMeasurementsCollector measurementsCollector;
+
+    @Mock
+    private EnrollmentFlowDetector enrollmentFlowDetector;
+
+    @Mock
+    private X509Certificate firmwareX509;
+
+    @Mock
+    private X509Certificate aliasX509;
+
+    @Mock
+    private X509Certificate deviceIdEnrollmentX509;
+
+    @Mock
+    private X509Certificate iidAliasX509;
+
+    @Mock
+    private X509Certificate ipcsDeviceIdX509;
+
+    @Mock
+    private X509Certificate ipcsEnrollmentX509;
+
+    @Mock
+    private X509Certificate ipcsIidUdsX509;
+
+    @Mock
+    private PublicKey aliasPublicKey;
+
+    private final List<Runnable> pendingTasks = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        x509UtilsWrapperMockStatic = mockStatic(X509UtilsWrapper.class);
+        x509UtilsWrapperMockStatic.when(() -> X509UtilsWrapper.toX509(FIRMWARE_CERT_RESPONSE))
+            .thenReturn(firmwareX509);
+        enrollmentFlowDetectorMockStatic = mockStatic(EnrollmentFlowDetector.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        x509UtilsWrapperMockStatic.close();
+        enrollmentFlowDetectorMockStatic.close();
+    }
+
+    @Test
+    void fetchAndVerifyDiceChains_NotEnrollmentAndNotIid_VerifiesEfuseChainOnly() {
+        // given
+        final GpDiceChainService sut = prepareSut(Runnable::run);
+        mockDeviceCertificates();
+        mockEnrollmentFlow(false);
+        when(ipcsCertFetcher.fetchIpcsDeviceIdX509Cert()).thenReturn(ipcsDeviceIdX509);
+        when(aliasX509.getPublicKey()).thenReturn(aliasPublicKey);
+
+        // when
+        sut.fetchAndVerifyDiceChains(DEVICE_ID, FIRMWARE_CERT_RESPONSE);
+
+        // then
+        verify(diceAttestationRevocationService).verifyChains(DEVICE_ID,
+            List.of(aliasX509, firmwareX509, ipcsDeviceIdX509), List.of());
+        verify(gpDeviceCertificateProvider, never()).getCertificateFromDevice(UDS_IID_PUF_ALIAS);
+        verify(ipcsCertFetcher, never()).fetchIpcsIidUdsX509Cert();
+        verify(ipcsCertFetcher, never()).fetchIpcsEnrollmentX509Cert();
+        verifyNoInteractions(diceRevocationCacheService);
+        assertSame(aliasPublicKey, sut.getAliasPublicKey());
+    }
+
+    @Test
+    void fetchAndVerifyDiceChains_EnrollmentFlow_VerifiesChainWithEnrollmentCertAndSavesAsRevoked() {
+        // given
+        final GpDiceChainService sut = prepareSut(Runnable::run);
+        mockDeviceCertificates();
+        mockEnrollmentFlow(true);
+        when(ipcsCertFetcher.fetchIpcsEnrollmentX509Cert()).thenReturn(ipcsEnrollmentX509);
+
+        // when
+        sut.fetchAndVerifyDiceChains(DEVICE_ID, FIRMWARE_CERT_RESPONSE);
+
+        // then
+        final InOrder inOrder = inOrder(diceRevocationCacheService, diceAttestationRevocationService);
+        inOrder.verify(diceRevocationCacheService).saveAsRevoked(DEVICE_ID);
+        inOrder.verify(diceAttestationRevocationService).verifyChains(DEVICE_ID,
+            List.of(aliasX509, firmwareX509, deviceIdEnrollmentX509, ipcsEnrollmentX509), List.of());
+        verify(ipcsCertFetcher, never()).fetchIpcsDeviceIdX509Cert();
+    }
+
+    @Test
+    void fetchAndVerifyDiceChains_IidFlow_VerifiesBothChains() {
+        // given
+        final GpDiceChainService sut = prepareSut(Runnable::run);
+        mockDeviceCertificates();
+        mockIidFlow();
+        mockEnrollmentFlow(false);
+        when(ipcsCertFetcher.fetchIpcsDeviceIdX509Cert()).thenReturn(ipcsDeviceIdX509);
+        when(ipcsCertFetcher.fetchIpcsIidUdsX509Cert()).thenReturn(ipcsIidUdsX509);
+
+        // when
+        sut.fetchAndVerifyDiceChains(DEVICE_ID, FIRMWARE_CERT_RESPONSE);
+
+        // then
+        verify(diceAttestationRevocationService).verifyChains(DEVICE_ID,
+            List.of(aliasX509, firmwareX509, ipcsDeviceIdX509), List.of(iidAliasX509, ipcsIidUdsX509));
+    }
+
+    @Test
+    void fetchAndVerifyDiceChains_RunsDistributionPointStagesAsSoonAsTheirParamsAreKnown() {
+        // given
+        final GpDiceChainService sut = prepareSut(Runnable::run);
+        mockDeviceCertificates();
+        mockIidFlow();
+        mockEnrollmentFlow(false);
+        when(ipcsCertFetcher.fetchIpcsDeviceIdX509Cert()).thenReturn(ipcsDeviceIdX509);
+        when(ipcsCertFetcher.fetchIpcsIidUdsX509Cert()).thenReturn(ipcsIidUdsX509);
+
+        // when
+        sut.fetchAndVerifyDiceChains(DEVICE_ID, FIRMWARE_CERT_RESPONSE);
+
+        // then
+        final InOrder inOrder = inOrder(ipcsCertFetcher, gpDeviceCertificateProvider, diceAttestationRevocationService);
+        inOrder.verify(ipcsCertFetcher).setFirmwareCert(firmwareX509);
+        inOrder.verify(ipcsCertFetcher).fetchIpcsDeviceIdCert();
+        inOrder.verify(gpDeviceCertificateProvider).getCertificateFromDevice(UDS_EFUSE_ALIAS);
+        inOrder.verify(gpDeviceCertificateProvider).getCertificateFromDevice(DEVICE_ID_ENROLLMENT);
+        inOrder.verify(ipcsCertFetcher).setDeviceIdL0Cert(deviceIdEnrollmentX509);
+        inOrder.verify(ipcsCertFetcher).fetchIpcsIidUdsX509Cert();
+        inOrder.verify(gpDeviceCertificateProvider).getCertificateFromDevice(UDS_IID_PUF_ALIAS);
+        inOrder.verify(diceAttestationRevocationService).verifyChains(any(), any(), any());
+    }
+
+    @Test
+    void fetchAndVerifyDiceChains_DistributionPointStageFails_RethrowsUnwrappedException() {
+        // given
+        final GpDiceChainService sut = prepareSut(Runnable::run);
+        mockDeviceCertificates();
+        final var expectedException = new VerifierRuntimeException("DP unreachable");
+        when(ipcsCertFetcher.fetchIpcsDeviceIdCert()).thenThrow(expectedException);
+
+        // when
+        final var thrown = assertThrows(VerifierRuntimeException.class,
+            () -> sut.fetchAndVerifyDiceChains(DEVICE_ID, FIRMWARE_CERT_RESPONSE));
+
+        // then
+        assertSame(expectedException, thrown);
+        verifyNoInteractions(diceRevocationCacheService, diceAttestationRevocationService);
+    }
+
+    @Test
+    void fetchAndVerifyDiceChains_DeviceReadFailsAfterDistributionPointStageScheduled_DiscardsStage() {
+        // given
+        final GpDiceChainService sut = prepareSut(pendingTasks::add);
+        mockDeviceCertificates();
+        when(iidFlowDetector.isIidFlow(aliasX509)).thenReturn(true);
+        when(gpDeviceCertificateProvider.getCertificateFromDevice(UDS_IID_PUF_ALIAS))
+            .thenThrow(new SigmaException("Device read failed"));
+
+        // when
+        assertThrows(SigmaException.class, () -> sut.fetchAndVerifyDiceChains(DEVICE_ID, FIRMWARE_CERT_RESPONSE));
+        List.copyOf(pendingTasks).forEach(Runnable::run);
+
+        // then
+        verifyNoInteractions(ipcsCertFetcher, diceRevocationCacheService, diceAttestationRevocationService);
+        enrollmentFlowDetectorMockStatic.verifyNoInteractions();
+    }
+
+    @Test
+    void fetchAndVerifyDiceChains_DeviceReadFailsBeforeDistributionPointStageScheduled_DiscardsPrefetch() {
+        // given
+        final GpDiceChainService sut = prepareSut(pendingTasks::add);
+        when(gpDeviceCertificateProvider.getCertificateFromDevice(UDS_EFUSE_ALIAS))
+            .thenThrow(new SigmaException("Device read failed"));
+
+        // when
+        assertThrows(SigmaException.class, () -> sut.fetchAndVerifyDiceChains(DEVICE_ID, FIRMWARE_CERT_RESPONSE));
+        List.copyOf(pendingTasks).forEach(Runnable::run);
+
+        // then
+        assertEquals(1, pendingTasks.size());
+        verifyNoInteractions(ipcsCertFetcher, diceRevocationCacheService);
+    }
+
+    private GpDiceChainService prepareSut(Executor executor) {
+        return new GpDiceChainService(gpDeviceCertificateProvider, ipcsCertFetcher, iidFlowDetector,
+            diceAttestationRevocationService, diceRevocationCacheService, measurementsCollector, () -> executor);
+    }
+
+    private void mockDeviceCertificates() {
+        when(gpDeviceCertificateProvider.getCertificateFromDevice(UDS_EFUSE_ALIAS)).thenReturn(aliasX509);
+        when(gpDeviceCertificateProvider.getCertificateFromDevice(DEVICE_ID_ENROLLMENT))
+            .thenReturn(deviceIdEnrollmentX509);
+    }
+
+    private void mockIidFlow() {
+        when(iidFlowDetector.isIidFlow(aliasX509)).thenReturn(true);
+        when(gpDeviceCertificateProvider.getCertificateFromDevice(UDS_IID_PUF_ALIAS)).thenReturn(iidAliasX509);
+    }
+
+    private void mockEnrollmentFlow(boolean enrollmentFlow) {
+        enrollmentFlowDetectorMockStatic.when(() -> EnrollmentFlowDetector.instance(DEVICE_ID, ipcsCertFetcher))
+            .thenReturn(enrollmentFlowDetector);
+        when(enrollmentFlowDetector.isEnrollmentFlow()).thenReturn(enrollmentFlow);
+    }
+}
@@ -36,7 +36,7 @@ package com.intel.bkp.verifier.protocol.sigma.service;
 import com.intel.bkp.core.manufacturing.model.PufType;
 import com.intel.bkp.fpgacerts.dp.DistributionPointChainFetcher;
 import com.intel.bkp.fpgacerts.dp.DistributionPointConnector;
-import com.intel.bkp.fpgacerts.dp.DistributionPointCrlProvider;
+import com.intel.bkp.fpgacerts.dp.CachingCrlProvider;
 import com.intel.bkp.fpgacerts.url.DistributionPointAddressProvider;
 import com.intel.bkp.fpgacerts.url.params.S10Params;
 import com.intel.bkp.verifier.service.certificate.AppContext;
@@ -56,7 +56,7 @@ import java.util.LinkedList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -101,11 +101,13 @@ class S10AttestationRevocationServiceTest {
         // given
         final var appContext = Mockito.mock(AppContext.class);
         final var dpConnector = mock(DistributionPointConnector.class);
+        final var cachingCrlProvider = mock(CachingCrlProvider.class);
         final var certPath = "path";
         final var s10RootHash = "s10";
         final var trustedRootHash = new String[]{s10RootHash, ""};
 
         when(appContext.getDpConnector()).thenReturn(dpConnector);
+        when(appContext.getCrlProvider()).thenReturn(cachingCrlProvider);
         when(appContext.getDpTrustedRootHashes()).thenReturn(trustedRootHash);
         when(appContext.getDpPathCer()).thenReturn(certPath);
 
@@ -117,12 +119,12 @@ class S10AttestationRevocationServiceTest {
         assertEquals(s10RootHash, s10CertVerifier.getTrustedRootHash()[0]);
 
         final var crlProvider = s10CertVerifier.getCrlVerifier().getCrlProvider();
-        assertTrue(crlProvider instanceof DistributionPointCrlProvider);
+        assertSame(cachingCrlProvider, crlProvider);
 
         final var addressProvider = sut.getAddressProvider();
         assertEquals(certPath, addressProvider.getIpcsUrlPrefix());
 
-        verify(appContext, times(2)).getDpConnector();
+        verify(appContext, times(1)).getDpConnector();
     }
 
     @Test
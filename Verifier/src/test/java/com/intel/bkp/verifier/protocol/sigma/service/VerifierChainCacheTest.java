@@ -0,0 +1,135 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2023 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.verifier.protocol.sigma.service;
+
+import com.intel.bkp.verifier.exceptions.InternalLibraryException;
+import com.intel.bkp.verifier.utils.VerifierFileReader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class VerifierChainCacheTest {
+
+    private static final byte[] CHAIN = new byte[]{1, 2, 3, 4};
+    private static final byte[] ROTATED_CHAIN = new byte[]{5, 6, 7, 8};
+
+    @TempDir
+    private Path tempDir;
+
+    private Path chainFile;
+    private String chainPath;
+    private VerifierFileReader fileReader;
+    private VerifierChainCache sut;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        chainFile = Files.write(tempDir.resolve("chain.bin"), CHAIN);
+        chainPath = chainFile.toString();
+        fileReader = spy(new VerifierFileReader());
+        sut = new VerifierChainCache(fileReader);
+    }
+
+    @Test
+    void getChain_CalledTwice_ReadsFileOnce() {
+        // when
+        final byte[] first = sut.getChain(chainPath);
+        final byte[] second = sut.getChain(chainPath);
+
+        // then
+        assertArrayEquals(CHAIN, first);
+        assertArrayEquals(CHAIN, second);
+        verify(fileReader).readFileBytes(chainPath);
+    }
+
+    @Test
+    void getChain_ReturnedArrayModified_CachedChainUnchanged() {
+        // given
+        sut.getChain(chainPath)[0] = 0;
+
+        // when
+        final byte[] result = sut.getChain(chainPath);
+
+        // then
+        assertArrayEquals(CHAIN, result);
+    }
+
+    @Test
+    void getChain_FileRotated_ReadsFileAgain() throws Exception {
+        // given
+        sut.getChain(chainPath);
+        Files.write(chainFile, ROTATED_CHAIN);
+        Files.setLastModifiedTime(chainFile, FileTime.from(Instant.now().plusSeconds(10)));
+
+        // when
+        final byte[] result = sut.getChain(chainPath);
+
+        // then
+        assertArrayEquals(ROTATED_CHAIN, result);
+        verify(fileReader, times(2)).readFileBytes(chainPath);
+    }
+
+    @Test
+    void getChain_AfterClear_ReadsFileAgain() {
+        // given
+        sut.getChain(chainPath);
+        sut.clear();
+
+        // when
+        sut.getChain(chainPath);
+
+        // then
+        verify(fileReader, times(2)).readFileBytes(chainPath);
+    }
+
+    @Test
+    void getChain_FileRemoved_Throws() throws Exception {
+        // given
+        sut.getChain(chainPath);
+        Files.delete(chainFile);
+
+        // when-then
+        assertThrows(InternalLibraryException.class, () -> sut.getChain(chainPath));
+    }
+}
@@ -35,7 +35,6 @@ package com.intel.bkp.verifier.protocol.sigma.service;
 
 import com.intel.bkp.verifier.protocol.sigma.model.RootChainType;
 import com.intel.bkp.verifier.service.certificate.AppContext;
-import com.intel.bkp.verifier.utils.VerifierFileReader;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -55,7 +54,7 @@ class VerifierDHCertBuilderTest {
     private AppContext appContext;
 
     @Mock
-    private VerifierFileReader fileReader;
+    private VerifierChainCache verifierChainCache;
 
     @Mock
     private VerifierRootChainManager verifierRootChainManager;
@@ -67,25 +66,27 @@ class VerifierDHCertBuilderTest {
     void getChain_WithSingle_ReturnsSingle() {
         // given
         when(verifierRootChainManager.getChainPath(appContext, RootChainType.SINGLE)).thenReturn(SINGLE);
+        when(appContext.getVerifierChainCache()).thenReturn(verifierChainCache);
 
         // when
         sut.getChain(appContext, RootChainType.SINGLE);
 
         // then
         verify(verifierRootChainManager).verifyIfChainFileIsValid(appContext, RootChainType.SINGLE);
-        verify(fileReader).readFileBytes(SINGLE);
+        verify(verifierChainCache).getChain(SINGLE);
     }
 
     @Test
     void getChain_WithMulti_ReturnsMulti() {
         // given
         when(verifierRootChainManager.getChainPath(appContext, RootChainType.MULTI)).thenReturn(MULTI);
+        when(appContext.getVerifierChainCache()).thenReturn(verifierChainCache);
 
         // when
         sut.getChain(appContext, RootChainType.MULTI);
 
         // then
         verify(verifierRootChainManager).verifyIfChainFileIsValid(appContext, RootChainType.MULTI);
-        verify(fileReader).readFileBytes(MULTI);
+        verify(verifierChainCache).getChain(MULTI);
     }
 }
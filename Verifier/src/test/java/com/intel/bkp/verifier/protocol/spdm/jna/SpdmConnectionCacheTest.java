@@ -0,0 +1,176 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2023 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.verifier.protocol.spdm.jna;
+
+import com.intel.bkp.protocol.spdm.jna.model.SpdmProtocol;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Supplier;
+
+import static com.intel.bkp.verifier.protocol.spdm.jna.SpdmConnectionCache.MAX_ENTRIES;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SpdmConnectionCacheTest {
+
+    private static final byte[] DEVICE_ID = {1, 2, 3, 4, 5, 6, 7, 8};
+    private static final byte[] OTHER_DEVICE_ID = {8, 7, 6, 5, 4, 3, 2, 1};
+    private static final Duration MAX_TTL = Duration.ofMinutes(10);
+    private static final Instant NOW = Instant.parse("2023-01-01T00:00:00Z");
+
+    @Mock
+    private Supplier<SpdmProtocol> protocolFactory;
+
+    @Mock
+    private Clock clock;
+
+    private SpdmConnectionCache sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new SpdmConnectionCache(protocolFactory, MAX_TTL, clock);
+        lenient().when(clock.instant()).thenReturn(NOW);
+        lenient().when(protocolFactory.get()).thenAnswer(invocation -> mock(SpdmProtocol.class));
+    }
+
+    @Test
+    void get_SameDevice_ReturnsSameProtocol() {
+        // when
+        final SpdmProtocol first = sut.get(DEVICE_ID);
+        final SpdmProtocol second = sut.get(DEVICE_ID.clone());
+
+        // then
+        assertSame(first, second);
+        verify(protocolFactory, times(1)).get();
+    }
+
+    @Test
+    void get_DifferentDevices_ReturnsSeparateProtocols() {
+        // when
+        final SpdmProtocol first = sut.get(DEVICE_ID);
+        final SpdmProtocol second = sut.get(OTHER_DEVICE_ID);
+
+        // then
+        assertNotSame(first, second);
+        assertEquals(2, sut.size());
+    }
+
+    @Test
+    void get_CacheFull_EvictsLeastRecentlyUsedAndCachesNewDevice() {
+        // given
+        final SpdmProtocol recentlyUsed = sut.get(OTHER_DEVICE_ID);
+        for (int i = 0; i < MAX_ENTRIES - 1; i++) {
+            sut.get(new byte[]{(byte) i});
+        }
+        sut.get(OTHER_DEVICE_ID);
+
+        // when
+        final SpdmProtocol first = sut.get(DEVICE_ID);
+        final SpdmProtocol second = sut.get(DEVICE_ID);
+
+        // then
+        assertSame(first, second);
+        assertSame(recentlyUsed, sut.get(OTHER_DEVICE_ID));
+        assertEquals(MAX_ENTRIES, sut.size());
+    }
+
+    @Test
+    void get_EntryExpired_ReturnsNewProtocol() {
+        // given
+        final SpdmProtocol beforeExpiry = sut.get(DEVICE_ID);
+        when(clock.instant()).thenReturn(NOW.plus(MAX_TTL));
+
+        // when
+        final SpdmProtocol result = sut.get(DEVICE_ID);
+
+        // then
+        assertNotSame(beforeExpiry, result);
+        assertSame(result, sut.get(DEVICE_ID));
+    }
+
+    @Test
+    void get_ZeroTtl_DoesNotCache() {
+        // given
+        sut = new SpdmConnectionCache(protocolFactory, Duration.ZERO, clock);
+
+        // when
+        final SpdmProtocol first = sut.get(DEVICE_ID);
+        final SpdmProtocol second = sut.get(DEVICE_ID);
+
+        // then
+        assertNotSame(first, second);
+        assertEquals(0, sut.size());
+    }
+
+    @Test
+    void invalidate_RemovesConnectionOfDevice() {
+        // given
+        final SpdmProtocol beforeInvalidate = sut.get(DEVICE_ID);
+        final SpdmProtocol otherDevice = sut.get(OTHER_DEVICE_ID);
+
+        // when
+        sut.invalidate(DEVICE_ID);
+
+        // then
+        assertNotSame(beforeInvalidate, sut.get(DEVICE_ID));
+        assertSame(otherDevice, sut.get(OTHER_DEVICE_ID));
+    }
+
+    @Test
+    void clear_RemovesAllConnections() {
+        // given
+        final SpdmProtocol beforeClear = sut.get(DEVICE_ID);
+
+        // when
+        sut.clear();
+
+        // then
+        assertEquals(0, sut.size());
+        assertNotSame(beforeClear, sut.get(DEVICE_ID));
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2023 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.verifier.protocol.spdm.jna;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.intel.bkp.command.messages.spdm.SpdmMessageResponse;
+import com.intel.bkp.command.messages.spdm.SpdmMessageResponseBuilder;
+import com.intel.bkp.verifier.LoggerTestUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedConstruction;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.when;
+
+class SpdmMessageResponseHandlerTest {
+
+    private static final ByteBuffer BUFFER = ByteBuffer.wrap(new byte[]{0x12, (byte) 0x84});
+
+    private final SpdmMessageResponse response = mock(SpdmMessageResponse.class);
+
+    private LoggerTestUtil loggerTestUtil;
+
+    private final SpdmMessageResponseHandler sut = new SpdmMessageResponseHandler();
+
+    @BeforeEach
+    void setUp() {
+        loggerTestUtil = LoggerTestUtil.instance(SpdmMessageResponseHandler.class);
+        when(response.toString()).thenReturn("parsed response");
+    }
+
+    @AfterEach
+    void tearDown() {
+        loggerTestUtil.reset();
+        getLogger().setLevel(Level.TRACE);
+    }
+
+    @Test
+    void logMessage_DebugDisabled_DoesNotParseMessage() {
+        // given
+        getLogger().setLevel(Level.INFO);
+
+        try (MockedConstruction<SpdmMessageResponseBuilder> builders = mockBuilders()) {
+            // when
+            sut.logMessage(BUFFER);
+            sut.logResponse(BUFFER);
+
+            // then
+            assertEquals(0, builders.constructed().size());
+            assertEquals(0, loggerTestUtil.getSize());
+        }
+    }
+
+    @Test
+    void logMessage_DebugEnabled_LogsParsedMessage() {
+        // given
+        getLogger().setLevel(Level.DEBUG);
+
+        try (MockedConstruction<SpdmMessageResponseBuilder> builders = mockBuilders()) {
+            // when
+            sut.logMessage(BUFFER);
+
+            // then
+            assertEquals(1, builders.constructed().size());
+            assertTrue(loggerTestUtil.contains("SPDM Message: parsed response", Level.DEBUG));
+        }
+    }
+
+    private MockedConstruction<SpdmMessageResponseBuilder> mockBuilders() {
+        return mockConstruction(SpdmMessageResponseBuilder.class, (builder, context) -> {
+            when(builder.parse(any(ByteBuffer.class))).thenReturn(builder);
+            when(builder.build()).thenReturn(response);
+        });
+    }
+
+    private static Logger getLogger() {
+        return (Logger) LoggerFactory.getLogger(SpdmMessageResponseHandler.class);
+    }
+}
@@ -36,7 +36,6 @@ package com.intel.bkp.verifier.protocol.spdm.jna;
 import com.intel.bkp.crypto.constants.CryptoConstants;
 import com.intel.bkp.protocol.spdm.jna.model.LibSpdmLibraryWrapper;
 import com.intel.bkp.protocol.spdm.jna.model.NativeSize;
-import com.intel.bkp.protocol.spdm.jna.model.SessionCallbacks;
 import com.intel.bkp.protocol.spdm.jna.model.SpdmGetDigestResult;
 import com.intel.bkp.protocol.spdm.jna.model.Uint8;
 import com.intel.bkp.verifier.exceptions.VerifierRuntimeException;
@@ -56,7 +55,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.stubbing.Answer;
 
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 
+import static com.intel.bkp.protocol.spdm.jna.model.SpdmConstants.LIBSPDM_SENDER_RECEIVE_BUFFER_SIZE;
 import static com.intel.bkp.protocol.spdm.jna.model.SpdmConstants.LIBSPDM_STATUS_SUCCESS;
 import static com.intel.bkp.protocol.spdm.jna.model.SpdmConstants.SPDM_GET_MEASUREMENTS_REQUEST_ATTRIBUTES_GENERATE_SIGNATURE;
 import static com.intel.bkp.protocol.spdm.jna.model.SpdmConstants.SPDM_GET_MEASUREMENTS_REQUEST_ATTRIBUTES_RAW_BIT_STREAM_REQUESTED;
@@ -158,6 +160,7 @@ class SpdmProtocol12ImplTest {
 
             // then
             assertEquals(toHex(expectedSpdmVersion), result);
+            verifyCallbacksAreRegistered();
         }
     }
 
@@ -290,10 +293,10 @@ class SpdmProtocol12ImplTest {
                 });
 
             // when
-            final String result = sutSpy.getCerts(SLOT_ID);
+            final byte[] result = sutSpy.getCerts(SLOT_ID);
 
             // then
-            assertEquals(toHex(expectedCertChain), result);
+            assertArrayEquals(expectedCertChain, result);
         }
     }
 
@@ -356,10 +359,46 @@ class SpdmProtocol12ImplTest {
                 });
 
             // when
-            final String result = sutSpy.getMeasurements(SLOT_ID);
+            final byte[] result = sutSpy.getMeasurements(SLOT_ID);
 
             // then
-            assertEquals(toHex(expectedMeasurements), result);
+            assertArrayEquals(expectedMeasurements, result);
+        }
+    }
+
+    @Test
+    void getMeasurements_CalledTwice_ReusesContextBuffers() throws Exception {
+        // given
+        try (var wrapperMockedStatic = mockStatic(LibSpdmLibraryWrapperImpl.class)) {
+            mockWrapper();
+            prepareLibConfig();
+            prepareSpdmContextAndScratchBufferSize();
+
+            final SpdmProtocol12Impl sutSpy = mockConnectionAlreadyInitialized();
+            final byte[] firstMeasurements = new byte[]{1, 2, 3, 4};
+            final byte[] secondMeasurements = new byte[]{5, 6, 7, 8};
+            final List<Pointer> records = new ArrayList<>();
+            when(wrapperMock.libspdm_get_measurement_w(any(), any(), any(), any(), any(), any()))
+                .thenAnswer((Answer<Long>) invocation -> {
+                    final Object[] arguments = invocation.getArguments();
+                    final Pointer measurementRecordLength = (Pointer) arguments[1];
+                    final Pointer measurementRecord = (Pointer) arguments[2];
+                    assertEquals(LIBSPDM_SENDER_RECEIVE_BUFFER_SIZE, measurementRecordLength.getInt(0));
+                    records.add(measurementRecord);
+                    setBufferData(records.size() == 1 ? firstMeasurements : secondMeasurements,
+                        measurementRecord, measurementRecordLength);
+
+                    return LIBSPDM_STATUS_SUCCESS;
+                });
+
+            // when
+            final byte[] firstResult = sutSpy.getMeasurements(SLOT_ID);
+            final byte[] secondResult = sutSpy.getMeasurements(SLOT_ID);
+
+            // then
+            assertEquals(records.get(0), records.get(1));
+            assertArrayEquals(firstMeasurements, firstResult);
+            assertArrayEquals(secondMeasurements, secondResult);
         }
     }
 
@@ -408,7 +447,7 @@ class SpdmProtocol12ImplTest {
 
     private void verifyCallbacksAreRegistered() {
         verify(wrapperMock)
-            .set_callbacks(any(SessionCallbacks.class));
+            .libspdm_prepare_context_w(any(), any(), eq(sut.getCallbacks()));
     }
 
     private void mockWrapper() {
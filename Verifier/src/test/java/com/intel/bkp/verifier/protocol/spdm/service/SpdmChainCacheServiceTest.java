@@ -0,0 +1,162 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2023 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.verifier.protocol.spdm.service;
+
+import com.intel.bkp.verifier.database.model.SpdmChainCacheEntity;
+import com.intel.bkp.verifier.database.repository.SpdmChainCacheEntityService;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.util.Optional;
+
+import static com.intel.bkp.verifier.service.certificate.DiceChainType.ATTESTATION;
+import static com.intel.bkp.verifier.service.certificate.DiceChainType.IID;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SpdmChainCacheServiceTest {
+
+    private static final byte[] DEVICE_ID = {1, 2};
+    private static final int SLOT_ID = 1;
+    private static final byte[] DIGEST = {3, 4};
+    private static final byte[] OTHER_DIGEST = {8, 9};
+    private static final byte[] CHAIN = {5, 6, 7};
+    private static final byte[] OTHER_CHAIN = {10, 11};
+    private static final String CHAIN_KEY = "0102_1";
+    private static final int CURRENT_SCHEMA_VERSION = 2;
+
+    @Mock
+    private SpdmChainCacheEntityService entityService;
+
+    private SpdmChainCacheService sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new SpdmChainCacheService(entityService);
+    }
+
+    @Test
+    void find_NotCached_ReturnsEmpty() {
+        // given
+        when(entityService.read(CHAIN_KEY)).thenReturn(Optional.empty());
+
+        // when
+        final Optional<SpdmCachedChain> result = sut.find(DEVICE_ID, SLOT_ID, DIGEST);
+
+        // then
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void find_CachedWithDifferentDigest_ReturnsEmpty() {
+        // given
+        when(entityService.read(CHAIN_KEY))
+            .thenReturn(Optional.of(new SpdmChainCacheEntity(CHAIN_KEY, "0102", "0809", "IID", "050607")));
+
+        // when
+        final Optional<SpdmCachedChain> result = sut.find(DEVICE_ID, SLOT_ID, DIGEST);
+
+        // then
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void find_Cached_ReturnsChain() {
+        // given
+        when(entityService.read(CHAIN_KEY))
+            .thenReturn(Optional.of(new SpdmChainCacheEntity(CHAIN_KEY, "0102", "0304", "IID", "050607")));
+
+        // when
+        final Optional<SpdmCachedChain> result = sut.find(DEVICE_ID, SLOT_ID, DIGEST);
+
+        // then
+        assertTrue(result.isPresent());
+        assertEquals(IID, result.get().chainType());
+        assertArrayEquals(CHAIN, result.get().chain());
+    }
+
+    @Test
+    void store_StoresEntityWithKeyFromDeviceIdAndSlotId() {
+        // given
+        final var captor = ArgumentCaptor.forClass(SpdmChainCacheEntity.class);
+
+        // when
+        sut.store(DEVICE_ID, SLOT_ID, DIGEST, new SpdmCachedChain(IID, CHAIN));
+
+        // then
+        verify(entityService).store(captor.capture());
+        assertEquals(new SpdmChainCacheEntity(CHAIN_KEY, "0102", "0304", "IID", "050607"), captor.getValue());
+    }
+
+    @Test
+    @SneakyThrows
+    void store_NewDigestForSameDeviceAndSlot_ReplacesPreviousChain() {
+        try (Connection connection = DriverManager.getConnection("jdbc:sqlite::memory:")) {
+            // given
+            final var entityServiceWithDatabase = new SpdmChainCacheEntityService(connection);
+            entityServiceWithDatabase.migrate(0, CURRENT_SCHEMA_VERSION);
+            final var sutWithDatabase = new SpdmChainCacheService(entityServiceWithDatabase);
+            sutWithDatabase.store(DEVICE_ID, SLOT_ID, DIGEST, new SpdmCachedChain(IID, CHAIN));
+
+            // when
+            sutWithDatabase.store(DEVICE_ID, SLOT_ID, OTHER_DIGEST, new SpdmCachedChain(ATTESTATION, OTHER_CHAIN));
+
+            // then
+            assertFalse(sutWithDatabase.find(DEVICE_ID, SLOT_ID, DIGEST).isPresent());
+            final Optional<SpdmCachedChain> result = sutWithDatabase.find(DEVICE_ID, SLOT_ID, OTHER_DIGEST);
+            assertTrue(result.isPresent());
+            assertArrayEquals(OTHER_CHAIN, result.get().chain());
+            assertEquals(1, countRows(connection));
+        }
+    }
+
+    private static int countRows(Connection connection) throws Exception {
+        try (var statement = connection.createStatement();
+             var resultSet = statement.executeQuery("SELECT COUNT(*) FROM spdm_chain_cache")) {
+            return resultSet.getInt(1);
+        }
+    }
+}
@@ -44,7 +44,10 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.security.cert.X509Certificate;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import static com.intel.bkp.test.CertificateUtils.readCertificate;
 import static com.intel.bkp.verifier.ChainPrepare.COMMON_PRE_FOLDER;
@@ -61,6 +64,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -76,6 +80,9 @@ class SpdmChainSearcherTest {
     private static final int SLOT_1 = 1;
     private static final int SLOT_3 = 3;
     public static final List<Integer> FILLED_SLOTS = List.of(SLOT_0, SLOT_1, SLOT_3);
+    private static final byte[] DIGEST_0 = {0, 0};
+    private static final byte[] DIGEST_1 = {1, 1};
+    private static final byte[] DIGEST_3 = {3, 3};
     private static final byte[] DEVICE_ID = {1, 2};
     private static final byte[] EFUSE_CHAIN = prepareEfuseChain();
     private static final byte[] IID_CHAIN = prepareIidChain();
@@ -95,6 +102,8 @@ class SpdmChainSearcherTest {
     private RootHashVerifier rootHashVerifier;
     @Mock
     private ValidChainNotFoundHandler validChainNotFoundHandler;
+    @Mock
+    private SpdmChainCacheService spdmChainCacheService;
 
     private SpdmChainSearcher sut;
 
@@ -102,15 +111,19 @@ class SpdmChainSearcherTest {
     void setUp() throws Exception {
         sut = new SpdmChainSearcher(spdmGetDigestMessageSender, spdmGetCertificateMessageSender,
             spdmChainPolicyProvider, diceAttestationRevocationService, rootHashVerifier,
-                new String[]{TRUSTED_ROOT_HASH}, validChainNotFoundHandler);
-        when(spdmGetDigestMessageSender.send()).thenReturn(FILLED_SLOTS);
+                new String[]{TRUSTED_ROOT_HASH}, validChainNotFoundHandler, spdmChainCacheService);
+        final Map<Integer, byte[]> slotDigests = new LinkedHashMap<>();
+        slotDigests.put(SLOT_0, DIGEST_0);
+        slotDigests.put(SLOT_1, DIGEST_1);
+        slotDigests.put(SLOT_3, DIGEST_3);
+        when(spdmGetDigestMessageSender.sendForDigests()).thenReturn(slotDigests);
     }
 
 
     @Test
     void searchValidChains_getFilledSlotsFails_RunsHandlerAndThrows() throws Exception {
         // given
-        when(spdmGetDigestMessageSender.send()).thenThrow(new SpdmCommandFailedException(1L));
+        when(spdmGetDigestMessageSender.sendForDigests()).thenThrow(new SpdmCommandFailedException(1L));
 
         // when-then
         assertThrows(ValidChainNotFoundException.class, () -> sut.searchValidChains(DEVICE_ID));
@@ -249,6 +262,106 @@ class SpdmChainSearcherTest {
         assertFalse(result.contains(IID));
     }
 
+    @Test
+    void searchValidChain_ValidChainNotCached_StoresChainInCache() throws Exception {
+        // given
+        mockRootIsTrusted();
+        mockPolicyMetByOnlyAttestationChain();
+
+        when(spdmGetCertificateMessageSender.send(SLOT_0)).thenReturn(EFUSE_CHAIN);
+
+        // when
+        sut.searchValidChains(DEVICE_ID);
+
+        // then
+        verify(diceAttestationRevocationService).verifyChain(eq(DEVICE_ID), any());
+        verify(spdmChainCacheService).store(DEVICE_ID, SLOT_0, DIGEST_0, new SpdmCachedChain(ATTESTATION, EFUSE_CHAIN));
+    }
+
+    @Test
+    void searchValidChain_CachedIidChain_DoesNotRequestChainAndVerifiesOnlyStatus() throws Exception {
+        // given
+        mockRootIsTrusted();
+        mockPolicyMetByAttestationChainAndIidChain();
+
+        when(spdmGetCertificateMessageSender.send(SLOT_0)).thenReturn(EFUSE_CHAIN);
+        when(spdmChainCacheService.find(DEVICE_ID, SLOT_1, DIGEST_1))
+            .thenReturn(Optional.of(new SpdmCachedChain(IID, IID_CHAIN)));
+
+        // when
+        final SpdmValidChains result = sut.searchValidChains(DEVICE_ID);
+
+        // then
+        verify(spdmGetCertificateMessageSender).send(SLOT_0);
+        verifyNoMoreInteractions(spdmGetCertificateMessageSender);
+        verify(diceAttestationRevocationService).verifyChainStatus(eq(DEVICE_ID), any());
+        assertTrue(result.contains(IID));
+        assertEquals(SLOT_1, result.get(IID).slotId());
+    }
+
+    @Test
+    void searchValidChain_CachedAttChainSameAsRetrieved_VerifiesOnlyStatus() throws Exception {
+        // given
+        mockRootIsTrusted();
+        mockPolicyMetByOnlyAttestationChain();
+
+        when(spdmGetCertificateMessageSender.send(SLOT_0)).thenReturn(EFUSE_CHAIN);
+        when(spdmChainCacheService.find(DEVICE_ID, SLOT_0, DIGEST_0))
+            .thenReturn(Optional.of(new SpdmCachedChain(ATTESTATION, EFUSE_CHAIN)));
+
+        // when
+        final SpdmValidChains result = sut.searchValidChains(DEVICE_ID);
+
+        // then
+        verify(diceAttestationRevocationService).verifyChainStatus(eq(DEVICE_ID), any());
+        verify(diceAttestationRevocationService, never()).verifyChain(any(), any());
+        verify(spdmChainCacheService, never()).store(any(), anyInt(), any(), any());
+        assertTrue(result.contains(ATTESTATION));
+        assertEquals(SLOT_0, result.get(ATTESTATION).slotId());
+    }
+
+    @Test
+    void searchValidChain_CachedAttChainDiffersFromRetrieved_RunsFullVerification() throws Exception {
+        // given
+        mockRootIsTrusted();
+        mockPolicyMetByOnlyAttestationChain();
+
+        when(spdmGetCertificateMessageSender.send(SLOT_0)).thenReturn(EFUSE_CHAIN);
+        when(spdmChainCacheService.find(DEVICE_ID, SLOT_0, DIGEST_0))
+            .thenReturn(Optional.of(new SpdmCachedChain(ATTESTATION, INVALID_CHAIN)));
+
+        // when
+        final SpdmValidChains result = sut.searchValidChains(DEVICE_ID);
+
+        // then
+        verify(spdmGetCertificateMessageSender).send(SLOT_0);
+        verify(diceAttestationRevocationService).verifyChain(eq(DEVICE_ID), any());
+        verify(diceAttestationRevocationService, never()).verifyChainStatus(any(), any());
+        assertTrue(result.contains(ATTESTATION));
+    }
+
+    @Test
+    void searchValidChain_CachedChainStatusVerificationFails_ContinuesSearchingInNextSlots() throws Exception {
+        // given
+        mockRootIsTrusted();
+        mockPolicyMetByOnlyAttestationChain();
+
+        when(spdmGetCertificateMessageSender.send(SLOT_0)).thenReturn(EFUSE_CHAIN);
+        when(spdmGetCertificateMessageSender.send(SLOT_1)).thenReturn(EFUSE_CHAIN);
+        when(spdmChainCacheService.find(DEVICE_ID, SLOT_0, DIGEST_0))
+            .thenReturn(Optional.of(new SpdmCachedChain(ATTESTATION, EFUSE_CHAIN)));
+        doThrow(VERIFIER_RUNTIME_EXCEPTION)
+            .when(diceAttestationRevocationService)
+            .verifyChainStatus(eq(DEVICE_ID), any());
+
+        // when
+        final SpdmValidChains result = sut.searchValidChains(DEVICE_ID);
+
+        // then
+        assertTrue(result.contains(ATTESTATION));
+        assertEquals(SLOT_1, result.get(ATTESTATION).slotId());
+    }
+
     private void mockRootIsTrusted() {
         when(rootHashVerifier.verifyRootHash(rootCert, new String[]{TRUSTED_ROOT_HASH})).thenReturn(true);
     }
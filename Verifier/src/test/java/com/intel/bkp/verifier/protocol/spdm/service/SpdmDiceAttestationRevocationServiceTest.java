@@ -33,7 +33,7 @@
 
 package com.intel.bkp.verifier.protocol.spdm.service;
 
-import com.intel.bkp.fpgacerts.dp.DistributionPointCrlProvider;
+import com.intel.bkp.fpgacerts.dp.CachingCrlProvider;
 import com.intel.bkp.verifier.model.LibConfig;
 import com.intel.bkp.verifier.service.certificate.AppContext;
 import com.intel.bkp.verifier.service.certificate.DiceAliasChainVerifier;
@@ -49,7 +49,8 @@ import java.util.List;
 import static com.intel.bkp.test.CertificateUtils.readCertificate;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -76,6 +77,8 @@ class SpdmDiceAttestationRevocationServiceTest {
     @Test
     void constructor_configuresProperly() {
         // given
+        final var cachingCrlProvider = mock(CachingCrlProvider.class);
+        when(appContext.getCrlProvider()).thenReturn(cachingCrlProvider);
         when(appContext.getDpTrustedRootHashes()).thenReturn(TRUSTED_ROOT_HASH);
         when(appContext.getLibConfig()).thenReturn(libConfig);
         when(libConfig.isTestModeSecrets()).thenReturn(true);
@@ -88,7 +91,7 @@ class SpdmDiceAttestationRevocationServiceTest {
         assertEquals(DICE_ROOT_HASH, diceCertVerifier.getTrustedRootHash()[1]);
 
         final var crlProvider = diceCertVerifier.getCrlVerifier().getCrlProvider();
-        assertTrue(crlProvider instanceof DistributionPointCrlProvider);
+        assertSame(cachingCrlProvider, crlProvider);
     }
 
     @Test
@@ -106,4 +109,19 @@ class SpdmDiceAttestationRevocationServiceTest {
         verify(diceAliasChainVerifier).verifyChain(certChain);
     }
 
+    @Test
+    void verifyChainStatus_CallsVerifyChainStatus() {
+        // given
+        final var sut = new SpdmDiceAttestationRevocationService(diceAliasChainVerifier);
+        final X509Certificate efuseCert = readCertificate(ALIAS_EFUSE_FOLDER, "UDS_EFUSE_ALIAS_3AB5A0DC4DE7CB08.cer");
+        final List<X509Certificate> certChain = List.of(efuseCert);
+        final var chainHolder = new SpdmCertificateChainHolder(1, DiceChainType.ATTESTATION, certChain);
+
+        // when-then
+        assertDoesNotThrow(() -> sut.verifyChainStatus(DEVICE_ID, chainHolder));
+
+        // then
+        verify(diceAliasChainVerifier).setDeviceId(DEVICE_ID);
+        verify(diceAliasChainVerifier).verifyChainStatus(certChain);
+    }
 }
@@ -41,7 +41,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import static com.intel.bkp.utils.HexConverter.toHex;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.mockito.Mockito.when;
 
@@ -66,7 +65,7 @@ class SpdmGetCertificateMessageSenderTest {
         // given
         final SpdmCertificateResponseBuilder builder = new SpdmCertificateResponseBuilder()
             .withCertificateChain(CERTIFICATE_CHAIN);
-        final String certResponse = toHex(builder.build().array());
+        final byte[] certResponse = builder.build().array();
         when(spdmProtocol.getCerts(SLOT_ID)).thenReturn(certResponse);
 
         // when
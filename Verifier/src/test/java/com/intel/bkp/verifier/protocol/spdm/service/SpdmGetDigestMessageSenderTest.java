@@ -44,7 +44,9 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
+import java.util.Map;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
@@ -87,4 +89,18 @@ class SpdmGetDigestMessageSenderTest {
         assertEquals(1, result.size());
         assertTrue(result.contains(SLOT_SET));
     }
+
+    @Test
+    void sendForDigests() throws SpdmCommandFailedException {
+        // given
+        final SpdmGetDigestResult getDigestResult = new SpdmGetDigestResult(SLOT_MASK, DIGEST, HASH_ALG_LEN);
+        when(spdmProtocol.getDigest()).thenReturn(getDigestResult);
+
+        // when
+        final Map<Integer, byte[]> result = sut.sendForDigests();
+
+        // then
+        assertEquals(1, result.size());
+        assertArrayEquals(DIGEST, result.get(SLOT_SET));
+    }
 }
@@ -42,7 +42,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import static com.intel.bkp.utils.HexConverter.toHex;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.mockito.Mockito.when;
 
@@ -67,7 +66,7 @@ class SpdmGetMeasurementMessageSenderTest {
         // given
         final SpdmMeasurementResponseBuilder builder = new SpdmMeasurementResponseBuilder();
         builder.setMeasurementRecord(MEASUREMENTS);
-        final String measurementResponse = toHex(builder.build().array());
+        final byte[] measurementResponse = builder.build().array();
         when(spdmProtocol.getMeasurements(SLOT_ID)).thenReturn(measurementResponse);
 
         // when
@@ -41,6 +41,7 @@ import com.intel.bkp.core.psgcertificate.PsgPublicKeyBuilder;
 import com.intel.bkp.core.psgcertificate.model.PsgCurveType;
 import com.intel.bkp.crypto.curve.CurvePoint;
 import com.intel.bkp.crypto.ecdh.EcdhKeyPair;
+import com.intel.bkp.crypto.ecdh.EcdhKeyPairPool;
 import com.intel.bkp.verifier.database.SQLiteHelper;
 import com.intel.bkp.verifier.database.repository.S10CacheEntityService;
 import com.intel.bkp.verifier.model.VerifierExchangeResponse;
@@ -108,6 +109,12 @@ class CreateDeviceAttestationSubKeyComponentTest {
     @Mock
     private SigmaM2DeviceIdVerifier deviceIdVerifier;
 
+    @Mock
+    private EcdhKeyPairPool ecdhKeyPairPool;
+
+    @Mock
+    private EcdhKeyPair ecdhKeyPair;
+
     @InjectMocks
     private CreateDeviceAttestationSubKeyComponent sut;
 
@@ -115,17 +122,18 @@ class CreateDeviceAttestationSubKeyComponentTest {
         new CreateAttestationSubKeyResponseBuilder();
 
     @Test
-    void perform_Success() {
+    void perform_Success() throws Exception {
         // given
         mockAppContext();
         mockDatabaseConnection();
         mockPubKeyBuilder();
+        when(ecdhKeyPairPool.take()).thenReturn(ecdhKeyPair);
 
         createSubKeyResponseBuilder.setSdmSessionId(SDM_SESSION_ID);
         doReturn(createSubKeyResponseBuilder)
             .when(createSubKeyMessageSender)
             .send(eq(transportLayer), eq(commandLayer), eq(CONTEXT), anyInt(),
-                eq(PUF_TYPE), any(EcdhKeyPair.class));
+                eq(PUF_TYPE), eq(ecdhKeyPair));
 
         when(s10AttestationRevocationService.checkAndRetrieve(DEVICE_ID,
             PufType.getPufTypeHex(PufType.EFUSE))).thenReturn(pufPubKey);
@@ -139,6 +147,7 @@ class CreateDeviceAttestationSubKeyComponentTest {
         verify(teardownMessageSender).send(transportLayer, commandLayer);
         verify(teardownMessageSender).send(transportLayer, commandLayer, SDM_SESSION_ID);
         verify(deviceIdVerifier).verify(eq(DEVICE_ID), any());
+        verify(ecdhKeyPair).zeroize();
     }
 
     private void mockPubKeyBuilder() {
@@ -150,6 +159,7 @@ class CreateDeviceAttestationSubKeyComponentTest {
     private void mockAppContext() {
         when(appContext.getTransportLayer()).thenReturn(transportLayer);
         when(appContext.getCommandLayer()).thenReturn(commandLayer);
+        when(appContext.getEcdhKeyPairPool()).thenReturn(ecdhKeyPairPool);
     }
 
     private void mockDatabaseConnection() {
@@ -41,12 +41,15 @@ import com.intel.bkp.protocol.spdm.exceptions.UnsupportedSpdmVersionException;
 import com.intel.bkp.protocol.spdm.service.SpdmGetVersionMessageSender;
 import com.intel.bkp.verifier.exceptions.VerifierRuntimeException;
 import com.intel.bkp.verifier.model.LibConfig;
+import com.intel.bkp.verifier.model.VerifierExchangeResponse;
 import com.intel.bkp.verifier.protocol.sigma.service.GpDiceAttestationComponent;
 import com.intel.bkp.verifier.protocol.sigma.service.GpGetCertificateMessageSender;
 import com.intel.bkp.verifier.protocol.sigma.service.GpS10AttestationComponent;
 import com.intel.bkp.verifier.protocol.sigma.service.TeardownMessageSender;
+import com.intel.bkp.verifier.protocol.spdm.jna.SpdmConnectionCache;
 import com.intel.bkp.verifier.protocol.spdm.service.SpdmDiceAttestationComponent;
 import com.intel.bkp.verifier.service.certificate.AppContext;
+import com.intel.bkp.verifier.service.certificate.DeviceContext;
 import com.intel.bkp.verifier.transport.model.TransportLayer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -73,6 +76,10 @@ class GetDeviceAttestationComponentTest {
 
     @Mock
     private AppContext appContext;
+    @Mock
+    private DeviceContext deviceContext;
+    @Mock
+    private SpdmConnectionCache spdmConnectionCache;
 
     @Mock
     private CommandLayer commandLayer;
@@ -222,13 +229,48 @@ class GetDeviceAttestationComponentTest {
         // given
         mockAppContextForSpdmAttestation();
         when(spdmGetVersionMessageSender.send()).thenReturn(SPDM_SUPPORTED_VERSION);
+        when(spdmDiceAttestationComponent.perform(REF_MEASUREMENT, DEVICE_ID)).thenReturn(VerifierExchangeResponse.OK);
 
         // when
         sut.perform(appContext, REF_MEASUREMENT, DEVICE_ID);
 
         // then
+        verify(deviceContext).setDeviceId(DEVICE_ID);
         verify(spdmDiceAttestationComponent).perform(REF_MEASUREMENT, DEVICE_ID);
         verify(gpDiceAttestationComponent, never()).perform(any(), any(), any());
+        verify(spdmConnectionCache, never()).invalidate(any());
+    }
+
+    @Test
+    void perform_SpdmAttestationFails_DropsCachedConnection() throws Exception {
+        // given
+        mockAppContextForSpdmAttestation();
+        when(spdmGetVersionMessageSender.send()).thenReturn(SPDM_SUPPORTED_VERSION);
+        when(appContext.getSpdmConnectionCache()).thenReturn(spdmConnectionCache);
+        when(spdmDiceAttestationComponent.perform(REF_MEASUREMENT, DEVICE_ID))
+            .thenThrow(new VerifierRuntimeException("One of certificates in chain has invalid UEID extension value."));
+
+        // when-then
+        assertThrows(VerifierRuntimeException.class, () -> sut.perform(appContext, REF_MEASUREMENT, DEVICE_ID));
+
+        // then
+        verify(spdmConnectionCache).invalidate(DEVICE_ID);
+    }
+
+    @Test
+    void perform_SpdmEvidenceMismatch_DropsCachedConnection() throws Exception {
+        // given
+        mockAppContextForSpdmAttestation();
+        when(spdmGetVersionMessageSender.send()).thenReturn(SPDM_SUPPORTED_VERSION);
+        when(appContext.getSpdmConnectionCache()).thenReturn(spdmConnectionCache);
+        when(spdmDiceAttestationComponent.perform(REF_MEASUREMENT, DEVICE_ID))
+            .thenReturn(VerifierExchangeResponse.FAIL);
+
+        // when
+        sut.perform(appContext, REF_MEASUREMENT, DEVICE_ID);
+
+        // then
+        verify(spdmConnectionCache).invalidate(DEVICE_ID);
     }
 
     private void mockAppContextForGpAttestation() {
@@ -243,5 +285,6 @@ class GetDeviceAttestationComponentTest {
         when(appContext.getCommandLayer()).thenReturn(commandLayer);
         when(appContext.getLibConfig()).thenReturn(libConfig);
         when(libConfig.isRunGpAttestation()).thenReturn(false);
+        when(appContext.getDeviceContext()).thenReturn(deviceContext);
     }
 }
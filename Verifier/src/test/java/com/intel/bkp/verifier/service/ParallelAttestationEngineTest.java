@@ -0,0 +1,232 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2023 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.verifier.service;
+
+import com.intel.bkp.verifier.service.certificate.AppContext;
+import com.intel.bkp.verifier.service.certificate.DeviceContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ParallelAttestationEngineTest {
+
+    private static final List<String> TRANSPORT_IDS = List.of("dev1", "dev2", "dev3", "dev4", "dev5");
+
+    @Mock
+    private AppContext appContext;
+
+    @Mock
+    private DeviceContext deviceContext;
+
+    private ParallelAttestationEngine sut;
+
+    @AfterEach
+    void tearDown() {
+        if (sut != null) {
+            sut.close();
+        }
+    }
+
+    @Test
+    void constructor_NotPositiveLimit_Throws() {
+        // when-then
+        assertThrows(IllegalArgumentException.class, () -> new ParallelAttestationEngine(0));
+    }
+
+    @Test
+    void perform_EmptyList_ReturnsEmptyList() {
+        // given
+        sut = new ParallelAttestationEngine(2);
+
+        // when
+        final List<String> result = sut.perform(appContext, List.of(), id -> id, id -> "error");
+
+        // then
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(appContext);
+    }
+
+    @Test
+    void perform_ReturnsResultsInInputOrder() {
+        // given
+        when(appContext.openDeviceContext()).thenReturn(deviceContext);
+        sut = new ParallelAttestationEngine(3);
+
+        // when
+        final List<String> result = sut.perform(appContext, TRANSPORT_IDS, id -> {
+            sleepInversely(id);
+            return id.toUpperCase();
+        }, id -> "error");
+
+        // then
+        assertEquals(List.of("DEV1", "DEV2", "DEV3", "DEV4", "DEV5"), result);
+    }
+
+    @Test
+    void perform_OpensAndClosesDeviceContextPerDevice() {
+        // given
+        when(appContext.openDeviceContext()).thenReturn(deviceContext);
+        sut = new ParallelAttestationEngine(2);
+
+        // when
+        sut.perform(appContext, TRANSPORT_IDS, id -> id, id -> "error");
+
+        // then
+        verify(appContext, times(TRANSPORT_IDS.size())).openDeviceContext();
+        verify(deviceContext, times(TRANSPORT_IDS.size())).close();
+    }
+
+    @Test
+    void perform_TaskFails_ReturnsErrorResultOnlyForFailedDevice() {
+        // given
+        when(appContext.openDeviceContext()).thenReturn(deviceContext);
+        sut = new ParallelAttestationEngine(2);
+
+        // when
+        final List<String> result = sut.perform(appContext, TRANSPORT_IDS, id -> {
+            if ("dev2".equals(id)) {
+                throw new IllegalStateException("test");
+            }
+            return id;
+        }, id -> "error-" + id);
+
+        // then
+        assertEquals(List.of("dev1", "error-dev2", "dev3", "dev4", "dev5"), result);
+        verify(deviceContext, times(TRANSPORT_IDS.size())).close();
+    }
+
+    @Test
+    void perform_DoesNotExceedConcurrencyLimit() {
+        // given
+        final int limit = 2;
+        when(appContext.openDeviceContext()).thenReturn(deviceContext);
+        final var running = new AtomicInteger();
+        final var maxRunning = new AtomicInteger();
+        sut = new ParallelAttestationEngine(limit);
+
+        // when
+        sut.perform(appContext, TRANSPORT_IDS, id -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            sleep(50);
+            running.decrementAndGet();
+            return id;
+        }, id -> "error");
+
+        // then
+        assertTrue(maxRunning.get() <= limit);
+    }
+
+    @Test
+    void perform_RunsDevicesConcurrently() {
+        // given
+        when(appContext.openDeviceContext()).thenReturn(deviceContext);
+        final var allStarted = new CountDownLatch(TRANSPORT_IDS.size());
+        sut = new ParallelAttestationEngine(TRANSPORT_IDS.size());
+
+        // when
+        final List<Boolean> result = sut.perform(appContext, TRANSPORT_IDS, id -> {
+            allStarted.countDown();
+            return await(allStarted);
+        }, id -> false);
+
+        // then
+        assertTrue(result.stream().allMatch(Boolean::booleanValue));
+    }
+
+    @Test
+    void perform_CalledTwice_ReusesThreads() {
+        // given
+        when(appContext.openDeviceContext()).thenReturn(deviceContext);
+        final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        sut = new ParallelAttestationEngine(1);
+
+        // when
+        sut.perform(appContext, TRANSPORT_IDS, id -> threads.add(Thread.currentThread()), id -> false);
+        sut.perform(appContext, TRANSPORT_IDS, id -> threads.add(Thread.currentThread()), id -> false);
+
+        // then
+        assertEquals(1, threads.size());
+    }
+
+    @Test
+    void perform_AfterClose_Throws() {
+        // given
+        sut = new ParallelAttestationEngine(1);
+        sut.close();
+
+        // when-then
+        assertThrows(RejectedExecutionException.class,
+            () -> sut.perform(appContext, TRANSPORT_IDS, id -> id, id -> "error"));
+    }
+
+    private static void sleepInversely(String id) {
+        sleep(10L * (10 - Integer.parseInt(id.substring(3))));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -39,6 +39,7 @@ import com.intel.bkp.verifier.exceptions.TransportLayerException;
 import com.intel.bkp.verifier.model.VerifierExchangeResponse;
 import com.intel.bkp.verifier.model.dto.VerifierExchangeResponseDTO;
 import com.intel.bkp.verifier.service.certificate.AppContext;
+import com.intel.bkp.verifier.service.certificate.DeviceContext;
 import com.intel.bkp.verifier.transport.model.TransportLayer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -50,6 +51,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import static com.intel.bkp.utils.HexConverter.toHex;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -64,6 +66,9 @@ class VerifierExchangeImplTest {
     @Mock
     private AppContext appContext;
 
+    @Mock
+    private DeviceContext deviceContext;
+
     @Mock
     private TransportLayer transportLayer;
 
@@ -260,6 +265,52 @@ class VerifierExchangeImplTest {
         verify(transportLayer, times(1)).disconnect();
     }
 
+    @Test
+    void healthCheck_BindsDeviceContextForCall() {
+        try (var appContextMockStatic = mockStatic(AppContext.class)) {
+            // given
+            appContextMockStatic.when(AppContext::instance).thenReturn(appContext);
+            when(appContext.openDeviceContext()).thenReturn(deviceContext);
+            mockAppContext();
+            when(transportLayer.sendCommand(any())).thenReturn(new byte[]{0x01, 0x02});
+
+            // when
+            final int result = sutSpy.healthCheck(TRANSPORT_ID);
+
+            // then
+            assertEquals(VerifierExchangeResponse.OK.getCode(), result);
+            verify(deviceContext).close();
+        }
+    }
+
+    @Test
+    void close_NotOpened_DoesNotReleaseAppContext() {
+        try (var appContextMockStatic = mockStatic(AppContext.class)) {
+            // when
+            sutSpy.close();
+
+            // then
+            appContextMockStatic.verifyNoInteractions();
+        }
+    }
+
+    @Test
+    void close_CalledTwiceAfterOpen_ReleasesAppContextOnce() {
+        try (var appContextMockStatic = mockStatic(AppContext.class)) {
+            // given
+            sutSpy.open();
+
+            // when
+            sutSpy.close();
+            sutSpy.close();
+
+            // then
+            appContextMockStatic.verify(AppContext::open);
+            appContextMockStatic.verify(AppContext::release);
+            appContextMockStatic.verify(AppContext::shutdown, never());
+        }
+    }
+
     private void mockAppContext() {
         when(appContext.getTransportLayer()).thenReturn(transportLayer);
     }
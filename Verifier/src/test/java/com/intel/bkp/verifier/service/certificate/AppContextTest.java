@@ -0,0 +1,262 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2023 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+package com.intel.bkp.verifier.service.certificate;
+
+import com.intel.bkp.core.security.ISecurityProvider;
+import com.intel.bkp.fpgacerts.dp.CachingCrlProvider;
+import com.intel.bkp.fpgacerts.dp.DistributionPointConnector;
+import com.intel.bkp.verifier.database.SQLiteHelper;
+import com.intel.bkp.verifier.model.LibConfig;
+import com.intel.bkp.verifier.model.VerifierKeyParams;
+import com.intel.bkp.verifier.protocol.sigma.service.VerifierKeyManager;
+import com.intel.bkp.verifier.transport.model.TransportLayerType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AppContextTest {
+
+    @Mock
+    private LibConfig libConfig;
+
+    @Mock
+    private ISecurityProvider securityProvider;
+
+    @Mock
+    private SQLiteHelper sqLiteHelper;
+
+    @Mock
+    private VerifierKeyParams verifierKeyParams;
+
+    @Mock
+    private VerifierKeyManager verifierKeyManager;
+
+    @Mock
+    private DistributionPointConnector dpConnector;
+
+    @Mock
+    private CachingCrlProvider crlProvider;
+
+    private MockedStatic<AppContext> appContextMockStatic;
+
+    @BeforeEach
+    void setUp() {
+        appContextMockStatic = mockStatic(AppContext.class, Answers.CALLS_REAL_METHODS);
+        appContextMockStatic.when(AppContext::initialize).thenAnswer(invocation -> createContext());
+    }
+
+    @AfterEach
+    void tearDown() {
+        AppContext.shutdown();
+        appContextMockStatic.close();
+    }
+
+    @Test
+    void close_NotOpened_ReleasesResources() throws Exception {
+        // given
+        final AppContext appContext = AppContext.instance();
+
+        // when
+        appContext.close();
+
+        // then
+        verify(sqLiteHelper).close();
+        verify(dpConnector).close();
+        verify(crlProvider).close();
+        assertTrue(appContext.getDpFetchingExecutor().isShutdown());
+        assertThrows(RejectedExecutionException.class, () -> appContext.getParallelAttestationEngine()
+            .perform(appContext, List.of("dev1"), id -> id, id -> "error"));
+        assertNotSame(appContext, AppContext.instance());
+    }
+
+    @Test
+    void close_Opened_DoesNotReleaseResources() throws Exception {
+        // given
+        AppContext.open();
+        final AppContext appContext = AppContext.instance();
+
+        // when
+        appContext.close();
+
+        // then
+        verify(sqLiteHelper, never()).close();
+        verify(dpConnector, never()).close();
+        assertFalse(appContext.getDpFetchingExecutor().isShutdown());
+        assertSame(appContext, AppContext.instance());
+        assertTrue(AppContext.isOpen());
+    }
+
+    @Test
+    void open_CalledManyTimes_KeepsSameContext() {
+        // given
+        AppContext.open();
+        final AppContext appContext = AppContext.instance();
+        appContext.close();
+
+        // when
+        AppContext.open();
+
+        // then
+        assertSame(appContext, AppContext.instance());
+    }
+
+    @Test
+    void release_OpenedTwice_KeepsContext() throws Exception {
+        // given
+        AppContext.open();
+        AppContext.open();
+
+        // when
+        AppContext.release();
+
+        // then
+        verify(sqLiteHelper, never()).close();
+        verify(dpConnector, never()).close();
+        assertTrue(AppContext.isOpen());
+    }
+
+    @Test
+    void release_AllHoldersReleased_ReleasesResources() throws Exception {
+        // given
+        AppContext.open();
+        AppContext.open();
+        AppContext.release();
+
+        // when
+        AppContext.release();
+
+        // then
+        verify(sqLiteHelper).close();
+        verify(dpConnector).close();
+        assertFalse(AppContext.isOpen());
+    }
+
+    @Test
+    void shutdown_Opened_ReleasesResources() throws Exception {
+        // given
+        AppContext.open();
+
+        // when
+        AppContext.shutdown();
+
+        // then
+        verify(sqLiteHelper).close();
+        verify(dpConnector).close();
+        assertFalse(AppContext.isOpen());
+    }
+
+    @Test
+    void instance_EcdhKeyPairPoolNotUsed_DoesNotCreatePool() {
+        // when
+        AppContext.instance().close();
+
+        // then
+        verify(libConfig, never()).getEcdhKeyPoolSize();
+    }
+
+    @Test
+    void getEcdhKeyPairPool_CalledTwice_CreatesPoolOnce() {
+        // given
+        final AppContext appContext = AppContext.instance();
+
+        // when
+        final var pool = appContext.getEcdhKeyPairPool();
+
+        // then
+        assertSame(pool, appContext.getEcdhKeyPairPool());
+        verify(libConfig, times(1)).getEcdhKeyPoolSize();
+    }
+
+    @Test
+    void init_KeyAlreadyVerified_DoesNotCheckKeyAgain() {
+        // given
+        when(verifierKeyManager.initialized()).thenReturn(true);
+        final AppContext appContext = AppContext.instance();
+
+        // when
+        appContext.init();
+        appContext.init();
+
+        // then
+        verify(verifierKeyManager, times(1)).initialized();
+    }
+
+    @Test
+    void getDeviceContext_NoneBound_Throws() {
+        // given
+        final AppContext appContext = AppContext.instance();
+
+        // when-then
+        assertThrows(IllegalStateException.class, appContext::getDeviceContext);
+    }
+
+    @Test
+    void getDeviceContext_Opened_ReturnsBoundContextUntilClosed() {
+        // given
+        when(libConfig.getTransportLayerType()).thenReturn(TransportLayerType.HPS);
+        final AppContext appContext = AppContext.instance();
+
+        // when
+        final DeviceContext deviceContext = appContext.openDeviceContext();
+
+        // then
+        assertSame(deviceContext, appContext.getDeviceContext());
+        deviceContext.close();
+        assertThrows(IllegalStateException.class, appContext::getDeviceContext);
+    }
+
+    private AppContext createContext() {
+        return new AppContext(libConfig, securityProvider, sqLiteHelper, verifierKeyParams, verifierKeyManager,
+            dpConnector, crlProvider, null, new StartupTimings());
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2023 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.verifier.service.certificate;
+
+import com.intel.bkp.command.model.CommandLayer;
+import com.intel.bkp.protocol.spdm.jna.model.SpdmProtocol;
+import com.intel.bkp.verifier.transport.model.TransportLayer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DeviceContextTest {
+
+    private static final byte[] DEVICE_ID = {1, 2, 3, 4, 5, 6, 7, 8};
+
+    @Mock
+    private TransportLayer transportLayer;
+
+    @Mock
+    private CommandLayer commandLayer;
+
+    @Mock
+    private Runnable unbind;
+
+    @Mock
+    private Function<byte[], SpdmProtocol> spdmProtocolResolver;
+
+    private DeviceContext sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new DeviceContext(transportLayer, commandLayer, unbind);
+    }
+
+    @Test
+    void close_DisconnectsTransportAndUnbinds() {
+        // when
+        sut.close();
+
+        // then
+        verify(transportLayer).disconnect();
+        verify(unbind).run();
+    }
+
+    @Test
+    void close_DisconnectFails_StillUnbinds() {
+        // given
+        doThrow(new IllegalStateException("test")).when(transportLayer).disconnect();
+
+        // when
+        sut.close();
+
+        // then
+        verify(unbind).run();
+    }
+
+    @Test
+    void getSpdmProtocol_CalledTwice_ResolvesOnce() {
+        // given
+        sut.setDeviceId(DEVICE_ID);
+        when(spdmProtocolResolver.apply(DEVICE_ID)).thenReturn(mock(SpdmProtocol.class));
+
+        // when
+        final SpdmProtocol first = sut.getSpdmProtocol(spdmProtocolResolver);
+        final SpdmProtocol second = sut.getSpdmProtocol(spdmProtocolResolver);
+
+        // then
+        assertSame(first, second);
+        verify(spdmProtocolResolver, times(1)).apply(DEVICE_ID);
+    }
+
+    @Test
+    void getSpdmProtocol_DeviceIdChanged_ResolvesAgain() {
+        // given
+        when(spdmProtocolResolver.apply(any())).thenAnswer(invocation -> mock(SpdmProtocol.class));
+        sut.setDeviceId(DEVICE_ID);
+        final SpdmProtocol first = sut.getSpdmProtocol(spdmProtocolResolver);
+
+        // when
+        sut.setDeviceId(new byte[]{8, 7, 6, 5, 4, 3, 2, 1});
+
+        // then
+        assertNotSame(first, sut.getSpdmProtocol(spdmProtocolResolver));
+    }
+}
@@ -33,6 +33,7 @@
 
 package com.intel.bkp.verifier.service.certificate;
 
+import com.intel.bkp.fpgacerts.dice.DiceCertificateViews;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -51,7 +52,7 @@ class DiceChainMeasurementsCollectorTest {
 
     private static final List<X509Certificate> EFUSE_CHAIN = getRealEfuseChain();
 
-    private DiceChainMeasurementsCollector sut = new DiceChainMeasurementsCollector();
+    private DiceChainMeasurementsCollector sut = new DiceChainMeasurementsCollector(DiceCertificateViews::new);
 
     @SneakyThrows
     private static List<X509Certificate> getRealEfuseChain() {
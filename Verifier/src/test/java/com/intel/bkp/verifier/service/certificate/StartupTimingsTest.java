@@ -0,0 +1,81 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2023 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+package com.intel.bkp.verifier.service.certificate;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StartupTimingsTest {
+
+    private final StartupTimings sut = new StartupTimings();
+
+    @Test
+    void measure_ReturnsResultAndRecordsPhasesInOrder() {
+        // when
+        final String result = sut.measure("first", () -> "value");
+        sut.measure("second", () -> 1);
+
+        // then
+        assertEquals("value", result);
+        assertEquals(List.of("first", "second"), List.copyOf(sut.getPhases().keySet()));
+    }
+
+    @Test
+    void measure_ActionThrows_RecordsPhase() {
+        // when
+        assertThrows(IllegalStateException.class, () -> sut.measure("failing", () -> {
+            throw new IllegalStateException();
+        }));
+
+        // then
+        assertTrue(sut.getPhases().containsKey("failing"));
+    }
+
+    @Test
+    void toString_ContainsPhasesAndTotal() {
+        // given
+        sut.measure("config", () -> null);
+
+        // when
+        final String result = sut.toString();
+
+        // then
+        assertTrue(result.startsWith("config: "));
+        assertTrue(result.contains(", total: "));
+    }
+}
@@ -55,6 +55,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -137,7 +138,7 @@ class EvidenceVerifierTest {
         final var tcbInfo = prepareTcbInfoWithOwnerSecurityFuses(VENDOR_INFO);
         final var key = TcbInfoKey.from(tcbInfo);
         final var value = TcbInfoValue.from(tcbInfo);
-        when(rimService.getMeasurements(REF_MEASUREMENT)).thenReturn(prepareReferenceMeasurements(tcbInfo));
+        mockRim(prepareReferenceMeasurements(tcbInfo));
         mockResponse(tcbInfo);
 
         // when
@@ -157,7 +158,7 @@ class EvidenceVerifierTest {
         final var tcbInfo1Masked = prepareTcbInfoWithOwnerSecurityFusesMasked(VENDOR_INFO);
         final var tcbInfo1 = prepareTcbInfoWithOwnerSecurityFuses(VENDOR_INFO);
         final var tcbInfo2 = prepareTcbInfoWithFwId();
-        when(rimService.getMeasurements(REF_MEASUREMENT)).thenReturn(prepareReferenceMeasurements(tcbInfo1Masked));
+        mockRim(prepareReferenceMeasurements(tcbInfo1Masked));
 
         mockResponse(tcbInfo1, tcbInfo2);
 
@@ -175,7 +176,7 @@ class EvidenceVerifierTest {
         // given
         final var tcbInfo1Masked = prepareTcbInfoWithOwnerSecurityFusesMasked(VENDOR_INFO);
         final var endorsedMeasurements = prepareEndorsedMeasurements(tcbInfo1Masked);
-        when(rimService.getMeasurements(REF_MEASUREMENT)).thenReturn(endorsedMeasurements);
+        mockRim(endorsedMeasurements);
 
         // when
         final VerifierExchangeResponse result = sut.verify(tcbInfoMeasurementsAggregator, REF_MEASUREMENT);
@@ -193,7 +194,7 @@ class EvidenceVerifierTest {
         final var tcbInfo = prepareTcbInfoWithOwnerSecurityFusesMasked(VENDOR_INFO);
         final var measurementHolder = prepareEndorsedMeasurements(tcbInfo);
         measurementHolder.add(prepareReferenceMeasurements(tcbInfo));
-        when(rimService.getMeasurements(REF_MEASUREMENT)).thenReturn(measurementHolder);
+        mockRim(measurementHolder);
 
         // when
         final VerifierExchangeResponse result = sut.verify(new TcbInfoMeasurementsAggregator(), REF_MEASUREMENT);
@@ -208,7 +209,7 @@ class EvidenceVerifierTest {
         // given
         final var tcbInfo = prepareTcbInfoWithFwId();
         final var tcbInfoWithAdditionalValue = prepareTcbInfoWithFwIdAndAdditionalVendorInfo();
-        when(rimService.getMeasurements(REF_MEASUREMENT)).thenReturn(prepareReferenceMeasurements(tcbInfo));
+        mockRim(prepareReferenceMeasurements(tcbInfo));
         mockResponse(tcbInfoWithAdditionalValue);
 
         // when
@@ -227,7 +228,7 @@ class EvidenceVerifierTest {
         final var tcbInfoWithDiffValue = prepareTcbInfoWithOwnerSecurityFuses(VENDOR_INFO_INVALID);
         final var measurementHolder = prepareEndorsedMeasurements(tcbInfo);
         measurementHolder.add(prepareReferenceMeasurements(tcbInfoWithDiffValue));
-        when(rimService.getMeasurements(REF_MEASUREMENT)).thenReturn(measurementHolder);
+        mockRim(measurementHolder);
 
         // when
         final VerifierExchangeResponse result = sut.verify(new TcbInfoMeasurementsAggregator(), REF_MEASUREMENT);
@@ -245,8 +246,7 @@ class EvidenceVerifierTest {
         // given
         final var tcbInfo = prepareTcbInfoWithFwId();
         final var tcbInfoWithAdditionalValue = prepareTcbInfoWithFwIdAndAdditionalVendorInfo();
-        when(rimService.getMeasurements(REF_MEASUREMENT))
-            .thenReturn(prepareReferenceMeasurements(tcbInfoWithAdditionalValue));
+        mockRim(prepareReferenceMeasurements(tcbInfoWithAdditionalValue));
         mockResponse(tcbInfo);
 
         // when
@@ -264,7 +264,7 @@ class EvidenceVerifierTest {
     void verify_MissingMeasurementInResponse_ReturnsFail() {
         // given
         final var tcbInfo = prepareTcbInfoWithOwnerSecurityFuses(VENDOR_INFO);
-        when(rimService.getMeasurements(REF_MEASUREMENT)).thenReturn(prepareReferenceMeasurements(tcbInfo));
+        mockRim(prepareReferenceMeasurements(tcbInfo));
 
         // when
         final VerifierExchangeResponse result = sut.verify(tcbInfoMeasurementsAggregator, REF_MEASUREMENT);
@@ -280,7 +280,7 @@ class EvidenceVerifierTest {
         // given
         final var tcbInfo = prepareTcbInfoWithOwnerSecurityFuses(VENDOR_INFO);
         final var tcbInfoWithDiffValue = prepareTcbInfoWithOwnerSecurityFuses(VENDOR_INFO_INVALID);
-        when(rimService.getMeasurements(REF_MEASUREMENT)).thenReturn(prepareReferenceMeasurements(tcbInfo));
+        mockRim(prepareReferenceMeasurements(tcbInfo));
         mockResponse(tcbInfoWithDiffValue);
 
         // when
@@ -294,6 +294,50 @@ class EvidenceVerifierTest {
             Level.ERROR);
     }
 
+    @Test
+    void verify_MultipleMeasurementsFail_ReportsAllMismatches() {
+        // given
+        final var tcbInfo = prepareTcbInfoWithOwnerSecurityFuses(VENDOR_INFO);
+        final var tcbInfoWithDiffValue = prepareTcbInfoWithOwnerSecurityFuses(VENDOR_INFO_INVALID);
+        final var missingTcbInfo = prepareTcbInfoWithFwId();
+        mockRim(prepareReferenceMeasurements(tcbInfo, missingTcbInfo));
+        mockResponse(tcbInfoWithDiffValue);
+
+        // when
+        final VerifierExchangeResponse result = sut.verify(tcbInfoMeasurementsAggregator, REF_MEASUREMENT);
+
+        // then
+        assertEquals(FAIL, result);
+        verifyLogExists("Verification of measurement: %s".formatted(TcbInfoKey.from(missingTcbInfo)), INFO);
+        verifyLogExists("Response does not contain expected key.", Level.ERROR);
+        verifyLogExists("Evidence verification failed for 2 of 2 measurements:", Level.ERROR);
+        verifyLogExists(new MeasurementMismatch(TcbInfoKey.from(tcbInfo), TcbInfoValue.from(tcbInfo),
+            TcbInfoValue.from(tcbInfoWithDiffValue)).toString(), Level.ERROR);
+        verifyLogExists(new MeasurementMismatch(TcbInfoKey.from(missingTcbInfo), TcbInfoValue.from(missingTcbInfo),
+            null).toString(), Level.ERROR);
+    }
+
+    @Test
+    void findMismatches_ReportsKeyExpectedAndActualValue() {
+        // given
+        final var tcbInfo = prepareTcbInfoWithOwnerSecurityFuses(VENDOR_INFO);
+        final var tcbInfoWithDiffValue = prepareTcbInfoWithOwnerSecurityFuses(VENDOR_INFO_INVALID);
+        final var missingTcbInfo = prepareTcbInfoWithFwId();
+        final var references = RimMeasurements.from(prepareReferenceMeasurements(tcbInfo, missingTcbInfo))
+            .getReferences();
+        mockResponse(tcbInfoWithDiffValue);
+
+        // when
+        final List<MeasurementMismatch> result = sut.findMismatches(references, tcbInfoMeasurementsAggregator.getMap());
+
+        // then
+        assertEquals(List.of(
+            new MeasurementMismatch(TcbInfoKey.from(tcbInfo), TcbInfoValue.from(tcbInfo),
+                TcbInfoValue.from(tcbInfoWithDiffValue)),
+            new MeasurementMismatch(TcbInfoKey.from(missingTcbInfo), TcbInfoValue.from(missingTcbInfo), null)
+        ), result);
+    }
+
     private MeasurementHolder prepareReferenceMeasurements(TcbInfo... tcbInfos) {
         final var holder = new MeasurementHolder();
         holder.setReferenceMeasurements(Arrays.stream(tcbInfos).map(TcbInfoMeasurement::new)
@@ -308,6 +352,10 @@ class EvidenceVerifierTest {
         return holder;
     }
 
+    private void mockRim(MeasurementHolder measurementHolder) {
+        when(rimService.getMeasurements(REF_MEASUREMENT)).thenReturn(RimMeasurements.from(measurementHolder));
+    }
+
     private void mockResponse(TcbInfo... tcbInfos) {
         tcbInfoResponseMap.clear();
         for (final TcbInfo tcbInfo : tcbInfos) {
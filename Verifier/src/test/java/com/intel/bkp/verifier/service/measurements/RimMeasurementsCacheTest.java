@@ -0,0 +1,206 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2023 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.verifier.service.measurements;
+
+import com.intel.bkp.fpgacerts.dice.tcbinfo.FwIdField;
+import com.intel.bkp.fpgacerts.dice.tcbinfo.MeasurementHolder;
+import com.intel.bkp.fpgacerts.dice.tcbinfo.TcbInfoKey;
+import com.intel.bkp.fpgacerts.dice.tcbinfo.TcbInfoMeasurement;
+import com.intel.bkp.fpgacerts.dice.tcbinfo.TcbInfoValue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RimMeasurementsCacheTest {
+
+    private static final String RIM_HASH = "ABCD";
+    private static final Instant NOW = Instant.parse("2023-10-01T12:00:00Z");
+    private static final Duration MAX_TTL = Duration.ofHours(1);
+
+    private static final String DIGEST = "0102";
+
+    @Mock
+    private Clock clock;
+
+    private final MeasurementHolder measurements = new MeasurementHolder();
+
+    private RimMeasurements rim;
+
+    private RimMeasurementsCache sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new RimMeasurementsCache(MAX_TTL, clock);
+        measurements.getReferenceMeasurements().add(new TcbInfoMeasurement(
+            TcbInfoKey.builder().layer(0).build(),
+            TcbInfoValue.builder().fwid(Optional.of(new FwIdField("SHA384", DIGEST))).build()));
+        rim = RimMeasurements.from(measurements);
+    }
+
+    @Test
+    void get_NotCached_ReturnsEmpty() {
+        // when-then
+        assertTrue(sut.get(RIM_HASH).isEmpty());
+    }
+
+    @Test
+    void get_Cached_ReturnsCopyOfMeasurementsWithSharedCompiledReferences() {
+        // given
+        when(clock.instant()).thenReturn(NOW);
+        sut.put(RIM_HASH, rim, Instant.MAX);
+
+        // when
+        final var result = sut.get(RIM_HASH);
+
+        // then
+        assertTrue(result.isPresent());
+        assertEquals(measurements, result.get().getMeasurements());
+        assertNotSame(measurements.getReferenceMeasurements(),
+            result.get().getMeasurements().getReferenceMeasurements());
+        assertSame(rim.getReferences(), result.get().getReferences());
+    }
+
+    @Test
+    void get_ReturnedMeasurementsModified_CachedMeasurementsUnchanged() {
+        // given
+        when(clock.instant()).thenReturn(NOW);
+        sut.put(RIM_HASH, rim, Instant.MAX);
+        final MeasurementHolder returned = sut.get(RIM_HASH).orElseThrow().getMeasurements();
+
+        // when
+        returned.getReferenceMeasurements().get(0).getValue().getFwid().orElseThrow().setDigest("FFFF");
+        returned.getEndorsedMeasurements().add(returned.getReferenceMeasurements().get(0));
+
+        // then
+        assertEquals(measurements, sut.get(RIM_HASH).orElseThrow().getMeasurements());
+    }
+
+    @Test
+    void put_MeasurementsModifiedAfterPut_CachedMeasurementsUnchanged() {
+        // given
+        when(clock.instant()).thenReturn(NOW);
+        sut.put(RIM_HASH, rim, Instant.MAX);
+
+        // when
+        measurements.getReferenceMeasurements().get(0).getValue().getFwid().orElseThrow().setDigest("FFFF");
+
+        // then
+        final TcbInfoMeasurement cached = sut.get(RIM_HASH).orElseThrow().getMeasurements()
+            .getReferenceMeasurements().get(0);
+        assertEquals(DIGEST, cached.getValue().getFwid().orElseThrow().getDigest());
+    }
+
+    @Test
+    void get_ExpiredByMaxTtl_ReturnsEmptyAndRemovesEntry() {
+        // given
+        when(clock.instant()).thenReturn(NOW, NOW, NOW.plus(MAX_TTL));
+        sut.put(RIM_HASH, rim, Instant.MAX);
+
+        // when
+        final var result = sut.get(RIM_HASH);
+
+        // then
+        assertTrue(result.isEmpty());
+        assertEquals(0, sut.size());
+    }
+
+    @Test
+    void get_ExpiredByValidUntil_ReturnsEmpty() {
+        // given
+        final Instant validUntil = NOW.plusSeconds(10);
+        when(clock.instant()).thenReturn(NOW, NOW, validUntil);
+        sut.put(RIM_HASH, rim, validUntil);
+
+        // when-then
+        assertTrue(sut.get(RIM_HASH).isEmpty());
+    }
+
+    @Test
+    void put_AlreadyExpired_DoesNotCache() {
+        // given
+        when(clock.instant()).thenReturn(NOW);
+
+        // when
+        sut.put(RIM_HASH, rim, NOW.minusSeconds(1));
+
+        // then
+        assertEquals(0, sut.size());
+    }
+
+    @Test
+    void put_Disabled_DoesNotCache() {
+        // given
+        final var disabled = new RimMeasurementsCache(Duration.ZERO, Clock.fixed(NOW, ZoneOffset.UTC));
+
+        // when
+        disabled.put(RIM_HASH, rim, Instant.MAX);
+
+        // then
+        assertEquals(0, disabled.size());
+    }
+
+    @Test
+    void put_CacheFull_EvictsLeastRecentlyUsedEntry() {
+        // given
+        when(clock.instant()).thenReturn(NOW);
+        for (int i = 0; i < RimMeasurementsCache.MAX_ENTRIES; i++) {
+            sut.put(RIM_HASH + i, rim, Instant.MAX);
+        }
+        sut.get(RIM_HASH + 0);
+
+        // when
+        sut.put(RIM_HASH, rim, Instant.MAX);
+
+        // then
+        assertEquals(RimMeasurementsCache.MAX_ENTRIES, sut.size());
+        assertTrue(sut.get(RIM_HASH).isPresent());
+        assertTrue(sut.get(RIM_HASH + 0).isPresent());
+        assertTrue(sut.get(RIM_HASH + 1).isEmpty());
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2023 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.verifier.service.measurements;
+
+import com.intel.bkp.fpgacerts.cbor.service.IRimHandler;
+import com.intel.bkp.fpgacerts.dice.tcbinfo.MeasurementHolder;
+import com.intel.bkp.verifier.exceptions.VerifierRuntimeException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RimServiceTest {
+
+    private static final String RIM_HEX = "0102030405";
+    private static final String OTHER_RIM_HEX = "0A0B0C";
+    private static final Object PARSED_RIM = new Object();
+
+    @Mock
+    private IRimHandler<Object> rimHandler;
+
+    private final MeasurementHolder measurements = new MeasurementHolder();
+
+    private RimService sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new RimService(List.of(rimHandler), new RimMeasurementsCache(Duration.ofHours(1)));
+    }
+
+    @Test
+    void getMeasurements_SameRimTwice_ParsesAndVerifiesOnce() {
+        // given
+        when(rimHandler.parse(RIM_HEX)).thenReturn(PARSED_RIM);
+        when(rimHandler.getMeasurements(PARSED_RIM)).thenReturn(measurements);
+        when(rimHandler.getMeasurementsValidUntil()).thenReturn(Instant.MAX);
+
+        // when
+        final RimMeasurements first = sut.getMeasurements(RIM_HEX);
+        final RimMeasurements result = sut.getMeasurements(RIM_HEX);
+
+        // then
+        assertEquals(measurements, result.getMeasurements());
+        assertSame(first.getReferences(), result.getReferences());
+        verify(rimHandler, times(1)).parse(anyString());
+        verify(rimHandler, times(1)).getMeasurements(PARSED_RIM);
+    }
+
+    @Test
+    void getMeasurements_DifferentRims_ParsesEach() {
+        // given
+        when(rimHandler.parse(anyString())).thenReturn(PARSED_RIM);
+        when(rimHandler.getMeasurements(PARSED_RIM)).thenReturn(measurements);
+        when(rimHandler.getMeasurementsValidUntil()).thenReturn(Instant.MAX);
+
+        // when
+        sut.getMeasurements(RIM_HEX);
+        sut.getMeasurements(OTHER_RIM_HEX);
+
+        // then
+        verify(rimHandler, times(2)).parse(anyString());
+    }
+
+    @Test
+    void getMeasurements_RimAlreadyExpired_ParsesAgain() {
+        // given
+        when(rimHandler.parse(RIM_HEX)).thenReturn(PARSED_RIM);
+        when(rimHandler.getMeasurements(PARSED_RIM)).thenReturn(measurements);
+        when(rimHandler.getMeasurementsValidUntil()).thenReturn(Instant.now().minusSeconds(1));
+
+        // when
+        sut.getMeasurements(RIM_HEX);
+        sut.getMeasurements(RIM_HEX);
+
+        // then
+        verify(rimHandler, times(2)).getMeasurements(PARSED_RIM);
+    }
+
+    @Test
+    void getMeasurements_VerificationFails_DoesNotCacheAndThrows() {
+        // given
+        when(rimHandler.getFormatName()).thenReturn("TEST");
+        when(rimHandler.parse(RIM_HEX)).thenThrow(new IllegalStateException("invalid"));
+
+        // when-then
+        assertThrows(VerifierRuntimeException.class, () -> sut.getMeasurements(RIM_HEX));
+        assertThrows(VerifierRuntimeException.class, () -> sut.getMeasurements(RIM_HEX));
+
+        // then
+        verify(rimHandler, times(2)).parse(RIM_HEX);
+    }
+}
@@ -36,6 +36,7 @@ package com.intel.bkp.verifier.transport.systemconsole;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 class EscapeUtilsTest {
 
@@ -52,4 +53,15 @@ class EscapeUtilsTest {
         assertEquals(expectedEscapedStr, result);
     }
 
+    @Test
+    void escape_NothingToRemove_ReturnsSameString() {
+        // given
+        final String str = "0x01020304 0x00000000";
+
+        // when
+        final String result = EscapeUtils.escape(str);
+
+        // then
+        assertSame(str, result);
+    }
 }
@@ -33,6 +33,7 @@
 
 package com.intel.bkp.verifier.transport.systemconsole;
 
+import com.intel.bkp.verifier.transport.tcp.ResponseFraming;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -56,6 +57,7 @@ public class SystemConsoleConfigTest {
         assertEquals(expectedCableId, config.getCableId());
         assertEquals(80, config.getPort());
         assertEquals("127.0.0.1", config.getHost());
+        assertEquals(ResponseFraming.FIXED, config.getFraming());
     }
 
     @Test
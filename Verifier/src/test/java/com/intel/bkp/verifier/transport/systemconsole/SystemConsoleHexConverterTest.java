@@ -38,8 +38,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @ExtendWith(MockitoExtension.class)
@@ -150,4 +154,45 @@ class SystemConsoleHexConverterTest {
         assertThrows(IllegalArgumentException.class, () -> SystemConsoleHexConverter.fromString(response));
     }
 
+    @Test
+    void fromString_WithLowerCaseWordsAndNewLines_ReturnsArray() {
+        // given
+        String response = " 0x0d0c0b0a\n0x04030201  ";
+
+        // when
+        byte[] result = SystemConsoleHexConverter.fromString(response);
+
+        // then
+        assertArrayEquals(new byte[]{0x0A, 0x0B, 0x0C, 0x0D, 1, 2, 3, 4}, result);
+    }
+
+    @Test
+    void writeTo_WritesWordsAtBufferPosition() {
+        // given
+        final byte[] data = new byte[]{1, 2, 3, 4, (byte) 0xFA, (byte) 0xFB, (byte) 0xFC, (byte) 0xFD};
+        final ByteBuffer buffer = ByteBuffer.allocate(2 + SystemConsoleHexConverter.getEncodedLength(data));
+        buffer.put((byte) '{').put((byte) ' ');
+
+        // when
+        SystemConsoleHexConverter.writeTo(data, buffer);
+
+        // then
+        assertFalse(buffer.hasRemaining());
+        assertEquals("{ 0x04030201 0xFDFCFBFA", new String(buffer.array(), StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    void toString_FromString_RoundTrip() {
+        // given
+        final byte[] data = new byte[256];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) i;
+        }
+
+        // when
+        final byte[] result = SystemConsoleHexConverter.fromString(SystemConsoleHexConverter.toString(data));
+
+        // then
+        assertArrayEquals(data, result);
+    }
 }
@@ -33,20 +33,14 @@
 
 package com.intel.bkp.verifier.transport.systemconsole;
 
+import com.intel.bkp.verifier.transport.tcp.FakeFcsServer;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.Mock;
-import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.io.IOException;
-import java.nio.ByteBuffer;
-import java.nio.channels.SocketChannel;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.when;
 
-@ExtendWith(MockitoExtension.class)
 class SystemConsoleNioClientTest {
 
     private static final String COMMAND = "0x10000012";
@@ -65,23 +59,24 @@ class SystemConsoleNioClientTest {
     private static final String RESPONSE = "0x10002000 0x13f5567d 0x80d02eb6";
 
 
-    @Mock
-    private SocketChannel socketChannel;
+    private FakeFcsServer server;
 
     private SystemConsoleNioClient sut = new SystemConsoleNioClient();
 
+    @AfterEach
+    void tearDown() throws IOException {
+        sut.disconnect();
+        server.close();
+    }
+
     @Test
     void sendPacket_responseProcessing_Success() throws IOException {
         // given
         String tclCommand = new TclCommands().sendPacket(COMMAND);
-        sut.setSocketChannel(socketChannel);
-        when(socketChannel.read(any(ByteBuffer.class)))
-            .thenAnswer(invocation -> {
-                ByteBuffer buffer = invocation.getArgument(0);
-                final byte[] bytes = UNPROCESSED_RESPONSE.getBytes();
-                buffer.put(bytes);
-                return bytes.length;
-            });
+        server = new FakeFcsServer(request -> UNPROCESSED_RESPONSE.getBytes());
+        server.setChunkSize(64);
+        server.setChunkDelayMs(5);
+        sut.initialize(new SystemConsoleConfig(server.getTransportId("framing:idle; idleTimeout:100")));
 
         // when-then
         assertEquals(RESPONSE, sut.sendPacket(tclCommand));
@@ -40,8 +40,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.nio.charset.StandardCharsets;
+
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.AdditionalMatchers.aryEq;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doThrow;
@@ -82,21 +85,20 @@ class SystemConsoleTransportImplTest {
     @Test
     public void sendCommand_Success() {
         // given
-        String expectedTclCommand = new TclCommands().sendPacket(COMMAND_STR);
-        when(client.sendPacket(expectedTclCommand)).thenReturn(RESPONSE_STR);
+        byte[] expectedTclCommand = new TclCommands().sendPacket(COMMAND_STR).getBytes(StandardCharsets.UTF_8);
+        when(client.sendScript(aryEq(expectedTclCommand))).thenReturn(RESPONSE_STR);
 
         // when
         final byte[] result = sut.sendCommand(COMMAND);
 
         // then
-        verify(client).sendPacket(anyString());
         assertArrayEquals(RESPONSE, result);
     }
 
     @Test
     public void sendCommand_ThrowsException() {
         // given
-        doThrow(new TransportLayerException("test")).when(client).sendPacket(anyString());
+        doThrow(new TransportLayerException("test")).when(client).sendScript(any());
 
         // when-then
         assertThrows(TransportLayerException.class, () -> sut.sendCommand(COMMAND));
@@ -35,6 +35,9 @@ package com.intel.bkp.verifier.transport.systemconsole;
 
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -77,4 +80,17 @@ class TclCommandsTest {
         assertTrue(result.contains(command));
         assertFalse(result.contains(TclCommands.COMMAND));
     }
+
+    @Test
+    void sendPacket_Binary_SameAsScriptWithFormattedCommand() {
+        // given
+        final byte[] command = new byte[]{1, 2, 3, 4, 0x0A, 0x0B, 0x0C, 0x0D};
+        final String expected = sut.sendPacket("0x04030201 0x0D0C0B0A");
+
+        // when
+        final byte[] result = sut.sendPacket(command);
+
+        // then
+        assertEquals(expected, new String(result, StandardCharsets.UTF_8));
+    }
 }
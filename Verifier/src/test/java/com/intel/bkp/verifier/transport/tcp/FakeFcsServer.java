@@ -0,0 +1,148 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2020-2023 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.verifier.transport.tcp;
+
+import com.intel.bkp.command.header.CommandHeader;
+import com.intel.bkp.command.header.CommandHeaderManager;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * Local fake of FCS server running on HPS - responds to every received packet with bytes provided by responder.
+ * Responder returning null makes server close the connection without response.
+ */
+@Slf4j
+public class FakeFcsServer implements AutoCloseable {
+
+    private static final int REQUEST_BUFFER_SIZE = 1024 * 64;
+
+    private final ServerSocket serverSocket;
+    private final Function<byte[], byte[]> responder;
+    private final Thread serverThread;
+
+    @Setter
+    private volatile int responseDelayMs;
+
+    @Setter
+    private volatile int chunkSize;
+
+    @Setter
+    private volatile int chunkDelayMs;
+
+    @Setter
+    private volatile boolean closeAfterResponse;
+
+    public FakeFcsServer(Function<byte[], byte[]> responder) throws IOException {
+        this.responder = responder;
+        this.serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+        this.serverThread = new Thread(this::serve, "fake-fcs-server");
+        this.serverThread.setDaemon(true);
+        this.serverThread.start();
+    }
+
+    public static byte[] mailboxResponse(int argumentsWords) {
+        final byte[] header = CommandHeaderManager.buildForFw(new CommandHeader(0, argumentsWords, 0, 0));
+        final byte[] arguments = new byte[argumentsWords * Integer.BYTES];
+        Arrays.fill(arguments, (byte) 0x5A);
+        return ByteBuffer.allocate(header.length + arguments.length)
+            .put(header)
+            .put(arguments)
+            .array();
+    }
+
+    public String getTransportId(String additionalParams) {
+        return String.format("host:%s; port:%d; %s",
+            serverSocket.getInetAddress().getHostAddress(), serverSocket.getLocalPort(), additionalParams);
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+    }
+
+    private void serve() {
+        while (!serverSocket.isClosed()) {
+            try (Socket socket = serverSocket.accept()) {
+                handleConnection(socket);
+            } catch (IOException e) {
+                log.trace("Fake FCS server connection finished: {}", e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void handleConnection(Socket socket) throws IOException, InterruptedException {
+        final InputStream inputStream = socket.getInputStream();
+        final OutputStream outputStream = socket.getOutputStream();
+        final byte[] requestBuffer = new byte[REQUEST_BUFFER_SIZE];
+
+        int requestLength;
+        while ((requestLength = inputStream.read(requestBuffer)) >= 0) {
+            final byte[] response = responder.apply(Arrays.copyOf(requestBuffer, requestLength));
+            if (response == null) {
+                return;
+            }
+
+            Thread.sleep(responseDelayMs);
+            writeInChunks(outputStream, response);
+            if (closeAfterResponse) {
+                return;
+            }
+        }
+    }
+
+    private void writeInChunks(OutputStream outputStream, byte[] response) throws IOException,
+        InterruptedException {
+        final int step = chunkSize > 0 ? chunkSize : response.length;
+        for (int offset = 0; offset < response.length; offset += step) {
+            if (offset > 0) {
+                Thread.sleep(chunkDelayMs);
+            }
+            outputStream.write(response, offset, Math.min(step, response.length - offset));
+            outputStream.flush();
+        }
+    }
+}
@@ -34,6 +34,7 @@
 package com.intel.bkp.verifier.transport.tcp;
 
 import com.intel.bkp.verifier.exceptions.TransportLayerException;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -42,25 +43,39 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.SocketChannel;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class TcpClientTest {
 
     private static final byte[] COMMAND = new byte[]{0x00, 0x01, 0x02};
+    private static final int MAILBOX_RESPONSE_WORDS = 1000;
+    private static final int ROUND_TRIPS = 10;
 
     @Mock
     private SocketChannel socketChannel;
 
+    private FakeFcsServer server;
+
     private TcpClient sut = new TcpClient();
 
+    @AfterEach
+    void tearDown() throws IOException {
+        sut.disconnect();
+        if (server != null) {
+            server.close();
+        }
+    }
+
     @Test
     void initialize_Success() {
         // given
@@ -71,13 +86,94 @@ class TcpClientTest {
         assertThrows(TransportLayerException.class, () -> sut.initialize(config));
     }
 
+    @Test
+    void sendPacket_MailboxFramingWithResponseInChunks_ReturnsWholeResponse() throws IOException {
+        // given
+        final byte[] expected = FakeFcsServer.mailboxResponse(MAILBOX_RESPONSE_WORDS);
+        server = new FakeFcsServer(request -> expected);
+        server.setChunkSize(512);
+        server.setChunkDelayMs(5);
+        sut.initialize(new TcpConfig(server.getTransportId("framing:mailbox")));
+
+        // when
+        byte[] result = sut.sendPacket(COMMAND);
+
+        // then
+        assertArrayEquals(expected, result);
+    }
+
+    @Test
+    void sendPacket_MailboxFramingManyRoundTrips_ReturnsEachResponseExactly() throws IOException {
+        // given
+        final AtomicInteger requests = new AtomicInteger();
+        server = new FakeFcsServer(request -> FakeFcsServer.mailboxResponse(requests.incrementAndGet()));
+        sut.initialize(new TcpConfig(server.getTransportId("")));
+
+        // when-then
+        for (int i = 1; i <= ROUND_TRIPS; i++) {
+            assertArrayEquals(FakeFcsServer.mailboxResponse(i), sut.sendPacket(COMMAND));
+        }
+    }
+
+    @Test
+    void sendPacket_IdleFraming_ReturnsResponseAfterIdleTimeout() throws IOException {
+        // given
+        final byte[] expected = new byte[]{0x0A, 0x0B, 0x0C};
+        server = new FakeFcsServer(request -> expected);
+        sut.initialize(new TcpConfig(server.getTransportId("framing:idle; idleTimeout:50")));
+
+        // when
+        byte[] result = sut.sendPacket(COMMAND);
+
+        // then
+        assertArrayEquals(expected, result);
+    }
+
+    @Test
+    void sendPacket_FixedFramingWithPauseLongerThanIdleTimeout_ReturnsWholeResponse() throws IOException {
+        // given
+        final byte[] expected = new byte[]{0x0A, 0x0B, 0x0C, 0x0D};
+        server = new FakeFcsServer(request -> expected);
+        server.setChunkSize(2);
+        server.setChunkDelayMs(300);
+        sut.initialize(new TcpConfig(server.getTransportId("framing:fixed; idleTimeout:50")));
+
+        // when
+        byte[] result = sut.sendPacket(COMMAND);
+
+        // then
+        assertArrayEquals(expected, result);
+    }
+
+    @Test
+    void sendPacket_ResponseNotCompleteWithinReadTimeout_Throws() throws IOException {
+        // given
+        server = new FakeFcsServer(request -> FakeFcsServer.mailboxResponse(1));
+        server.setResponseDelayMs(500);
+        sut.initialize(new TcpConfig(server.getTransportId("readTimeout:100")));
+
+        // when-then
+        assertThrows(TransportLayerException.class, () -> sut.sendPacket(COMMAND));
+    }
+
+    @Test
+    void sendPacket_ConnectionClosedBeforeWholeMailboxResponse_Throws() throws IOException {
+        // given
+        final byte[] truncated = Arrays.copyOf(FakeFcsServer.mailboxResponse(4), 8);
+        server = new FakeFcsServer(request -> truncated);
+        server.setCloseAfterResponse(true);
+        sut.initialize(new TcpConfig(server.getTransportId("")));
+
+        // when-then
+        assertThrows(TransportLayerException.class, () -> sut.sendPacket(COMMAND));
+    }
+
     @Test
     void sendPacket_WithAlmostTooLargeBuffer_Success() throws IOException, TransportLayerException {
         // given
-        sut.setSocketChannel(socketChannel);
         int responseLength = TcpClient.RESPONSE_ALLOCATED_SIZE - 1;
-        when(socketChannel.read(any(ByteBuffer.class)))
-            .thenReturn(responseLength);
+        server = new FakeFcsServer(request -> new byte[responseLength]);
+        sut.initialize(new TcpConfig(server.getTransportId("framing:idle")));
 
         // when
         byte[] result = sut.sendPacket(COMMAND);
@@ -89,9 +185,8 @@ class TcpClientTest {
     @Test
     void sendPacket_WithTooLargeBuffer_Throws() throws IOException {
         // given
-        sut.setSocketChannel(socketChannel);
-        when(socketChannel.read(any(ByteBuffer.class)))
-            .thenReturn(TcpClient.RESPONSE_ALLOCATED_SIZE);
+        server = new FakeFcsServer(request -> new byte[TcpClient.RESPONSE_ALLOCATED_SIZE]);
+        sut.initialize(new TcpConfig(server.getTransportId("framing:idle")));
 
         // when-then
         assertThrows(TransportLayerException.class,
@@ -111,9 +206,8 @@ class TcpClientTest {
     @Test
     void sendPacket_NoResponseBytesReceived_Throws() throws IOException {
         // given
-        sut.setSocketChannel(socketChannel);
-        when(socketChannel.read(any(ByteBuffer.class)))
-            .thenReturn(-1);
+        server = new FakeFcsServer(request -> null);
+        sut.initialize(new TcpConfig(server.getTransportId("")));
 
         // when-then
         assertThrows(TransportLayerException.class, () -> sut.sendPacket(COMMAND));
@@ -93,4 +93,49 @@ class TcpConfigTest {
         assertThrows(IllegalArgumentException.class, () -> new TcpConfig(transportId));
     }
 
+    @Test
+    void tcpConfig_noFramingAndTimeouts_UsesDefaults() {
+        //given
+        final String transportId = "host:127.0.0.1; port:80";
+
+        //when
+        TcpConfig config = new TcpConfig(transportId);
+
+        //then
+        assertEquals(ResponseFraming.MAILBOX, config.getFraming());
+        assertEquals(TcpConfig.DEFAULT_READ_TIMEOUT_MS, config.getReadTimeout());
+        assertEquals(TcpConfig.DEFAULT_IDLE_TIMEOUT_MS, config.getIdleTimeout());
+    }
+
+    @Test
+    void tcpConfig_withFramingAndTimeouts_Success() {
+        //given
+        final String transportId = "host:127.0.0.1; port:80; framing:idle; readTimeout:5000; idleTimeout:50";
+
+        //when
+        TcpConfig config = new TcpConfig(transportId);
+
+        //then
+        assertEquals(ResponseFraming.IDLE, config.getFraming());
+        assertEquals(5000, config.getReadTimeout());
+        assertEquals(50, config.getIdleTimeout());
+    }
+
+    @Test
+    void tcpConfig_unknownFraming_Fail() {
+        //given
+        final String transportId = "host:127.0.0.1; port:80; framing:something";
+
+        //when-then
+        assertThrows(IllegalArgumentException.class, () -> new TcpConfig(transportId));
+    }
+
+    @Test
+    void tcpConfig_notPositiveReadTimeout_Fail() {
+        //given
+        final String transportId = "host:127.0.0.1; port:80; readTimeout:0";
+
+        //when-then
+        assertThrows(IllegalArgumentException.class, () -> new TcpConfig(transportId));
+    }
 }
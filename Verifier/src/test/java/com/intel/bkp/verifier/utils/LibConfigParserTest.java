@@ -33,6 +33,7 @@
 
 package com.intel.bkp.verifier.utils;
 
+import com.intel.bkp.fpgacerts.dp.cache.DpResponseCacheConfig;
 import com.intel.bkp.verifier.exceptions.InternalLibraryException;
 import com.intel.bkp.verifier.exceptions.VerifierRuntimeException;
 import com.intel.bkp.verifier.model.LibConfig;
@@ -46,10 +47,19 @@ import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
 
 import static com.intel.bkp.protocol.spdm.jna.model.SpdmConstants.DEFAULT_CT_EXPONENT;
+import static com.intel.bkp.verifier.config.Properties.ECDH_KEY_POOL_LOW_WATER_MARK;
 import static com.intel.bkp.verifier.config.Properties.LIB_SPDM_CT_EXPONENT;
 import static com.intel.bkp.verifier.config.Properties.LIB_SPDM_PARAMS_GROUP;
+import static com.intel.bkp.verifier.model.DatabaseConfiguration.DEFAULT_CONNECTION_POOL_SIZE;
+import static com.intel.bkp.verifier.model.DatabaseConfiguration.DEFAULT_READ_CACHE_MAX_ENTRIES;
+import static com.intel.bkp.verifier.utils.LibConfigParser.DEFAULT_ECDH_KEY_POOL_LOW_WATER_MARK;
+import static com.intel.bkp.verifier.utils.LibConfigParser.DEFAULT_ECDH_KEY_POOL_SIZE;
+import static com.intel.bkp.verifier.utils.LibConfigParser.DEFAULT_MAX_CONCURRENT_ATTESTATIONS;
+import static com.intel.bkp.verifier.utils.LibConfigParser.DEFAULT_RIM_CACHE_MAX_TTL_SECONDS;
+import static com.intel.bkp.verifier.utils.LibConfigParser.DEFAULT_SPDM_CONNECTION_CACHE_MAX_TTL_SECONDS;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -96,10 +106,18 @@ class LibConfigParserTest {
         assertFalse(config.getAttestationCertificateFlow().isRequireIidUds());
         assertTrue(config.isTestModeSecrets());
         assertFalse(config.isRunGpAttestation());
+        assertEquals(16, config.getMaxConcurrentAttestations());
+        assertEquals(600, config.getRimCacheMaxTtlSeconds());
+        assertEquals(300, config.getSpdmConnectionCacheMaxTtlSeconds());
+        assertEquals(8, config.getEcdhKeyPoolSize());
+        assertEquals(3, config.getEcdhKeyPoolLowWaterMark());
         assertEquals("fake_path", config.getLibSpdmParams().getWrapperLibraryPath());
         assertEquals(0xAA, config.getLibSpdmParams().getCtExponent());
         assertFalse(config.getLibSpdmParams().isMeasurementsRequestSignature());
         assertTrue(config.getDatabaseConfiguration().isInternalDatabase());
+        assertTrue(config.getDatabaseConfiguration().isReadCacheEnabled());
+        assertEquals(100, config.getDatabaseConfiguration().getReadCacheMaxEntries());
+        assertEquals(4, config.getDatabaseConfiguration().getConnectionPoolSize());
 
         assertEquals("path/to/single-rooted-chain",
             config.getVerifierKeyParams().getVerifierRootQkyChain().getSingleChainPath());
@@ -115,6 +133,12 @@ class LibConfigParserTest {
         assertEquals("proxy.intel.com", distributionPoint.getProxy().getHost());
         assertEquals(912, distributionPoint.getProxy().getPort());
 
+        var dpCacheConfig = config.getDpCacheConfig();
+        assertFalse(dpCacheConfig.isEnabled());
+        assertEquals(50, dpCacheConfig.getMaxEntries());
+        assertEquals("/tmp/dp-cache", dpCacheConfig.getDiskPath());
+        assertEquals(Duration.ofHours(1), dpCacheConfig.getDefaultMaxAge());
+
         var securityProviderParams = config.getProviderParams();
         assertNotNull(securityProviderParams);
 
@@ -155,9 +179,23 @@ class LibConfigParserTest {
         assertTrue(config.getAttestationCertificateFlow().isRequireIidUds());
         assertFalse(config.isTestModeSecrets());
         assertFalse(config.isRunGpAttestation());
+        assertEquals(DEFAULT_MAX_CONCURRENT_ATTESTATIONS, config.getMaxConcurrentAttestations());
+        assertEquals(DEFAULT_RIM_CACHE_MAX_TTL_SECONDS, config.getRimCacheMaxTtlSeconds());
+        assertEquals(DEFAULT_SPDM_CONNECTION_CACHE_MAX_TTL_SECONDS, config.getSpdmConnectionCacheMaxTtlSeconds());
+        assertEquals(DEFAULT_ECDH_KEY_POOL_SIZE, config.getEcdhKeyPoolSize());
+        assertEquals(DEFAULT_ECDH_KEY_POOL_LOW_WATER_MARK, config.getEcdhKeyPoolLowWaterMark());
         assertEquals("", config.getLibSpdmParams().getWrapperLibraryPath());
         assertEquals(DEFAULT_CT_EXPONENT, config.getLibSpdmParams().getCtExponent());
         assertTrue(config.getLibSpdmParams().isMeasurementsRequestSignature());
+        assertFalse(config.getDatabaseConfiguration().isReadCacheEnabled());
+        assertEquals(DEFAULT_READ_CACHE_MAX_ENTRIES, config.getDatabaseConfiguration().getReadCacheMaxEntries());
+        assertEquals(DEFAULT_CONNECTION_POOL_SIZE, config.getDatabaseConfiguration().getConnectionPoolSize());
+
+        var dpCacheConfig = config.getDpCacheConfig();
+        assertTrue(dpCacheConfig.isEnabled());
+        assertEquals(DpResponseCacheConfig.DEFAULT_MAX_ENTRIES, dpCacheConfig.getMaxEntries());
+        assertEquals("", dpCacheConfig.getDiskPath());
+        assertEquals(Duration.ZERO, dpCacheConfig.getDefaultMaxAge());
     }
 
     @Test
@@ -222,6 +260,28 @@ class LibConfigParserTest {
         assertEquals(expectedResult, result);
     }
 
+    @Test
+    void getEcdhKeyPoolLowWaterMark_GreaterThanPoolSize_Throws() {
+        // given
+        final SchemaParams prop = new SchemaParams();
+        prop.setProperty(ECDH_KEY_POOL_LOW_WATER_MARK, "5");
+
+        // when-then
+        assertThrows(IllegalArgumentException.class, () -> sut.getEcdhKeyPoolLowWaterMark(prop, 4));
+    }
+
+    @Test
+    void getEcdhKeyPoolLowWaterMark_NotSetAndPoolSmallerThanDefault_ReturnsPoolSize() {
+        // given
+        final SchemaParams prop = new SchemaParams();
+
+        // when
+        final int result = sut.getEcdhKeyPoolLowWaterMark(prop, 1);
+
+        // then
+        assertEquals(1, result);
+    }
+
     @Test
     void parseFile_WhitespacesInRootHashArray_Success() throws Exception {
         // given
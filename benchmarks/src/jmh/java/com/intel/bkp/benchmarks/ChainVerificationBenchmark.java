@@ -0,0 +1,122 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2023 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.benchmarks;
+
+import com.intel.bkp.crypto.x509.validation.ChainVerifier;
+import com.intel.bkp.crypto.x509.validation.VerifiedEdgeCache;
+import com.intel.bkp.fpgacerts.interfaces.ICrlProvider;
+import com.intel.bkp.fpgacerts.verification.DiceChainVerifierBase;
+import com.intel.bkp.test.DiceX509GeneratorUtil;
+import com.intel.bkp.test.KeyGenUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.security.cert.X509CRL;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.intel.bkp.crypto.x509.parsing.X509CertificateParser.toX509Certificate;
+import static com.intel.bkp.crypto.x509.parsing.X509CrlParser.toX509Crl;
+import static org.bouncycastle.asn1.x509.KeyPurposeId.id_kp_clientAuth;
+
+/**
+ * X509 chain verification on chains generated by DiceX509GeneratorUtil. Generated certificates have no DICE
+ * extensions, so DICE specific checks of DiceChainVerifierBase run but report failures, which are only counted.
+ */
+@State(Scope.Benchmark)
+public class ChainVerificationBenchmark {
+
+    private List<X509Certificate> chain;
+    private BenchmarkDiceChainVerifier diceChainVerifier;
+
+    @Setup
+    public void setUp() throws Exception {
+        final var generator = new DiceX509GeneratorUtil();
+        chain = new ArrayList<>();
+        for (byte[] cert : generator.generateX509ChainForCaServiceDer(KeyGenUtils.genEc384().getPublic())) {
+            chain.add(toX509Certificate(cert));
+        }
+        final X509CRL crl = toX509Crl(generator.generateX509CrlForCaServiceDer());
+        diceChainVerifier = new BenchmarkDiceChainVerifier(crlUrl -> crl);
+    }
+
+    @Benchmark
+    public boolean chainVerifier() {
+        return new ChainVerifier()
+            .certificates(chain)
+            .verify();
+    }
+
+    @Benchmark
+    public boolean chainVerifierWithVerifiedEdgeCache() {
+        return new ChainVerifier()
+            .verifiedEdgeCache(VerifiedEdgeCache.instance())
+            .certificates(chain)
+            .verify();
+    }
+
+    @Benchmark
+    public int diceChainVerifier() {
+        diceChainVerifier.verifyChain(chain);
+        return diceChainVerifier.failures;
+    }
+
+    @Benchmark
+    public int diceChainVerifierStatus() {
+        diceChainVerifier.verifyChainStatus(chain);
+        return diceChainVerifier.failures;
+    }
+
+    private static final class BenchmarkDiceChainVerifier extends DiceChainVerifierBase {
+
+        private int failures;
+
+        BenchmarkDiceChainVerifier(ICrlProvider crlProvider) {
+            super(crlProvider, null, false);
+        }
+
+        @Override
+        protected String[] getExpectedLeafCertKeyPurposes() {
+            return new String[]{id_kp_clientAuth.getId()};
+        }
+
+        @Override
+        protected void handleVerificationFailure(String failureDetails) {
+            failures++;
+        }
+    }
+}
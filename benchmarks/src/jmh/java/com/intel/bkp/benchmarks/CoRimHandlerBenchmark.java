@@ -0,0 +1,117 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2023 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.benchmarks;
+
+import com.intel.bkp.fpgacerts.cbor.service.CoRimHandler;
+import com.intel.bkp.fpgacerts.cbor.signer.CborSignatureVerifier;
+import com.intel.bkp.fpgacerts.dice.tcbinfo.MeasurementHolder;
+import com.intel.bkp.fpgacerts.dp.DistributionPointConnector;
+import com.intel.bkp.test.KeyGenUtils;
+import com.intel.bkp.test.rim.RimGenerator;
+import com.intel.bkp.test.rim.XrimGenerator;
+import com.upokecenter.cbor.CBORObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import javax.net.ssl.TrustManager;
+import java.security.KeyPair;
+
+import static com.intel.bkp.utils.HexConverter.toHex;
+
+/**
+ * CoRIM handling on RIMs generated by TestLibrary. Measurements are extracted from unsigned CoRIM with accept
+ * unsigned flag set, because signed CoRIM requires signing chain from distribution point - for signed CoRIM and
+ * XCoRIM parsing and COSE signature verification are measured instead.
+ */
+@State(Scope.Benchmark)
+public class CoRimHandlerBenchmark {
+
+    private final CborSignatureVerifier signatureVerifier = new CborSignatureVerifier();
+
+    private DistributionPointConnector dpConnector;
+    private CoRimHandler coRimHandler;
+    private KeyPair keyPair;
+    private String signedRimHex;
+    private String unsignedRimHex;
+    private String xrimHex;
+    private CBORObject signedRim;
+    private CBORObject unsignedRim;
+
+    @Setup
+    public void setUp() {
+        dpConnector = new DistributionPointConnector(null, null, (TrustManager[]) null);
+        coRimHandler = new CoRimHandler(dpConnector, null, true);
+
+        keyPair = KeyGenUtils.genEc384();
+        signedRimHex = toHex(RimGenerator.instance().keyPair(keyPair).generate());
+        unsignedRimHex = toHex(RimGenerator.instance().signed(false).publicKey(keyPair.getPublic()).generate());
+        xrimHex = toHex(XrimGenerator.instance().keyPair(keyPair).generate());
+
+        signedRim = coRimHandler.parse(signedRimHex);
+        unsignedRim = coRimHandler.parse(unsignedRimHex);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        dpConnector.close();
+    }
+
+    @Benchmark
+    public CBORObject parseSignedRim() {
+        return coRimHandler.parse(signedRimHex);
+    }
+
+    @Benchmark
+    public CBORObject parseXrim() {
+        return coRimHandler.parse(xrimHex);
+    }
+
+    @Benchmark
+    public MeasurementHolder getMeasurementsUnsignedRim() {
+        return coRimHandler.getMeasurements(unsignedRim);
+    }
+
+    @Benchmark
+    public MeasurementHolder parseAndGetMeasurementsUnsignedRim() {
+        return coRimHandler.getMeasurements(coRimHandler.parse(unsignedRimHex));
+    }
+
+    @Benchmark
+    public boolean verifySignedRimSignature() {
+        return signatureVerifier.verify(keyPair.getPublic(), signedRim);
+    }
+}
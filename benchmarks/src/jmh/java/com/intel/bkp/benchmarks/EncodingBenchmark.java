@@ -0,0 +1,112 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2023 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.benchmarks;
+
+import com.intel.bkp.crypto.crc.Crc32Checksum;
+import com.intel.bkp.crypto.crc.Crc32Type;
+import com.intel.bkp.utils.ByteSwap;
+import com.intel.bkp.utils.ByteSwapOrder;
+import com.intel.bkp.verifier.transport.systemconsole.SystemConsoleHexConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Byte level helpers used for every mailbox command and response.
+ */
+@State(Scope.Benchmark)
+public class EncodingBenchmark {
+
+    @Param({"64", "4096", "65536"})
+    private int size;
+
+    private byte[] data;
+    private ByteBuffer directData;
+    private String systemConsoleString;
+
+    @Setup
+    public void setUp() {
+        data = BenchmarkResources.randomBytes(size);
+        directData = ByteBuffer.allocateDirect(size).put(data).flip();
+        systemConsoleString = SystemConsoleHexConverter.toString(data);
+    }
+
+    @Benchmark
+    public int crc32Regular() {
+        return Crc32Type.REGULAR.getChecksum(data);
+    }
+
+    @Benchmark
+    public int crc32Bzip2() {
+        return Crc32Type.BZIP2.getChecksum(data);
+    }
+
+    @Benchmark
+    public int crc32RegularDirectBuffer() {
+        final Crc32Checksum checksum = Crc32Type.REGULAR.newChecksum();
+        checksum.update(directData.duplicate());
+        return checksum.getChecksum();
+    }
+
+    @Benchmark
+    public int crc32Bzip2DirectBuffer() {
+        final Crc32Checksum checksum = Crc32Type.BZIP2.newChecksum();
+        checksum.update(directData.duplicate());
+        return checksum.getChecksum();
+    }
+
+    @Benchmark
+    public byte[] byteSwapByInt() {
+        return ByteSwap.getSwappedArrayByInt(data, ByteSwapOrder.CONVERT);
+    }
+
+    @Benchmark
+    public byte[] byteSwapByLong() {
+        return ByteSwap.getSwappedArrayByLong(data, ByteSwapOrder.CONVERT);
+    }
+
+    @Benchmark
+    public String systemConsoleToString() {
+        return SystemConsoleHexConverter.toString(data);
+    }
+
+    @Benchmark
+    public byte[] systemConsoleFromString() {
+        return SystemConsoleHexConverter.fromString(systemConsoleString);
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2023 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.benchmarks;
+
+import com.intel.bkp.command.responses.sigma.GetMeasurementResponse;
+import com.intel.bkp.command.responses.sigma.GetMeasurementResponseBuilder;
+import com.intel.bkp.command.responses.spdm.SpdmMeasurementResponse;
+import com.intel.bkp.command.responses.spdm.SpdmMeasurementResponseBuilder;
+import com.intel.bkp.core.endianness.EndiannessActor;
+import com.intel.bkp.fpgacerts.dice.tcbinfo.TcbInfoMeasurement;
+import com.intel.bkp.verifier.protocol.spdm.jna.SpdmMessageResponseHandler;
+import com.intel.bkp.verifier.protocol.spdm.service.SpdmMeasurementResponseProvider;
+import com.intel.bkp.verifier.protocol.spdm.service.SpdmMeasurementResponseToTcbInfoMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Parsing of real measurement responses (Sigma GET_MEASUREMENT and SPDM GET_MEASUREMENTS) into TcbInfos.
+ */
+@State(Scope.Benchmark)
+public class MeasurementParsingBenchmark {
+
+    private static final String SIGMA_RESPONSE = "measurements_response_agilex.bin";
+    private static final String SPDM_RESPONSE = "spdm/measurements_ghrd_agfd023r25a2e2vr0_pr.bin";
+
+    private final SpdmMeasurementResponseToTcbInfoMapper spdmMapper = new SpdmMeasurementResponseToTcbInfoMapper();
+    private final SpdmMessageResponseHandler spdmMessageLogger = new SpdmMessageResponseHandler();
+
+    private byte[] sigmaResponse;
+    private ByteBuffer spdmResponseBuffer;
+    private SpdmMeasurementResponseProvider spdmResponse;
+
+    @Setup
+    public void setUp() {
+        sigmaResponse = BenchmarkResources.read(SIGMA_RESPONSE);
+        final byte[] spdmResponseBytes = BenchmarkResources.read(SPDM_RESPONSE);
+        spdmResponseBuffer = ByteBuffer.wrap(spdmResponseBytes);
+        spdmResponse = new SpdmMeasurementResponseProvider(parseSpdm(spdmResponseBytes));
+    }
+
+    @Benchmark
+    public GetMeasurementResponse getMeasurementResponseParse() {
+        return new GetMeasurementResponseBuilder()
+            .withActor(EndiannessActor.FIRMWARE)
+            .parse(sigmaResponse)
+            .withActor(EndiannessActor.SERVICE)
+            .build();
+    }
+
+    @Benchmark
+    public List<TcbInfoMeasurement> spdmMeasurementResponseToTcbInfo() {
+        return spdmMapper.map(spdmResponse);
+    }
+
+    /**
+     * Logs SPDM message at INFO level - gc.alloc.rate.norm shows whether message is parsed although not logged.
+     */
+    @Benchmark
+    public void spdmMessageLogAtInfoLevel() {
+        spdmMessageLogger.logMessage(spdmResponseBuffer);
+    }
+
+    private static SpdmMeasurementResponse parseSpdm(byte[] response) {
+        return new SpdmMeasurementResponseBuilder()
+            .parse(response)
+            .build();
+    }
+}
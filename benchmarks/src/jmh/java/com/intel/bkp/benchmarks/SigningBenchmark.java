@@ -0,0 +1,126 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2023 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.benchmarks;
+
+import com.intel.bkp.core.security.JceSecurityProvider;
+import com.intel.bkp.core.security.SecurityProviderParams;
+import com.intel.bkp.core.security.params.KeyTypesProperties;
+import com.intel.bkp.core.security.params.ProviderProperties;
+import com.intel.bkp.core.security.params.SecurityProperties;
+import com.intel.bkp.core.security.params.crypto.EcProperties;
+import com.intel.bkp.core.security.provider.FileBasedProvider;
+import com.intel.bkp.crypto.impl.EcUtils;
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.Security;
+
+/**
+ * Signing with Verifier DH key stored in local PKCS12 keystore, as done for every SIGMA exchange.
+ * keystoreLookupAndSign repeats what signObject did before key handles were cached.
+ */
+@State(Scope.Benchmark)
+public class SigningBenchmark {
+
+    private static final String KEY_ALIAS = "benchmark-verifier-dh-key";
+    private static final String SIGNATURE_ALGORITHM = "SHA384withECDSA";
+
+    private Path keystoreDirectory;
+    private JceSecurityProvider securityProvider;
+    private byte[] content;
+
+    @Setup
+    public void setUp() throws Exception {
+        Security.addProvider(new BouncyCastleProvider());
+        keystoreDirectory = Files.createTempDirectory("bkp-signing-benchmark");
+        securityProvider = new JceSecurityProvider(prepareParams(keystoreDirectory.resolve("keystore.p12")),
+            FileBasedProvider::new);
+        securityProvider.createSecurityObject(KEY_ALIAS);
+        content = BenchmarkResources.randomBytes(256);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        try (var files = Files.list(keystoreDirectory)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(keystoreDirectory);
+    }
+
+    @Benchmark
+    public byte[] keystoreLookupAndSign() throws Exception {
+        return EcUtils.signEcData(securityProvider.getPrivateKeyFromSecurityObject(KEY_ALIAS), content,
+            SIGNATURE_ALGORITHM, securityProvider.getProvider());
+    }
+
+    @Benchmark
+    public byte[] signObject() {
+        return securityProvider.signObject(content, KEY_ALIAS);
+    }
+
+    private static SecurityProviderParams prepareParams(Path keystoreFile) {
+        final var provider = new ProviderProperties();
+        provider.setName(BouncyCastleProvider.PROVIDER_NAME);
+        provider.setFileBased(true);
+        provider.setClassName(BouncyCastleProvider.class.getName());
+
+        final var security = new SecurityProperties();
+        security.setKeyStoreName("PKCS12");
+        security.setPassword("");
+        security.setInputStreamParam(keystoreFile.toString());
+
+        final var ec = new EcProperties();
+        ec.setKeyName("EC");
+        ec.setCurveSpec384("secp384r1");
+        ec.setCurveSpec256("secp256r1");
+        ec.setSignatureAlgorithm(SIGNATURE_ALGORITHM);
+
+        final var keyTypes = new KeyTypesProperties();
+        keyTypes.setEc(ec);
+
+        final var params = new SecurityProviderParams();
+        params.setProvider(provider);
+        params.setSecurity(security);
+        params.setKeyTypes(keyTypes);
+        return params;
+    }
+}
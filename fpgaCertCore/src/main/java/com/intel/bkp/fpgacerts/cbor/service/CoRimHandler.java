@@ -59,11 +59,14 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.security.PublicKey;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import static com.intel.bkp.utils.HexConverter.fromHex;
+import static com.intel.bkp.utils.LazyLog.lazy;
 
 @RequiredArgsConstructor(access = AccessLevel.PACKAGE)
 @Getter
@@ -80,6 +83,8 @@ public class CoRimHandler implements IRimHandler<CBORObject> {
     private final boolean acceptUnsignedCorim;
     private final DistributionPointConnector dpConnector;
     private int counter = 0;
+    @Getter(AccessLevel.NONE)
+    private Instant measurementsValidUntil = Instant.MAX;
 
     public CoRimHandler(DistributionPointConnector dpConnector) {
         this(dpConnector, null, false);
@@ -107,6 +112,7 @@ public class CoRimHandler implements IRimHandler<CBORObject> {
 
     @Override
     public MeasurementHolder getMeasurements(CBORObject rimCbor) {
+        measurementsValidUntil = Instant.MAX;
         final List<CBORObject> cborList = new ArrayList<>();
         cborList.add(rimCbor);
         final var measurements = fetchMeasurements(cborList, new MeasurementHolder());
@@ -114,6 +120,11 @@ public class CoRimHandler implements IRimHandler<CBORObject> {
         return measurements;
     }
 
+    @Override
+    public Instant getMeasurementsValidUntil() {
+        return measurementsValidUntil;
+    }
+
     private List<TcbInfoMeasurement> getReferenceMeasurements(RimUnsigned unsignedRim) {
         return unsignedRim
             .getComIds()
@@ -188,7 +199,7 @@ public class CoRimHandler implements IRimHandler<CBORObject> {
         final var rim = ((RimUnsignedParser) converter.getParser()).parse(rimCbor);
         ProfileValidator.verify(rim.getProfile());
         final var rimSigPubKey = rim.getLocatorLink(LocatorType.CER)
-            .map(chainService::verifyRimSigningChainAndGetRimSigningKey)
+            .map(this::verifyRimSigningChain)
             .orElse(null);
         return new CoRimHelperDTO(rim, rimSigPubKey);
     }
@@ -196,16 +207,28 @@ public class CoRimHandler implements IRimHandler<CBORObject> {
     private CoRimHelperDTO handleSigned(CborConverter converter, CBORObject rimCbor) {
         final var signed = ((RimSignedParser) converter.getParser()).parse(rimCbor);
         final var rim = signed.getPayload();
-        SignatureTimeValidator.verify(signed);
+        limitMeasurementsValidity(SignatureTimeValidator.verify(signed));
         ProfileValidator.verify(rim.getProfile());
         final var rimSigPubKey = rim.getLocatorLink(LocatorType.CER)
-            .map(chainService::verifyRimSigningChainAndGetRimSigningKey)
+            .map(this::verifyRimSigningChain)
             .orElseThrow(() -> new RimVerificationException("trusted Anchor is not implemented."));
         log.info(VerificationStatusLogger.success("Verified XCoRIM Signing Certificate chain."));
         verifyRimSignature(rimCbor, rimSigPubKey);
         return new CoRimHelperDTO(rim, rimSigPubKey);
     }
 
+    private PublicKey verifyRimSigningChain(String signingCertUrl) {
+        final RimSigningKey rimSigningKey = chainService.verifyRimSigningChain(signingCertUrl);
+        limitMeasurementsValidity(rimSigningKey.validUntil());
+        return rimSigningKey.publicKey();
+    }
+
+    private void limitMeasurementsValidity(Instant validUntil) {
+        Optional.ofNullable(validUntil)
+            .filter(value -> value.isBefore(measurementsValidUntil))
+            .ifPresent(value -> measurementsValidUntil = value);
+    }
+
     private void verifyRimSignature(CBORObject signedRim, PublicKey rimSigPubkey) {
         if (!cborSignatureVerifier.verify(rimSigPubkey, signedRim)) {
             throw new RimVerificationException("invalid signature.");
@@ -223,11 +246,11 @@ public class CoRimHandler implements IRimHandler<CBORObject> {
     private void logMeasurements(MeasurementHolder measurements) {
         final var referenceAggregator = new TcbInfoMeasurementsAggregator();
         referenceAggregator.add(measurements.getReferenceMeasurements());
-        log.debug("Received TcbInfos from RIM - reference: {}", referenceAggregator.mapToString());
+        log.debug("Received TcbInfos from RIM - reference: {}", lazy(referenceAggregator::mapToString));
 
         final var endorsedAggregator = new TcbInfoMeasurementsAggregator();
         endorsedAggregator.add(measurements.getEndorsedMeasurements());
-        log.debug("Received TcbInfos from RIM - endorsed: {}", endorsedAggregator.mapToString());
+        log.debug("Received TcbInfos from RIM - endorsed: {}", lazy(endorsedAggregator::mapToString));
     }
 
     private record CoRimHelperDTO(RimUnsigned rim, PublicKey rimSigPubKey) {
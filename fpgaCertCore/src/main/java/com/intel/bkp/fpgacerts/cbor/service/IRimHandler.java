@@ -35,6 +35,8 @@ package com.intel.bkp.fpgacerts.cbor.service;
 
 import com.intel.bkp.fpgacerts.dice.tcbinfo.MeasurementHolder;
 
+import java.time.Instant;
+
 public interface IRimHandler<T> {
 
     String getFormatName();
@@ -42,4 +44,11 @@ public interface IRimHandler<T> {
     T parse(String hex);
 
     MeasurementHolder getMeasurements(T rim);
+
+    /**
+     * Time until which measurements returned by last getMeasurements call may be reused without verifying RIM again.
+     */
+    default Instant getMeasurementsValidUntil() {
+        return Instant.MAX;
+    }
 }
@@ -43,6 +43,7 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.security.PublicKey;
 import java.security.cert.X509Certificate;
+import java.time.Instant;
 import java.util.LinkedList;
 
 @RequiredArgsConstructor(access = AccessLevel.PACKAGE)
@@ -70,6 +71,12 @@ public class RimSigningChainService {
         return chain.getFirst().getPublicKey();
     }
 
+    public RimSigningKey verifyRimSigningChain(String signingCertUrl) {
+        final var chain = fetchRimSigningChain(signingCertUrl);
+        final Instant validUntil = chainVerifier.verifyChainAndGetValidUntil(chain);
+        return new RimSigningKey(chain.getFirst().getPublicKey(), validUntil);
+    }
+
 
     private LinkedList<X509Certificate> fetchRimSigningChain(String url) {
         log.info("Fetching RIM Signing Certificate chain from: {}", url);
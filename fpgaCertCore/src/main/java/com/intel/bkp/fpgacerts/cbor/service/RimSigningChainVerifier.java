@@ -44,6 +44,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.security.cert.X509Certificate;
+import java.time.Instant;
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 
@@ -84,6 +86,22 @@ public class RimSigningChainVerifier {
         }
     }
 
+    /**
+     * Verifies chain and returns time until which the result of verification holds, i.e. earliest of certificates
+     * NotAfter and NextUpdate of checked CRLs.
+     */
+    public Instant verifyChainAndGetValidUntil(List<X509Certificate> certs) {
+        verifyChain(certs);
+        return certs.stream()
+            .map(X509Certificate::getNotAfter)
+            .map(Date::toInstant)
+            .reduce(crlVerifier.getCrlsValidUntil(), RimSigningChainVerifier::earliest);
+    }
+
+    private static Instant earliest(Instant first, Instant second) {
+        return first.isBefore(second) ? first : second;
+    }
+
     private void handleVerificationFailure(String failureDetails) {
         throw new RimException(failureDetails);
     }
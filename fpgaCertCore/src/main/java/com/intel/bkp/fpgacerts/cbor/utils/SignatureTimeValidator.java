@@ -52,7 +52,12 @@ public class SignatureTimeValidator {
 
     private static final String DATE_TIME_FORMAT = "yyyy-MM-dd HH:mm:ss";
 
-    public static void verify(RimSigned signedRim) {
+    /**
+     * Verifies that signature of CoRIM has not expired yet.
+     *
+     * @return time until which signature is valid
+     */
+    public static Instant verify(RimSigned signedRim) {
         final Instant signatureValidity = Optional.ofNullable(signedRim.getProtectedData())
             .map(RimProtectedHeader::getMetaMap)
             .map(ProtectedMetaMap::getSignatureValidity)
@@ -64,5 +69,6 @@ public class SignatureTimeValidator {
         }
 
         log.info(VerificationStatusLogger.success("CoRIM signature expiration verification"));
+        return signatureValidity;
     }
 }
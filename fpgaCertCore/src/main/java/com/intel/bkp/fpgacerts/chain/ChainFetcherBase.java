@@ -33,22 +33,41 @@
 
 package com.intel.bkp.fpgacerts.chain;
 
-import lombok.AccessLevel;
-import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
 
 import java.security.cert.X509Certificate;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import static com.intel.bkp.crypto.x509.utils.AuthorityInformationAccessUtils.getIssuerCertUrl;
 import static com.intel.bkp.crypto.x509.utils.X509CertificateUtils.isSelfSigned;
 
-@RequiredArgsConstructor(access = AccessLevel.PROTECTED)
+/**
+ * Fetches certificate chain by following AIA issuer urls.
+ *
+ * <p>Issuers already seen for given url are requested together with it, so chains known from previous calls are
+ * downloaded concurrently. Speculative requests that fail or turn out to be unnecessary are ignored.</p>
+ */
 public abstract class ChainFetcherBase {
 
+    static final int MAX_PREFETCH_DEPTH = 8;
+
     protected final ICertificateFetcher<X509Certificate> certificateFetcher;
+    private final IssuerUrlHints issuerUrlHints;
+
+    protected ChainFetcherBase(ICertificateFetcher<X509Certificate> certificateFetcher) {
+        this(certificateFetcher, IssuerUrlHints.shared());
+    }
+
+    ChainFetcherBase(ICertificateFetcher<X509Certificate> certificateFetcher, IssuerUrlHints issuerUrlHints) {
+        this.certificateFetcher = certificateFetcher;
+        this.issuerUrlHints = issuerUrlHints;
+    }
 
     protected abstract RuntimeException getFetchingFailureException(String url);
 
@@ -57,19 +76,22 @@ public abstract class ChainFetcherBase {
     protected List<DistributionPointCertificate> fetchCertificateChain(String url) {
         final var certChain = new LinkedList<DistributionPointCertificate>();
         if (StringUtils.isNotBlank(url)) {
-            fetchCertificateChainRecursive(url, certChain);
+            fetchCertificateChainRecursive(url, certChain, new HashMap<>());
         }
         return certChain;
     }
 
     protected List<DistributionPointCertificate> fetchCertificateChain(X509Certificate cert) {
         final var certChain = new LinkedList<DistributionPointCertificate>();
-        Optional.ofNullable(cert).ifPresent(c -> fetchCertificateChainRecursive(c, certChain));
+        Optional.ofNullable(cert)
+            .ifPresent(c -> fetchCertificateChainRecursive(null, c, certChain, new HashMap<>()));
         return certChain;
     }
 
-    private void fetchCertificateChainRecursive(String url, List<DistributionPointCertificate> certChain) {
-        final X509Certificate currentCert = certificateFetcher.fetchCertificate(url)
+    private void fetchCertificateChainRecursive(String url, List<DistributionPointCertificate> certChain,
+                                                Map<String, CompletableFuture<Optional<X509Certificate>>> requests) {
+        requestWithKnownIssuers(url, requests);
+        final X509Certificate currentCert = await(requests.get(url))
             .orElseThrow(() -> getFetchingFailureException(url));
 
         certChain.add(new DistributionPointCertificate(url, currentCert));
@@ -78,16 +100,48 @@ public abstract class ChainFetcherBase {
             return;
         }
 
-        fetchCertificateChainRecursive(currentCert, certChain);
+        fetchCertificateChainRecursive(url, currentCert, certChain, requests);
     }
 
-    private void fetchCertificateChainRecursive(X509Certificate cert,
-                                                List<DistributionPointCertificate> certChain) {
+    private void fetchCertificateChainRecursive(String certUrl, X509Certificate cert,
+                                                List<DistributionPointCertificate> certChain,
+                                                Map<String, CompletableFuture<Optional<X509Certificate>>> requests) {
         getIssuerCertUrl(cert)
-            .ifPresentOrElse(issuerUrl -> fetchCertificateChainRecursive(issuerUrl, certChain),
+            .ifPresentOrElse(issuerUrl -> {
+                    Optional.ofNullable(certUrl).ifPresent(u -> issuerUrlHints.put(u, issuerUrl));
+                    fetchCertificateChainRecursive(issuerUrl, certChain, requests);
+                },
                 handleNoIssuerCertUrl(cert));
     }
 
+    private void requestWithKnownIssuers(String url,
+                                         Map<String, CompletableFuture<Optional<X509Certificate>>> requests) {
+        Optional<String> nextUrl = Optional.of(url);
+        for (int depth = 0; nextUrl.isPresent() && depth <= MAX_PREFETCH_DEPTH; depth++) {
+            requests.computeIfAbsent(nextUrl.get(), this::requestCertificate);
+            nextUrl = issuerUrlHints.get(nextUrl.get());
+        }
+    }
+
+    private CompletableFuture<Optional<X509Certificate>> requestCertificate(String url) {
+        try {
+            return certificateFetcher.fetchCertificateAsync(url);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static Optional<X509Certificate> await(CompletableFuture<Optional<X509Certificate>> request) {
+        try {
+            return request.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
     private Runnable handleNoIssuerCertUrl(X509Certificate currentCert) {
         return () -> {
             throw getNoIssuerCertUrlException(currentCert.getSubjectX500Principal().getName());
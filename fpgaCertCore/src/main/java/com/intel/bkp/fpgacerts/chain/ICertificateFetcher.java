@@ -34,8 +34,21 @@
 package com.intel.bkp.fpgacerts.chain;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 public interface ICertificateFetcher<T> {
 
     Optional<T> fetchCertificate(String url); // :TODO - rename this and interface to more generic to include zip
+
+    /**
+     * Starts fetching certificate without waiting for the result.
+     * Implementations that cannot fetch asynchronously fetch certificate right away.
+     */
+    default CompletableFuture<Optional<T>> fetchCertificateAsync(String url) {
+        try {
+            return CompletableFuture.completedFuture(fetchCertificate(url));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
 }
@@ -0,0 +1,109 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2023 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.fpgacerts.dice;
+
+import com.intel.bkp.crypto.x509.utils.KeyIdentifierUtils;
+import com.intel.bkp.fpgacerts.dice.subject.DiceCertificateSubject;
+import com.intel.bkp.fpgacerts.dice.tcbinfo.TcbInfo;
+import com.intel.bkp.fpgacerts.dice.tcbinfo.TcbInfoExtensionParser;
+import com.intel.bkp.fpgacerts.dice.ueid.UeidExtension;
+import com.intel.bkp.fpgacerts.dice.ueid.UeidExtensionParser;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.bouncycastle.asn1.ASN1ObjectIdentifier;
+
+import java.security.cert.X509Certificate;
+import java.util.List;
+import java.util.Optional;
+
+import static com.intel.bkp.crypto.x509.utils.X509ExtensionUtils.containsExtension;
+import static com.intel.bkp.fpgacerts.model.Oid.TCG_DICE_UEID;
+
+/**
+ * Certificate with its DICE specific content (TcbInfo, UEID, key identifiers and DICE subject) parsed on first use.
+ *
+ * <p>Obtain it from {@link DiceCertificateViews} of the current attestation, so that all verifiers processing the
+ * same certificate share parsing results. Failed parsing is not memoized - exception is thrown on every call.</p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class DiceCertificateView {
+
+    @Getter
+    private final X509Certificate certificate;
+    private final TcbInfoExtensionParser tcbInfoExtensionParser;
+    private final UeidExtensionParser ueidExtensionParser;
+
+    @Getter(lazy = true)
+    private final boolean tcbInfoExtensionPresent = TcbInfoExtensionParser.containsTcbInfoExtension(certificate);
+
+    @Getter(lazy = true)
+    private final List<TcbInfo> tcbInfos = List.copyOf(tcbInfoExtensionParser.parse(certificate));
+
+    @Getter(lazy = true)
+    private final boolean ueidExtensionPresent =
+        containsExtension(certificate, new ASN1ObjectIdentifier(TCG_DICE_UEID.getOid()));
+
+    @Getter(lazy = true)
+    private final UeidExtension ueid = ueidExtensionParser.parse(certificate);
+
+    @Getter(lazy = true)
+    private final DiceCertificateSubject diceSubject = DiceCertificateSubject.parse(getSubject());
+
+    @Getter(value = AccessLevel.PRIVATE, lazy = true)
+    private final Optional<byte[]> ski = Optional.ofNullable(KeyIdentifierUtils.getSubjectKeyIdentifier(certificate));
+
+    @Getter(value = AccessLevel.PRIVATE, lazy = true)
+    private final Optional<byte[]> aki =
+        Optional.ofNullable(KeyIdentifierUtils.getAuthorityKeyIdentifier(certificate));
+
+    public String getSubject() {
+        return certificate.getSubjectX500Principal().getName();
+    }
+
+    /**
+     * Returns bytes of key identifier from SubjectKeyIdentifier extension or null, if certificate doesn't contain it.
+     */
+    public byte[] getSubjectKeyIdentifier() {
+        return getSki().map(byte[]::clone).orElse(null);
+    }
+
+    /**
+     * Returns bytes of key identifier from AuthorityKeyIdentifier extension or null, if certificate doesn't contain
+     * it.
+     */
+    public byte[] getAuthorityKeyIdentifier() {
+        return getAki().map(byte[]::clone).orElse(null);
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2023 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.fpgacerts.dice;
+
+import com.intel.bkp.fpgacerts.dice.tcbinfo.TcbInfoExtensionParser;
+import com.intel.bkp.fpgacerts.dice.ueid.UeidExtensionParser;
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.security.cert.X509Certificate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link DiceCertificateView}s of a single attestation, so that each extension of a certificate is decoded once, no
+ * matter how many verifiers and collectors process it during that attestation.
+ *
+ * <p>Parsed values are shared by all consumers of the registry, so it must not outlive the attestation it was
+ * created for - create a new one per attestation and drop it once the attestation finishes.</p>
+ */
+public class DiceCertificateViews {
+
+    @Getter
+    private final TcbInfoExtensionParser tcbInfoExtensionParser;
+    private final UeidExtensionParser ueidExtensionParser;
+    private final Map<X509Certificate, DiceCertificateView> views = new ConcurrentHashMap<>();
+
+    public DiceCertificateViews() {
+        this(new TcbInfoExtensionParser(), new UeidExtensionParser());
+    }
+
+    public DiceCertificateViews(TcbInfoExtensionParser tcbInfoExtensionParser,
+                                UeidExtensionParser ueidExtensionParser) {
+        this.tcbInfoExtensionParser = tcbInfoExtensionParser;
+        this.ueidExtensionParser = ueidExtensionParser;
+    }
+
+    public DiceCertificateView of(@NonNull X509Certificate certificate) {
+        return views.computeIfAbsent(certificate,
+            cert -> new DiceCertificateView(cert, tcbInfoExtensionParser, ueidExtensionParser));
+    }
+
+    int size() {
+        return views.size();
+    }
+}
@@ -33,29 +33,36 @@
 
 package com.intel.bkp.fpgacerts.dice.subject;
 
+import com.intel.bkp.fpgacerts.dice.DiceCertificateView;
+import com.intel.bkp.fpgacerts.dice.DiceCertificateViews;
 import com.intel.bkp.fpgacerts.exceptions.InvalidDiceCertificateSubjectException;
 import com.intel.bkp.fpgacerts.exceptions.UnknownFamilyIdException;
 import com.intel.bkp.fpgacerts.model.AttFamily;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
-import org.bouncycastle.asn1.ASN1ObjectIdentifier;
 
 import java.security.cert.X509Certificate;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import static com.intel.bkp.crypto.x509.utils.X509ExtensionUtils.containsExtension;
-import static com.intel.bkp.fpgacerts.model.Oid.TCG_DICE_UEID;
-
 @Slf4j
+@RequiredArgsConstructor
 public class DiceSubjectVerifier {
 
+    private final Supplier<DiceCertificateViews> certificateViews;
+
     private List<X509Certificate> certificates = new LinkedList<>();
 
+    public DiceSubjectVerifier() {
+        this(DiceCertificateViews::new);
+    }
+
     public DiceSubjectVerifier certificates(List<X509Certificate> certificates) {
         this.certificates = certificates;
         return this;
@@ -74,10 +81,11 @@ public class DiceSubjectVerifier {
     }
 
     private boolean verifyInternal() {
+        final DiceCertificateViews views = certificateViews.get();
         final var diceSubjects = certificates.stream()
-            .filter(this::containsUeidExtension)
-            .map(cert -> cert.getSubjectX500Principal().getName())
-            .map(DiceCertificateSubject::parse)
+            .map(views::of)
+            .filter(DiceCertificateView::isUeidExtensionPresent)
+            .map(DiceCertificateView::getDiceSubject)
             .collect(Collectors.toList());
 
         final Optional<DiceCertificateSubject> anyDiceSubject = diceSubjects.stream().findAny();
@@ -90,11 +98,6 @@ public class DiceSubjectVerifier {
             && verifySubjectComponentsValuesAreCorrect(anyDiceSubject.get());
     }
 
-    private boolean containsUeidExtension(final X509Certificate certificate) {
-        final var ueidOid = new ASN1ObjectIdentifier(TCG_DICE_UEID.getOid());
-        return containsExtension(certificate, ueidOid);
-    }
-
     private boolean verifySubjectsInChainAreConsistent(List<DiceCertificateSubject> diceSubjects) {
         final Stream<Function<DiceCertificateSubject, Object>> gettersForComponentsThatMustBeConsistent = Stream.of(
             DiceCertificateSubject::familyName,
@@ -52,6 +52,10 @@ public class FwIdField {
         return StringUtils.isNoneBlank(hashAlg, digest);
     }
 
+    public FwIdField copy() {
+        return new FwIdField(hashAlg, digest);
+    }
+
     @Override
     public String toString() {
         return "FwIdField("
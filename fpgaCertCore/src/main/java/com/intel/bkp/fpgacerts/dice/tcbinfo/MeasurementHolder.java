@@ -40,6 +40,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
+import static java.util.stream.Collectors.toCollection;
+
 @Data
 @NoArgsConstructor
 public class MeasurementHolder {
@@ -53,4 +55,21 @@ public class MeasurementHolder {
         Optional.ofNullable(holder.endorsedMeasurements)
             .ifPresent(this.endorsedMeasurements::addAll);
     }
+
+    /**
+     * Returns copy of this holder, which shares no mutable state with it.
+     */
+    public MeasurementHolder copy() {
+        final var copy = new MeasurementHolder();
+        copy.setReferenceMeasurements(copyOf(referenceMeasurements));
+        copy.setEndorsedMeasurements(copyOf(endorsedMeasurements));
+        return copy;
+    }
+
+    private static List<TcbInfoMeasurement> copyOf(List<TcbInfoMeasurement> measurements) {
+        return Optional.ofNullable(measurements).stream()
+            .flatMap(List::stream)
+            .map(TcbInfoMeasurement::copy)
+            .collect(toCollection(ArrayList::new));
+    }
 }
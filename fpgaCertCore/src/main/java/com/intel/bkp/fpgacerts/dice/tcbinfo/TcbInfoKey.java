@@ -100,6 +100,10 @@ public class TcbInfoKey {
         return this.equals(EMPTY);
     }
 
+    public TcbInfoKey copy() {
+        return new TcbInfoKey(vendor, model, layer, index, type);
+    }
+
     @Override
     public String toString() {
         return "TcbInfoKey("
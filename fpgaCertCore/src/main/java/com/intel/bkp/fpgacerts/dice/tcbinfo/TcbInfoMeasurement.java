@@ -51,6 +51,10 @@ public class TcbInfoMeasurement {
         value = TcbInfoValue.from(tcbInfo);
     }
 
+    public TcbInfoMeasurement copy() {
+        return new TcbInfoMeasurement(key.copy(), value.copy());
+    }
+
     public static List<TcbInfoMeasurement> asMeasurements(List<TcbInfo> tcbInfos) {
         return tcbInfos.stream().map(TcbInfoMeasurement::new).toList();
     }
@@ -88,6 +88,11 @@ public class TcbInfoValue {
         return this.equals(EMPTY);
     }
 
+    public TcbInfoValue copy() {
+        return new TcbInfoValue(version, svn, fwid.map(FwIdField::copy),
+            maskedVendorInfo.map(MaskedVendorInfo::copy), flags);
+    }
+
     @Override
     public String toString() {
         return "TcbInfoValue("
@@ -0,0 +1,183 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2023 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.fpgacerts.dice.tcbinfo;
+
+import com.intel.bkp.fpgacerts.dice.tcbinfo.vendorinfo.MaskedVendorInfo;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Objects;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Reference TcbInfoValue compiled once for repeated matching against device values.
+ *
+ * <p>Reference vendor info and its mask are decoded to bytes up front, so the common case of masked reference
+ * and unmasked device value is compared byte by byte straight from the device hex string, without building
+ * masked strings. All fields are always compared, so time of a match does not depend on where values differ.
+ * Semantics are the same as {@link TcbInfoValue#matchesReferenceValue(TcbInfoValue)}.</p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TcbInfoValueMatcher {
+
+    private final String version;
+    private final Integer svn;
+    private final FwIdField fwid;
+    private final MaskedVendorInfo maskedVendorInfo;
+    private final String flags;
+    private final CompiledMask vendorInfoMask;
+
+    public static TcbInfoValueMatcher compile(TcbInfoValue referenceValue) {
+        final MaskedVendorInfo vendorInfo = referenceValue.getMaskedVendorInfo().orElse(null);
+        return new TcbInfoValueMatcher(
+            referenceValue.getVersion().orElse(null),
+            referenceValue.getSvn().orElse(null),
+            referenceValue.getFwid().orElse(null),
+            vendorInfo,
+            referenceValue.getFlags().orElse(null),
+            CompiledMask.from(vendorInfo)
+        );
+    }
+
+    public boolean matches(TcbInfoValue actualValue) {
+        return matchesField(version, actualValue.getVersion().orElse(null))
+            & matchesField(svn, actualValue.getSvn().orElse(null))
+            & matchesFwId(actualValue.getFwid().orElse(null))
+            & matchesVendorInfo(actualValue.getMaskedVendorInfo().orElse(null))
+            & matchesField(flags, actualValue.getFlags().orElse(null));
+    }
+
+    private static <T> boolean matchesField(T reference, T actual) {
+        return isNull(reference) || reference.equals(actual);
+    }
+
+    private boolean matchesFwId(FwIdField actual) {
+        if (isNull(fwid)) {
+            return true;
+        }
+        if (isNull(actual)) {
+            return false;
+        }
+        return Objects.equals(fwid.getHashAlg(), actual.getHashAlg())
+            & constantTimeEquals(fwid.getDigest(), actual.getDigest());
+    }
+
+    private boolean matchesVendorInfo(MaskedVendorInfo actual) {
+        if (isNull(maskedVendorInfo)) {
+            return true;
+        }
+        if (isNull(actual)) {
+            return false;
+        }
+        if (nonNull(vendorInfoMask) && nonNull(actual.getVendorInfo()) && !actual.hasMask()) {
+            return vendorInfoMask.matches(actual.getVendorInfo());
+        }
+        return actual.equals(maskedVendorInfo);
+    }
+
+    private static boolean constantTimeEquals(String reference, String actual) {
+        if (isNull(reference) || isNull(actual)) {
+            return Objects.equals(reference, actual);
+        }
+        if (reference.length() != actual.length()) {
+            return false;
+        }
+        int diff = 0;
+        for (int i = 0; i < reference.length(); i++) {
+            diff |= reference.charAt(i) ^ actual.charAt(i);
+        }
+        return diff == 0;
+    }
+
+    /**
+     * Mask and masked reference value, both aligned to mask length as done by MaskHelper.applyMask.
+     */
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    private static final class CompiledMask {
+
+        private final int length;
+        private final byte[] mask;
+        private final byte[] maskedReference;
+
+        static CompiledMask from(MaskedVendorInfo vendorInfo) {
+            if (isNull(vendorInfo) || isNull(vendorInfo.getVendorInfo()) || !vendorInfo.hasMask()) {
+                return null;
+            }
+
+            final String maskHex = vendorInfo.getVendorInfoMask();
+            final int length = maskHex.length();
+            try {
+                final byte[] mask = new byte[(length + 1) / 2];
+                final byte[] maskedReference = new byte[mask.length];
+                for (int i = 0; i < mask.length; i++) {
+                    mask[i] = byteAt(maskHex, i, length);
+                    maskedReference[i] = (byte) (byteAt(vendorInfo.getVendorInfo(), i, length) & mask[i]);
+                }
+                return new CompiledMask(length, mask, maskedReference);
+            } catch (IllegalArgumentException e) {
+                // malformed reference is left to MaskedVendorInfo comparison, which reports it as before
+                return null;
+            }
+        }
+
+        boolean matches(String actualHex) {
+            int diff = 0;
+            for (int i = 0; i < mask.length; i++) {
+                diff |= (byteAt(actualHex, i, length) & mask[i]) ^ maskedReference[i];
+            }
+            return diff == 0;
+        }
+
+        private static byte byteAt(String hex, int byteIndex, int length) {
+            return (byte) (nibbleAt(hex, 2 * byteIndex, length) << 4 | nibbleAt(hex, 2 * byteIndex + 1, length));
+        }
+
+        private static int nibbleAt(String hex, int index, int length) {
+            if (index >= length || index >= hex.length()) {
+                return 0;
+            }
+            final char c = hex.charAt(index);
+            if (c >= '0' && c <= '9') {
+                return c - '0';
+            } else if (c >= 'a' && c <= 'f') {
+                return c - 'a' + 10;
+            } else if (c >= 'A' && c <= 'F') {
+                return c - 'A' + 10;
+            }
+            throw new IllegalArgumentException("Failed to decode HEX string");
+        }
+    }
+}
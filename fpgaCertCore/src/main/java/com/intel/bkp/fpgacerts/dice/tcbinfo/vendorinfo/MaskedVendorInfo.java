@@ -74,6 +74,12 @@ public class MaskedVendorInfo {
         return nonNull(vendorInfoMask);
     }
 
+    public MaskedVendorInfo copy() {
+        final var copy = new MaskedVendorInfo(vendorInfo);
+        copy.setVendorInfoMask(vendorInfoMask);
+        return copy;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (o == null) {
@@ -33,9 +33,9 @@
 
 package com.intel.bkp.fpgacerts.dice.tcbinfo.verification;
 
-import com.intel.bkp.fpgacerts.dice.subject.DiceCertificateSubject;
+import com.intel.bkp.fpgacerts.dice.DiceCertificateView;
+import com.intel.bkp.fpgacerts.dice.DiceCertificateViews;
 import com.intel.bkp.fpgacerts.dice.tcbinfo.TcbInfo;
-import com.intel.bkp.fpgacerts.dice.tcbinfo.TcbInfoExtensionParser;
 import com.intel.bkp.fpgacerts.dice.tcbinfo.TcbInfoMeasurementsAggregator;
 import lombok.extern.slf4j.Slf4j;
 
@@ -44,9 +44,9 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.function.Supplier;
 
 import static com.intel.bkp.fpgacerts.dice.iidutils.IidUdsChainUtils.isIidUdsChain;
-import static com.intel.bkp.fpgacerts.dice.tcbinfo.TcbInfoExtensionParser.containsTcbInfoExtension;
 import static com.intel.bkp.fpgacerts.dice.tcbinfo.TcbInfoMeasurement.asMeasurements;
 import static com.intel.bkp.utils.ListUtils.toLinkedList;
 
@@ -55,15 +55,19 @@ import static com.intel.bkp.utils.ListUtils.toLinkedList;
 public class TcbInfoVerifier {
 
     private final ModelVerifier modelVerifier;
-    private final TcbInfoExtensionParser extensionParser;
+    private final Supplier<DiceCertificateViews> certificateViews;
     private final TcbInfoMeasurementsAggregator aggregator;
     private final RequiredMeasurementsExistenceVerifier requiredMeasurementsExistenceVerifier;
     private final List<ITcbInfoFieldVerifier> fieldVerifiers;
     private LinkedList<X509Certificate> certificates = new LinkedList<>();
 
     public TcbInfoVerifier(boolean testModeSecrets) {
+        this(testModeSecrets, DiceCertificateViews::new);
+    }
+
+    public TcbInfoVerifier(boolean testModeSecrets, Supplier<DiceCertificateViews> certificateViews) {
         this(new TcbInfoMeasurementsAggregator(),
-            new TcbInfoExtensionParser(),
+            certificateViews,
             new RequiredMeasurementsExistenceVerifier(),
             new ModelVerifier(),
             new VendorVerifier(),
@@ -74,11 +78,11 @@ public class TcbInfoVerifier {
             new FlagsVerifier(testModeSecrets));
     }
 
-    public TcbInfoVerifier(TcbInfoMeasurementsAggregator aggregator, TcbInfoExtensionParser extensionParser,
+    public TcbInfoVerifier(TcbInfoMeasurementsAggregator aggregator, Supplier<DiceCertificateViews> certificateViews,
                            RequiredMeasurementsExistenceVerifier requiredMeasurementsExistenceVerifier,
                            ModelVerifier modelVerifier, ITcbInfoFieldVerifier... verifiers) {
         this.aggregator = aggregator;
-        this.extensionParser = extensionParser;
+        this.certificateViews = certificateViews;
         this.requiredMeasurementsExistenceVerifier = requiredMeasurementsExistenceVerifier;
         this.modelVerifier = modelVerifier;
 
@@ -114,7 +118,7 @@ public class TcbInfoVerifier {
     }
 
     private String getFamilyName(X509Certificate certificate) {
-        return DiceCertificateSubject.parse(certificate.getSubjectX500Principal().getName()).familyName();
+        return certificateViews.get().of(certificate).getDiceSubject().familyName();
     }
 
     private boolean verifyAllTcbInfosAreValid() {
@@ -128,12 +132,13 @@ public class TcbInfoVerifier {
     }
 
     public boolean verifyCertificate(final X509Certificate certificate) {
-        if (!containsTcbInfoExtension(certificate)) {
+        final DiceCertificateView view = certificateViews.get().of(certificate);
+        if (!view.isTcbInfoExtensionPresent()) {
             log.debug("Certificate does not contain TcbInfo extension: {}", certificate.getSubjectX500Principal());
             return true;
         }
 
-        final List<TcbInfo> tcbInfos = getTcbInfosFromCertificate(certificate);
+        final List<TcbInfo> tcbInfos = view.getTcbInfos();
         final boolean valid = verifyAllTcbInfosHaveCorrectFields(tcbInfos)
             && verifyThereAreNoDifferentValuesForGivenTcbInfoKeyInChain(tcbInfos);
 
@@ -144,10 +149,6 @@ public class TcbInfoVerifier {
         return valid;
     }
 
-    private List<TcbInfo> getTcbInfosFromCertificate(final X509Certificate certificate) {
-        return extensionParser.parse(certificate);
-    }
-
     private boolean verifyThereAreNoDifferentValuesForGivenTcbInfoKeyInChain(List<TcbInfo> tcbInfos) {
         try {
             aggregator.add(asMeasurements(tcbInfos));
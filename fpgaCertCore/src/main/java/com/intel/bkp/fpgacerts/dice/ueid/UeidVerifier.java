@@ -33,31 +33,37 @@
 
 package com.intel.bkp.fpgacerts.dice.ueid;
 
+import com.intel.bkp.fpgacerts.dice.DiceCertificateView;
+import com.intel.bkp.fpgacerts.dice.DiceCertificateViews;
 import com.intel.bkp.fpgacerts.dice.subject.DiceCertificateSubject;
 import com.intel.bkp.fpgacerts.model.AttFamily;
 import com.intel.bkp.fpgacerts.utils.DeviceIdUtil;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.bouncycastle.asn1.ASN1ObjectIdentifier;
 
 import java.security.cert.X509Certificate;
 import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
-import static com.intel.bkp.crypto.x509.utils.X509ExtensionUtils.containsExtension;
-import static com.intel.bkp.fpgacerts.model.Oid.TCG_DICE_UEID;
 import static com.intel.bkp.utils.HexConverter.fromHex;
 import static com.intel.bkp.utils.HexConverter.toFormattedHex;
 import static com.intel.bkp.utils.HexConverter.toHex;
 
 @Slf4j
+@RequiredArgsConstructor
 public class UeidVerifier {
 
-    private final UeidExtensionParser extensionParser = new UeidExtensionParser();
+    private final Supplier<DiceCertificateViews> certificateViews;
 
     private List<X509Certificate> certificates = new LinkedList<>();
 
+    public UeidVerifier() {
+        this(DiceCertificateViews::new);
+    }
+
     public UeidVerifier certificates(List<X509Certificate> certificates) {
         this.certificates = certificates;
         return this;
@@ -68,28 +74,24 @@ public class UeidVerifier {
     }
 
     public boolean verifyCertificate(final X509Certificate certificate, final byte[] deviceId) {
-        if (!containsUeidExtension(certificate)) {
+        final DiceCertificateView view = certificateViews.get().of(certificate);
+        if (!view.isUeidExtensionPresent()) {
             log.debug("Certificate does not contain UEID extension: {}", certificate.getSubjectX500Principal());
             return true;
         }
 
-        final var ueidExtension = getUeidExtension(certificate);
-        final var diceSubject = parseSubject(certificate);
+        final var ueidExtension = getUeidExtension(view);
+        final var diceSubject = parseSubject(view);
         return ueidExtension.isPresent() && diceSubject.isPresent()
             && verifyDeviceIdMatches(ueidExtension.get(), diceSubject.get(), deviceId)
             && verifyFamilyMatches(ueidExtension.get(), diceSubject.get());
     }
 
-    private boolean containsUeidExtension(final X509Certificate certificate) {
-        final var ueidOid = new ASN1ObjectIdentifier(TCG_DICE_UEID.getOid());
-        return containsExtension(certificate, ueidOid);
-    }
-
-    private Optional<UeidExtension> getUeidExtension(final X509Certificate certificate) {
+    private Optional<UeidExtension> getUeidExtension(final DiceCertificateView view) {
         try {
-            return Optional.of(extensionParser.parse(certificate));
+            return Optional.of(view.getUeid());
         } catch (Exception ex) {
-            log.error("Failed to parse UEID extension of certificate: {}", certificate.getSubjectX500Principal());
+            log.error("Failed to parse UEID extension of certificate: {}", view.getSubject());
             return Optional.empty();
         }
     }
@@ -150,12 +152,11 @@ public class UeidVerifier {
         }
     }
 
-    private Optional<DiceCertificateSubject> parseSubject(final X509Certificate certificate) {
-        final String subject = certificate.getSubjectX500Principal().getName();
+    private Optional<DiceCertificateSubject> parseSubject(final DiceCertificateView view) {
         try {
-            return Optional.of(DiceCertificateSubject.parse(subject));
+            return Optional.of(view.getDiceSubject());
         } catch (Exception ex) {
-            log.error("Failed to parse subject of certificate: {}\nDetails: {}", subject, ex.getMessage());
+            log.error("Failed to parse subject of certificate: {}\nDetails: {}", view.getSubject(), ex.getMessage());
             return Optional.empty();
         }
     }
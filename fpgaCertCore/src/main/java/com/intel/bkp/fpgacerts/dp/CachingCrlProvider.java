@@ -0,0 +1,184 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2023 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.fpgacerts.dp;
+
+import com.intel.bkp.fpgacerts.interfaces.ICrlProvider;
+import lombok.extern.slf4j.Slf4j;
+
+import java.security.PublicKey;
+import java.security.cert.X509CRL;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps downloaded CRLs, indexed by URL, until their NextUpdate.
+ * CRLs without NextUpdate are never cached. A background task downloads CRLs that are about to expire,
+ * so that verification does not wait for the download.
+ */
+@Slf4j
+public class CachingCrlProvider implements ICrlProvider, AutoCloseable {
+
+    public static final Duration DEFAULT_REFRESH_AHEAD = Duration.ofHours(1);
+    public static final Duration DEFAULT_REFRESH_INTERVAL = Duration.ofMinutes(5);
+
+    private static final int DOWNLOAD_LOCK_STRIPES = 32;
+
+    private final ICrlProvider delegate;
+    private final Clock clock;
+    private final Duration refreshAhead;
+    private final ScheduledExecutorService refresher;
+
+    private final Map<String, X509CRL> crlsByUrl = new ConcurrentHashMap<>();
+    private final Object[] downloadLocks = createDownloadLocks();
+    private final Map<X509CRL, Set<PublicKey>> verifiedSignatures =
+        Collections.synchronizedMap(new WeakHashMap<>());
+
+    public CachingCrlProvider(ICrlProvider delegate) {
+        this(delegate, DEFAULT_REFRESH_AHEAD, DEFAULT_REFRESH_INTERVAL);
+    }
+
+    public CachingCrlProvider(ICrlProvider delegate, Duration refreshAhead, Duration refreshInterval) {
+        this(delegate, Clock.systemUTC(), refreshAhead, Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "crl-refresher");
+            thread.setDaemon(true);
+            return thread;
+        }));
+        refresher.scheduleWithFixedDelay(this::refreshExpiring, refreshInterval.toMillis(),
+            refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    CachingCrlProvider(ICrlProvider delegate, Clock clock, Duration refreshAhead,
+                       ScheduledExecutorService refresher) {
+        this.delegate = delegate;
+        this.clock = clock;
+        this.refreshAhead = refreshAhead;
+        this.refresher = refresher;
+    }
+
+    @Override
+    public X509CRL getCrl(String crlUrl) {
+        return getValid(crlsByUrl.get(crlUrl))
+            .orElseGet(() -> download(crlUrl));
+    }
+
+    @Override
+    public boolean isSignatureVerified(X509CRL crl, PublicKey issuerKey) {
+        final Set<PublicKey> keys = verifiedSignatures.get(crl);
+        return keys != null && keys.contains(issuerKey);
+    }
+
+    @Override
+    public void signatureVerified(X509CRL crl, PublicKey issuerKey) {
+        verifiedSignatures.computeIfAbsent(crl, key -> ConcurrentHashMap.newKeySet()).add(issuerKey);
+    }
+
+    public void clear() {
+        crlsByUrl.clear();
+        verifiedSignatures.clear();
+    }
+
+    @Override
+    public void close() {
+        if (refresher != null) {
+            refresher.shutdownNow();
+        }
+    }
+
+    void refreshExpiring() {
+        final Instant refreshBefore = clock.instant().plus(refreshAhead);
+        crlsByUrl.forEach((crlUrl, crl) -> {
+            if (crl.getNextUpdate().toInstant().isBefore(refreshBefore)) {
+                try {
+                    log.debug("Refreshing CRL that expires soon: {}", crlUrl);
+                    store(crlUrl, delegate.getCrl(crlUrl));
+                } catch (Exception e) {
+                    log.warn("Failed to refresh CRL from {}: {}", crlUrl, e.getMessage());
+                    log.debug("Stacktrace: ", e);
+                }
+            }
+        });
+    }
+
+    private X509CRL download(String crlUrl) {
+        synchronized (getDownloadLock(crlUrl)) {
+            return getValid(crlsByUrl.get(crlUrl))
+                .orElseGet(() -> store(crlUrl, delegate.getCrl(crlUrl)));
+        }
+    }
+
+    /**
+     * Concurrent downloads of the same URL are serialized on one of a fixed number of locks, so that the number
+     * of locks does not grow with the number of distinct URLs.
+     */
+    private Object getDownloadLock(String crlUrl) {
+        return downloadLocks[Math.floorMod(crlUrl.hashCode(), downloadLocks.length)];
+    }
+
+    private X509CRL store(String crlUrl, X509CRL crl) {
+        if (isValid(crl)) {
+            crlsByUrl.put(crlUrl, crl);
+        } else {
+            log.debug("CRL from {} is not cached as it has no valid NextUpdate.", crlUrl);
+            crlsByUrl.remove(crlUrl);
+        }
+        return crl;
+    }
+
+    private Optional<X509CRL> getValid(X509CRL crl) {
+        return Optional.ofNullable(crl).filter(this::isValid);
+    }
+
+    private boolean isValid(X509CRL crl) {
+        return Optional.ofNullable(crl.getNextUpdate())
+            .map(nextUpdate -> clock.instant().isBefore(nextUpdate.toInstant()))
+            .orElse(false);
+    }
+
+    private static Object[] createDownloadLocks() {
+        final Object[] locks = new Object[DOWNLOAD_LOCK_STRIPES];
+        Arrays.setAll(locks, i -> new Object());
+        return locks;
+    }
+}
@@ -40,6 +40,7 @@ import lombok.RequiredArgsConstructor;
 
 import java.security.cert.X509Certificate;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @RequiredArgsConstructor
 public class DistributionPointCertificateFetcher implements ICertificateFetcher<X509Certificate> {
@@ -51,4 +52,10 @@ public class DistributionPointCertificateFetcher implements ICertificateFetcher<
         return FetchDataSchemeBroker.fetchData(url, connector)
             .map(X509UtilsWrapper::toX509);
     }
+
+    @Override
+    public CompletableFuture<Optional<X509Certificate>> fetchCertificateAsync(String url) {
+        return FetchDataSchemeBroker.fetchDataAsync(url, connector)
+            .thenApply(data -> data.map(X509UtilsWrapper::toX509));
+    }
 }
@@ -33,9 +33,13 @@
 
 package com.intel.bkp.fpgacerts.dp;
 
+import com.intel.bkp.fpgacerts.dp.cache.CachedResponse;
+import com.intel.bkp.fpgacerts.dp.cache.DpResponseCache;
+import com.intel.bkp.fpgacerts.dp.cache.DpResponseCacheConfig;
 import com.intel.bkp.fpgacerts.dp.proxy.ProxyCallbackFactory;
 import com.intel.bkp.fpgacerts.exceptions.ConnectionException;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
 
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.TrustManager;
@@ -49,7 +53,10 @@ import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.time.Duration;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
@@ -58,39 +65,76 @@ public class DistributionPointConnector implements AutoCloseable {
 
     public static final int CONNECTION_TIMEOUT_SECONDS = 10;
     public static final int REQUEST_TIMEOUT_SECONDS = 15;
+    public static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 4;
+    private static final String IF_NONE_MATCH = "If-None-Match";
+    private static final String IF_MODIFIED_SINCE = "If-Modified-Since";
+
     private HttpClient client;
     private ExecutorService executor;
+    private DpResponseCache cache;
+    private final Map<String, CompletableFuture<DpResponse>> inFlightRequests = new ConcurrentHashMap<>();
 
     public DistributionPointConnector(String proxyHost, Integer proxyPort, TrustManager[] managers) {
-        try {
-            final SSLContext sslContext = SSLContext.getInstance("TLS");
-            sslContext.init(null, managers, new SecureRandom());
-            setHttpClient(proxyHost, proxyPort, sslContext);
-        } catch (NoSuchAlgorithmException | KeyManagementException e) {
-            throw new ConnectionException("Failed to init SSL context", e);
-        }
+        this(proxyHost, proxyPort, createSslContext(managers));
     }
 
     public DistributionPointConnector(String proxyHost, Integer proxyPort, SSLContext sslContext) {
-        setHttpClient(proxyHost, proxyPort, sslContext);
+        this(proxyHost, proxyPort, sslContext, DEFAULT_MAX_CONCURRENT_REQUESTS);
+    }
+
+    /**
+     * @param maxConcurrentRequests number of threads handling HTTP exchanges, so that many asynchronous fetches
+     *                              progress in parallel
+     */
+    public DistributionPointConnector(String proxyHost, Integer proxyPort, TrustManager[] managers,
+                                      DpResponseCacheConfig cacheConfig, int maxConcurrentRequests) {
+        this(proxyHost, proxyPort, createSslContext(managers), maxConcurrentRequests);
+        setCache(cacheConfig);
+    }
+
+    private DistributionPointConnector(String proxyHost, Integer proxyPort, SSLContext sslContext,
+                                       int maxConcurrentRequests) {
+        setHttpClient(proxyHost, proxyPort, sslContext, maxConcurrentRequests);
+    }
+
+    DistributionPointConnector(HttpClient client, ExecutorService executor, DpResponseCache cache) {
+        this.client = client;
+        this.executor = executor;
+        this.cache = cache;
+    }
+
+    public Optional<DpResponseCache> getCache() {
+        return Optional.ofNullable(cache);
     }
 
     @Override
     public void close() throws Exception {
         log.debug("Closing HTTP client...");
+        getCache().ifPresent(c -> log.debug("Distribution point cache stats: {}", c.getTotalStats()));
         executor.shutdownNow();
         client = null;
     }
 
     public byte[] getBytes(String url) {
-        return getHttpResponseBody(url, HttpResponse.BodyHandlers.ofByteArray());
+        try {
+            final DpResponse response = fetch(url);
+            if (HttpURLConnection.HTTP_OK == response.statusCode()) {
+                return response.body();
+            }
+            throw new ConnectionException("Failed to make request to distribution point. Received wrong status code:"
+                + response.statusCode());
+        } catch (IOException e) {
+            throw new ConnectionException("Failed to make request to distribution point.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConnectionException("Failed to make request to distribution point.", e);
+        }
     }
 
     public Optional<byte[]> tryGetBytes(String url) {
         Optional<byte[]> responseBody = Optional.empty();
-        final HttpResponse<byte[]> response;
         try {
-            response = tryGetHttpResponse(url, HttpResponse.BodyHandlers.ofByteArray());
+            final DpResponse response = fetch(url);
             if (HttpURLConnection.HTTP_OK == response.statusCode()) {
                 responseBody = Optional.of(response.body());
             }
@@ -105,39 +149,142 @@ public class DistributionPointConnector implements AutoCloseable {
         return responseBody;
     }
 
-    private <T> T getHttpResponseBody(String url, HttpResponse.BodyHandler<T> bodyHandler) {
+    /**
+     * Non-blocking variant of {@link #tryGetBytes(String)}.
+     *
+     * <p>Concurrent requests for the same url share a single HTTP exchange.</p>
+     */
+    public CompletableFuture<Optional<byte[]>> tryGetBytesAsync(String url) {
+        return fetchAsync(url).handle((response, e) -> {
+            if (e != null) {
+                log.error("Failed to get http response: {}", e.getMessage());
+                log.debug("Stacktrace: ", e);
+                return Optional.empty();
+            }
+            return HttpURLConnection.HTTP_OK == response.statusCode()
+                   ? Optional.of(response.body())
+                   : Optional.empty();
+        });
+    }
+
+    private DpResponse fetch(String url) throws IOException, InterruptedException {
+        if (cache == null) {
+            final HttpResponse<byte[]> response = tryGetHttpResponse(getHttpRequest(url));
+            return new DpResponse(response.statusCode(), response.body());
+        }
+
+        final Optional<CachedResponse> cached = cache.get(url);
+        if (isFresh(url, cached)) {
+            return DpResponse.ok(cached.get().getBody());
+        }
+
+        final HttpResponse<byte[]> response = tryGetHttpResponse(getConditionalHttpRequest(url, cached));
+        return handleResponse(url, cached, response);
+    }
+
+    private CompletableFuture<DpResponse> fetchAsync(String url) {
+        final CompletableFuture<DpResponse> request = new CompletableFuture<>();
+        final CompletableFuture<DpResponse> inFlight = inFlightRequests.putIfAbsent(url, request);
+        if (inFlight != null) {
+            log.debug("Joining in-flight request to: {}", url);
+            return inFlight;
+        }
+
+        startFetchAsync(url).whenComplete((response, e) -> {
+            inFlightRequests.remove(url, request);
+            if (e != null) {
+                request.completeExceptionally(e);
+            } else {
+                request.complete(response);
+            }
+        });
+        return request;
+    }
+
+    private CompletableFuture<DpResponse> startFetchAsync(String url) {
         try {
-            final HttpResponse<T> response = tryGetHttpResponse(url, bodyHandler);
-            if (HttpURLConnection.HTTP_OK == response.statusCode()) {
-                return response.body();
+            if (cache == null) {
+                return client.sendAsync(getHttpRequest(url), HttpResponse.BodyHandlers.ofByteArray())
+                    .thenApply(response -> new DpResponse(response.statusCode(), response.body()));
             }
-            throw new ConnectionException("Failed to make request to distribution point. Received wrong status code:"
-                + response.statusCode());
-        } catch (IOException e) {
-            throw new ConnectionException("Failed to make request to distribution point.", e);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new ConnectionException("Failed to make request to distribution point.", e);
+
+            final Optional<CachedResponse> cached = cache.get(url);
+            if (isFresh(url, cached)) {
+                return CompletableFuture.completedFuture(DpResponse.ok(cached.get().getBody()));
+            }
+
+            return client.sendAsync(getConditionalHttpRequest(url, cached), HttpResponse.BodyHandlers.ofByteArray())
+                .thenApply(response -> handleResponse(url, cached, response));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private boolean isFresh(String url, Optional<CachedResponse> cached) {
+        if (cached.isPresent() && cache.isFresh(cached.get())) {
+            log.debug("Using cached response for: {}", url);
+            cache.recordHit(url);
+            return true;
+        }
+        return false;
+    }
+
+    private DpResponse handleResponse(String url, Optional<CachedResponse> cached, HttpResponse<byte[]> response) {
+        if (HttpURLConnection.HTTP_NOT_MODIFIED == response.statusCode() && cached.isPresent()) {
+            log.debug("Cached response not modified for: {}", url);
+            cache.recordRevalidation(url);
+            return DpResponse.ok(cache.revalidate(cached.get(), response.headers()).getBody());
         }
+
+        cache.recordMiss(url);
+        if (HttpURLConnection.HTTP_OK == response.statusCode()) {
+            cache.store(url, response.headers(), response.body());
+        }
+        return new DpResponse(response.statusCode(), response.body());
     }
 
-    private <T> HttpResponse<T> tryGetHttpResponse(String url, HttpResponse.BodyHandler<T> bodyHandler)
-        throws IOException, InterruptedException {
+    private HttpResponse<byte[]> tryGetHttpResponse(HttpRequest request) throws IOException, InterruptedException {
         return client
-            .send(getHttpRequest(url), bodyHandler);
+            .send(request, HttpResponse.BodyHandlers.ofByteArray());
     }
 
     private HttpRequest getHttpRequest(String url) {
+        return prepareHttpRequest(url).build();
+    }
+
+    private HttpRequest getConditionalHttpRequest(String url, Optional<CachedResponse> cached) {
+        final HttpRequest.Builder builder = prepareHttpRequest(url);
+        cached.ifPresent(response -> {
+            if (StringUtils.isNotBlank(response.getEtag())) {
+                builder.header(IF_NONE_MATCH, response.getEtag());
+            }
+            if (StringUtils.isNotBlank(response.getLastModified())) {
+                builder.header(IF_MODIFIED_SINCE, response.getLastModified());
+            }
+        });
+        return builder.build();
+    }
+
+    private HttpRequest.Builder prepareHttpRequest(String url) {
         log.debug("Performing request to: {}", url);
         return HttpRequest.newBuilder(URI.create(url))
             .timeout(Duration.ofSeconds(REQUEST_TIMEOUT_SECONDS))
-            .GET()
-            .build();
+            .GET();
+    }
+
+    private static SSLContext createSslContext(TrustManager[] managers) {
+        try {
+            final SSLContext sslContext = SSLContext.getInstance("TLS");
+            sslContext.init(null, managers, new SecureRandom());
+            return sslContext;
+        } catch (NoSuchAlgorithmException | KeyManagementException e) {
+            throw new ConnectionException("Failed to init SSL context", e);
+        }
     }
 
-    private void setHttpClient(String proxyHost, Integer proxyPort, SSLContext sslContext) {
+    private void setHttpClient(String proxyHost, Integer proxyPort, SSLContext sslContext, int maxConcurrentRequests) {
         final var proxy = ProxyCallbackFactory.get(proxyHost, proxyPort).get();
-        executor = Executors.newSingleThreadExecutor();
+        executor = Executors.newFixedThreadPool(Math.max(1, maxConcurrentRequests));
         this.client = HttpClient.newBuilder()
                                 .proxy(proxy)
                                 .connectTimeout(Duration.ofSeconds(CONNECTION_TIMEOUT_SECONDS))
@@ -146,4 +293,18 @@ public class DistributionPointConnector implements AutoCloseable {
                                 .build();
 
     }
+
+    private void setCache(DpResponseCacheConfig cacheConfig) {
+        if (cacheConfig.isEnabled()) {
+            log.debug("Distribution point cache enabled: {}", cacheConfig);
+            this.cache = new DpResponseCache(cacheConfig);
+        }
+    }
+
+    private record DpResponse(int statusCode, byte[] body) {
+
+        static DpResponse ok(byte[] body) {
+            return new DpResponse(HttpURLConnection.HTTP_OK, body);
+        }
+    }
 }
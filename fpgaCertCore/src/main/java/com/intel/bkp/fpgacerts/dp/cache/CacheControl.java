@@ -0,0 +1,103 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2023 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.fpgacerts.dp.cache;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.apache.commons.lang3.StringUtils;
+
+import java.net.http.HttpHeaders;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Subset of Cache-Control response directives (RFC 9111) relevant for a private client cache.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+class CacheControl {
+
+    static final String HEADER = "Cache-Control";
+
+    private static final String NO_STORE = "no-store";
+    private static final String NO_CACHE = "no-cache";
+    private static final String MAX_AGE = "max-age";
+    private static final String IMMUTABLE = "immutable";
+    private static final Duration IMMUTABLE_MAX_AGE = Duration.ofDays(365);
+
+    private final boolean noStore;
+    private final boolean noCache;
+    private final Duration maxAge;
+
+    static CacheControl from(HttpHeaders headers) {
+        boolean noStore = false;
+        boolean noCache = false;
+        boolean immutable = false;
+        Duration maxAge = null;
+
+        for (String value : headers.allValues(HEADER)) {
+            for (String directive : value.split(",")) {
+                final String name = StringUtils.substringBefore(directive, "=").trim().toLowerCase(Locale.ROOT);
+                switch (name) {
+                    case NO_STORE -> noStore = true;
+                    case NO_CACHE -> noCache = true;
+                    case IMMUTABLE -> immutable = true;
+                    case MAX_AGE -> maxAge = parseSeconds(StringUtils.substringAfter(directive, "=")).orElse(maxAge);
+                    default -> {
+                        // other directives do not apply to private client cache
+                    }
+                }
+            }
+        }
+
+        if (immutable && maxAge == null) {
+            maxAge = IMMUTABLE_MAX_AGE;
+        }
+        return new CacheControl(noStore, noCache, maxAge);
+    }
+
+    Optional<Duration> getMaxAge() {
+        return Optional.ofNullable(maxAge);
+    }
+
+    private static Optional<Duration> parseSeconds(String value) {
+        try {
+            return Optional.of(Duration.ofSeconds(Long.parseLong(StringUtils.strip(value.trim(), "\""))));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2023 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.fpgacerts.dp.cache;
+
+import com.intel.bkp.crypto.CryptoUtils;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Persistent store of cached responses - one file per URL, named with SHA-256 of the URL.
+ * File modification time is updated on each save and load, and least recently used files are deleted
+ * when the store holds more than max entries.
+ */
+@Slf4j
+class DiskResponseStore {
+
+    private static final int FORMAT_VERSION = 1;
+    private static final String FILE_EXTENSION = ".dpcache";
+
+    private final Path directory;
+    private final int maxEntries;
+    private final Clock clock;
+
+    DiskResponseStore(Path directory, int maxEntries, Clock clock) {
+        this.directory = directory;
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed to create DP cache directory: " + directory, e);
+        }
+    }
+
+    Optional<CachedResponse> load(String url) {
+        final Path file = getFile(url);
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(Files.readAllBytes(file)))) {
+            if (in.readInt() != FORMAT_VERSION || !url.equals(in.readUTF())) {
+                return Optional.empty();
+            }
+            final String etag = in.readUTF();
+            final String lastModified = in.readUTF();
+            final Instant expiresAt = Instant.ofEpochMilli(in.readLong());
+            final byte[] body = in.readNBytes(in.readInt());
+            touch(file);
+            return Optional.of(new CachedResponse(url, body, etag, lastModified, expiresAt));
+        } catch (IOException e) {
+            log.warn("Failed to read cached response for {}: {}", url, e.getMessage());
+            log.debug("Stacktrace: ", e);
+            return Optional.empty();
+        }
+    }
+
+    void save(CachedResponse response) {
+        final Path file = getFile(response.getUrl());
+        try {
+            final Path tempFile = Files.createTempFile(directory, null, null);
+            Files.write(tempFile, serialize(response));
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            touch(file);
+        } catch (IOException e) {
+            log.warn("Failed to store cached response for {}: {}", response.getUrl(), e.getMessage());
+            log.debug("Stacktrace: ", e);
+            return;
+        }
+        evictLeastRecentlyUsed();
+    }
+
+    void delete(String url) {
+        try {
+            Files.deleteIfExists(getFile(url));
+        } catch (IOException e) {
+            log.warn("Failed to delete cached response for {}: {}", url, e.getMessage());
+        }
+    }
+
+    private void evictLeastRecentlyUsed() {
+        final List<Path> files;
+        try (Stream<Path> paths = Files.list(directory)) {
+            files = paths
+                .filter(path -> path.getFileName().toString().endsWith(FILE_EXTENSION))
+                .toList();
+        } catch (IOException e) {
+            log.warn("Failed to list cached responses in {}: {}", directory, e.getMessage());
+            return;
+        }
+
+        if (files.size() <= maxEntries) {
+            return;
+        }
+
+        files.stream()
+            .sorted(Comparator.comparing(DiskResponseStore::getLastModifiedTime))
+            .limit(files.size() - maxEntries)
+            .forEach(DiskResponseStore::deleteFile);
+    }
+
+    private void touch(Path file) {
+        try {
+            Files.setLastModifiedTime(file, FileTime.from(clock.instant()));
+        } catch (IOException e) {
+            log.debug("Failed to update modification time of {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static FileTime getLastModifiedTime(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private static void deleteFile(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Failed to delete cached response {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static byte[] serialize(CachedResponse response) throws IOException {
+        final var bytes = new ByteArrayOutputStream(response.getBody().length + 256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(FORMAT_VERSION);
+            out.writeUTF(response.getUrl());
+            out.writeUTF(response.getEtag());
+            out.writeUTF(response.getLastModified());
+            out.writeLong(response.getExpiresAt().toEpochMilli());
+            out.writeInt(response.getBody().length);
+            out.write(response.getBody());
+        }
+        return bytes.toByteArray();
+    }
+
+    private Path getFile(String url) {
+        return directory.resolve(
+            CryptoUtils.generateSha256Fingerprint(url.getBytes(StandardCharsets.UTF_8)) + FILE_EXTENSION);
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2023 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.fpgacerts.dp.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+
+import java.net.http.HttpHeaders;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Cache of distribution point responses - in-memory LRU, optionally backed by persistent disk store.
+ * Freshness is taken from Cache-Control max-age, or from configured default if the header is missing.
+ * Per URL stats are kept for at most max entries most recently used URLs, total stats cover all URLs.
+ */
+@Slf4j
+public class DpResponseCache {
+
+    static final String ETAG = "ETag";
+    static final String LAST_MODIFIED = "Last-Modified";
+
+    private final Clock clock;
+    private final Duration defaultMaxAge;
+    private final Map<String, CachedResponse> memory;
+    private final DiskResponseStore diskStore;
+    private final Map<String, DpCacheStats> stats;
+    private volatile DpCacheStats totalStats = new DpCacheStats();
+
+    public DpResponseCache(DpResponseCacheConfig config) {
+        this(config, Clock.systemUTC());
+    }
+
+    DpResponseCache(DpResponseCacheConfig config, Clock clock) {
+        this.clock = clock;
+        this.defaultMaxAge = config.getDefaultMaxAge();
+        this.memory = new LruMap<>(config.getMaxEntries());
+        this.stats = new LruMap<>(config.getMaxEntries());
+        this.diskStore = StringUtils.isBlank(config.getDiskPath())
+                         ? null
+                         : new DiskResponseStore(Path.of(config.getDiskPath()), config.getMaxEntries(), clock);
+    }
+
+    public Optional<CachedResponse> get(String url) {
+        synchronized (memory) {
+            final CachedResponse cached = memory.get(url);
+            if (cached != null) {
+                return Optional.of(cached);
+            }
+        }
+
+        final Optional<CachedResponse> fromDisk = Optional.ofNullable(diskStore).flatMap(store -> store.load(url));
+        fromDisk.ifPresent(this::putInMemory);
+        return fromDisk;
+    }
+
+    public boolean isFresh(CachedResponse response) {
+        return response.isFresh(clock.instant());
+    }
+
+    /**
+     * Stores full response, unless Cache-Control forbids it.
+     */
+    public void store(String url, HttpHeaders headers, byte[] body) {
+        final CacheControl cacheControl = CacheControl.from(headers);
+        if (cacheControl.isNoStore()) {
+            remove(url);
+            return;
+        }
+
+        final var response = new CachedResponse(url, body,
+            headers.firstValue(ETAG).orElse(""),
+            headers.firstValue(LAST_MODIFIED).orElse(""),
+            getExpiresAt(cacheControl));
+        putInMemory(response);
+        Optional.ofNullable(diskStore).ifPresent(store -> store.save(response));
+    }
+
+    /**
+     * Extends freshness of cached response confirmed with 304 Not Modified.
+     */
+    public CachedResponse revalidate(CachedResponse cached, HttpHeaders headers) {
+        final CachedResponse refreshed = cached.withExpiresAt(getExpiresAt(CacheControl.from(headers)));
+        putInMemory(refreshed);
+        Optional.ofNullable(diskStore).ifPresent(store -> store.save(refreshed));
+        return refreshed;
+    }
+
+    public void remove(String url) {
+        synchronized (memory) {
+            memory.remove(url);
+        }
+        Optional.ofNullable(diskStore).ifPresent(store -> store.delete(url));
+    }
+
+    public void clear() {
+        synchronized (memory) {
+            memory.clear();
+        }
+        synchronized (stats) {
+            stats.clear();
+            totalStats = new DpCacheStats();
+        }
+    }
+
+    public Map<String, DpCacheStats> getStats() {
+        synchronized (stats) {
+            return Map.copyOf(stats);
+        }
+    }
+
+    public DpCacheStats getTotalStats() {
+        final var total = new DpCacheStats();
+        total.add(totalStats);
+        return total;
+    }
+
+    public void recordHit(String url) {
+        statsOf(url).recordHit();
+        totalStats.recordHit();
+    }
+
+    public void recordRevalidation(String url) {
+        statsOf(url).recordRevalidation();
+        totalStats.recordRevalidation();
+    }
+
+    public void recordMiss(String url) {
+        statsOf(url).recordMiss();
+        totalStats.recordMiss();
+    }
+
+    private DpCacheStats statsOf(String url) {
+        synchronized (stats) {
+            return stats.computeIfAbsent(url, key -> new DpCacheStats());
+        }
+    }
+
+    private Instant getExpiresAt(CacheControl cacheControl) {
+        final Duration maxAge = cacheControl.isNoCache()
+                                ? Duration.ZERO
+                                : cacheControl.getMaxAge().orElse(defaultMaxAge);
+        return clock.instant().plus(maxAge);
+    }
+
+    private void putInMemory(CachedResponse response) {
+        synchronized (memory) {
+            memory.put(response.getUrl(), response);
+        }
+    }
+
+    private static class LruMap<V> extends LinkedHashMap<String, V> {
+
+        private final int maxEntries;
+
+        LruMap(int maxEntries) {
+            super(16, 0.75f, true);
+            this.maxEntries = maxEntries;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+            return size() > maxEntries;
+        }
+    }
+}
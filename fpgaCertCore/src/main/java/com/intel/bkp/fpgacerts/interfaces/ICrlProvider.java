@@ -33,9 +33,20 @@
 
 package com.intel.bkp.fpgacerts.interfaces;
 
+import java.security.PublicKey;
 import java.security.cert.X509CRL;
 
 public interface ICrlProvider {
 
     X509CRL getCrl(String crlUrl);
+
+    /**
+     * Providers that reuse CRLs may remember whose key was already used to verify their signature.
+     */
+    default boolean isSignatureVerified(X509CRL crl, PublicKey issuerKey) {
+        return false;
+    }
+
+    default void signatureVerified(X509CRL crl, PublicKey issuerKey) {
+    }
 }
@@ -41,6 +41,7 @@ import org.apache.commons.lang3.StringUtils;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 public class FetchDataSchemeBroker {
 
@@ -57,6 +58,16 @@ public class FetchDataSchemeBroker {
         };
     }
 
+    public static CompletableFuture<Optional<byte[]>> fetchDataAsync(String url,
+                                                                     DistributionPointConnector dpConnector) {
+        final URI uri = toUri(url);
+        return switch (extractScheme(uri)) {
+            case HTTPS_SCHEME, HTTP_SCHEME -> dpConnector.tryGetBytesAsync(url);
+            case FILE_SCHEME -> CompletableFuture.completedFuture(LocalFileLoader.load(uri));
+            default -> CompletableFuture.completedFuture(Optional.empty());
+        };
+    }
+
     private static String extractScheme(URI uri) {
         return Optional.ofNullable(uri.getScheme()).map(String::toLowerCase).orElse("");
     }
@@ -0,0 +1,173 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2023 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.fpgacerts.verification;
+
+import com.intel.bkp.fpgacerts.dice.tcbinfo.TcbInfoExtensionParser;
+import com.intel.bkp.fpgacerts.dice.tcbinfo.TcbInfoKey;
+import com.intel.bkp.fpgacerts.dice.tcbinfo.TcbInfoMeasurement;
+import com.intel.bkp.fpgacerts.dice.tcbinfo.vendorinfo.MaskedVendorInfo;
+
+import java.math.BigInteger;
+import java.security.cert.X509CRL;
+import java.security.cert.X509CRLEntry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.stream.Collectors;
+
+import static com.intel.bkp.crypto.x509.utils.X509CrlUtils.getX509CRLEntries;
+import static com.intel.bkp.crypto.x509.utils.X509CrlUtils.toSerialNumberSet;
+import static com.intel.bkp.fpgacerts.dice.tcbinfo.TcbInfoExtensionParser.containsTcbInfoExtension;
+
+/**
+ * Revocation data of a single CRL, prepared once so that every certificate is checked by lookups
+ * instead of scanning and parsing all CRL entries.
+ * Serial numbers are kept in hash sets. TcbInfo entries are parsed lazily on first use, with default vendor info
+ * masks applied, and indexed by key of their first measurement - an entry can revoke a certificate
+ * only if the certificate contains a measurement with that key.
+ */
+class CrlRevocationIndex {
+
+    private static final Map<X509CRL, CrlRevocationIndex> INDEXES = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Set<BigInteger> serialNumbers;
+    private final Set<BigInteger> serialNumbersWithoutTcbInfo;
+    // entries only, as index must not hold a strong reference to its weakly referenced CRL
+    private final List<? extends X509CRLEntry> crlEntriesWithTcbInfo;
+    private volatile TcbInfoEntries tcbInfoEntries;
+
+    private CrlRevocationIndex(X509CRL crl) {
+        this.serialNumbers = toSerialNumberSet(getX509CRLEntries(crl));
+        this.serialNumbersWithoutTcbInfo = toSerialNumberSet(getX509CRLEntries(crl)
+            .filter(entry -> !containsTcbInfoExtension(entry)));
+        this.crlEntriesWithTcbInfo = getX509CRLEntries(crl)
+            .filter(X509CRLEntry::hasExtensions)
+            .filter(TcbInfoExtensionParser::containsTcbInfoExtension)
+            .toList();
+    }
+
+    static CrlRevocationIndex of(X509CRL crl) {
+        return INDEXES.computeIfAbsent(crl, CrlRevocationIndex::new);
+    }
+
+    boolean isRevoked(BigInteger serialNumber) {
+        return serialNumbers.contains(serialNumber);
+    }
+
+    /**
+     * Entries with TcbInfo extension revoke by TcbInfo, not by serial number.
+     */
+    boolean isRevokedIgnoringTcbInfoEntries(BigInteger serialNumber) {
+        return serialNumbersWithoutTcbInfo.contains(serialNumber);
+    }
+
+    /**
+     * Returns measurements of CRL entry, all of which are contained in certificate measurements.
+     */
+    Optional<List<TcbInfoMeasurement>> findTcbInfoEntryContainedIn(List<TcbInfoMeasurement> certMeasurements,
+                                                                   TcbInfoExtensionParser extensionParser) {
+        final Map<TcbInfoKey, List<TcbInfoMeasurement>> certMeasurementsByKey = certMeasurements.stream()
+            .collect(Collectors.groupingBy(TcbInfoMeasurement::getKey));
+
+        return getTcbInfoEntries(extensionParser).candidatesFor(certMeasurementsByKey.keySet()).stream()
+            .filter(entry -> entry.stream().allMatch(reference -> containsReference(certMeasurementsByKey, reference)))
+            .findFirst();
+    }
+
+    private static boolean containsReference(Map<TcbInfoKey, List<TcbInfoMeasurement>> certMeasurementsByKey,
+                                             TcbInfoMeasurement reference) {
+        return certMeasurementsByKey.getOrDefault(reference.getKey(), List.of()).stream()
+            .anyMatch(measurement -> measurement.matchesReferenceMeasurement(reference));
+    }
+
+    private TcbInfoEntries getTcbInfoEntries(TcbInfoExtensionParser extensionParser) {
+        TcbInfoEntries entries = tcbInfoEntries;
+        if (entries == null) {
+            synchronized (this) {
+                entries = tcbInfoEntries;
+                if (entries == null) {
+                    entries = new TcbInfoEntries(parseTcbInfoEntries(extensionParser));
+                    tcbInfoEntries = entries;
+                }
+            }
+        }
+        return entries;
+    }
+
+    private List<List<TcbInfoMeasurement>> parseTcbInfoEntries(TcbInfoExtensionParser extensionParser) {
+        return crlEntriesWithTcbInfo.stream()
+            .map(extensionParser::parse)
+            .map(TcbInfoMeasurement::asMeasurements)
+            .map(CrlRevocationIndex::setDefaultVendorInfoMask)
+            .toList();
+    }
+
+    private static List<TcbInfoMeasurement> setDefaultVendorInfoMask(List<TcbInfoMeasurement> tcbInfoMeasurements) {
+        tcbInfoMeasurements.forEach(
+            m -> m.getValue()
+                .getMaskedVendorInfo()
+                .ifPresent(MaskedVendorInfo::setMaskBasedOnVendorInfo)
+        );
+        return tcbInfoMeasurements;
+    }
+
+    private static class TcbInfoEntries {
+
+        private final Map<TcbInfoKey, List<List<TcbInfoMeasurement>>> entriesByFirstKey = new HashMap<>();
+        private final List<List<TcbInfoMeasurement>> entriesWithoutMeasurements = new ArrayList<>();
+
+        TcbInfoEntries(List<List<TcbInfoMeasurement>> entries) {
+            entries.forEach(entry -> {
+                if (entry.isEmpty()) {
+                    entriesWithoutMeasurements.add(entry);
+                } else {
+                    entriesByFirstKey.computeIfAbsent(entry.get(0).getKey(), key -> new ArrayList<>()).add(entry);
+                }
+            });
+        }
+
+        List<List<TcbInfoMeasurement>> candidatesFor(Set<TcbInfoKey> certKeys) {
+            final List<List<TcbInfoMeasurement>> candidates = new ArrayList<>(entriesWithoutMeasurements);
+            certKeys.stream()
+                .map(key -> entriesByFirstKey.getOrDefault(key, List.of()))
+                .forEach(candidates::addAll);
+            return candidates;
+        }
+    }
+}
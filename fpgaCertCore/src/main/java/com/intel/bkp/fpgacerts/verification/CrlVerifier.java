@@ -51,7 +51,6 @@ import java.util.ListIterator;
 import java.util.Optional;
 
 import static com.intel.bkp.crypto.x509.utils.CrlDistributionPointsUtils.getCrlUrl;
-import static com.intel.bkp.crypto.x509.utils.X509CrlUtils.isRevoked;
 import static com.intel.bkp.utils.HexConverter.toHex;
 
 @Slf4j
@@ -79,6 +78,13 @@ public class CrlVerifier {
     private List<X509Certificate> certificates;
     private boolean requireCrlForLeafCertificate = true;
 
+    /**
+     * Earliest NextUpdate of CRLs checked during last verify() call - Instant.MAX if no CRL was checked
+     * and Instant.MIN if any of them does not contain NextUpdate field.
+     */
+    @Getter
+    private Instant crlsValidUntil = Instant.MAX;
+
     public CrlVerifier(ICrlProvider crlProvider) {
         this(new SignatureVerifier(), crlProvider);
     }
@@ -94,6 +100,7 @@ public class CrlVerifier {
     }
 
     public boolean verify() {
+        crlsValidUntil = Instant.MAX;
         ListIterator<X509Certificate> certificateChainIterator = this.certificates.listIterator();
         return verifyRecursive(certificateChainIterator.next(), certificateChainIterator, requireCrlForLeafCertificate);
     }
@@ -127,6 +134,7 @@ public class CrlVerifier {
         final X509CRL crl = crlProvider.getCrl(crlUrl);
         verifyCrlSignature(crl, certificateChainIterator.nextIndex());
         verifyNextUpdate(crl);
+        updateCrlsValidUntil(crl);
 
         return getRevocationReason(crl, certificate)
             .map(revocationReason -> handleRevokedCertificate(certificate, revocationReason))
@@ -138,8 +146,12 @@ public class CrlVerifier {
 
         while (issuerCertsIterator.hasNext()) {
             final X509Certificate potentialIssuer = issuerCertsIterator.next();
+            if (crlProvider.isSignatureVerified(crl, potentialIssuer.getPublicKey())) {
+                return;
+            }
             if (signatureVerifier.verify(crl, potentialIssuer)) {
                 log.debug(SIGNATURE_VALIDATION_PASSED_LOG_FORMAT, potentialIssuer.getSubjectX500Principal());
+                crlProvider.signatureVerified(crl, potentialIssuer.getPublicKey());
                 return;
             }
         }
@@ -153,6 +165,15 @@ public class CrlVerifier {
         }
     }
 
+    private void updateCrlsValidUntil(X509CRL crl) {
+        final Instant nextUpdate = Optional.ofNullable(crl.getNextUpdate())
+            .map(Date::toInstant)
+            .orElse(Instant.MIN);
+        if (nextUpdate.isBefore(crlsValidUntil)) {
+            crlsValidUntil = nextUpdate;
+        }
+    }
+
     private boolean isNextUpdateValid(X509CRL crl) {
         return Optional.ofNullable(crl.getNextUpdate())
             .map(date -> date.after(Date.from(Instant.now())))
@@ -166,7 +187,7 @@ public class CrlVerifier {
     }
 
     boolean isRevokedBySerialNumber(X509CRL crl, X509Certificate cert) {
-        return isRevoked(crl, cert.getSerialNumber());
+        return CrlRevocationIndex.of(crl).isRevoked(cert.getSerialNumber());
     }
 
     private boolean handleRevokedCertificate(X509Certificate certificate, String revocationReason) {
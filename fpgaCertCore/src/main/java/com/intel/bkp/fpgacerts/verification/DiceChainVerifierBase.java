@@ -36,6 +36,9 @@ package com.intel.bkp.fpgacerts.verification;
 import com.intel.bkp.crypto.x509.validation.ChainVerifier;
 import com.intel.bkp.crypto.x509.validation.ExtendedKeyUsageVerifier;
 import com.intel.bkp.crypto.x509.validation.SubjectKeyIdentifierVerifier;
+import com.intel.bkp.crypto.x509.validation.ValidityVerifier;
+import com.intel.bkp.crypto.x509.validation.VerifiedEdgeCache;
+import com.intel.bkp.fpgacerts.dice.DiceCertificateViews;
 import com.intel.bkp.fpgacerts.dice.subject.DiceSubjectVerifier;
 import com.intel.bkp.fpgacerts.dice.tcbinfo.verification.TcbInfoVerifier;
 import com.intel.bkp.fpgacerts.dice.ueid.UeidVerifier;
@@ -47,8 +50,10 @@ import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
 import java.security.cert.X509Certificate;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import static com.intel.bkp.fpgacerts.model.Oid.TCG_DICE_MULTI_TCB_INFO;
 import static com.intel.bkp.fpgacerts.model.Oid.TCG_DICE_TCB_INFO;
@@ -62,6 +67,7 @@ public abstract class DiceChainVerifierBase {
 
     private static final Set<String> DICE_EXTENSION_OIDS = Set.of(TCG_DICE_TCB_INFO.getOid(),
         TCG_DICE_MULTI_TCB_INFO.getOid(), TCG_DICE_UEID.getOid());
+    private static final ValidityVerifier VALIDITY_VERIFIER = new ValidityVerifier();
 
     private final ExtendedKeyUsageVerifier extendedKeyUsageVerifier;
     private final ChainVerifier certificateChainVerifier;
@@ -77,10 +83,19 @@ public abstract class DiceChainVerifierBase {
     private byte[] deviceId;
 
     protected DiceChainVerifierBase(ICrlProvider crlProvider, String[] trustedRootHash, boolean testModeSecrets) {
-        this(new ExtendedKeyUsageVerifier(), new ChainVerifier(), new DiceCrlVerifier(crlProvider),
-            new RootHashVerifier(),
-            new UeidVerifier(), new SubjectKeyIdentifierVerifier(), trustedRootHash,
-            new TcbInfoVerifier(testModeSecrets), new DiceSubjectVerifier());
+        this(crlProvider, trustedRootHash, testModeSecrets, DiceCertificateViews::new);
+    }
+
+    /**
+     * @param certificateViews supplies certificate views of the attestation in progress, shared with other
+     *                         consumers of the same chain
+     */
+    protected DiceChainVerifierBase(ICrlProvider crlProvider, String[] trustedRootHash, boolean testModeSecrets,
+                                    Supplier<DiceCertificateViews> certificateViews) {
+        this(new ExtendedKeyUsageVerifier(), new ChainVerifier().verifiedEdgeCache(VerifiedEdgeCache.instance()),
+            new DiceCrlVerifier(crlProvider, certificateViews), new RootHashVerifier(),
+            new UeidVerifier(certificateViews), new SubjectKeyIdentifierVerifier(), trustedRootHash,
+            new TcbInfoVerifier(testModeSecrets, certificateViews), new DiceSubjectVerifier(certificateViews));
     }
 
     protected abstract String[] getExpectedLeafCertKeyPurposes();
@@ -92,6 +107,21 @@ public abstract class DiceChainVerifierBase {
         verifyTcbInfo(certificates);
     }
 
+    /**
+     * Re-checks a chain that already passed verifyChain for the same device, limited to what may change since then:
+     * validity period, trusted root and revocation status.
+     */
+    public void verifyChainStatus(List<X509Certificate> certs) {
+        log.info("Verifying status of previously verified certificate chain.");
+        final var certificates = toLinkedList(certs);
+        if (!certificates.stream().allMatch(VALIDITY_VERIFIER::verify)) {
+            handleVerificationFailure("One of certificates in X509 attestation chain is not valid at this time.");
+        }
+
+        verifyRootHash(certificates);
+        verifyRevocation(certificates);
+    }
+
     private void verifyChainInternal(List<X509Certificate> certs) {
         log.info("Performing standard X509 validation of certificate chain.");
         final var certificates = toLinkedList(certs);
@@ -109,9 +139,7 @@ public abstract class DiceChainVerifierBase {
             handleVerificationFailure("One of certificates in X509 attestation chain has invalid SKI extension value.");
         }
 
-        if (!rootHashVerifier.verifyRootHash(certificates.getLast(), trustedRootHash)) {
-            handleVerificationFailure("Root hash in X509 DICE chain is different from trusted root hash.");
-        }
+        verifyRootHash(certificates);
 
         if (!extendedKeyUsageVerifier.certificate(certificates.getFirst()).verify(getExpectedLeafCertKeyPurposes())) {
             handleVerificationFailure("Leaf certificate has invalid key usages.");
@@ -121,6 +149,16 @@ public abstract class DiceChainVerifierBase {
             handleVerificationFailure("DICE subject validation failed.");
         }
 
+        verifyRevocation(certificates);
+    }
+
+    private void verifyRootHash(LinkedList<X509Certificate> certificates) {
+        if (!rootHashVerifier.verifyRootHash(certificates.getLast(), trustedRootHash)) {
+            handleVerificationFailure("Root hash in X509 DICE chain is different from trusted root hash.");
+        }
+    }
+
+    private void verifyRevocation(LinkedList<X509Certificate> certificates) {
         if (!crlVerifier.certificates(certificates).doNotRequireCrlForLeafCertificate().verify()) {
             handleVerificationFailure("One of the certificates in chain is revoked.");
         }
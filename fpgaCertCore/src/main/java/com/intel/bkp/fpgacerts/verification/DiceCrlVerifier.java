@@ -33,38 +33,33 @@
 
 package com.intel.bkp.fpgacerts.verification;
 
-import com.intel.bkp.fpgacerts.dice.tcbinfo.TcbInfoExtensionParser;
+import com.intel.bkp.fpgacerts.dice.DiceCertificateView;
+import com.intel.bkp.fpgacerts.dice.DiceCertificateViews;
 import com.intel.bkp.fpgacerts.dice.tcbinfo.TcbInfoMeasurement;
-import com.intel.bkp.fpgacerts.dice.tcbinfo.vendorinfo.MaskedVendorInfo;
 import com.intel.bkp.fpgacerts.interfaces.ICrlProvider;
 import lombok.extern.slf4j.Slf4j;
 
 import java.security.cert.X509CRL;
-import java.security.cert.X509CRLEntry;
 import java.security.cert.X509Certificate;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Stream;
+import java.util.function.Supplier;
 
-import static com.intel.bkp.crypto.x509.utils.X509CrlUtils.getX509CRLEntries;
-import static com.intel.bkp.crypto.x509.utils.X509CrlUtils.isRevoked;
-import static com.intel.bkp.fpgacerts.dice.tcbinfo.TcbInfoExtensionParser.containsTcbInfoExtension;
 import static com.intel.bkp.fpgacerts.dice.tcbinfo.TcbInfoMeasurement.asMeasurements;
-import static com.intel.bkp.fpgacerts.dice.tcbinfo.TcbInfoMeasurement.containsAllReferenceMeasurements;
 
 @Slf4j
 public class DiceCrlVerifier extends CrlVerifier {
 
     public static final String TCB_INFO_REVOCATION_REASON = "TcbInfo";
-    private final TcbInfoExtensionParser extensionParser;
+    private final Supplier<DiceCertificateViews> certificateViews;
 
     public DiceCrlVerifier(ICrlProvider crlProvider) {
-        this(crlProvider, new TcbInfoExtensionParser());
+        this(crlProvider, DiceCertificateViews::new);
     }
 
-    DiceCrlVerifier(ICrlProvider crlProvider, TcbInfoExtensionParser extensionParser) {
+    public DiceCrlVerifier(ICrlProvider crlProvider, Supplier<DiceCertificateViews> certificateViews) {
         super(crlProvider);
-        this.extensionParser = extensionParser;
+        this.certificateViews = certificateViews;
     }
 
     @Override
@@ -77,23 +72,19 @@ public class DiceCrlVerifier extends CrlVerifier {
 
     @Override
     protected boolean isRevokedBySerialNumber(X509CRL crl, X509Certificate cert) {
-        return isRevoked(getCrlEntriesWithoutTcbInfoExtension(crl), cert.getSerialNumber());
+        return CrlRevocationIndex.of(crl).isRevokedIgnoringTcbInfoEntries(cert.getSerialNumber());
     }
 
     private boolean isRevokedByTcbInfo(X509CRL crl, X509Certificate certificate) {
-        if (!containsTcbInfoExtension(certificate)) {
+        final DiceCertificateViews views = certificateViews.get();
+        final DiceCertificateView view = views.of(certificate);
+        if (!view.isTcbInfoExtensionPresent()) {
             return false;
         }
 
-        final List<TcbInfoMeasurement> measurementsFromCertificate = asMeasurements(extensionParser.parse(certificate));
-        final Optional<List<TcbInfoMeasurement>> subsetOfMeasurementsFromCertificate =
-            getCrlEntriesWithTcbInfoExtension(crl)
-                .map(extensionParser::parse)
-                .map(TcbInfoMeasurement::asMeasurements)
-                .map(this::setDefaultVendorInfoMask)
-                .filter(measurementsFromCrlEntry ->
-                    containsAllReferenceMeasurements(measurementsFromCertificate, measurementsFromCrlEntry))
-                .findFirst();
+        final List<TcbInfoMeasurement> measurementsFromCertificate = asMeasurements(view.getTcbInfos());
+        final Optional<List<TcbInfoMeasurement>> subsetOfMeasurementsFromCertificate = CrlRevocationIndex.of(crl)
+            .findTcbInfoEntryContainedIn(measurementsFromCertificate, views.getTcbInfoExtensionParser());
 
         subsetOfMeasurementsFromCertificate.ifPresent(subset ->
             logFoundSubset(measurementsFromCertificate, subset));
@@ -101,26 +92,6 @@ public class DiceCrlVerifier extends CrlVerifier {
         return subsetOfMeasurementsFromCertificate.isPresent();
     }
 
-    private List<TcbInfoMeasurement> setDefaultVendorInfoMask(List<TcbInfoMeasurement> tcbInfoMeasurements) {
-        tcbInfoMeasurements.forEach(
-            m -> m.getValue()
-                .getMaskedVendorInfo()
-                .ifPresent(MaskedVendorInfo::setMaskBasedOnVendorInfo)
-        );
-        return tcbInfoMeasurements;
-    }
-
-    private Stream<? extends X509CRLEntry> getCrlEntriesWithoutTcbInfoExtension(X509CRL crl) {
-        return getX509CRLEntries(crl)
-            .filter(entry -> !containsTcbInfoExtension(entry));
-    }
-
-    private Stream<? extends X509CRLEntry> getCrlEntriesWithTcbInfoExtension(X509CRL crl) {
-        return getX509CRLEntries(crl)
-            .filter(X509CRLEntry::hasExtensions)
-            .filter(TcbInfoExtensionParser::containsTcbInfoExtension);
-    }
-
     private void logFoundSubset(List<TcbInfoMeasurement> measurementsFromCertificate,
                                 List<TcbInfoMeasurement> subsetOfMeasurementsFromCertificate) {
         log.debug("Found subset of TcbInfo measurements from certificate in CRL entry.\n"
@@ -35,6 +35,7 @@ package com.intel.bkp.fpgacerts.verification;
 
 import com.intel.bkp.crypto.x509.validation.ChainVerifier;
 import com.intel.bkp.crypto.x509.validation.ExtendedKeyUsageVerifier;
+import com.intel.bkp.crypto.x509.validation.VerifiedEdgeCache;
 import com.intel.bkp.fpgacerts.interfaces.ICrlProvider;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -64,7 +65,7 @@ public abstract class S10ChainVerifierBase {
     private byte[] deviceId;
 
     public S10ChainVerifierBase(ICrlProvider crlProvider, String[] trustedRootHash) {
-        this(new ChainVerifier(), new ExtendedKeyUsageVerifier(),
+        this(new ChainVerifier().verifiedEdgeCache(VerifiedEdgeCache.instance()), new ExtendedKeyUsageVerifier(),
                 new CrlVerifier(crlProvider), new RootHashVerifier(), trustedRootHash);
     }
 
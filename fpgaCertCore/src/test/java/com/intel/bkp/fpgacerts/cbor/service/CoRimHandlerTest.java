@@ -68,6 +68,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -171,8 +173,8 @@ class CoRimHandlerTest {
     void getMeasurements_Success() {
         // given
         final var cbor = generateSignedRim(false);
-        when(chainService.verifyRimSigningChainAndGetRimSigningKey(any(String.class)))
-            .thenReturn(signingKey.getPublicKey());
+        when(chainService.verifyRimSigningChain(any(String.class)))
+            .thenReturn(new RimSigningKey(signingKey.getPublicKey(), Instant.MAX));
         when(cborSignatureVerifier.verify(signingKey.getPublicKey(), cbor)).thenReturn(true);
         when(measurementMapper.map(any())).thenReturn(tcbInfoMeasurement).thenReturn(tcbInfoMeasurement)
             .thenReturn(tcbInfoMeasurement);
@@ -186,13 +188,50 @@ class CoRimHandlerTest {
         assertIterableEquals(List.of(tcbInfoMeasurement), result.getEndorsedMeasurements());
     }
 
+    @Test
+    void getMeasurementsValidUntil_SigningChainExpiresBeforeSignature_ReturnsSigningChainValidity() {
+        // given
+        final var cbor = generateSignedRim(false);
+        final Instant chainValidUntil = Instant.now().plus(1, ChronoUnit.HOURS);
+        when(chainService.verifyRimSigningChain(any(String.class)))
+            .thenReturn(new RimSigningKey(signingKey.getPublicKey(), chainValidUntil));
+        when(cborSignatureVerifier.verify(signingKey.getPublicKey(), cbor)).thenReturn(true);
+        when(measurementMapper.map(any())).thenReturn(tcbInfoMeasurement);
+        mockTcbInfoMeasurement();
+
+        // when
+        sut.getMeasurements(cbor);
+
+        // then
+        assertEquals(chainValidUntil, sut.getMeasurementsValidUntil());
+    }
+
+    @Test
+    void getMeasurementsValidUntil_SignatureExpiresBeforeSigningChain_ReturnsSignatureValidity() {
+        // given
+        final var cbor = generateSignedRim(false);
+        when(chainService.verifyRimSigningChain(any(String.class)))
+            .thenReturn(new RimSigningKey(signingKey.getPublicKey(), Instant.MAX));
+        when(cborSignatureVerifier.verify(signingKey.getPublicKey(), cbor)).thenReturn(true);
+        when(measurementMapper.map(any())).thenReturn(tcbInfoMeasurement);
+        mockTcbInfoMeasurement();
+
+        // when
+        sut.getMeasurements(cbor);
+
+        // then
+        final Instant result = sut.getMeasurementsValidUntil();
+        assertTrue(result.isAfter(Instant.now().plus(23, ChronoUnit.HOURS)));
+        assertTrue(result.isBefore(Instant.now().plus(25, ChronoUnit.HOURS)));
+    }
+
     @Test
     void getMeasurements_WithDesignRim_Success() {
         // given
         final var designRimCbor = generateSignedRim(true);
         final var signedRimCbor = generateSignedRim();
-        when(chainService.verifyRimSigningChainAndGetRimSigningKey(any(String.class)))
-            .thenReturn(signingKey.getPublicKey());
+        when(chainService.verifyRimSigningChain(any(String.class)))
+            .thenReturn(new RimSigningKey(signingKey.getPublicKey(), Instant.MAX));
         when(cborSignatureVerifier.verify(signingKey.getPublicKey(), designRimCbor)).thenReturn(true);
         when(cborSignatureVerifier.verify(signingKey.getPublicKey(), CborObjectParser.instance().parse(signedRimCbor)))
             .thenReturn(true);
@@ -212,8 +251,8 @@ class CoRimHandlerTest {
     void getMeasurements_WithDesignRim_WithMissingRimOnDp_ThrowsException() {
         // given
         final var designRimCbor = generateSignedRim(true);
-        when(chainService.verifyRimSigningChainAndGetRimSigningKey(any(String.class)))
-            .thenReturn(signingKey.getPublicKey());
+        when(chainService.verifyRimSigningChain(any(String.class)))
+            .thenReturn(new RimSigningKey(signingKey.getPublicKey(), Instant.MAX));
         when(cborSignatureVerifier.verify(signingKey.getPublicKey(), designRimCbor)).thenReturn(true);
         when(distributionPointConnector.tryGetBytes(matches(CERTIFICATE_PATH_REGEX)))
             .thenReturn(Optional.empty());
@@ -262,8 +301,8 @@ class CoRimHandlerTest {
     void getMeasurements_WithSignatureVerificationFailure_Throws() {
         // given
         final var cbor = generateSignedRim(false);
-        when(chainService.verifyRimSigningChainAndGetRimSigningKey(any(String.class)))
-            .thenReturn(signingKey.getPublicKey());
+        when(chainService.verifyRimSigningChain(any(String.class)))
+            .thenReturn(new RimSigningKey(signingKey.getPublicKey(), Instant.MAX));
         when(cborSignatureVerifier.verify(signingKey.getPublicKey(), cbor)).thenReturn(false);
 
         // when-then
@@ -296,8 +335,8 @@ class CoRimHandlerTest {
     @Test
     void getMeasurements_WithLocatorsTree_Success() {
         // given
-        when(chainService.verifyRimSigningChainAndGetRimSigningKey(any(String.class)))
-            .thenReturn(signingKey.getPublicKey());
+        when(chainService.verifyRimSigningChain(any(String.class)))
+            .thenReturn(new RimSigningKey(signingKey.getPublicKey(), Instant.MAX));
 
         try (var cborBrokerMockedStatic = mockStatic(CborBroker.class);
              var signatureTimeValidatorMockedStatic = mockStatic(SignatureTimeValidator.class);
@@ -325,8 +364,8 @@ class CoRimHandlerTest {
     @Test
     void getMeasurements_WithMaxDepth_Success() {
         // given
-        when(chainService.verifyRimSigningChainAndGetRimSigningKey(any(String.class)))
-            .thenReturn(signingKey.getPublicKey());
+        when(chainService.verifyRimSigningChain(any(String.class)))
+            .thenReturn(new RimSigningKey(signingKey.getPublicKey(), Instant.MAX));
 
         try (var cborBrokerMockedStatic = mockStatic(CborBroker.class);
              var signatureTimeValidatorMockedStatic = mockStatic(SignatureTimeValidator.class);
@@ -45,6 +45,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.security.PublicKey;
 import java.security.cert.X509Certificate;
+import java.time.Instant;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -119,4 +120,22 @@ class RimSigningChainServiceTest {
         // then
         assertEquals(pubKey, result);
     }
+
+    @Test
+    void verifyRimSigningChain_ReturnsKeyWithValidity() {
+        // given
+        final var url = "http://localhost:9090/content/IPCS/certs/RIM_Signing_agilex_5WL28Ty-Nta3Si1dR3ralQ7jFHw.cer";
+        final Instant validUntil = Instant.now();
+        list.add(x509Certificate);
+        when(chainFetcher.downloadCertificateChainAsX509(matches(CERTIFICATE_PATH_REGEX))).thenReturn(list);
+        when(chainVerifier.verifyChainAndGetValidUntil(List.of(x509Certificate))).thenReturn(validUntil);
+        when(x509Certificate.getPublicKey()).thenReturn(pubKey);
+
+        // when
+        final RimSigningKey result = sut.verifyRimSigningChain(url);
+
+        // then
+        assertEquals(pubKey, result.publicKey());
+        assertEquals(validUntil, result.validUntil());
+    }
 }
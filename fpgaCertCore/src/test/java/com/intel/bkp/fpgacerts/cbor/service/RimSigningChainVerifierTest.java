@@ -46,6 +46,9 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.security.cert.X509Certificate;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 
@@ -113,4 +116,26 @@ class RimSigningChainVerifierTest {
         assertEquals("Root hash in X509 attestation chain is different from trusted root hash.", ex.getMessage());
     }
 
+    @Test
+    void verifyChainAndGetValidUntil_ReturnsEarliestOfCertificatesAndCrlsValidity() {
+        //given
+        RimSigningChainVerifier sut =
+            new RimSigningChainVerifier(chainVerifier, crlVerifier, rootHashVerifier, Optional.empty());
+        when(chainVerifier.certificates(toLinkedList(chain))).thenReturn(chainVerifier);
+        when(chainVerifier.verify()).thenReturn(true);
+        when(crlVerifier.certificates(toLinkedList(chain))).thenReturn(crlVerifier);
+        when(crlVerifier.verify()).thenReturn(true);
+        final Instant crlsValidUntil = Instant.now().plus(1, ChronoUnit.HOURS);
+        when(crlVerifier.getCrlsValidUntil()).thenReturn(crlsValidUntil);
+
+        //when
+        final Instant result = sut.verifyChainAndGetValidUntil(chain);
+
+        //then
+        final Instant certsValidUntil = chain.stream()
+            .map(cert -> cert.getNotAfter().toInstant())
+            .min(Comparator.naturalOrder())
+            .orElseThrow();
+        assertEquals(certsValidUntil.isBefore(crlsValidUntil) ? certsValidUntil : crlsValidUntil, result);
+    }
 }
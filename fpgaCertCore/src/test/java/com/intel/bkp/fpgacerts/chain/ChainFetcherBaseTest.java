@@ -47,11 +47,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import javax.security.auth.x500.X500Principal;
 import java.security.cert.X509Certificate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertIterableEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -74,10 +77,37 @@ class ChainFetcherBaseTest {
         }
     }
 
+    private static class RecordingCertificateFetcherTestImpl extends CertificateFetcherTestImpl {
+
+        private final List<String> events = new ArrayList<>();
+
+        RecordingCertificateFetcherTestImpl(Map<String, X509Certificate> certMap) {
+            super(certMap);
+        }
+
+        @Override
+        public CompletableFuture<Optional<X509Certificate>> fetchCertificateAsync(String url) {
+            events.add("request " + url);
+            final var request = new CompletableFuture<Optional<X509Certificate>>() {
+                @Override
+                public Optional<X509Certificate> join() {
+                    events.add("join " + url);
+                    return super.join();
+                }
+            };
+            if (OLD_ROOT_URL.equals(url)) {
+                request.completeExceptionally(new IllegalStateException("unreachable"));
+            } else {
+                request.complete(fetchCertificate(url));
+            }
+            return request;
+        }
+    }
+
     private static class ChainFetcherTestImpl extends ChainFetcherBase {
 
-        protected ChainFetcherTestImpl(Map<String, X509Certificate> certMap) {
-            super(new CertificateFetcherTestImpl(certMap));
+        protected ChainFetcherTestImpl(ICertificateFetcher<X509Certificate> certificateFetcher) {
+            super(certificateFetcher, new IssuerUrlHints());
         }
 
         @Override
@@ -94,6 +124,7 @@ class ChainFetcherBaseTest {
     private static final String CHILD_URL = "child url";
     private static final String INTERMEDIATE_URL = "intermediate url";
     private static final String ROOT_URL = "root url";
+    private static final String OLD_ROOT_URL = "old root url";
     private static final String SUBJECT = "CN=some common name";
 
     private static MockedStatic<AuthorityInformationAccessUtils> aiaUtilsMockStatic;
@@ -110,6 +141,8 @@ class ChainFetcherBaseTest {
 
     private List<DistributionPointCertificate> correctChain;
 
+    private RecordingCertificateFetcherTestImpl certificateFetcher;
+
     @BeforeAll
     public static void prepareStaticMock() {
         x509CertificateUtilsMockStatic = mockStatic(X509CertificateUtils.class);
@@ -129,7 +162,8 @@ class ChainFetcherBaseTest {
             INTERMEDIATE_URL, intermediate,
             ROOT_URL, root
         );
-        sut = new ChainFetcherTestImpl(certMap);
+        certificateFetcher = new RecordingCertificateFetcherTestImpl(certMap);
+        sut = new ChainFetcherTestImpl(certificateFetcher);
 
         correctChain = List.of(
             new DistributionPointCertificate(CHILD_URL, child),
@@ -255,6 +289,43 @@ class ChainFetcherBaseTest {
         assertTrue(exception.getMessage().contains(SUBJECT));
     }
 
+    @Test
+    void fetchCertificateChain_ChainFetchedBefore_RequestsKnownIssuersBeforeWaiting() {
+        // given
+        mockIssuerUrl(child, INTERMEDIATE_URL);
+        mockIssuerUrl(intermediate, ROOT_URL);
+        mockAsSelfSigned(root);
+        sut.fetchCertificateChain(CHILD_URL);
+        certificateFetcher.events.clear();
+
+        // when
+        final var result = sut.fetchCertificateChain(CHILD_URL);
+
+        // then
+        assertIterableEquals(correctChain, result);
+        assertEquals(List.of(
+            "request " + CHILD_URL, "request " + INTERMEDIATE_URL, "request " + ROOT_URL,
+            "join " + CHILD_URL, "join " + INTERMEDIATE_URL, "join " + ROOT_URL), certificateFetcher.events);
+    }
+
+    @Test
+    void fetchCertificateChain_KnownIssuerChanged_IgnoresFailedSpeculativeRequest() {
+        // given
+        mockIssuerUrl(child, INTERMEDIATE_URL);
+        when(AuthorityInformationAccessUtils.getIssuerCertUrl(intermediate))
+            .thenReturn(Optional.of(OLD_ROOT_URL), Optional.of(ROOT_URL));
+        mockAsSelfSigned(root);
+        assertThrows(IllegalStateException.class, () -> sut.fetchCertificateChain(CHILD_URL));
+        certificateFetcher.events.clear();
+
+        // when
+        final var result = sut.fetchCertificateChain(CHILD_URL);
+
+        // then
+        assertIterableEquals(correctChain, result);
+        assertTrue(certificateFetcher.events.contains("request " + OLD_ROOT_URL));
+    }
+
     private void mockAsSelfSigned(X509Certificate cert) {
         when(X509CertificateUtils.isSelfSigned(cert)).thenReturn(true);
     }
@@ -0,0 +1,176 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2023 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.fpgacerts.dice;
+
+import com.intel.bkp.fpgacerts.dice.tcbinfo.TcbInfo;
+import com.intel.bkp.fpgacerts.dice.tcbinfo.TcbInfoExtensionParser;
+import com.intel.bkp.fpgacerts.dice.ueid.UeidExtension;
+import com.intel.bkp.fpgacerts.dice.ueid.UeidExtensionParser;
+import com.intel.bkp.test.CertificateUtils;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.security.auth.x500.X500Principal;
+import java.security.cert.X509Certificate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DiceCertificateViewsTest {
+
+    private static final String TEST_FOLDER = "certs/dice/";
+    private static final String FIRMWARE_CERT = "firmware_certificate.der";
+    private static final String SUBJECT = "CN=Intel:Agilex:L1:ski:0807060504030201";
+
+    private static X509Certificate realCertificate;
+
+    @Mock
+    private TcbInfoExtensionParser tcbInfoExtensionParser;
+
+    @Mock
+    private UeidExtensionParser ueidExtensionParser;
+
+    @Mock
+    private X509Certificate certificate;
+
+    private DiceCertificateViews sut;
+
+    @BeforeAll
+    static void init() {
+        realCertificate = CertificateUtils.readCertificate(TEST_FOLDER, FIRMWARE_CERT);
+    }
+
+    @BeforeEach
+    void setUp() {
+        sut = new DiceCertificateViews(tcbInfoExtensionParser, ueidExtensionParser);
+    }
+
+    @Test
+    void of_SameCertificate_ReturnsSameView() {
+        // when
+        final DiceCertificateView first = sut.of(certificate);
+        final DiceCertificateView second = sut.of(certificate);
+
+        // then
+        assertSame(first, second);
+        assertSame(certificate, first.getCertificate());
+    }
+
+    @Test
+    void getTcbInfos_CalledByMultipleConsumers_ParsesExtensionOnce() {
+        // given
+        final List<TcbInfo> tcbInfos = List.of(new TcbInfo());
+        when(tcbInfoExtensionParser.parse(certificate)).thenReturn(tcbInfos);
+
+        // when
+        sut.of(certificate).getTcbInfos();
+        final List<TcbInfo> result = sut.of(certificate).getTcbInfos();
+
+        // then
+        assertEquals(tcbInfos, result);
+        verify(tcbInfoExtensionParser, times(1)).parse(certificate);
+    }
+
+    @Test
+    void getUeid_CalledTwice_ParsesExtensionOnce() {
+        // given
+        final var ueid = new UeidExtension((byte) 0x34, "Agilex", new byte[8]);
+        when(ueidExtensionParser.parse(certificate)).thenReturn(ueid);
+
+        // when
+        sut.of(certificate).getUeid();
+        final UeidExtension result = sut.of(certificate).getUeid();
+
+        // then
+        assertSame(ueid, result);
+        verify(ueidExtensionParser, times(1)).parse(certificate);
+    }
+
+    @Test
+    void getDiceSubject_CalledTwice_ReadsSubjectOnce() {
+        // given
+        when(certificate.getSubjectX500Principal()).thenReturn(new X500Principal(SUBJECT));
+
+        // when
+        sut.of(certificate).getDiceSubject();
+        final var result = sut.of(certificate).getDiceSubject();
+
+        // then
+        assertEquals("Agilex", result.familyName());
+        verify(certificate, times(1)).getSubjectX500Principal();
+    }
+
+    @Test
+    void getSubjectKeyIdentifier_ModifiedResult_DoesNotAffectMemoizedValue() {
+        // given
+        final DiceCertificateView view = new DiceCertificateViews().of(realCertificate);
+        final byte[] ski = view.getSubjectKeyIdentifier();
+        assertNotNull(ski);
+        final byte[] expected = ski.clone();
+
+        // when
+        ski[0]++;
+
+        // then
+        assertArrayEquals(expected, view.getSubjectKeyIdentifier());
+    }
+
+    @Test
+    void getTcbInfos_SeparateRegistries_ParseExtensionSeparately() {
+        // given
+        when(tcbInfoExtensionParser.parse(certificate)).thenReturn(List.of(new TcbInfo()), List.of(new TcbInfo()));
+        final var otherAttestationViews = new DiceCertificateViews(tcbInfoExtensionParser, ueidExtensionParser);
+
+        // when
+        final TcbInfo first = sut.of(certificate).getTcbInfos().get(0);
+        final TcbInfo second = otherAttestationViews.of(certificate).getTcbInfos().get(0);
+
+        // then
+        assertNotSame(first, second);
+        assertEquals(1, sut.size());
+        verify(tcbInfoExtensionParser, times(2)).parse(certificate);
+    }
+}
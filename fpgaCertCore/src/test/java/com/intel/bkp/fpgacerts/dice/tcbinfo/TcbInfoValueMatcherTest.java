@@ -0,0 +1,140 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2023 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.fpgacerts.dice.tcbinfo;
+
+import com.intel.bkp.fpgacerts.dice.tcbinfo.vendorinfo.MaskedVendorInfo;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TcbInfoValueMatcherTest {
+
+    private static final String VENDOR_INFO = "0000000003000000";
+    private static final String VENDOR_INFO_MASK = "FFFFFFFF000000FF";
+
+    @Test
+    void matches_MaskedReferenceAndValueDifferingOnlyInMaskedOutBits_ReturnsTrue() {
+        // given
+        final var sut = compile(new MaskedVendorInfo(VENDOR_INFO, VENDOR_INFO_MASK));
+
+        // when-then
+        assertTrue(sut.matches(value(new MaskedVendorInfo("00000000FFFFFF00"))));
+    }
+
+    @Test
+    void matches_MaskedReferenceAndValueDifferingInMaskedBits_ReturnsFalse() {
+        // given
+        final var sut = compile(new MaskedVendorInfo(VENDOR_INFO, VENDOR_INFO_MASK));
+
+        // when-then
+        assertFalse(sut.matches(value(new MaskedVendorInfo("0000000103000000"))));
+    }
+
+    @Test
+    void matches_LowerCaseValueShorterThanMask_ReturnsTrue() {
+        // given
+        final var sut = compile(new MaskedVendorInfo("ab00", "FFF"));
+
+        // when-then
+        assertTrue(sut.matches(value(new MaskedVendorInfo("ab"))));
+    }
+
+    @Test
+    void matches_ValueLongerThanMask_ComparesOnlyMaskLength() {
+        // given
+        final var sut = compile(new MaskedVendorInfo("AB", "FF"));
+
+        // when-then
+        assertTrue(sut.matches(value(new MaskedVendorInfo("ABCDEF"))));
+    }
+
+    @Test
+    void matches_SameResultAsMaskedVendorInfoComparison() {
+        // given
+        final String[] values = {"", "0", "03", "0000000003000000", "00000000030000001234", "FFFFFFFFFFFFFFFF",
+            "0000000003FFFF00", "ffffffff030000ff"};
+        final String[] masks = {"F", "FF", "0F0", VENDOR_INFO_MASK, "FFFFFFFFFFFFFFFFFFFF"};
+
+        for (String referenceInfo : values) {
+            for (String mask : masks) {
+                final var reference = new MaskedVendorInfo(referenceInfo, mask);
+                final var sut = compile(reference);
+                for (String actualInfo : values) {
+                    final var actual = new MaskedVendorInfo(actualInfo);
+
+                    // when-then
+                    assertEquals(actual.equals(reference), sut.matches(value(actual)),
+                        "reference: %s, mask: %s, actual: %s".formatted(referenceInfo, mask, actualInfo));
+                }
+            }
+        }
+    }
+
+    @Test
+    void matches_ReferenceWithoutMask_RequiresExactVendorInfo() {
+        // given
+        final var sut = compile(new MaskedVendorInfo(VENDOR_INFO));
+
+        // when-then
+        assertTrue(sut.matches(value(new MaskedVendorInfo(VENDOR_INFO))));
+        assertFalse(sut.matches(value(new MaskedVendorInfo("0000000003000001"))));
+    }
+
+    @Test
+    void matches_DifferentFwIdDigestOfSameLength_ReturnsFalse() {
+        // given
+        final var sut = TcbInfoValueMatcher.compile(TcbInfoValue.builder()
+            .fwid(Optional.of(new FwIdField("HASH_ALG", "ABCD")))
+            .build());
+
+        // when-then
+        assertTrue(sut.matches(TcbInfoValue.builder().fwid(Optional.of(new FwIdField("HASH_ALG", "ABCD"))).build()));
+        assertFalse(sut.matches(TcbInfoValue.builder().fwid(Optional.of(new FwIdField("HASH_ALG", "ABCE"))).build()));
+        assertFalse(sut.matches(TcbInfoValue.builder().fwid(Optional.of(new FwIdField("OTHER", "ABCD"))).build()));
+    }
+
+    private static TcbInfoValueMatcher compile(MaskedVendorInfo referenceVendorInfo) {
+        return TcbInfoValueMatcher.compile(value(referenceVendorInfo));
+    }
+
+    private static TcbInfoValue value(MaskedVendorInfo vendorInfo) {
+        return TcbInfoValue.builder()
+            .maskedVendorInfo(Optional.of(vendorInfo))
+            .build();
+    }
+}
@@ -43,6 +43,7 @@ import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ExtendWith(MockitoExtension.class)
@@ -129,6 +130,20 @@ class TcbInfoValueTest {
         assertEquals(expected, result);
     }
 
+    @Test
+    void copy_SharesNoMutableFields() {
+        // given
+        final TcbInfoValue value = TcbInfoValue.from(TCB_INFO);
+
+        // when
+        final TcbInfoValue result = value.copy();
+
+        // then
+        assertEquals(value, result);
+        assertNotSame(value.getFwid().orElseThrow(), result.getFwid().orElseThrow());
+        assertNotSame(value.getMaskedVendorInfo().orElseThrow(), result.getMaskedVendorInfo().orElseThrow());
+    }
+
     @Test
     void matchesReferenceValue_Identical_ReturnsTrue() {
         // given
@@ -33,8 +33,8 @@
 
 package com.intel.bkp.fpgacerts.dice.tcbinfo.verification;
 
+import com.intel.bkp.fpgacerts.dice.DiceCertificateViews;
 import com.intel.bkp.fpgacerts.dice.iidutils.IidUdsChainUtils;
-import com.intel.bkp.fpgacerts.dice.tcbinfo.TcbInfoExtensionParser;
 import com.intel.bkp.fpgacerts.dice.tcbinfo.TcbInfoMeasurementsAggregator;
 import lombok.SneakyThrows;
 import org.bouncycastle.asn1.DEROctetString;
@@ -134,7 +134,7 @@ class TcbInfoVerifierTest {
     @BeforeEach
     void init() {
         aggregator = new TcbInfoMeasurementsAggregator();
-        sut = new TcbInfoVerifier(aggregator, new TcbInfoExtensionParser(), requiredMeasurementsVerifier,
+        sut = new TcbInfoVerifier(aggregator, DiceCertificateViews::new, requiredMeasurementsVerifier,
             modelVerifier, vendorVerifier, svnVerifier, layerVerifier, hashAlgVerifier, typeVerifier, flagsVerifier);
     }
 
@@ -0,0 +1,200 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2023 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.fpgacerts.dp;
+
+import com.intel.bkp.fpgacerts.interfaces.ICrlProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.security.PublicKey;
+import java.security.cert.X509CRL;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachingCrlProviderTest {
+
+    private static final String CRL_URL = "https://tsci.intel.com/content/IPCS/crls/IPCS_agilex_L1.crl";
+    private static final Instant NOW = Instant.parse("2023-05-01T10:00:00Z");
+    private static final Duration REFRESH_AHEAD = Duration.ofHours(1);
+
+    @Mock
+    private ICrlProvider delegate;
+
+    @Mock
+    private PublicKey publicKey;
+
+    private CachingCrlProvider sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new CachingCrlProvider(delegate, Clock.fixed(NOW, ZoneOffset.UTC), REFRESH_AHEAD, null);
+    }
+
+    @Test
+    void getCrl_CalledTwice_DownloadsOnce() {
+        // given
+        final X509CRL crl = mockCrl(NOW.plus(Duration.ofDays(7)));
+        when(delegate.getCrl(CRL_URL)).thenReturn(crl);
+
+        // when
+        sut.getCrl(CRL_URL);
+        final X509CRL result = sut.getCrl(CRL_URL);
+
+        // then
+        assertSame(crl, result);
+        verify(delegate, times(1)).getCrl(CRL_URL);
+    }
+
+    @Test
+    void getCrl_Expired_DownloadsAgain() {
+        // given
+        final X509CRL expiredCrl = mockCrl(NOW.minusSeconds(1));
+        when(delegate.getCrl(CRL_URL)).thenReturn(expiredCrl);
+
+        // when
+        sut.getCrl(CRL_URL);
+        sut.getCrl(CRL_URL);
+
+        // then
+        verify(delegate, times(2)).getCrl(CRL_URL);
+    }
+
+    @Test
+    void getCrl_WithoutNextUpdate_NotCached() {
+        // given
+        final X509CRL crl = mockCrl(null);
+        when(delegate.getCrl(CRL_URL)).thenReturn(crl);
+
+        // when
+        sut.getCrl(CRL_URL);
+        sut.getCrl(CRL_URL);
+
+        // then
+        verify(delegate, times(2)).getCrl(CRL_URL);
+    }
+
+    @Test
+    void refreshExpiring_CrlExpiresSoon_DownloadsNewCrl() {
+        // given
+        final X509CRL oldCrl = mockCrl(NOW.plus(Duration.ofMinutes(30)));
+        final X509CRL newCrl = mockCrl(NOW.plus(Duration.ofDays(7)));
+        when(delegate.getCrl(CRL_URL)).thenReturn(oldCrl, newCrl);
+        sut.getCrl(CRL_URL);
+
+        // when
+        sut.refreshExpiring();
+
+        // then
+        assertSame(newCrl, sut.getCrl(CRL_URL));
+        verify(delegate, times(2)).getCrl(CRL_URL);
+    }
+
+    @Test
+    void refreshExpiring_CrlValidLongEnough_DoesNotDownload() {
+        // given
+        final X509CRL crl = mockCrl(NOW.plus(Duration.ofDays(7)));
+        when(delegate.getCrl(CRL_URL)).thenReturn(crl);
+        sut.getCrl(CRL_URL);
+
+        // when
+        sut.refreshExpiring();
+
+        // then
+        verify(delegate, times(1)).getCrl(CRL_URL);
+    }
+
+    @Test
+    void refreshExpiring_DownloadFails_KeepsCachedCrl() {
+        // given
+        final X509CRL crl = mockCrl(NOW.plus(Duration.ofMinutes(30)));
+        when(delegate.getCrl(CRL_URL)).thenReturn(crl).thenThrow(new RuntimeException("test"));
+        sut.getCrl(CRL_URL);
+
+        // when
+        sut.refreshExpiring();
+
+        // then
+        assertSame(crl, sut.getCrl(CRL_URL));
+    }
+
+    @Test
+    void isSignatureVerified_AfterSignatureVerified_ReturnsTrueOnlyForThatKey() {
+        // given
+        final X509CRL crl = mockCrl(NOW.plus(Duration.ofDays(7)));
+
+        // when
+        sut.signatureVerified(crl, publicKey);
+
+        // then
+        assertTrue(sut.isSignatureVerified(crl, publicKey));
+        assertFalse(sut.isSignatureVerified(crl, mock(PublicKey.class)));
+    }
+
+    @Test
+    void clear_RemovesCachedCrls() {
+        // given
+        final X509CRL crl = mockCrl(NOW.plus(Duration.ofDays(7)));
+        when(delegate.getCrl(CRL_URL)).thenReturn(crl);
+        sut.getCrl(CRL_URL);
+
+        // when
+        sut.clear();
+        sut.getCrl(CRL_URL);
+
+        // then
+        verify(delegate, times(2)).getCrl(CRL_URL);
+    }
+
+    private static X509CRL mockCrl(Instant nextUpdate) {
+        final X509CRL crl = mock(X509CRL.class);
+        lenient().when(crl.getNextUpdate()).thenReturn(nextUpdate == null ? null : Date.from(nextUpdate));
+        return crl;
+    }
+}
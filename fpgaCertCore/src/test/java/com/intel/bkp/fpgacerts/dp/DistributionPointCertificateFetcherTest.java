@@ -47,6 +47,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.security.cert.X509Certificate;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -116,6 +117,20 @@ class DistributionPointCertificateFetcherTest {
         assertThrows(X509Exception.class, () -> sut.fetchCertificate(URL));
     }
 
+    @Test
+    void fetchCertificateAsync_Success() {
+        // given
+        final var certBytes = RandomUtils.nextBytes(5);
+        when(connector.tryGetBytesAsync(URL)).thenReturn(CompletableFuture.completedFuture(Optional.of(certBytes)));
+        when(X509UtilsWrapper.toX509(certBytes)).thenReturn(cert);
+
+        // when
+        final Optional<X509Certificate> result = sut.fetchCertificateAsync(URL).join();
+
+        // then
+        assertEquals(Optional.of(cert), result);
+    }
+
     private void mockCertificateDownload(String url, X509Certificate cert) {
         final var certBytes = RandomUtils.nextBytes(5);
         when(connector.tryGetBytes(url)).thenReturn(Optional.of(certBytes));
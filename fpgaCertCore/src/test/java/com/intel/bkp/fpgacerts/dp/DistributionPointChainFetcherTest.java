@@ -53,6 +53,7 @@ import javax.security.auth.x500.X500Principal;
 import java.security.cert.X509Certificate;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.assertIterableEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -189,7 +190,7 @@ class DistributionPointChainFetcherTest {
 
     private void mockCertificateDownload(String url, X509Certificate cert) {
         final var certBytes = RandomUtils.nextBytes(5);
-        when(connector.tryGetBytes(url)).thenReturn(Optional.of(certBytes));
+        when(connector.tryGetBytesAsync(url)).thenReturn(CompletableFuture.completedFuture(Optional.of(certBytes)));
         when(X509UtilsWrapper.toX509(certBytes)).thenReturn(cert);
     }
 
@@ -33,27 +33,58 @@
 
 package com.intel.bkp.fpgacerts.dp;
 
+import com.intel.bkp.fpgacerts.dp.cache.DpResponseCache;
+import com.intel.bkp.fpgacerts.dp.cache.DpResponseCacheConfig;
+import com.intel.bkp.fpgacerts.exceptions.ConnectionException;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.TrustManager;
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
 import java.security.KeyManagementException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
 
+import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
+import static java.net.HttpURLConnection.HTTP_NOT_MODIFIED;
+import static java.net.HttpURLConnection.HTTP_OK;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 class DistributionPointConnectorTest {
 
+    private static final String URL = "https://tsci.intel.com/content/IPCS/certs/cert.cer";
+    private static final byte[] BODY = new byte[]{1, 2, 3};
+    private static final String ETAG = "\"0x8DB1C2D3E4F5\"";
+
     private static MockedStatic<SSLContext> SSLContextMockStatic;
     private static MockedStatic<Executors> executorsMockStatic;
 
@@ -79,9 +110,169 @@ class DistributionPointConnectorTest {
         ExecutorService executor = mock(ExecutorService.class);
         SSLContextMockStatic.when(() -> SSLContext.getInstance(any())).thenReturn(sslContext);
         doNothing().when(sslContext).init(eq(null), eq(managers), any());
-        executorsMockStatic.when(Executors::newSingleThreadExecutor).thenReturn(executor);
+        executorsMockStatic.when(() -> Executors.newFixedThreadPool(anyInt())).thenReturn(executor);
 
         // when-then
         assertDoesNotThrow(() -> new DistributionPointConnector("", 0, managers));
     }
+
+    @Test
+    void constructor_WithMaxConcurrentRequests_CreatesPoolOfThatSize() throws KeyManagementException {
+        // given
+        SSLContext sslContext = mock(SSLContext.class);
+        SSLContextMockStatic.when(() -> SSLContext.getInstance(any())).thenReturn(sslContext);
+        doNothing().when(sslContext).init(eq(null), eq(managers), any());
+        executorsMockStatic.when(() -> Executors.newFixedThreadPool(anyInt())).thenReturn(mock(ExecutorService.class));
+
+        // when
+        new DistributionPointConnector("", 0, managers, DpResponseCacheConfig.builder().enabled(false).build(), 8);
+
+        // then
+        executorsMockStatic.verify(() -> Executors.newFixedThreadPool(8));
+    }
+
+    @Test
+    void getBytes_CacheDisabled_AlwaysSendsRequest() throws Exception {
+        // given
+        final HttpClient client = mock(HttpClient.class);
+        mockResponse(client, HTTP_OK, BODY, Map.of("Cache-Control", "max-age=60"));
+        final var sut = new DistributionPointConnector(client, mock(ExecutorService.class), null);
+
+        // when
+        sut.getBytes(URL);
+        final byte[] result = sut.getBytes(URL);
+
+        // then
+        assertArrayEquals(BODY, result);
+        verify(client, times(2)).send(any(), any());
+    }
+
+    @Test
+    void getBytes_FreshResponseInCache_DoesNotSendRequest() throws Exception {
+        // given
+        final HttpClient client = mock(HttpClient.class);
+        mockResponse(client, HTTP_OK, BODY, Map.of("Cache-Control", "max-age=60"));
+        final DpResponseCache cache = new DpResponseCache(DpResponseCacheConfig.builder().build());
+        final var sut = new DistributionPointConnector(client, mock(ExecutorService.class), cache);
+
+        // when
+        sut.getBytes(URL);
+        final byte[] result = sut.getBytes(URL);
+
+        // then
+        assertArrayEquals(BODY, result);
+        verify(client, times(1)).send(any(), any());
+        assertEquals(1, cache.getStats().get(URL).getMisses());
+        assertEquals(1, cache.getStats().get(URL).getHits());
+    }
+
+    @Test
+    void tryGetBytes_StaleResponseNotModified_SendsConditionalRequestAndReturnsCachedBody() throws Exception {
+        // given
+        final HttpClient client = mock(HttpClient.class);
+        final DpResponseCache cache = new DpResponseCache(DpResponseCacheConfig.builder().build());
+        cache.store(URL, HttpHeaders.of(Map.of("ETag", List.of(ETAG)), (name, value) -> true), BODY);
+        mockResponse(client, HTTP_NOT_MODIFIED, new byte[0], Map.of());
+        final var sut = new DistributionPointConnector(client, mock(ExecutorService.class), cache);
+
+        // when
+        final Optional<byte[]> result = sut.tryGetBytes(URL);
+
+        // then
+        assertArrayEquals(BODY, result.orElseThrow());
+        final ArgumentCaptor<HttpRequest> requestCaptor = ArgumentCaptor.forClass(HttpRequest.class);
+        verify(client).send(requestCaptor.capture(), any());
+        assertEquals(Optional.of(ETAG), requestCaptor.getValue().headers().firstValue("If-None-Match"));
+        assertEquals(1, cache.getStats().get(URL).getRevalidations());
+    }
+
+    @Test
+    void getBytes_StaleResponseAndConnectionFails_Throws() throws Exception {
+        // given
+        final HttpClient client = mock(HttpClient.class);
+        final DpResponseCache cache = new DpResponseCache(DpResponseCacheConfig.builder().build());
+        cache.store(URL, HttpHeaders.of(Map.of(), (name, value) -> true), BODY);
+        when(client.send(any(), any())).thenThrow(new IOException("test"));
+        final var sut = new DistributionPointConnector(client, mock(ExecutorService.class), cache);
+
+        // when-then
+        assertThrows(ConnectionException.class, () -> sut.getBytes(URL));
+    }
+
+    @Test
+    void getBytes_NotFound_ThrowsAndDoesNotCache() throws Exception {
+        // given
+        final HttpClient client = mock(HttpClient.class);
+        final DpResponseCache cache = new DpResponseCache(DpResponseCacheConfig.builder().build());
+        mockResponse(client, HTTP_NOT_FOUND, new byte[0], Map.of());
+        final var sut = new DistributionPointConnector(client, mock(ExecutorService.class), cache);
+
+        // when-then
+        assertThrows(ConnectionException.class, () -> sut.getBytes(URL));
+        assertTrue(cache.get(URL).isEmpty());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void tryGetBytesAsync_ConcurrentRequestsForSameUrl_SendsSingleRequest() {
+        // given
+        final HttpClient client = mock(HttpClient.class);
+        final HttpResponse<byte[]> response = mock(HttpResponse.class);
+        when(response.statusCode()).thenReturn(HTTP_OK);
+        when(response.body()).thenReturn(BODY);
+        final CompletableFuture<HttpResponse<byte[]>> pending = new CompletableFuture<>();
+        when(client.sendAsync(any(), any())).thenReturn((CompletableFuture) pending);
+        final var sut = new DistributionPointConnector(client, mock(ExecutorService.class), null);
+
+        // when
+        final CompletableFuture<Optional<byte[]>> first = sut.tryGetBytesAsync(URL);
+        final CompletableFuture<Optional<byte[]>> second = sut.tryGetBytesAsync(URL);
+        pending.complete(response);
+
+        // then
+        assertArrayEquals(BODY, first.join().orElseThrow());
+        assertArrayEquals(BODY, second.join().orElseThrow());
+        verify(client, times(1)).sendAsync(any(), any());
+    }
+
+    @Test
+    void tryGetBytesAsync_StaleResponseAndConnectionFails_ReturnsEmpty() {
+        // given
+        final HttpClient client = mock(HttpClient.class);
+        final DpResponseCache cache = new DpResponseCache(DpResponseCacheConfig.builder().build());
+        cache.store(URL, HttpHeaders.of(Map.of(), (name, value) -> true), BODY);
+        when(client.sendAsync(any(), any())).thenReturn(CompletableFuture.failedFuture(new IOException("test")));
+        final var sut = new DistributionPointConnector(client, mock(ExecutorService.class), cache);
+
+        // when
+        final Optional<byte[]> result = sut.tryGetBytesAsync(URL).join();
+
+        // then
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void tryGetBytesAsync_ConnectionFailsWithoutCache_ReturnsEmpty() {
+        // given
+        final HttpClient client = mock(HttpClient.class);
+        when(client.sendAsync(any(), any())).thenReturn(CompletableFuture.failedFuture(new IOException("test")));
+        final var sut = new DistributionPointConnector(client, mock(ExecutorService.class), null);
+
+        // when
+        final Optional<byte[]> result = sut.tryGetBytesAsync(URL).join();
+
+        // then
+        assertTrue(result.isEmpty());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void mockResponse(HttpClient client, int statusCode, byte[] body, Map<String, String> headers)
+        throws Exception {
+        final HttpResponse<byte[]> response = mock(HttpResponse.class);
+        when(response.statusCode()).thenReturn(statusCode);
+        lenient().when(response.body()).thenReturn(body);
+        lenient().when(response.headers()).thenReturn(HttpHeaders.of(headers.entrySet().stream()
+            .collect(Collectors.toMap(Map.Entry::getKey, e -> List.of(e.getValue()))), (name, value) -> true));
+        when(client.send(any(), any())).thenReturn((HttpResponse) response);
+    }
 }
@@ -0,0 +1,307 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2023 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.fpgacerts.dp.cache;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.http.HttpHeaders;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DpResponseCacheTest {
+
+    private static final String URL = "https://tsci.intel.com/content/IPCS/certs/cert.cer";
+    private static final String URL_2 = "https://tsci.intel.com/content/IPCS/certs/cert2.cer";
+    private static final String URL_3 = "https://tsci.intel.com/content/IPCS/certs/cert3.cer";
+    private static final byte[] BODY = new byte[]{1, 2, 3};
+    private static final Instant NOW = Instant.parse("2023-05-01T10:00:00Z");
+
+    @TempDir
+    Path tempDir;
+
+    private final MutableClock clock = new MutableClock(NOW);
+
+    @Test
+    void get_NotStored_ReturnsEmpty() {
+        // given
+        final DpResponseCache sut = prepareCache(DpResponseCacheConfig.builder().build());
+
+        // when-then
+        assertTrue(sut.get(URL).isEmpty());
+    }
+
+    @Test
+    void store_WithMaxAge_FreshUntilMaxAgeElapses() {
+        // given
+        final DpResponseCache sut = prepareCache(DpResponseCacheConfig.builder().build());
+
+        // when
+        sut.store(URL, headers(Map.of("Cache-Control", "public, max-age=60")), BODY);
+
+        // then
+        final CachedResponse cached = sut.get(URL).orElseThrow();
+        assertArrayEquals(BODY, cached.getBody());
+        assertTrue(sut.isFresh(cached));
+        clock.advance(Duration.ofSeconds(60));
+        assertFalse(sut.isFresh(cached));
+    }
+
+    @Test
+    void store_WithoutCacheControl_UsesDefaultMaxAge() {
+        // given
+        final DpResponseCache sut = prepareCache(DpResponseCacheConfig.builder()
+            .defaultMaxAge(Duration.ofMinutes(5))
+            .build());
+
+        // when
+        sut.store(URL, headers(Map.of()), BODY);
+
+        // then
+        assertEquals(NOW.plus(Duration.ofMinutes(5)), sut.get(URL).orElseThrow().getExpiresAt());
+    }
+
+    @Test
+    void store_NoCache_StoredButImmediatelyStale() {
+        // given
+        final DpResponseCache sut = prepareCache(DpResponseCacheConfig.builder()
+            .defaultMaxAge(Duration.ofMinutes(5))
+            .build());
+
+        // when
+        sut.store(URL, headers(Map.of("Cache-Control", "no-cache", "ETag", "\"abc\"")), BODY);
+
+        // then
+        final CachedResponse cached = sut.get(URL).orElseThrow();
+        assertFalse(sut.isFresh(cached));
+        assertEquals("\"abc\"", cached.getEtag());
+    }
+
+    @Test
+    void store_NoStore_NotStored() {
+        // given
+        final DpResponseCache sut = prepareCache(DpResponseCacheConfig.builder().build());
+
+        // when
+        sut.store(URL, headers(Map.of("Cache-Control", "no-store")), BODY);
+
+        // then
+        assertTrue(sut.get(URL).isEmpty());
+    }
+
+    @Test
+    void store_Immutable_FreshForLongTime() {
+        // given
+        final DpResponseCache sut = prepareCache(DpResponseCacheConfig.builder().build());
+
+        // when
+        sut.store(URL, headers(Map.of("Cache-Control", "immutable")), BODY);
+
+        // then
+        clock.advance(Duration.ofDays(30));
+        assertTrue(sut.isFresh(sut.get(URL).orElseThrow()));
+    }
+
+    @Test
+    void store_MoreThanMaxEntries_EvictsLeastRecentlyUsed() {
+        // given
+        final DpResponseCache sut = prepareCache(DpResponseCacheConfig.builder().maxEntries(1).build());
+        sut.store(URL, headers(Map.of()), BODY);
+
+        // when
+        sut.store(URL_2, headers(Map.of()), BODY);
+
+        // then
+        assertTrue(sut.get(URL).isEmpty());
+        assertTrue(sut.get(URL_2).isPresent());
+    }
+
+    @Test
+    void revalidate_ExtendsFreshness() {
+        // given
+        final DpResponseCache sut = prepareCache(DpResponseCacheConfig.builder().build());
+        sut.store(URL, headers(Map.of("ETag", "\"abc\"")), BODY);
+        final CachedResponse stale = sut.get(URL).orElseThrow();
+
+        // when
+        final CachedResponse result = sut.revalidate(stale, headers(Map.of("Cache-Control", "max-age=30")));
+
+        // then
+        assertTrue(sut.isFresh(result));
+        assertEquals("\"abc\"", result.getEtag());
+        assertArrayEquals(BODY, sut.get(URL).orElseThrow().getBody());
+    }
+
+    @Test
+    void get_WithDiskStore_ReadsResponseStoredByPreviousCache() {
+        // given
+        final var config = DpResponseCacheConfig.builder()
+            .diskPath(tempDir.toString())
+            .defaultMaxAge(Duration.ofMinutes(5))
+            .build();
+        prepareCache(config).store(URL, headers(Map.of("Last-Modified", "Mon, 01 May 2023 10:00:00 GMT")), BODY);
+
+        // when
+        final CachedResponse result = prepareCache(config).get(URL).orElseThrow();
+
+        // then
+        assertArrayEquals(BODY, result.getBody());
+        assertEquals("Mon, 01 May 2023 10:00:00 GMT", result.getLastModified());
+        assertEquals(NOW.plus(Duration.ofMinutes(5)), result.getExpiresAt());
+    }
+
+    @Test
+    void remove_WithDiskStore_RemovesFromDisk() {
+        // given
+        final var config = DpResponseCacheConfig.builder().diskPath(tempDir.toString()).build();
+        prepareCache(config).store(URL, headers(Map.of()), BODY);
+
+        // when
+        prepareCache(config).remove(URL);
+
+        // then
+        assertTrue(prepareCache(config).get(URL).isEmpty());
+    }
+
+    @Test
+    void store_WithDiskStoreMoreThanMaxEntries_DeletesLeastRecentlyUsedFile() throws Exception {
+        // given
+        final var config = DpResponseCacheConfig.builder().diskPath(tempDir.toString()).maxEntries(2).build();
+        prepareCache(config).store(URL, headers(Map.of()), BODY);
+        clock.advance(Duration.ofSeconds(1));
+        prepareCache(config).store(URL_2, headers(Map.of()), BODY);
+        clock.advance(Duration.ofSeconds(1));
+        prepareCache(config).get(URL);
+        clock.advance(Duration.ofSeconds(1));
+
+        // when
+        prepareCache(config).store(URL_3, headers(Map.of()), BODY);
+
+        // then
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertEquals(2, files.count());
+        }
+        assertTrue(prepareCache(config).get(URL).isPresent());
+        assertTrue(prepareCache(config).get(URL_2).isEmpty());
+        assertTrue(prepareCache(config).get(URL_3).isPresent());
+    }
+
+    @Test
+    void recordHit_MoreUrlsThanMaxEntries_KeepsStatsOfRecentUrlsAndTotalOfAll() {
+        // given
+        final DpResponseCache sut = prepareCache(DpResponseCacheConfig.builder().maxEntries(2).build());
+        sut.recordHit(URL);
+        sut.recordHit(URL_2);
+
+        // when
+        sut.recordHit(URL_3);
+
+        // then
+        final Map<String, DpCacheStats> result = sut.getStats();
+        assertEquals(2, result.size());
+        assertFalse(result.containsKey(URL));
+        assertEquals(3, sut.getTotalStats().getHits());
+    }
+
+    @Test
+    void getTotalStats_SumsStatsOfAllUrls() {
+        // given
+        final DpResponseCache sut = prepareCache(DpResponseCacheConfig.builder().build());
+        sut.recordHit(URL);
+        sut.recordHit(URL_2);
+        sut.recordMiss(URL);
+        sut.recordRevalidation(URL_2);
+
+        // when
+        final DpCacheStats result = sut.getTotalStats();
+
+        // then
+        assertEquals(2, result.getHits());
+        assertEquals(1, result.getMisses());
+        assertEquals(1, result.getRevalidations());
+        assertEquals(1, sut.getStats().get(URL).getHits());
+    }
+
+    private DpResponseCache prepareCache(DpResponseCacheConfig config) {
+        return new DpResponseCache(config, clock);
+    }
+
+    private static HttpHeaders headers(Map<String, String> values) {
+        return HttpHeaders.of(values.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, e -> List.of(e.getValue()))),
+            (name, value) -> true);
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
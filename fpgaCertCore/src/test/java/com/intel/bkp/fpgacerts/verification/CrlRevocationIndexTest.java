@@ -0,0 +1,198 @@
+/*
+ * This project is licensed as below.
+ *
+ * **************************************************************************
+ *
+ * Copyright 2023 Intel Corporation. All Rights Reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright
+ * notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A
+ * PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER
+ * OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS;
+ * OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY,
+ * WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR
+ * OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * **************************************************************************
+ *
+ */
+
+package com.intel.bkp.fpgacerts.verification;
+
+import com.intel.bkp.fpgacerts.dice.tcbinfo.TcbInfoExtensionParser;
+import com.intel.bkp.fpgacerts.dice.tcbinfo.TcbInfoMeasurement;
+import org.bouncycastle.asn1.ASN1EncodableVector;
+import org.bouncycastle.asn1.ASN1Integer;
+import org.bouncycastle.asn1.ASN1ObjectIdentifier;
+import org.bouncycastle.asn1.DERSequence;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.asn1.x509.Extensions;
+import org.bouncycastle.asn1.x509.TBSCertList;
+import org.bouncycastle.asn1.x509.Time;
+import org.bouncycastle.jce.provider.X509CRLEntryObject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigInteger;
+import java.security.cert.X509CRL;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static com.intel.bkp.fpgacerts.dice.tcbinfo.TcbInfoMeasurement.asMeasurements;
+import static com.intel.bkp.fpgacerts.dice.tcbinfo.verification.TcbInfoTestUtil.parseTcbInfo;
+import static com.intel.bkp.fpgacerts.model.Oid.TCG_DICE_TCB_INFO;
+import static com.intel.bkp.utils.HexConverter.fromHex;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CrlRevocationIndexTest {
+
+    private static final ASN1ObjectIdentifier TCB_INFO_EXTENSION_OID =
+        new ASN1ObjectIdentifier(TCG_DICE_TCB_INFO.getOid());
+    private static final byte[] TCB_INFO_WITH_VENDOR_INFO_1234 = fromHex(
+        "301C800676656E646F7281056D6F64656C83010084010085010088021234");
+    private static final byte[] TCB_INFO_WITH_VENDOR_INFO_12 = fromHex(
+        "301B800676656E646F7281056D6F64656C830100840100850100880112");
+    private static final byte[] TCB_INFO_WITH_ONLY_FW_ID = fromHex(
+        "302B800676656E646F7281056D6F64656C820776657273696F6E830100840100850100A608300606012A040100");
+    private static final BigInteger REVOKED_SN = BigInteger.valueOf(5);
+    private static final BigInteger TCB_INFO_ENTRY_SN = BigInteger.TWO;
+
+    @Mock
+    private X509CRL crl;
+
+    private final TcbInfoExtensionParser extensionParser = spy(new TcbInfoExtensionParser());
+
+    @Test
+    void of_SameCrl_ReturnsSameIndex() {
+        // given
+        mockCrlEntries(Set.of(createX509CRLEntry(REVOKED_SN, Optional.empty())));
+
+        // when
+        final var first = CrlRevocationIndex.of(crl);
+        final var second = CrlRevocationIndex.of(crl);
+
+        // then
+        assertSame(first, second);
+    }
+
+    @Test
+    void isRevoked_BySerialNumber() {
+        // given
+        mockCrlEntries(Set.of(createX509CRLEntry(REVOKED_SN, Optional.empty()),
+            createX509CRLEntryWithTcbInfo(TCB_INFO_WITH_VENDOR_INFO_12)));
+
+        // when
+        final var sut = CrlRevocationIndex.of(crl);
+
+        // then
+        assertTrue(sut.isRevoked(REVOKED_SN));
+        assertTrue(sut.isRevoked(TCB_INFO_ENTRY_SN));
+        assertFalse(sut.isRevoked(BigInteger.TEN));
+    }
+
+    @Test
+    void isRevokedIgnoringTcbInfoEntries_SkipsEntriesWithTcbInfo() {
+        // given
+        mockCrlEntries(Set.of(createX509CRLEntry(REVOKED_SN, Optional.empty()),
+            createX509CRLEntryWithTcbInfo(TCB_INFO_WITH_VENDOR_INFO_12)));
+
+        // when
+        final var sut = CrlRevocationIndex.of(crl);
+
+        // then
+        assertTrue(sut.isRevokedIgnoringTcbInfoEntries(REVOKED_SN));
+        assertFalse(sut.isRevokedIgnoringTcbInfoEntries(TCB_INFO_ENTRY_SN));
+    }
+
+    @Test
+    void findTcbInfoEntryContainedIn_MatchingEntry_ReturnsItsMeasurements() {
+        // given
+        mockCrlEntries(Set.of(createX509CRLEntryWithTcbInfo(TCB_INFO_WITH_VENDOR_INFO_12)));
+        final List<TcbInfoMeasurement> certMeasurements = measurementsOf(TCB_INFO_WITH_VENDOR_INFO_1234);
+
+        // when
+        final var result = CrlRevocationIndex.of(crl).findTcbInfoEntryContainedIn(certMeasurements, extensionParser);
+
+        // then
+        assertTrue(result.isPresent());
+        assertEquals(1, result.get().size());
+    }
+
+    @Test
+    void findTcbInfoEntryContainedIn_NoMatchingEntry_ReturnsEmpty() {
+        // given
+        mockCrlEntries(Set.of(createX509CRLEntryWithTcbInfo(TCB_INFO_WITH_VENDOR_INFO_1234)));
+        final List<TcbInfoMeasurement> certMeasurements = measurementsOf(TCB_INFO_WITH_ONLY_FW_ID);
+
+        // when
+        final var result = CrlRevocationIndex.of(crl).findTcbInfoEntryContainedIn(certMeasurements, extensionParser);
+
+        // then
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void findTcbInfoEntryContainedIn_CalledManyTimes_ParsesCrlEntriesOnce() {
+        // given
+        mockCrlEntries(Set.of(createX509CRLEntryWithTcbInfo(TCB_INFO_WITH_VENDOR_INFO_12)));
+        final List<TcbInfoMeasurement> certMeasurements = measurementsOf(TCB_INFO_WITH_VENDOR_INFO_1234);
+        final var sut = CrlRevocationIndex.of(crl);
+
+        // when
+        sut.findTcbInfoEntryContainedIn(certMeasurements, extensionParser);
+        sut.findTcbInfoEntryContainedIn(certMeasurements, extensionParser);
+
+        // then
+        verify(extensionParser, times(1)).parse(any(X509CRLEntryObject.class));
+    }
+
+    private static List<TcbInfoMeasurement> measurementsOf(byte[] tcbInfo) {
+        return asMeasurements(List.of(parseTcbInfo(tcbInfo)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void mockCrlEntries(Set entries) {
+        when(crl.getRevokedCertificates()).thenReturn(entries);
+    }
+
+    private static X509CRLEntryObject createX509CRLEntryWithTcbInfo(byte[] tcbInfoSequenceBytes) {
+        final Extension tcbInfoExtension = new Extension(TCB_INFO_EXTENSION_OID, true, tcbInfoSequenceBytes);
+        return createX509CRLEntry(TCB_INFO_ENTRY_SN, Optional.of(new Extensions(tcbInfoExtension)));
+    }
+
+    private static X509CRLEntryObject createX509CRLEntry(BigInteger serialNumber, Optional<Extensions> extensions) {
+        final ASN1EncodableVector v = new ASN1EncodableVector();
+        v.add(new ASN1Integer(serialNumber));
+        v.add(new Time(new Date()));
+        extensions.ifPresent(v::add);
+
+        return new X509CRLEntryObject(TBSCertList.CRLEntry.getInstance(new DERSequence(v)));
+    }
+}
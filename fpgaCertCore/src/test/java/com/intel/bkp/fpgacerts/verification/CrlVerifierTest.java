@@ -53,9 +53,11 @@ import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigInteger;
+import java.security.PublicKey;
 import java.security.cert.X509CRL;
 import java.security.cert.X509CRLEntry;
 import java.security.cert.X509Certificate;
+import java.time.Instant;
 import java.util.Date;
 import java.util.List;
 import java.util.ListIterator;
@@ -98,6 +100,9 @@ class CrlVerifierTest {
     @Mock
     private ICrlProvider crlProvider;
 
+    @Mock
+    private PublicKey publicKey;
+
     @Mock
     private List<X509Certificate> certificates;
 
@@ -158,6 +163,42 @@ class CrlVerifierTest {
         verify(signatureVerifier).verify(leafCRL, parentCertificate);
     }
 
+    @Test
+    void verify_CrlSignatureAlreadyVerified_DoesNotVerifySignatureAgain() {
+        // given
+        mockChainWith2Certs();
+        mockLeafCrlOnDp();
+        when(parentCertificate.getPublicKey()).thenReturn(publicKey);
+        when(certificateChainIterator.nextIndex()).thenReturn(1);
+        when(certificates.listIterator(1)).thenReturn(leafCertIssuerCertsIterator);
+        when(leafCertIssuerCertsIterator.hasNext()).thenReturn(true);
+        when(leafCertIssuerCertsIterator.next()).thenReturn(parentCertificate);
+        when(crlProvider.isSignatureVerified(leafCRL, publicKey)).thenReturn(true);
+        mockLeafCertIsNotRevoked();
+
+        // when-then
+        assertTrue(() -> sut.verify());
+
+        // then
+        verifyNoInteractions(signatureVerifier);
+    }
+
+    @Test
+    void verify_CrlSignatureVerified_NotifiesProvider() {
+        // given
+        mockChainWith2Certs();
+        mockLeafCrlOnDp();
+        mockLeafCrlSignedByDirectParent();
+        when(parentCertificate.getPublicKey()).thenReturn(publicKey);
+        mockLeafCertIsNotRevoked();
+
+        // when
+        sut.verify();
+
+        // then
+        verify(crlProvider).signatureVerified(leafCRL, publicKey);
+    }
+
     @Test
     void verify_WithRevokedDevice_ReturnFalse() {
         // given
@@ -271,6 +312,39 @@ class CrlVerifierTest {
         assertEquals(0, loggerTestUtil.getSize(Level.WARN));
     }
 
+    @Test
+    void verify_CrlNotExpired_SetsCrlsValidUntilToNextUpdate() {
+        // given
+        final Date tomorrow = DateUtils.addDays(new Date(), 1);
+        when(leafCRL.getNextUpdate()).thenReturn(tomorrow);
+        mockChainWith2Certs();
+        mockLeafCrlOnDp();
+        mockLeafCrlSignedByDirectParent();
+        mockLeafCertIsNotRevoked();
+
+        // when
+        sut.verify();
+
+        // then
+        assertEquals(tomorrow.toInstant(), sut.getCrlsValidUntil());
+    }
+
+    @Test
+    void verify_CrlWithoutNextUpdate_SetsCrlsValidUntilToMin() {
+        // given
+        when(leafCRL.getNextUpdate()).thenReturn(null);
+        mockChainWith2Certs();
+        mockLeafCrlOnDp();
+        mockLeafCrlSignedByDirectParent();
+        mockLeafCertIsNotRevoked();
+
+        // when
+        sut.verify();
+
+        // then
+        assertEquals(Instant.MIN, sut.getCrlsValidUntil());
+    }
+
     @Test
     void verify_WithLeafCertWithoutCrlExtension_LeafCrlNotRequired_ReturnTrue() {
         // given
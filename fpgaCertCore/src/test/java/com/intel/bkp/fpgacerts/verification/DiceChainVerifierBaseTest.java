@@ -46,6 +46,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.security.cert.CertificateExpiredException;
 import java.security.cert.X509Certificate;
 import java.util.LinkedList;
 import java.util.Set;
@@ -58,7 +59,9 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -273,6 +276,43 @@ class DiceChainVerifierBaseTest {
         assertEquals(expectedError, ex.getMessage());
     }
 
+    @Test
+    void verifyChainStatus_AllPassed_DoesNotRunFullVerification() {
+        // given
+        mockRootHashVerification(true);
+        mockCrlVerification(true);
+
+        // when-then
+        assertDoesNotThrow(() -> sut.verifyChainStatus(certificates));
+
+        // then
+        verifyNoInteractions(chainVerifier, ueidVerifier, subjectKeyIdentifierVerifier, extendedKeyUsageVerifier,
+            diceSubjectVerifier, tcbInfoVerifier);
+    }
+
+    @Test
+    void verifyChainStatus_CertificateExpired_Throws() throws Exception {
+        // given
+        final String expectedError = "One of certificates in X509 attestation chain is not valid at this time.";
+        doThrow(new CertificateExpiredException()).when(certificate).checkValidity();
+
+        // when-then
+        final var ex = assertThrows(RuntimeException.class, () -> sut.verifyChainStatus(certificates));
+        assertEquals(expectedError, ex.getMessage());
+    }
+
+    @Test
+    void verifyChainStatus_CrlVerificationFails_Throws() {
+        // given
+        final String expectedError = "One of the certificates in chain is revoked.";
+        mockRootHashVerification(true);
+        mockCrlVerification(false);
+
+        // when-then
+        final var ex = assertThrows(RuntimeException.class, () -> sut.verifyChainStatus(certificates));
+        assertEquals(expectedError, ex.getMessage());
+    }
+
     private void mockCertificateParentVerification(boolean verificationPassed) {
         when(chainVerifier.certificates(certificates)).thenReturn(chainVerifier);
         when(chainVerifier.knownExtensionOids(any())).thenReturn(chainVerifier);
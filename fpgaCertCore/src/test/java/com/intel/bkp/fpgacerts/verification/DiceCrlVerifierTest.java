@@ -33,7 +33,9 @@
 
 package com.intel.bkp.fpgacerts.verification;
 
+import com.intel.bkp.fpgacerts.dice.DiceCertificateViews;
 import com.intel.bkp.fpgacerts.dice.tcbinfo.TcbInfoExtensionParser;
+import com.intel.bkp.fpgacerts.dice.ueid.UeidExtensionParser;
 import com.intel.bkp.test.CertificateUtils;
 import lombok.SneakyThrows;
 import org.bouncycastle.asn1.ASN1Encodable;
@@ -50,11 +52,11 @@ import org.bouncycastle.asn1.x509.Time;
 import org.bouncycastle.jce.provider.X509CRLEntryObject;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Answers;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -119,7 +121,6 @@ class DiceCrlVerifierTest {
     @Mock
     private X509CRL crl;
 
-    @InjectMocks
     private DiceCrlVerifier sut;
 
     @BeforeAll
@@ -132,6 +133,12 @@ class DiceCrlVerifierTest {
         tcbInfoExtensionParserMockedStatic.close();
     }
 
+    @BeforeEach
+    void prepareSut() {
+        final var certificateViews = new DiceCertificateViews(tcbInfoExtParser, new UeidExtensionParser());
+        sut = new DiceCrlVerifier(null, () -> certificateViews);
+    }
+
     @BeforeAll
     static void loadCerts() {
         singleTcbInfoCert = CertificateUtils.readCertificate("certs/dice/aliasEfuseChain/",
@@ -33,10 +33,21 @@
 
 #include "main.h"
 
-session_callbacks_t *cb;
+static session_callbacks_t *get_callbacks(void *spdm_context) {
+    session_callbacks_t *callbacks = NULL;
+    libspdm_data_parameter_t parameter;
+    memset(&parameter, 0, sizeof(parameter));
+    parameter.location = LIBSPDM_DATA_LOCATION_LOCAL;
+    size_t data_size = sizeof(callbacks);
+    libspdm_get_data(spdm_context, LIBSPDM_DATA_APP_CONTEXT_DATA, &parameter, &callbacks, &data_size);
+    return callbacks;
+}
 
-void set_callbacks(session_callbacks_t *callbacks) {
-    cb = callbacks;
+static void print_message(void *spdm_context, const char *message) {
+    session_callbacks_t *callbacks = get_callbacks(spdm_context);
+    if (callbacks != NULL && callbacks->printCallback != NULL) {
+        callbacks->printCallback(message);
+    }
 }
 
 bool verify_spdm_cert_chain_func(
@@ -55,7 +66,7 @@ void libspdm_get_version_w(void *spdm_context, uint8_t *version_p) {
     libspdm_get_data(spdm_context, LIBSPDM_DATA_SPDM_VERSION, &parameter,
                      &spdm_version_number_entry, &data_size);
 
-    cb->printCallback("Called libspdm_get_version_w.");
+    print_message(spdm_context, "Called libspdm_get_version_w.");
 
     // We are only interested in [15:12] MajorVersion [11:8] MinorVersion part of VersionNumberEntry
     *version_p = spdm_version_number_entry >> SPDM_VERSION_NUMBER_SHIFT_BIT;
@@ -79,7 +90,8 @@ size_t libspdm_get_context_size_w() {
     return libspdm_get_context_size();
 }
 
-libspdm_return_t libspdm_prepare_context_w(void *spdm_context, uint32_t bufferSize) {
+libspdm_return_t libspdm_prepare_context_w(void *spdm_context, uint32_t bufferSize,
+                                           session_callbacks_t *callbacks) {
     uint32_t senderBufferSize = bufferSize;
     uint32_t receiverBufferSize = bufferSize;
     uint32_t maxSpdmMessageSize = bufferSize - MAILBOX_HEADER_SIZE;
@@ -92,25 +104,36 @@ libspdm_return_t libspdm_prepare_context_w(void *spdm_context, uint32_t bufferSi
         return status;
     }
 
+    // kept in context, so that wrapper functions can reach callbacks of the context they are called for
+    libspdm_data_parameter_t parameter;
+    memset(&parameter, 0, sizeof(parameter));
+    parameter.location = LIBSPDM_DATA_LOCATION_LOCAL;
+    status = libspdm_set_data(spdm_context, LIBSPDM_DATA_APP_CONTEXT_DATA, &parameter,
+                              &callbacks, sizeof(callbacks));
+
+    if (LIBSPDM_STATUS_IS_ERROR(status)) {
+        return status;
+    }
+
     libspdm_register_verify_spdm_cert_chain_func(spdm_context, verify_spdm_cert_chain_func);
 
     libspdm_register_device_buffer_func(spdm_context,
                                         senderBufferSize,
                                         receiverBufferSize,
-                                        cb->spdmDeviceAcquireSenderBufferCallback,
-                                        cb->spdmDeviceReleaseSenderBufferCallback,
-                                        cb->spdmDeviceAcquireReceiverBufferCallback,
-                                        cb->spdmDeviceReleaseReceiverBufferCallback);
+                                        callbacks->spdmDeviceAcquireSenderBufferCallback,
+                                        callbacks->spdmDeviceReleaseSenderBufferCallback,
+                                        callbacks->spdmDeviceAcquireReceiverBufferCallback,
+                                        callbacks->spdmDeviceReleaseReceiverBufferCallback);
 
-    libspdm_register_device_io_func(spdm_context, cb->spdmDeviceSendMessageCallback,
-                                    cb->spdmDeviceReceiveMessageCallback);
+    libspdm_register_device_io_func(spdm_context, callbacks->spdmDeviceSendMessageCallback,
+                                    callbacks->spdmDeviceReceiveMessageCallback);
 
     libspdm_register_transport_layer_func(spdm_context,
                                           maxSpdmMessageSize,
                                           transportHeaderSize,
                                           transportTailSize,
-                                          cb->mctpEncodeCallback,
-                                          cb->mctpDecodeCallback);
+                                          callbacks->mctpEncodeCallback,
+                                          callbacks->mctpDecodeCallback);
     return LIBSPDM_STATUS_SUCCESS;
 }
 
@@ -126,20 +149,20 @@ void libspdm_set_scratch_buffer_w(void *spdm_context,
 
 libspdm_return_t libspdm_init_connection_w(void *spdm_context,
                                            bool get_version_only) {
-    cb->printCallback("Called libspdm_init_connection_w.");
+    print_message(spdm_context, "Called libspdm_init_connection_w.");
     return libspdm_init_connection(spdm_context, get_version_only);
 }
 
 libspdm_return_t libspdm_get_digest_w(void *spdm_context, uint8_t *slot_mask,
                                       void *total_digest_buffer) {
-    cb->printCallback("Called libspdm_get_digest_w.");
+    print_message(spdm_context, "Called libspdm_get_digest_w.");
     return libspdm_get_digest(spdm_context, NULL, slot_mask, total_digest_buffer);
 }
 
 libspdm_return_t libspdm_get_certificate_w(void *spdm_context, uint8_t slot_id,
                                            size_t *cert_chain_size,
                                            void *cert_chain) {
-    cb->printCallback("Called libspdm_get_certificate_w.");
+    print_message(spdm_context, "Called libspdm_get_certificate_w.");
     return libspdm_get_certificate(spdm_context, NULL, slot_id, cert_chain_size, cert_chain);
 }
 
@@ -149,7 +172,7 @@ libspdm_return_t libspdm_get_measurement_w(void *spdm_context,
                                            uint8_t slot_id_measurements,
                                            uint8_t request_attribute,
                                            void *signature) {
-    cb->printCallback("Called libspdm_get_measurement_w.");
+    print_message(spdm_context, "Called libspdm_get_measurement_w.");
     uint8_t number_of_block;
     return libspdm_get_measurement(
             spdm_context, NULL, request_attribute,
@@ -161,6 +184,6 @@ libspdm_return_t libspdm_get_measurement_w(void *spdm_context,
 libspdm_return_t libspdm_set_certificate_w(void *spdm_context,
                                          const uint32_t *session_id, uint8_t slot_id,
                                          void *cert_chain, size_t cert_chain_size) {
-    cb->printCallback("Called libspdm_set_certificate_w.");
+    print_message(spdm_context, "Called libspdm_set_certificate_w.");
     return libspdm_set_certificate(spdm_context, NULL, slot_id, cert_chain, cert_chain_size);
 }
@@ -35,6 +35,7 @@
 #define SPDM_WRAPPER_MAIN_H
 
 #include <stdlib.h>
+#include <string.h>
 
 #include "library/spdm_common_lib.h"
 #include "library/spdm_requester_lib.h"
@@ -102,9 +103,6 @@ typedef struct {
 
 } session_callbacks_t;
 
-PGM_PLUGIN_DLLEXPORT void
-set_callbacks(session_callbacks_t *callbacks);
-
 PGM_PLUGIN_DLLEXPORT void
 libspdm_get_version_w(void *spdm_context_p,
                       uint8_t *version_p);
@@ -126,8 +124,10 @@ libspdm_set_data_w32(void *spdm_context,
 PGM_PLUGIN_DLLEXPORT size_t
 libspdm_get_context_size_w();
 
+// Callbacks are registered per SPDM context and must stay valid as long as the context is used,
+// so multiple contexts may be used concurrently from different threads.
 PGM_PLUGIN_DLLEXPORT libspdm_return_t
-libspdm_prepare_context_w(void *spdm_context, uint32_t bufferSize);
+libspdm_prepare_context_w(void *spdm_context, uint32_t bufferSize, session_callbacks_t *callbacks);
 
 PGM_PLUGIN_DLLEXPORT size_t
 libspdm_get_sizeof_required_scratch_buffer_w(void *spdm_context);